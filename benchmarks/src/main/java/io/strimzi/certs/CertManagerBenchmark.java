@@ -0,0 +1,109 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the throughput of the certificate operations used when creating or renewing the cluster and clients
+ * certificates with the OpenSSL based and with the BouncyCastle based certificate managers. The OpenSSL based manager
+ * requires the openssl binary to be available on the path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CertManagerBenchmark {
+    private static final Subject CA_SUBJECT = new Subject.Builder()
+            .withOrganizationName("io.strimzi")
+            .withCommonName("cluster-ca")
+            .build();
+    private static final Subject SUBJECT = new Subject.Builder()
+            .withOrganizationName("io.strimzi")
+            .withCommonName("my-cluster-kafka")
+            .addDnsName("my-cluster-kafka-0.my-cluster-kafka-brokers.myproject.svc")
+            .addDnsName("my-cluster-kafka-bootstrap.myproject.svc")
+            .addIpAddress("10.0.0.1")
+            .build();
+
+    @Param({"openssl", "bouncycastle"})
+    public String certManager;
+
+    private CertManager cm;
+    private Path dir;
+    private File caKey;
+    private File caCert;
+    private File key;
+    private File csr;
+    private File cert;
+    private File keyStore;
+
+    @Setup
+    public void setup() throws IOException {
+        cm = "openssl".equals(certManager) ? new OpenSslCertManager() : new BouncyCastleCertManager();
+
+        dir = Files.createTempDirectory("cert-manager-benchmark");
+        caKey = Files.createFile(dir.resolve("ca.key")).toFile();
+        caCert = dir.resolve("ca.crt").toFile();
+        key = dir.resolve("broker.key").toFile();
+        csr = dir.resolve("broker.csr").toFile();
+        cert = dir.resolve("broker.crt").toFile();
+        keyStore = dir.resolve("broker.p12").toFile();
+
+        cm.generateSelfSignedCert(caKey, caCert, CA_SUBJECT, 365);
+        cm.generateCsr(key, csr, SUBJECT);
+        cm.generateCert(csr, caKey, caCert, cert, SUBJECT, 365);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        OpenSslCertManager.delete(dir);
+    }
+
+    /**
+     * Renews the CA certificate with the existing CA key
+     */
+    @Benchmark
+    public void renewCaCert() throws IOException {
+        cm.renewSelfSignedCert(caKey, caCert, CA_SUBJECT, 365);
+    }
+
+    /**
+     * Generates a new key and certificate signed by the CA as done for each broker or user
+     */
+    @Benchmark
+    public void generateSignedCert() throws IOException {
+        cm.generateCsr(key, csr, SUBJECT);
+        cm.generateCert(csr, caKey, caCert, cert, SUBJECT, 365);
+    }
+
+    /**
+     * Creates the PKCS12 keystore with the key and certificate
+     */
+    @Benchmark
+    public void addKeyAndCertToKeyStore() throws IOException {
+        cm.addKeyAndCertToKeyStore(key, cert, "broker", keyStore, "changeit");
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster;
+
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirementsBuilder;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.balancing.BrokerCapacityOverrideBuilder;
+import io.strimzi.api.kafka.model.listener.KafkaListenerAuthenticationScramSha512;
+import io.strimzi.api.kafka.model.listener.KafkaListenerAuthenticationTls;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListener;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListenerBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.KafkaListenerType;
+import io.strimzi.api.kafka.model.storage.PersistentClaimStorageBuilder;
+import io.strimzi.api.kafka.model.storage.SingleVolumeStorage;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.cluster.model.ListenersUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Kafka custom resources used as the fixtures in the benchmarks. The clusters are generated in two sizes:
+ *
+ *   - small: 3 brokers, 3 listeners, JBOD with a single volume and no custom configuration
+ *   - large: 100 brokers, 20 listeners, JBOD with 12 volumes, large custom configuration and broker capacity overrides
+ */
+public class KafkaFixtures {
+    public static final String NAMESPACE = "my-namespace";
+    public static final String NAME = "my-cluster";
+    public static final String KAFKA_VERSION = "3.2.1";
+
+    private static final KafkaVersion.Lookup VERSIONS;
+
+    static {
+        Map<String, String> images = new HashMap<>();
+        for (String version : new KafkaVersion.Lookup(Map.of(), Map.of(), Map.of(), Map.of()).supportedVersions()) {
+            images.put(version, "quay.io/strimzi/kafka:latest-kafka-" + version);
+        }
+
+        VERSIONS = new KafkaVersion.Lookup(images, images, images, images);
+    }
+
+    /**
+     * Size of the generated Kafka cluster
+     */
+    public enum Size {
+        SMALL(3, 3, 1, false),
+        LARGE(100, 20, 12, true);
+
+        private final int brokers;
+        private final int listeners;
+        private final int volumes;
+        private final boolean customConfiguration;
+
+        Size(int brokers, int listeners, int volumes, boolean customConfiguration) {
+            this.brokers = brokers;
+            this.listeners = listeners;
+            this.volumes = volumes;
+            this.customConfiguration = customConfiguration;
+        }
+
+        public int brokers() {
+            return brokers;
+        }
+    }
+
+    private KafkaFixtures() { }
+
+    /**
+     * @return  Kafka version lookup with images for all supported versions
+     */
+    public static KafkaVersion.Lookup versions() {
+        return VERSIONS;
+    }
+
+    /**
+     * Generates the Kafka custom resource of given size
+     *
+     * @param size  Size of the Kafka cluster
+     *
+     * @return  Kafka custom resource
+     */
+    public static Kafka kafka(Size size) {
+        List<SingleVolumeStorage> volumes = IntStream.range(0, size.volumes)
+                .mapToObj(id -> new PersistentClaimStorageBuilder().withId(id).withSize("1000Gi").withStorageClass("gp3").withDeleteClaim(false).build())
+                .collect(Collectors.toList());
+
+        return new KafkaBuilder()
+                .withNewMetadata()
+                    .withName(NAME)
+                    .withNamespace(NAMESPACE)
+                    .withLabels(Map.of("app", "kafka", "team", "streaming"))
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withVersion(KAFKA_VERSION)
+                        .withReplicas(size.brokers)
+                        .withListeners(listeners(size.listeners))
+                        .withConfig(size.customConfiguration ? largeConfiguration() : Map.of())
+                        .withNewJbodStorage()
+                            .withVolumes(volumes)
+                        .endJbodStorage()
+                        .withResources(new ResourceRequirementsBuilder()
+                                .withRequests(Map.of("cpu", new Quantity("8"), "memory", new Quantity("64Gi")))
+                                .withLimits(Map.of("cpu", new Quantity("16"), "memory", new Quantity("64Gi")))
+                                .build())
+                        .withNewRack()
+                            .withTopologyKey("topology.kubernetes.io/zone")
+                        .endRack()
+                        .withNewJmxPrometheusExporterMetricsConfig()
+                            .withNewValueFrom()
+                                .withNewConfigMapKeyRef("metrics.yaml", "kafka-metrics", false)
+                            .endValueFrom()
+                        .endJmxPrometheusExporterMetricsConfig()
+                    .endKafka()
+                    .withNewZookeeper()
+                        .withReplicas(3)
+                        .withNewPersistentClaimStorage()
+                            .withSize("100Gi")
+                        .endPersistentClaimStorage()
+                    .endZookeeper()
+                    .withNewCruiseControl()
+                        .withNewBrokerCapacity()
+                            .withInboundNetwork("10000KB/s")
+                            .withOutboundNetwork("10000KB/s")
+                            .withOverrides(size.customConfiguration
+                                    ? List.of(new BrokerCapacityOverrideBuilder()
+                                            .withBrokers(IntStream.range(0, size.brokers / 2).boxed().collect(Collectors.toList()))
+                                            .withInboundNetwork("20000KB/s")
+                                            .withOutboundNetwork("20000KB/s")
+                                            .build())
+                                    : null)
+                        .endBrokerCapacity()
+                    .endCruiseControl()
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * Generates listeners of all the types which do not depend on OpenShift or on an Ingress controller. Each type
+     * is used with and without TLS and with different authentication types.
+     *
+     * @param count     Number of listeners
+     *
+     * @return  List of listeners
+     */
+    private static List<GenericKafkaListener> listeners(int count) {
+        KafkaListenerType[] types = {KafkaListenerType.INTERNAL, KafkaListenerType.NODEPORT, KafkaListenerType.LOADBALANCER};
+        List<GenericKafkaListener> listeners = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            boolean tls = i % 2 == 1;
+
+            listeners.add(new GenericKafkaListenerBuilder()
+                    .withName("listener" + i)
+                    .withPort(9100 + i)
+                    .withType(types[i % types.length])
+                    .withTls(tls)
+                    .withAuth(tls ? new KafkaListenerAuthenticationTls() : new KafkaListenerAuthenticationScramSha512())
+                    .build());
+        }
+
+        return listeners;
+    }
+
+    private static Map<String, Object> largeConfiguration() {
+        Map<String, Object> config = new HashMap<>();
+
+        config.put("auto.create.topics.enable", false);
+        config.put("auto.leader.rebalance.enable", true);
+        config.put("background.threads", 20);
+        config.put("compression.type", "producer");
+        config.put("connections.max.idle.ms", 600000);
+        config.put("controlled.shutdown.enable", true);
+        config.put("controlled.shutdown.max.retries", 5);
+        config.put("default.replication.factor", 3);
+        config.put("delete.topic.enable", true);
+        config.put("fetch.max.bytes", 57671680);
+        config.put("group.initial.rebalance.delay.ms", 3000);
+        config.put("group.max.session.timeout.ms", 1800000);
+        config.put("group.min.session.timeout.ms", 6000);
+        config.put("leader.imbalance.check.interval.seconds", 300);
+        config.put("leader.imbalance.per.broker.percentage", 10);
+        config.put("log.cleaner.dedupe.buffer.size", 134217728);
+        config.put("log.cleaner.delete.retention.ms", 86400000);
+        config.put("log.cleaner.enable", true);
+        config.put("log.cleaner.io.buffer.size", 524288);
+        config.put("log.cleaner.min.cleanable.ratio", 0.5);
+        config.put("log.cleaner.threads", 4);
+        config.put("log.cleanup.policy", "delete");
+        config.put("log.flush.interval.messages", 9223372036854775807L);
+        config.put("log.index.interval.bytes", 4096);
+        config.put("log.index.size.max.bytes", 10485760);
+        config.put("log.message.timestamp.type", "CreateTime");
+        config.put("log.retention.bytes", -1);
+        config.put("log.retention.check.interval.ms", 300000);
+        config.put("log.retention.hours", 168);
+        config.put("log.roll.hours", 168);
+        config.put("log.segment.bytes", 1073741824);
+        config.put("log.segment.delete.delay.ms", 60000);
+        config.put("max.connections.per.ip", 2147483647);
+        config.put("max.incremental.fetch.session.cache.slots", 1000);
+        config.put("message.max.bytes", 10485760);
+        config.put("min.insync.replicas", 2);
+        config.put("num.io.threads", 16);
+        config.put("num.network.threads", 8);
+        config.put("num.partitions", 12);
+        config.put("num.recovery.threads.per.data.dir", 4);
+        config.put("num.replica.alter.log.dirs.threads", 4);
+        config.put("num.replica.fetchers", 4);
+        config.put("offset.metadata.max.bytes", 4096);
+        config.put("offsets.commit.timeout.ms", 5000);
+        config.put("offsets.retention.minutes", 10080);
+        config.put("offsets.topic.num.partitions", 50);
+        config.put("offsets.topic.replication.factor", 3);
+        config.put("offsets.topic.segment.bytes", 104857600);
+        config.put("queued.max.requests", 1000);
+        config.put("replica.fetch.max.bytes", 10485760);
+        config.put("replica.fetch.wait.max.ms", 500);
+        config.put("replica.lag.time.max.ms", 30000);
+        config.put("replica.selector.class", "org.apache.kafka.common.replica.RackAwareReplicaSelector");
+        config.put("replica.socket.receive.buffer.bytes", 65536);
+        config.put("request.timeout.ms", 30000);
+        config.put("socket.receive.buffer.bytes", 1048576);
+        config.put("socket.request.max.bytes", 104857600);
+        config.put("socket.send.buffer.bytes", 1048576);
+        config.put("ssl.cipher.suites", "TLS_AES_256_GCM_SHA384,TLS_CHACHA20_POLY1305_SHA256,TLS_ECDHE_RSA_WITH_AES_256_GCM_SHA384");
+        config.put("ssl.enabled.protocols", "TLSv1.3,TLSv1.2");
+        config.put("ssl.protocol", "TLSv1.3");
+        config.put("transaction.max.timeout.ms", 900000);
+        config.put("transaction.state.log.min.isr", 2);
+        config.put("transaction.state.log.num.partitions", 50);
+        config.put("transaction.state.log.replication.factor", 3);
+        config.put("unclean.leader.election.enable", false);
+        config.put("zookeeper.connection.timeout.ms", 18000);
+        config.put("zookeeper.session.timeout.ms", 18000);
+
+        return config;
+    }
+
+    /**
+     * Generates the advertised hostnames of all brokers in the same format as the ones collected by the
+     * KafkaListenersReconciler
+     *
+     * @param kafka     Kafka custom resource
+     *
+     * @return  Map with the advertised hostnames for every broker and listener
+     */
+    public static Map<Integer, Map<String, String>> advertisedHostnames(Kafka kafka) {
+        return advertised(kafka, (brokerId, listenerIndex) -> "broker-" + brokerId + ".listener-" + listenerIndex + ".kafka.example.com");
+    }
+
+    /**
+     * Generates the advertised ports of all brokers in the same format as the ones collected by the
+     * KafkaListenersReconciler
+     *
+     * @param kafka     Kafka custom resource
+     *
+     * @return  Map with the advertised ports for every broker and listener
+     */
+    public static Map<Integer, Map<String, String>> advertisedPorts(Kafka kafka) {
+        return advertised(kafka, (brokerId, listenerIndex) -> String.valueOf(30000 + listenerIndex * 100 + brokerId));
+    }
+
+    private static Map<Integer, Map<String, String>> advertised(Kafka kafka, AdvertisedValue value) {
+        List<GenericKafkaListener> listeners = kafka.getSpec().getKafka().getListeners();
+        Map<Integer, Map<String, String>> advertised = new HashMap<>();
+
+        for (int brokerId = 0; brokerId < kafka.getSpec().getKafka().getReplicas(); brokerId++) {
+            Map<String, String> brokerValues = new HashMap<>();
+
+            for (int i = 0; i < listeners.size(); i++) {
+                brokerValues.put(ListenersUtils.envVarIdentifier(listeners.get(i)), value.get(brokerId, i));
+            }
+
+            advertised.put(brokerId, brokerValues);
+        }
+
+        return advertised;
+    }
+
+    @FunctionalInterface
+    private interface AdvertisedValue {
+        String get(int brokerId, int listenerIndex);
+    }
+}
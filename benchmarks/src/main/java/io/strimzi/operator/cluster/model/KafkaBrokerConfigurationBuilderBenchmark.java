@@ -0,0 +1,81 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.fabric8.kubernetes.api.model.VolumeMount;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaClusterSpec;
+import io.strimzi.operator.cluster.KafkaFixtures;
+import io.strimzi.operator.common.Reconciliation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the generation of the configuration of a single Kafka broker
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KafkaBrokerConfigurationBuilderBenchmark {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("benchmark", Kafka.RESOURCE_KIND, KafkaFixtures.NAMESPACE, KafkaFixtures.NAME);
+
+    @Param({"SMALL", "LARGE"})
+    public KafkaFixtures.Size size;
+
+    private Kafka kafka;
+    private KafkaConfiguration configuration;
+    private List<VolumeMount> logDirs;
+    private Map<String, String> advertisedHostnames;
+    private Map<String, String> advertisedPorts;
+
+    @Setup
+    public void setup() {
+        kafka = KafkaFixtures.kafka(size);
+
+        KafkaClusterSpec spec = kafka.getSpec().getKafka();
+        configuration = new KafkaConfiguration(RECONCILIATION, spec.getConfig().entrySet());
+        logDirs = VolumeUtils.createVolumeMounts(spec.getStorage(), "/var/lib/kafka", false);
+        advertisedHostnames = KafkaFixtures.advertisedHostnames(kafka).get(0);
+        advertisedPorts = KafkaFixtures.advertisedPorts(kafka).get(0);
+    }
+
+    @Benchmark
+    public String build() {
+        KafkaClusterSpec spec = kafka.getSpec().getKafka();
+
+        return new KafkaBrokerConfigurationBuilder(RECONCILIATION)
+                .withBrokerId("0")
+                .withRackId(spec.getRack())
+                .withZookeeper(KafkaFixtures.NAME)
+                .withLogDirs(logDirs)
+                .withListeners(KafkaFixtures.NAME,
+                        KafkaFixtures.NAMESPACE,
+                        spec.getListeners(),
+                        () -> KafkaFixtures.NAME + "-kafka-0",
+                        advertisedHostnames::get,
+                        advertisedPorts::get,
+                        true, false)
+                .withAuthorization(KafkaFixtures.NAME, spec.getAuthorization(), false)
+                .withCruiseControl(KafkaFixtures.NAME, kafka.getSpec().getCruiseControl(), "12", "3", "2")
+                .withUserConfiguration(configuration)
+                .build();
+    }
+}
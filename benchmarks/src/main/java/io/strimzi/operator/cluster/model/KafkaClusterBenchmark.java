@@ -0,0 +1,90 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.StrimziPodSet;
+import io.strimzi.operator.cluster.KafkaFixtures;
+import io.strimzi.operator.common.MetricsAndLogging;
+import io.strimzi.operator.common.Reconciliation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the generation of the Kafka cluster model from the custom resource and of the resources generated from
+ * it in every reconciliation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KafkaClusterBenchmark {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("benchmark", Kafka.RESOURCE_KIND, KafkaFixtures.NAMESPACE, KafkaFixtures.NAME);
+
+    @Param({"SMALL", "LARGE"})
+    public KafkaFixtures.Size size;
+
+    private Kafka kafka;
+    private KafkaCluster model;
+    private MetricsAndLogging metricsAndLogging;
+    private Map<Integer, Map<String, String>> advertisedHostnames;
+    private Map<Integer, Map<String, String>> advertisedPorts;
+
+    @Setup
+    public void setup() {
+        kafka = KafkaFixtures.kafka(size);
+        model = KafkaCluster.fromCrd(RECONCILIATION, kafka, KafkaFixtures.versions());
+
+        ConfigMap metrics = new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withName("kafka-metrics")
+                    .withNamespace(KafkaFixtures.NAMESPACE)
+                .endMetadata()
+                .withData(Map.of("metrics.yaml", "lowercaseOutputName: true\nrules:\n- pattern: kafka.server<type=(.+), name=(.+)><>Value\n  name: kafka_server_$1_$2\n"))
+                .build();
+        metricsAndLogging = new MetricsAndLogging(metrics, null);
+
+        advertisedHostnames = KafkaFixtures.advertisedHostnames(kafka);
+        advertisedPorts = KafkaFixtures.advertisedPorts(kafka);
+    }
+
+    @Benchmark
+    public KafkaCluster fromCrd() {
+        return KafkaCluster.fromCrd(RECONCILIATION, kafka, KafkaFixtures.versions());
+    }
+
+    @Benchmark
+    public StrimziPodSet generatePodSet() {
+        return model.generatePodSet(size.brokers(), false, null, null, brokerId -> Map.of());
+    }
+
+    @Benchmark
+    public StatefulSet generateStatefulSet() {
+        return model.generateStatefulSet(false, null, null, Map.of());
+    }
+
+    @Benchmark
+    public List<ConfigMap> generatePerBrokerConfigurationConfigMaps() {
+        return model.generatePerBrokerConfigurationConfigMaps(metricsAndLogging, advertisedHostnames, advertisedPorts, true);
+    }
+}
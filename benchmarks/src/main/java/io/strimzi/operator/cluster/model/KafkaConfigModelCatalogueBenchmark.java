@@ -0,0 +1,96 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.operator.cluster.KafkaFixtures;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.OrderedProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the lookups in the Kafka config model catalogue which are done for every broker in every reconciliation.
+ * The option names are based on a full describeConfigs dump of a Kafka 3.2 broker.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KafkaConfigModelCatalogueBenchmark {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("benchmark", Kafka.RESOURCE_KIND, KafkaFixtures.NAMESPACE, KafkaFixtures.NAME);
+
+    @Param({"SMALL", "LARGE"})
+    public KafkaFixtures.Size size;
+
+    private KafkaVersion kafkaVersion;
+    private List<String> names;
+    private KafkaConfiguration configuration;
+
+    @Setup
+    public void setup() throws IOException {
+        kafkaVersion = KafkaFixtures.versions().version(KafkaFixtures.KAFKA_VERSION);
+        configuration = new KafkaConfiguration(RECONCILIATION, KafkaFixtures.kafka(size).getSpec().getKafka().getConfig().entrySet());
+
+        OrderedProperties currentProperties = new OrderedProperties();
+        try (InputStream is = KafkaConfigModelCatalogueBenchmark.class.getResourceAsStream("/fixtures/current-kafka-broker.conf")) {
+            currentProperties.addStringPairs(is);
+        }
+        names = new ArrayList<>(currentProperties.asMap().keySet());
+
+        // Load the catalogue outside of the measurement
+        KafkaConfigModelCatalogue.forVersion(kafkaVersion);
+    }
+
+    /**
+     * Checks all described options for the scope and ignorability through the catalogue
+     */
+    @Benchmark
+    public void lookup(Blackhole blackhole) {
+        KafkaConfigModelCatalogue catalogue = KafkaConfigModelCatalogue.forVersion(kafkaVersion);
+
+        for (String name : names) {
+            blackhole.consume(catalogue.scope(name));
+            blackhole.consume(catalogue.isIgnorable(name));
+        }
+    }
+
+    /**
+     * Checks all described options against the ignorable properties regular expression without memoization. Serves
+     * as a baseline for the lookup benchmark.
+     */
+    @Benchmark
+    public void ignorableRegex(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(KafkaConfigModelCatalogue.IGNORABLE_PROPERTIES.matcher(name).matches());
+        }
+    }
+
+    /**
+     * Validates the user supplied configuration
+     */
+    @Benchmark
+    public List<String> validate() {
+        return configuration.validate(kafkaVersion);
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model.cruisecontrol;
+
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaSpec;
+import io.strimzi.operator.cluster.KafkaFixtures;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the generation of the Cruise Control broker capacity configuration
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CapacityBenchmark {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("benchmark", Kafka.RESOURCE_KIND, KafkaFixtures.NAMESPACE, KafkaFixtures.NAME);
+
+    @Param({"SMALL", "LARGE"})
+    public KafkaFixtures.Size size;
+
+    private KafkaSpec spec;
+
+    @Setup
+    public void setup() {
+        spec = KafkaFixtures.kafka(size).getSpec();
+    }
+
+    @Benchmark
+    public String generateCapacityConfig() {
+        JsonObject config = new Capacity(RECONCILIATION, spec, spec.getKafka().getStorage()).generateCapacityConfig();
+        return config.encode();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.operator.cluster.KafkaFixtures;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.OrderedProperties;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the diff of the current broker configuration described through the Admin API and of the desired broker
+ * configuration which is used to decide whether the broker can be reconfigured dynamically or needs to be rolled.
+ * The current configuration is based on a full describeConfigs dump of a Kafka 3.2 broker.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KafkaBrokerConfigurationDiffBenchmark {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("benchmark", Kafka.RESOURCE_KIND, KafkaFixtures.NAMESPACE, KafkaFixtures.NAME);
+
+    @Param({"SMALL", "LARGE"})
+    public KafkaFixtures.Size size;
+
+    /**
+     * unchanged:   The current configuration already has all the desired values
+     * changed:     Some dynamically updatable options have different values
+     */
+    @Param({"unchanged", "changed"})
+    public String scenario;
+
+    private KafkaVersion kafkaVersion;
+    private String desired;
+    private Config current;
+
+    @Setup
+    public void setup() throws IOException {
+        Kafka kafka = KafkaFixtures.kafka(size);
+        kafkaVersion = KafkaFixtures.versions().version(KafkaFixtures.KAFKA_VERSION);
+        desired = KafkaCluster.fromCrd(RECONCILIATION, kafka, KafkaFixtures.versions())
+                .generatePerBrokerBrokerConfiguration(0, KafkaFixtures.advertisedHostnames(kafka), KafkaFixtures.advertisedPorts(kafka), true);
+
+        OrderedProperties currentProperties = new OrderedProperties();
+        try (InputStream is = KafkaBrokerConfigurationDiffBenchmark.class.getResourceAsStream("/fixtures/current-kafka-broker.conf")) {
+            currentProperties.addStringPairs(is);
+        }
+
+        Map<String, String> currentMap = currentProperties.asMap();
+        currentMap.putAll(new OrderedProperties().addStringPairs(desired).asMap());
+
+        if ("changed".equals(scenario)) {
+            currentMap.put("log.retention.ms", "86400000");
+            currentMap.put("num.io.threads", "8");
+            currentMap.put("unclean.leader.election.enable", "true");
+        }
+
+        List<ConfigEntry> entries = new ArrayList<>(currentMap.size());
+        for (Map.Entry<String, String> entry : currentMap.entrySet()) {
+            entries.add(new ConfigEntry(entry.getKey(), entry.getValue()));
+        }
+
+        current = new Config(entries);
+    }
+
+    @Benchmark
+    public KafkaBrokerConfigurationDiff diff() {
+        return new KafkaBrokerConfigurationDiff(RECONCILIATION, current, desired, kafkaVersion, 0);
+    }
+}
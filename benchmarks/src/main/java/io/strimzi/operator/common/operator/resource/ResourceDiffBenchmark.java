@@ -0,0 +1,122 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodSpec;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.zjsonpatch.JsonDiff;
+import io.strimzi.operator.common.Reconciliation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the short-circuiting ResourceDiff with the previous implementation which computed the full JSON Patch
+ * between the resources and matched every path against a regular expression. The current resources are Kafka broker
+ * Pod and StatefulSet fixtures as returned by the Kubernetes API server. Run with {@code -prof gc} to see the
+ * allocation rates as well:
+ *
+ * <pre>
+ *     java -jar benchmarks/target/benchmarks.jar ResourceDiffBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResourceDiffBenchmark {
+    private static final Pattern LEGACY_IGNORABLE_PATHS = Pattern.compile(
+            "^(/metadata/managedFields" +
+                    "|/status)$");
+
+    @Param({"Pod", "StatefulSet"})
+    public String kind;
+
+    /**
+     * unchanged:      The desired resource differs only in the ignorable paths
+     * changedLabel:   The desired resource has a different label (difference found early in the tree)
+     * changedImage:   The desired resource has a different container image (difference found late in the tree)
+     */
+    @Param({"unchanged", "changedLabel", "changedImage"})
+    public String scenario;
+
+    private HasMetadata current;
+    private HasMetadata desired;
+
+    @Setup
+    public void setup() throws IOException {
+        current = load(kind);
+        desired = load(kind);
+
+        // The desired resource does not have any server side fields
+        desired.getMetadata().setManagedFields(null);
+        if (desired instanceof Pod) {
+            ((Pod) desired).setStatus(null);
+        } else {
+            ((StatefulSet) desired).setStatus(null);
+        }
+
+        switch (scenario) {
+            case "unchanged":
+                break;
+            case "changedLabel":
+                desired.getMetadata().getLabels().put("strimzi.io/kind", "KafkaNodePool");
+                break;
+            case "changedImage":
+                PodSpec spec = desired instanceof Pod ? ((Pod) desired).getSpec() : ((StatefulSet) desired).getSpec().getTemplate().getSpec();
+                spec.getContainers().get(0).setImage("quay.io/strimzi/kafka:0.31.0-kafka-3.2.3");
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown scenario " + scenario);
+        }
+    }
+
+    private static HasMetadata load(String kind) throws IOException {
+        String fixture = "Pod".equals(kind) ? "/fixtures/kafka-pod.yaml" : "/fixtures/kafka-statefulset.yaml";
+
+        try (InputStream is = ResourceDiffBenchmark.class.getResourceAsStream(fixture)) {
+            return Serialization.unmarshal(is);
+        }
+    }
+
+    @Benchmark
+    public boolean resourceDiff() {
+        return new ResourceDiff<>(Reconciliation.DUMMY_RECONCILIATION, kind, "my-cluster-kafka", current, desired, AbstractResourceOperator.IGNORABLE_PATHS).isEmpty();
+    }
+
+    @Benchmark
+    public boolean legacyResourceDiff() {
+        JsonNode source = AbstractJsonDiff.PATCH_MAPPER.valueToTree(current);
+        JsonNode target = AbstractJsonDiff.PATCH_MAPPER.valueToTree(desired);
+        JsonNode diff = JsonDiff.asJson(source, target);
+
+        for (JsonNode d : diff) {
+            if (!LEGACY_IGNORABLE_PATHS.matcher(d.get("path").asText()).matches()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,558 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.bouncycastle.asn1.DERBMPString;
+import org.bouncycastle.asn1.DERNull;
+import org.bouncycastle.asn1.nist.NISTObjectIdentifiers;
+import org.bouncycastle.asn1.pkcs.PKCSObjectIdentifiers;
+import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x500.X500NameBuilder;
+import org.bouncycastle.asn1.x500.style.BCStyle;
+import org.bouncycastle.asn1.x509.AlgorithmIdentifier;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.Extensions;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.asn1.x509.KeyUsage;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cert.X509v3CertificateBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509ExtensionUtils;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.jce.interfaces.ECPrivateKey;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.bouncycastle.jce.spec.ECPublicKeySpec;
+import org.bouncycastle.openssl.PEMKeyPair;
+import org.bouncycastle.openssl.PEMParser;
+import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
+import org.bouncycastle.openssl.jcajce.JcaPEMWriter;
+import org.bouncycastle.openssl.jcajce.JcaPKCS8Generator;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.OutputEncryptor;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentVerifierProviderBuilder;
+import org.bouncycastle.pkcs.PKCS10CertificationRequest;
+import org.bouncycastle.pkcs.PKCS12PfxPdu;
+import org.bouncycastle.pkcs.PKCS12PfxPduBuilder;
+import org.bouncycastle.pkcs.PKCS12SafeBag;
+import org.bouncycastle.pkcs.PKCS12SafeBagBuilder;
+import org.bouncycastle.pkcs.jcajce.JcaPKCS10CertificationRequest;
+import org.bouncycastle.pkcs.jcajce.JcaPKCS10CertificationRequestBuilder;
+import org.bouncycastle.pkcs.jcajce.JcaPKCS12SafeBagBuilder;
+import org.bouncycastle.pkcs.jcajce.JcePKCS12MacCalculatorBuilder;
+import org.bouncycastle.pkcs.jcajce.JcePKCSPBEOutputEncryptorBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.Provider;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+
+/**
+ * A certificate manager based on BouncyCastle. Unlike the {@link OpenSslCertManager}, it does not fork any processes
+ * and does not use any temporary files. The keys, certificate signing requests, certificates and PKCS12 stores are
+ * generated in memory and only the input and output files required by the {@link CertManager} interface are read and
+ * written.
+ *
+ * The generated keys and certificates mirror the ones generated by the {@link OpenSslCertManager}: 4096 bit RSA keys
+ * for CAs, 2048 bit RSA keys for the other certificates, private keys stored in the PKCS#8 format and certificates
+ * signed with SHA-512. Existing RSA and EC keys (for example user provided CA keys) are supported.
+ */
+@SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "checkstyle:ClassFanOutComplexity"})
+public class BouncyCastleCertManager implements CertManager {
+    private static final Logger LOGGER = LogManager.getLogger(BouncyCastleCertManager.class);
+
+    private static final int CA_KEY_SIZE = 4096;
+    private static final int KEY_SIZE = 2048;
+    private static final int PKCS12_ITERATION_COUNT = 2048;
+
+    private static final Provider PROVIDER = new BouncyCastleProvider();
+
+    private final Clock clock;
+    private final SecureRandom random = new SecureRandom();
+
+    public BouncyCastleCertManager() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * Constructs the certificate manager
+     *
+     * @param clock     Clock used to determine the validity of the certificates
+     */
+    public BouncyCastleCertManager(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Executes the operation on the calling thread and rethrows the checked exceptions thrown by BouncyCastle as
+     * runtime exceptions
+     *
+     * @param operation     Operation which should be executed
+     *
+     * @return  Result of the operation
+     *
+     * @throws IOException  If the operation failed with an IOException
+     */
+    private <T> T execute(Callable<T> operation) throws IOException {
+        try {
+            return operation.call();
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("Certificate operation failed", e);
+        }
+    }
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        generateRootCaCert(sbj, keyFile, certFile, now.atZone(OpenSslCertManager.UTC), now.plus(days, ChronoUnit.DAYS).atZone(OpenSslCertManager.UTC), 0);
+    }
+
+    @Override
+    public void renewSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        generateSelfSignedCert(keyFile, certFile, sbj, days);
+    }
+
+    @Override
+    public void generateRootCaCert(Subject subject, File subjectKeyFile, File subjectCertFile,
+                                   ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        generateCaCert(null, null, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+    }
+
+    @Override
+    public void generateIntermediateCaCert(File issuerCaKeyFile, File issuerCaCertFile,
+                                           Subject subject,
+                                           File subjectKeyFile, File subjectCertFile,
+                                           ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        Objects.requireNonNull(issuerCaKeyFile);
+        Objects.requireNonNull(issuerCaCertFile);
+        generateCaCert(issuerCaKeyFile, issuerCaCertFile, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+    }
+
+    /**
+     * Generates a root or intermediate CA certificate, using either a new CA key or reusing an existing subject key.
+     * See {@link OpenSslCertManager#generateIntermediateCaCert(File, File, Subject, File, File, ZonedDateTime, ZonedDateTime, int)}
+     * for the description of the parameters.
+     */
+    private void generateCaCert(File issuerCaKeyFile, File issuerCaCertFile,
+                                Subject subject,
+                                File subjectKeyFile, File subjectCertFile,
+                                ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        if (issuerCaKeyFile == null ^ issuerCaCertFile == null) {
+            throw new IllegalArgumentException();
+        }
+        // Preconditions
+        Objects.requireNonNull(subject);
+        Objects.requireNonNull(subjectKeyFile);
+        Objects.requireNonNull(subjectCertFile);
+        checkValidity(notBefore, notAfter);
+        if (pathLength < 0) {
+            throw new IllegalArgumentException("pathLength cannot be negative: " + pathLength);
+        }
+        if (subject.hasSubjectAltNames()) {
+            throw new IllegalArgumentException("CA certificates should not have Subject Alternative Names");
+        }
+
+        execute(() -> {
+            boolean newKey = subjectKeyFile.length() == 0;
+            KeyPair subjectKeyPair = newKey ? generateRsaKeyPair(CA_KEY_SIZE) : readKeyPair(Files.readAllBytes(subjectKeyFile.toPath()));
+
+            X509v3CertificateBuilder builder;
+            PrivateKey signingKey;
+
+            if (issuerCaCertFile == null) {
+                X500Name name = x500Name(subject);
+                builder = new JcaX509v3CertificateBuilder(name, serialNumber(), Date.from(notBefore.toInstant()), Date.from(notAfter.toInstant()), name, subjectKeyPair.getPublic());
+                signingKey = subjectKeyPair.getPrivate();
+            } else {
+                X509Certificate issuerCert = readCertificates(Files.readAllBytes(issuerCaCertFile.toPath())).get(0);
+                builder = new JcaX509v3CertificateBuilder(issuerCert, serialNumber(), Date.from(notBefore.toInstant()), Date.from(notAfter.toInstant()), x500Name(subject), subjectKeyPair.getPublic());
+                signingKey = readKeyPair(Files.readAllBytes(issuerCaKeyFile.toPath())).getPrivate();
+            }
+
+            builder.addExtension(Extension.subjectKeyIdentifier, false, new JcaX509ExtensionUtils().createSubjectKeyIdentifier(subjectKeyPair.getPublic()))
+                    .addExtension(Extension.basicConstraints, true, new BasicConstraints(pathLength))
+                    .addExtension(Extension.keyUsage, true, new KeyUsage(KeyUsage.keyCertSign | KeyUsage.cRLSign));
+
+            Files.write(subjectCertFile.toPath(), toPem(sign(builder, signingKey)));
+
+            if (newKey) {
+                Files.write(subjectKeyFile.toPath(), toPem(new JcaPKCS8Generator(subjectKeyPair.getPrivate(), null).generate()));
+            }
+
+            return null;
+        });
+    }
+
+    @Override
+    public void generateCsr(File keyFile, File csrFile, Subject subject) throws IOException {
+        Objects.requireNonNull(keyFile);
+        Objects.requireNonNull(csrFile);
+        Objects.requireNonNull(subject);
+
+        execute(() -> {
+            KeyPair keyPair = generateRsaKeyPair(KEY_SIZE);
+
+            JcaPKCS10CertificationRequestBuilder builder = new JcaPKCS10CertificationRequestBuilder(x500Name(subject), keyPair.getPublic());
+            if (subject.hasSubjectAltNames()) {
+                builder.addAttribute(PKCSObjectIdentifiers.pkcs_9_at_extensionRequest,
+                        new Extensions(new Extension(Extension.subjectAlternativeName, false, subjectAltNames(subject).getEncoded())));
+            }
+
+            ContentSigner signer = new JcaContentSignerBuilder(signatureAlgorithm(keyPair.getPrivate(), "SHA256")).setProvider(PROVIDER).build(keyPair.getPrivate());
+
+            Files.write(keyFile.toPath(), toPem(new JcaPKCS8Generator(keyPair.getPrivate(), null).generate()));
+            Files.write(csrFile.toPath(), toPem(builder.build(signer)));
+
+            return null;
+        });
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, Subject sbj, int days) throws IOException {
+        Objects.requireNonNull(caKey);
+        Objects.requireNonNull(caCert);
+
+        generateCert(csrFile, Files.readAllBytes(caKey.toPath()), Files.readAllBytes(caCert.toPath()), crtFile, sbj, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        generateCert(csrFile, caKey, caCert, crtFile, sbj, now.atZone(OpenSslCertManager.UTC), now.plus(days, ChronoUnit.DAYS).atZone(OpenSslCertManager.UTC));
+    }
+
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, ZonedDateTime notBefore, ZonedDateTime notAfter) throws IOException {
+        // Preconditions
+        Objects.requireNonNull(csrFile);
+        Objects.requireNonNull(caKey);
+        Objects.requireNonNull(caCert);
+        Objects.requireNonNull(crtFile);
+        Objects.requireNonNull(sbj);
+        checkValidity(notBefore, notAfter);
+
+        execute(() -> {
+            PKCS10CertificationRequest csr;
+            try (PEMParser parser = new PEMParser(new InputStreamReader(new FileInputStream(csrFile), StandardCharsets.US_ASCII))) {
+                csr = (PKCS10CertificationRequest) parser.readObject();
+            }
+
+            if (csr == null || !csr.isSignatureValid(new JcaContentVerifierProviderBuilder().setProvider(PROVIDER).build(csr.getSubjectPublicKeyInfo()))) {
+                throw new IOException("Invalid certificate signing request " + csrFile);
+            }
+
+            PublicKey publicKey = new JcaPKCS10CertificationRequest(csr).setProvider(PROVIDER).getPublicKey();
+            X509Certificate issuerCert = readCertificates(caCert).get(0);
+
+            X509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(issuerCert, serialNumber(), Date.from(notBefore.toInstant()), Date.from(notAfter.toInstant()), csr.getSubject(), publicKey)
+                    .addExtension(Extension.subjectKeyIdentifier, false, new JcaX509ExtensionUtils().createSubjectKeyIdentifier(publicKey));
+
+            // Same extensions as added by the OpenSslCertManager: the v3_req section with the SANs replaces the default
+            // basic constraints and key usage
+            if (sbj.hasSubjectAltNames()) {
+                builder.addExtension(Extension.subjectAlternativeName, false, subjectAltNames(sbj));
+            } else {
+                builder.addExtension(Extension.basicConstraints, true, new BasicConstraints(false))
+                        .addExtension(Extension.keyUsage, true, new KeyUsage(KeyUsage.digitalSignature | KeyUsage.keyEncipherment));
+            }
+
+            Files.write(crtFile.toPath(), toPem(sign(builder, readKeyPair(caKey).getPrivate())));
+
+            return null;
+        });
+    }
+
+    @Override
+    public void addKeyAndCertToKeyStore(File keyFile, File certFile, String alias, File keyStoreFile, String keyStorePassword) throws IOException {
+        Objects.requireNonNull(keyFile);
+        Objects.requireNonNull(certFile);
+        Objects.requireNonNull(alias);
+        Objects.requireNonNull(keyStoreFile);
+        Objects.requireNonNull(keyStorePassword);
+
+        execute(() -> {
+            char[] password = keyStorePassword.toCharArray();
+            KeyPair keyPair = readKeyPair(Files.readAllBytes(keyFile.toPath()));
+            List<X509Certificate> certificates = readCertificates(Files.readAllBytes(certFile.toPath()));
+
+            // Same encryption as used by the OpenSslCertManager: AES-128-CBC for the key and certificates and SHA-256 based MAC
+            OutputEncryptor encryptor = new JcePKCSPBEOutputEncryptorBuilder(NISTObjectIdentifiers.id_aes128_CBC)
+                    .setProvider(PROVIDER)
+                    .setPRF(new AlgorithmIdentifier(PKCSObjectIdentifiers.id_hmacWithSHA256, DERNull.INSTANCE))
+                    .setIterationCount(PKCS12_ITERATION_COUNT)
+                    .build(password);
+
+            JcaX509ExtensionUtils extensionUtils = new JcaX509ExtensionUtils();
+            List<PKCS12SafeBag> certificateBags = new ArrayList<>(certificates.size());
+
+            for (X509Certificate certificate : certificates) {
+                PKCS12SafeBagBuilder certificateBag = new JcaPKCS12SafeBagBuilder(certificate);
+
+                if (Arrays.equals(certificate.getPublicKey().getEncoded(), keyPair.getPublic().getEncoded())) {
+                    certificateBag.addBagAttribute(PKCSObjectIdentifiers.pkcs_9_at_friendlyName, new DERBMPString(alias))
+                            .addBagAttribute(PKCSObjectIdentifiers.pkcs_9_at_localKeyId, extensionUtils.createSubjectKeyIdentifier(keyPair.getPublic()));
+                }
+
+                certificateBags.add(certificateBag.build());
+            }
+
+            PKCS12SafeBag keyBag = new JcaPKCS12SafeBagBuilder(keyPair.getPrivate(), encryptor)
+                    .addBagAttribute(PKCSObjectIdentifiers.pkcs_9_at_friendlyName, new DERBMPString(alias))
+                    .addBagAttribute(PKCSObjectIdentifiers.pkcs_9_at_localKeyId, extensionUtils.createSubjectKeyIdentifier(keyPair.getPublic()))
+                    .build();
+
+            PKCS12PfxPdu pfx = new PKCS12PfxPduBuilder()
+                    .addEncryptedData(encryptor, certificateBags.toArray(new PKCS12SafeBag[0]))
+                    .addData(keyBag)
+                    .build(new JcePKCS12MacCalculatorBuilder(NISTObjectIdentifiers.id_sha256).setProvider(PROVIDER).setIterationCount(PKCS12_ITERATION_COUNT), password);
+
+            Files.write(keyStoreFile.toPath(), pfx.getEncoded());
+
+            return null;
+        });
+    }
+
+    @Override
+    public void addCertToTrustStore(File certFile, String certAlias, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        // Preconditions
+        Objects.requireNonNull(certFile);
+        Objects.requireNonNull(certAlias);
+        Objects.requireNonNull(trustStoreFile);
+        Objects.requireNonNull(trustStorePassword);
+
+        KeyStore trustStore = loadTrustStore(trustStoreFile, trustStorePassword);
+
+        try (FileInputStream isCertificate = new FileInputStream(certFile)) {
+            X509Certificate certificate = (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(isCertificate);
+            trustStore.setEntry(certAlias, new KeyStore.TrustedCertificateEntry(certificate), null);
+        }
+
+        storeTrustStore(trustStore, trustStoreFile, trustStorePassword);
+    }
+
+    @Override
+    public void deleteFromTrustStore(List<String> aliases, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        // Preconditions
+        Objects.requireNonNull(aliases);
+        Objects.requireNonNull(trustStoreFile);
+        Objects.requireNonNull(trustStorePassword);
+
+        KeyStore trustStore = loadTrustStore(trustStoreFile, trustStorePassword);
+
+        for (String alias : aliases) {
+            trustStore.deleteEntry(alias);
+        }
+
+        storeTrustStore(trustStore, trustStoreFile, trustStorePassword);
+    }
+
+    private static KeyStore loadTrustStore(File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        KeyStore trustStore = KeyStore.getInstance("PKCS12");
+
+        // the KeyStore class is able to create an empty store if the input stream is null
+        if (trustStoreFile.length() > 0) {
+            try (FileInputStream isTrustStore = new FileInputStream(trustStoreFile)) {
+                trustStore.load(isTrustStore, trustStorePassword.toCharArray());
+            }
+        } else {
+            trustStore.load(null, trustStorePassword.toCharArray());
+        }
+
+        return trustStore;
+    }
+
+    private static void storeTrustStore(KeyStore trustStore, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        try (FileOutputStream osTrustStore = new FileOutputStream(trustStoreFile)) {
+            trustStore.store(osTrustStore, trustStorePassword.toCharArray());
+        }
+    }
+
+    private static void checkValidity(ZonedDateTime notBefore, ZonedDateTime notAfter) {
+        Objects.requireNonNull(notBefore);
+        Objects.requireNonNull(notAfter);
+        if (!notBefore.isBefore(notAfter)) {
+            throw new IllegalArgumentException("Invalid notBefore and notAfter: " + notBefore + " must be before " + notAfter);
+        }
+    }
+
+    private KeyPair generateRsaKeyPair(int keySize) throws NoSuchAlgorithmException {
+        LOGGER.debug("Generating {} bit RSA key", keySize);
+
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(keySize, random);
+        return generator.generateKeyPair();
+    }
+
+    /**
+     * @return  Random positive serial number with up to 160 bits in the same way as the openssl rand_serial option
+     */
+    private BigInteger serialNumber() {
+        return new BigInteger(159, random).add(BigInteger.ONE);
+    }
+
+    private static X509Certificate sign(X509v3CertificateBuilder builder, PrivateKey signingKey) throws OperatorCreationException, CertificateException {
+        ContentSigner signer = new JcaContentSignerBuilder(signatureAlgorithm(signingKey, "SHA512")).setProvider(PROVIDER).build(signingKey);
+        X509CertificateHolder holder = builder.build(signer);
+
+        return new JcaX509CertificateConverter().setProvider(PROVIDER).getCertificate(holder);
+    }
+
+    private static String signatureAlgorithm(PrivateKey key, String digest) {
+        switch (key.getAlgorithm()) {
+            case "RSA":
+                return digest + "withRSA";
+            case "EC":
+            case "ECDSA":
+                return digest + "withECDSA";
+            default:
+                throw new IllegalArgumentException("Unsupported key algorithm " + key.getAlgorithm());
+        }
+    }
+
+    /**
+     * Creates the X.500 name from the subject. The order of the RDNs is the same as in {@link Subject#opensslDn()}.
+     */
+    private static X500Name x500Name(Subject subject) {
+        X500NameBuilder builder = new X500NameBuilder(BCStyle.INSTANCE);
+
+        if (subject.organizationName() != null) {
+            builder.addRDN(BCStyle.O, subject.organizationName());
+        }
+
+        if (subject.commonName() != null) {
+            builder.addRDN(BCStyle.CN, subject.commonName());
+        }
+
+        return builder.build();
+    }
+
+    private static GeneralNames subjectAltNames(Subject subject) {
+        List<GeneralName> names = new ArrayList<>(subject.dnsNames().size() + subject.ipAddresses().size());
+
+        for (String dnsName : subject.dnsNames()) {
+            names.add(new GeneralName(GeneralName.dNSName, dnsName));
+        }
+
+        for (String ipAddress : subject.ipAddresses()) {
+            names.add(new GeneralName(GeneralName.iPAddress, ipAddress));
+        }
+
+        return new GeneralNames(names.toArray(new GeneralName[0]));
+    }
+
+    /**
+     * Reads a PEM encoded private key in either the PKCS#8 or in the traditional OpenSSL (PKCS#1 / SEC1) format and
+     * derives the corresponding public key.
+     */
+    private static KeyPair readKeyPair(byte[] pem) throws IOException, GeneralSecurityException {
+        Object object;
+        try (PEMParser parser = new PEMParser(reader(pem))) {
+            object = parser.readObject();
+        }
+
+        JcaPEMKeyConverter converter = new JcaPEMKeyConverter().setProvider(PROVIDER);
+
+        if (object instanceof PEMKeyPair) {
+            return converter.getKeyPair((PEMKeyPair) object);
+        } else if (object instanceof PrivateKeyInfo) {
+            PrivateKey privateKey = converter.getPrivateKey((PrivateKeyInfo) object);
+            return new KeyPair(publicKey(privateKey), privateKey);
+        } else {
+            throw new IOException("Unsupported private key format");
+        }
+    }
+
+    private static PublicKey publicKey(PrivateKey privateKey) throws GeneralSecurityException {
+        if (privateKey instanceof RSAPrivateCrtKey) {
+            RSAPrivateCrtKey rsaKey = (RSAPrivateCrtKey) privateKey;
+            return KeyFactory.getInstance("RSA", PROVIDER).generatePublic(new RSAPublicKeySpec(rsaKey.getModulus(), rsaKey.getPublicExponent()));
+        } else if (privateKey instanceof ECPrivateKey) {
+            ECPrivateKey ecKey = (ECPrivateKey) privateKey;
+            return KeyFactory.getInstance("EC", PROVIDER).generatePublic(new ECPublicKeySpec(ecKey.getParameters().getG().multiply(ecKey.getD()).normalize(), ecKey.getParameters()));
+        } else {
+            throw new IllegalArgumentException("Unsupported key algorithm " + privateKey.getAlgorithm());
+        }
+    }
+
+    private static List<X509Certificate> readCertificates(byte[] pem) throws IOException, CertificateException {
+        List<X509Certificate> certificates = new ArrayList<>();
+        JcaX509CertificateConverter converter = new JcaX509CertificateConverter().setProvider(PROVIDER);
+
+        try (PEMParser parser = new PEMParser(reader(pem))) {
+            Object object;
+
+            while ((object = parser.readObject()) != null) {
+                if (object instanceof X509CertificateHolder) {
+                    certificates.add(converter.getCertificate((X509CertificateHolder) object));
+                }
+            }
+        }
+
+        if (certificates.isEmpty()) {
+            throw new IOException("No certificate found");
+        }
+
+        return certificates;
+    }
+
+    private static Reader reader(byte[] pem) {
+        return new InputStreamReader(new ByteArrayInputStream(pem), StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] toPem(Object object) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (JcaPEMWriter writer = new JcaPEMWriter(new OutputStreamWriter(out, StandardCharsets.US_ASCII))) {
+            writer.writeObject(object);
+        }
+
+        return out.toByteArray();
+    }
+}
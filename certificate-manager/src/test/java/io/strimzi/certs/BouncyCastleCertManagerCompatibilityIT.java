@@ -0,0 +1,208 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.openssl.PEMParser;
+import org.bouncycastle.pkcs.PKCS10CertificationRequest;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Checks that the keys, certificates and PKCS12 stores generated by the {@link BouncyCastleCertManager} are
+ * equivalent to the ones generated by the {@link OpenSslCertManager} and that both can be used interchangeably. Needs
+ * the openssl binary.
+ */
+public class BouncyCastleCertManagerCompatibilityIT {
+    private static final String PASSWORD = "123456";
+
+    private static CertificateFactory certFactory;
+    private static OpenSslCertManager openssl;
+    private static BouncyCastleCertManager bc;
+
+    @BeforeAll
+    public static void before() throws CertificateException {
+        Assumptions.assumeTrue(System.getProperty("os.name").contains("nux"));
+        certFactory = CertificateFactory.getInstance("X.509");
+        openssl = new OpenSslCertManager();
+        bc = new BouncyCastleCertManager();
+    }
+
+    private static File tempFile(String prefix, String suffix) throws IOException {
+        File file = File.createTempFile(prefix, suffix);
+        file.deleteOnExit();
+        return file;
+    }
+
+    private static X509Certificate loadCertificate(File cert) throws IOException, CertificateException {
+        try (FileInputStream is = new FileInputStream(cert)) {
+            return (X509Certificate) certFactory.generateCertificate(is);
+        }
+    }
+
+    /**
+     * Generated files of a single certificate manager
+     */
+    static class Generated {
+        File caKey;
+        File caCert;
+        File key;
+        File csr;
+        File cert;
+        File store;
+    }
+
+    private static Generated generate(CertManager cm, Subject caSubject, Subject subject) throws IOException {
+        Generated generated = new Generated();
+        generated.caKey = tempFile("ca-key-", ".key");
+        generated.caCert = tempFile("ca-crt-", ".crt");
+        generated.key = tempFile("key-", ".key");
+        generated.csr = tempFile("csr-", ".csr");
+        generated.cert = tempFile("crt-", ".crt");
+        generated.store = tempFile("store-", ".p12");
+
+        cm.generateSelfSignedCert(generated.caKey, generated.caCert, caSubject, 365);
+        cm.generateCsr(generated.key, generated.csr, subject);
+        cm.generateCert(generated.csr, generated.caKey, generated.caCert, generated.cert, subject, 365);
+        cm.addKeyAndCertToKeyStore(generated.key, generated.cert, "user", generated.store, PASSWORD);
+
+        return generated;
+    }
+
+    /**
+     * The Authority Key Identifier is added only by some OpenSSL versions, so it is not compared
+     */
+    private static Set<String> extensions(Set<String> oids) {
+        Set<String> extensions = new HashSet<>(oids);
+        extensions.remove(Extension.authorityKeyIdentifier.getId());
+        return extensions;
+    }
+
+    private static void assertSameExtensions(X509Certificate bcCert, X509Certificate opensslCert) {
+        assertThat(extensions(bcCert.getCriticalExtensionOIDs()), is(extensions(opensslCert.getCriticalExtensionOIDs())));
+        assertThat(extensions(bcCert.getNonCriticalExtensionOIDs()), is(extensions(opensslCert.getNonCriticalExtensionOIDs())));
+        assertThat(bcCert.getBasicConstraints(), is(opensslCert.getBasicConstraints()));
+        assertThat(Arrays.toString(bcCert.getKeyUsage()), is(Arrays.toString(opensslCert.getKeyUsage())));
+        assertThat(bcCert.getSigAlgName(), is(opensslCert.getSigAlgName()));
+        assertThat(bcCert.getPublicKey().getAlgorithm(), is(opensslCert.getPublicKey().getAlgorithm()));
+    }
+
+    private static String csrSignatureAlgorithm(File csr) throws IOException {
+        try (PEMParser parser = new PEMParser(new FileReader(csr))) {
+            return ((PKCS10CertificationRequest) parser.readObject()).getSignatureAlgorithm().getAlgorithm().getId();
+        }
+    }
+
+    private static void assertReadableStore(File store, File cert) throws Exception {
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        keyStore.load(new FileInputStream(store), PASSWORD.toCharArray());
+
+        assertThat(keyStore.getKey("user", PASSWORD.toCharArray()) instanceof PrivateKey, is(true));
+        assertThat(keyStore.getCertificate("user"), is(loadCertificate(cert)));
+
+        // The store has to be readable by OpenSSL as well, because it is used also by non-Java clients
+        Process process = new ProcessBuilder("openssl", "pkcs12", "-in", store.getAbsolutePath(), "-passin", "pass:" + PASSWORD, "-nokeys")
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        assertThat(process.waitFor(60, TimeUnit.SECONDS), is(true));
+        assertThat(process.exitValue(), is(0));
+    }
+
+    @Test
+    public void testCertificatesWithoutSans() throws Exception {
+        Subject caSubject = new Subject.Builder().withCommonName("ca").withOrganizationName("io.strimzi").build();
+        Subject subject = new Subject.Builder().withCommonName("user").build();
+
+        Generated fromBc = generate(bc, caSubject, subject);
+        Generated fromOpenssl = generate(openssl, caSubject, subject);
+
+        assertSameExtensions(loadCertificate(fromBc.caCert), loadCertificate(fromOpenssl.caCert));
+        assertSameExtensions(loadCertificate(fromBc.cert), loadCertificate(fromOpenssl.cert));
+        assertThat(csrSignatureAlgorithm(fromBc.csr), is(csrSignatureAlgorithm(fromOpenssl.csr)));
+        assertThat(loadCertificate(fromBc.cert).getSubjectX500Principal(), is(loadCertificate(fromOpenssl.cert).getSubjectX500Principal()));
+    }
+
+    @Test
+    public void testCertificatesWithSans() throws Exception {
+        Subject caSubject = new Subject.Builder().withCommonName("ca").withOrganizationName("io.strimzi").build();
+        Subject subject = new Subject.Builder()
+                .withCommonName("my-cluster-kafka")
+                .withOrganizationName("io.strimzi")
+                .addDnsName("my-cluster-kafka-bootstrap")
+                .addDnsName("*.my-cluster-kafka-brokers.myproject.svc")
+                .addIpAddress("10.0.0.1")
+                .build();
+
+        Generated fromBc = generate(bc, caSubject, subject);
+        Generated fromOpenssl = generate(openssl, caSubject, subject);
+
+        X509Certificate bcCert = loadCertificate(fromBc.cert);
+        X509Certificate opensslCert = loadCertificate(fromOpenssl.cert);
+
+        assertSameExtensions(bcCert, opensslCert);
+        assertThat(new HashSet<>(bcCert.getSubjectAlternativeNames()), is(new HashSet<>(opensslCert.getSubjectAlternativeNames())));
+        assertThat(csrSignatureAlgorithm(fromBc.csr), is(csrSignatureAlgorithm(fromOpenssl.csr)));
+        assertThat(bcCert.getSubjectX500Principal(), is(opensslCert.getSubjectX500Principal()));
+    }
+
+    @Test
+    public void testPkcs12StoresAreReadable() throws Exception {
+        Subject caSubject = new Subject.Builder().withCommonName("ca").build();
+        Subject subject = new Subject.Builder().withCommonName("user").build();
+
+        Generated fromBc = generate(bc, caSubject, subject);
+        Generated fromOpenssl = generate(openssl, caSubject, subject);
+
+        assertReadableStore(fromBc.store, fromBc.cert);
+        assertReadableStore(fromOpenssl.store, fromOpenssl.cert);
+    }
+
+    @Test
+    public void testKeysAreInterchangeable() throws Exception {
+        Subject caSubject = new Subject.Builder().withCommonName("ca").build();
+        Subject subject = new Subject.Builder().withCommonName("user").addDnsName("user.example.com").build();
+
+        Generated fromBc = generate(bc, caSubject, subject);
+        Generated fromOpenssl = generate(openssl, caSubject, subject);
+
+        // Certificates signed by BouncyCastle with the CA generated by OpenSSL (existing clusters switching to BouncyCastle)
+        File bcCert = tempFile("crt-", ".crt");
+        bc.generateCert(fromOpenssl.csr, fromOpenssl.caKey, fromOpenssl.caCert, bcCert, subject, 365);
+        loadCertificate(bcCert).verify(loadCertificate(fromOpenssl.caCert).getPublicKey());
+
+        // Certificates signed by OpenSSL with the CA generated by BouncyCastle (switching back)
+        File opensslCert = tempFile("crt-", ".crt");
+        openssl.generateCert(fromBc.csr, fromBc.caKey, fromBc.caCert, opensslCert, subject, 365);
+        loadCertificate(opensslCert).verify(loadCertificate(fromBc.caCert).getPublicKey());
+
+        // Renewing the CA keeps the key generated by the other implementation
+        bc.renewSelfSignedCert(fromOpenssl.caKey, fromOpenssl.caCert, caSubject, 365);
+        loadCertificate(fromOpenssl.cert).verify(loadCertificate(fromOpenssl.caCert).getPublicKey());
+        openssl.renewSelfSignedCert(fromBc.caKey, fromBc.caCert, caSubject, 365);
+        loadCertificate(fromBc.cert).verify(loadCertificate(fromBc.caCert).getPublicKey());
+
+        assertThat(loadCertificate(bcCert).getSubjectAlternativeNames(), is(notNullValue()));
+    }
+}
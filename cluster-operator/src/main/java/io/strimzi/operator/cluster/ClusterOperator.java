@@ -95,6 +95,7 @@ public class ClusterOperator extends AbstractVerticle {
         @SuppressWarnings({ "rawtypes" })
         List<Future> startFutures = new ArrayList<>(8);
         startFutures.add(maybeStartStrimziPodSetController());
+        startFutures.add(maybeEnableResourceCaches());
 
         if (!config.isPodSetReconciliationOnly()) {
             List<AbstractOperator<?, ?, ?, ?>> operators = new ArrayList<>(asList(
@@ -133,7 +134,7 @@ public class ClusterOperator extends AbstractVerticle {
             try {
                 if (config.featureGates().useStrimziPodSetsEnabled()) {
                     strimziPodSetController = new StrimziPodSetController(namespace, config.getCustomResourceSelector(), resourceOperatorSupplier.kafkaOperator,
-                            resourceOperatorSupplier.strimziPodSetOperator, resourceOperatorSupplier.podOperations, resourceOperatorSupplier.metricsProvider, config.getPodSetControllerWorkQueueSize());
+                            resourceOperatorSupplier.strimziPodSetOperator, resourceOperatorSupplier.podOperations, resourceOperatorSupplier.metricsProvider, config.getPodSetControllerWorkQueueSize(), config.getPodSetControllerWorkers());
                     strimziPodSetController.start();
                 }
                 future.complete();
@@ -145,6 +146,31 @@ public class ClusterOperator extends AbstractVerticle {
         return handler.future();
     }
 
+    /**
+     * Enables the informer based caches in the resource operators when configured. The caches are used to get the
+     * current resources during the reconciliations instead of calling the Kubernetes API every time.
+     *
+     * @return  Future which completes when the caches are started (or immediately when they are disabled)
+     */
+    public Future<Void> maybeEnableResourceCaches() {
+        if (config.isResourceCacheEnabled() && !config.isPodSetReconciliationOnly()) {
+            Promise<Void> handler = Promise.promise();
+            vertx.executeBlocking(future -> {
+                try {
+                    resourceOperatorSupplier.enableResourceCaches(namespace);
+                    LOGGER.info("Resource caches enabled for namespace {}", namespace);
+                    future.complete();
+                } catch (Throwable e) {
+                    LOGGER.error("Failed to enable resource caches for namespace {}", namespace);
+                    future.fail(e);
+                }
+            }, handler);
+            return handler.future();
+        } else {
+            return Future.succeededFuture();
+        }
+    }
+
     @Override
     public void stop(Promise<Void> stop) {
         LOGGER.info("Stopping ClusterOperator for namespace {}", namespace);
@@ -159,6 +185,10 @@ public class ClusterOperator extends AbstractVerticle {
             strimziPodSetController.stop();
         }
 
+        if (config.isResourceCacheEnabled() && !config.isPodSetReconciliationOnly()) {
+            resourceOperatorSupplier.disableResourceCaches(namespace);
+        }
+
         client.close();
         stop.complete();
     }
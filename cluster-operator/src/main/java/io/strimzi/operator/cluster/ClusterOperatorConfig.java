@@ -52,6 +52,14 @@ public class ClusterOperatorConfig {
     public static final String STRIMZI_POD_SET_CONTROLLER_WORK_QUEUE_SIZE = "STRIMZI_POD_SET_CONTROLLER_WORK_QUEUE_SIZE";
     public static final String STRIMZI_POD_SECURITY_PROVIDER_CLASS = "STRIMZI_POD_SECURITY_PROVIDER_CLASS";
     public static final String STRIMZI_LEADER_ELECTION_ENABLED = "STRIMZI_LEADER_ELECTION_ENABLED";
+    public static final String STRIMZI_RESOURCE_CACHE_ENABLED = "STRIMZI_RESOURCE_CACHE_ENABLED";
+    public static final String STRIMZI_MAX_CONCURRENT_RECONCILIATIONS = "STRIMZI_MAX_CONCURRENT_RECONCILIATIONS";
+    public static final String STRIMZI_PERIODIC_RECONCILIATION_SPREAD_MS = "STRIMZI_PERIODIC_RECONCILIATION_SPREAD_MS";
+    public static final String STRIMZI_MAX_PARALLEL_BROKER_RESTARTS = "STRIMZI_MAX_PARALLEL_BROKER_RESTARTS";
+    public static final String STRIMZI_POD_SET_CONTROLLER_WORKERS = "STRIMZI_POD_SET_CONTROLLER_WORKERS";
+    public static final String STRIMZI_SERVER_SIDE_APPLY_ENABLED = "STRIMZI_SERVER_SIDE_APPLY_ENABLED";
+    public static final String STRIMZI_LEADERSHIP_AWARE_ROLLING_UPDATES = "STRIMZI_LEADERSHIP_AWARE_ROLLING_UPDATES";
+    public static final String STRIMZI_BOUNCY_CASTLE_CERT_MANAGER_ENABLED = "STRIMZI_BOUNCY_CASTLE_CERT_MANAGER_ENABLED";
 
     //Used to identify which cluster operator created a Kubernetes event
     public static final String STRIMZI_OPERATOR_NAME = "STRIMZI_OPERATOR_NAME";
@@ -97,6 +105,14 @@ public class ClusterOperatorConfig {
     public static final boolean DEFAULT_POD_SET_RECONCILIATION_ONLY = false;
     public static final String DEFAULT_POD_SECURITY_PROVIDER_CLASS = "io.strimzi.plugin.security.profiles.impl.BaselinePodSecurityProvider";
     public static final boolean DEFAULT_LEADER_ELECTION_ENABLED = false;
+    public static final boolean DEFAULT_RESOURCE_CACHE_ENABLED = false;
+    public static final int DEFAULT_MAX_CONCURRENT_RECONCILIATIONS = 0;
+    public static final long DEFAULT_PERIODIC_RECONCILIATION_SPREAD_MS = 0;
+    public static final int DEFAULT_MAX_PARALLEL_BROKER_RESTARTS = 1;
+    public static final int DEFAULT_POD_SET_CONTROLLER_WORKERS = 1;
+    public static final boolean DEFAULT_SERVER_SIDE_APPLY_ENABLED = false;
+    public static final boolean DEFAULT_LEADERSHIP_AWARE_ROLLING_UPDATES = false;
+    public static final boolean DEFAULT_BOUNCY_CASTLE_CERT_MANAGER_ENABLED = false;
 
     // PodSecurityPolicy shortcut keywords and the corresponding class names
     public static final String POD_SECURITY_PROVIDER_BASELINE_SHORTCUT = "baseline";
@@ -125,6 +141,14 @@ public class ClusterOperatorConfig {
     private final String operatorName;
     private final String podSecurityProviderClass;
     private final LeaderElectionManagerConfig leaderElectionConfig;
+    private final boolean resourceCacheEnabled;
+    private final int maxConcurrentReconciliations;
+    private final long periodicReconciliationSpreadMs;
+    private final int maxParallelBrokerRestarts;
+    private final int podSetControllerWorkers;
+    private final boolean serverSideApplyEnabled;
+    private final boolean leadershipAwareRollingUpdates;
+    private final boolean bouncyCastleCertManagerEnabled;
 
     /**
      * Constructor
@@ -151,6 +175,19 @@ public class ClusterOperatorConfig {
      * @param operatorName                  The Pod name of the cluster operator, used to identify source of K8s events the operator creates
      * @param podSecurityProviderClass      The PodSecurityProvider class which the operator should use
      * @param leaderElectionConfig          Configuration of the Cluster Operator leader election
+     * @param resourceCacheEnabled          Indicates whether the resource operators should use informer based caches
+     *                                      to get the current resources
+     * @param maxConcurrentReconciliations  Maximal number of reconciliations of each resource kind running at the same
+     *                                      time. Zero means no limit.
+     * @param periodicReconciliationSpreadMs Time window over which the periodic reconciliations are spread
+     * @param maxParallelBrokerRestarts     Maximal number of Kafka brokers restarted at the same time during rolling
+     *                                      updates
+     * @param podSetControllerWorkers       Number of workers reconciling the StrimziPodSets in parallel
+     * @param serverSideApplyEnabled        Indicates whether the resources should be applied using the server-side apply
+     * @param leadershipAwareRollingUpdates Indicates whether the rolling updates should move the partition leadership
+     *                                      away from the brokers before restarting them
+     * @param bouncyCastleCertManagerEnabled Indicates whether the certificates should be generated using BouncyCastle
+     *                                      instead of the OpenSSL command line tool
      */
     @SuppressWarnings("checkstyle:ParameterNumber")
     public ClusterOperatorConfig(
@@ -174,7 +211,15 @@ public class ClusterOperatorConfig {
             int podSetControllerWorkQueueSize,
             String operatorName,
             String podSecurityProviderClass,
-            LeaderElectionManagerConfig leaderElectionConfig
+            LeaderElectionManagerConfig leaderElectionConfig,
+            boolean resourceCacheEnabled,
+            int maxConcurrentReconciliations,
+            long periodicReconciliationSpreadMs,
+            int maxParallelBrokerRestarts,
+            int podSetControllerWorkers,
+            boolean serverSideApplyEnabled,
+            boolean leadershipAwareRollingUpdates,
+            boolean bouncyCastleCertManagerEnabled
     ) {
         this.namespaces = Set.copyOf(namespaces);
         this.reconciliationIntervalMs = reconciliationIntervalMs;
@@ -197,6 +242,14 @@ public class ClusterOperatorConfig {
         this.operatorName = operatorName;
         this.podSecurityProviderClass = podSecurityProviderClass;
         this.leaderElectionConfig = leaderElectionConfig;
+        this.resourceCacheEnabled = resourceCacheEnabled;
+        this.maxConcurrentReconciliations = maxConcurrentReconciliations;
+        this.periodicReconciliationSpreadMs = periodicReconciliationSpreadMs;
+        this.maxParallelBrokerRestarts = maxParallelBrokerRestarts;
+        this.podSetControllerWorkers = podSetControllerWorkers;
+        this.serverSideApplyEnabled = serverSideApplyEnabled;
+        this.leadershipAwareRollingUpdates = leadershipAwareRollingUpdates;
+        this.bouncyCastleCertManagerEnabled = bouncyCastleCertManagerEnabled;
     }
 
     /**
@@ -255,6 +308,14 @@ public class ClusterOperatorConfig {
         int podSetControllerWorkQueueSize = parseInt(map.get(STRIMZI_POD_SET_CONTROLLER_WORK_QUEUE_SIZE), DEFAULT_POD_SET_CONTROLLER_WORK_QUEUE_SIZE);
         String podSecurityProviderClass = parsePodSecurityProviderClass(map.get(STRIMZI_POD_SECURITY_PROVIDER_CLASS));
         LeaderElectionManagerConfig leaderElectionConfig = parseLeaderElectionConfig(map);
+        boolean resourceCacheEnabled = parseBoolean(map.get(STRIMZI_RESOURCE_CACHE_ENABLED), DEFAULT_RESOURCE_CACHE_ENABLED);
+        int maxConcurrentReconciliations = parseInt(map.get(STRIMZI_MAX_CONCURRENT_RECONCILIATIONS), DEFAULT_MAX_CONCURRENT_RECONCILIATIONS);
+        long periodicReconciliationSpreadMs = parsePeriodicReconciliationSpread(map.get(STRIMZI_PERIODIC_RECONCILIATION_SPREAD_MS), reconciliationInterval);
+        int maxParallelBrokerRestarts = parseMaxParallelBrokerRestarts(map.get(STRIMZI_MAX_PARALLEL_BROKER_RESTARTS));
+        int podSetControllerWorkers = parsePodSetControllerWorkers(map.get(STRIMZI_POD_SET_CONTROLLER_WORKERS));
+        boolean serverSideApplyEnabled = parseBoolean(map.get(STRIMZI_SERVER_SIDE_APPLY_ENABLED), DEFAULT_SERVER_SIDE_APPLY_ENABLED);
+        boolean leadershipAwareRollingUpdates = parseBoolean(map.get(STRIMZI_LEADERSHIP_AWARE_ROLLING_UPDATES), DEFAULT_LEADERSHIP_AWARE_ROLLING_UPDATES);
+        boolean bouncyCastleCertManagerEnabled = parseBoolean(map.get(STRIMZI_BOUNCY_CASTLE_CERT_MANAGER_ENABLED), DEFAULT_BOUNCY_CASTLE_CERT_MANAGER_ENABLED);
 
         //Use default to prevent existing installations breaking if CO pod template not modified to pass through pod name
         String operatorName = map.getOrDefault(STRIMZI_OPERATOR_NAME, DEFAULT_OPERATOR_NAME);
@@ -280,7 +341,15 @@ public class ClusterOperatorConfig {
                 podSetControllerWorkQueueSize,
                 operatorName,
                 podSecurityProviderClass,
-                leaderElectionConfig);
+                leaderElectionConfig,
+                resourceCacheEnabled,
+                maxConcurrentReconciliations,
+                periodicReconciliationSpreadMs,
+                maxParallelBrokerRestarts,
+                podSetControllerWorkers,
+                serverSideApplyEnabled,
+                leadershipAwareRollingUpdates,
+                bouncyCastleCertManagerEnabled);
     }
 
     private static Set<String> parseNamespaceList(String namespacesList)   {
@@ -322,6 +391,19 @@ public class ClusterOperatorConfig {
         return timeout;
     }
 
+    private static long parsePeriodicReconciliationSpread(String envVar, long reconciliationInterval) {
+        long value = parseTimeout(envVar, DEFAULT_PERIODIC_RECONCILIATION_SPREAD_MS);
+
+        if (value < 0) {
+            throw new InvalidConfigurationException(STRIMZI_PERIODIC_RECONCILIATION_SPREAD_MS + " must not be negative");
+        } else if (value > 0 && value >= reconciliationInterval) {
+            // Otherwise the delayed reconciliations would pile up with the reconciliations from the next period
+            throw new InvalidConfigurationException(STRIMZI_PERIODIC_RECONCILIATION_SPREAD_MS + " must be lower than " + STRIMZI_FULL_RECONCILIATION_INTERVAL_MS);
+        }
+
+        return value;
+    }
+
     private static int parseInt(String envVar, int defaultValue) {
         int value = defaultValue;
 
@@ -332,6 +414,26 @@ public class ClusterOperatorConfig {
         return value;
     }
 
+    private static int parseMaxParallelBrokerRestarts(String envVar) {
+        int value = parseInt(envVar, DEFAULT_MAX_PARALLEL_BROKER_RESTARTS);
+
+        if (value < 1) {
+            throw new InvalidConfigurationException(STRIMZI_MAX_PARALLEL_BROKER_RESTARTS + " must be at least 1");
+        }
+
+        return value;
+    }
+
+    private static int parsePodSetControllerWorkers(String envVar) {
+        int value = parseInt(envVar, DEFAULT_POD_SET_CONTROLLER_WORKERS);
+
+        if (value < 1) {
+            throw new InvalidConfigurationException(STRIMZI_POD_SET_CONTROLLER_WORKERS + " must be at least 1");
+        }
+
+        return value;
+    }
+
     /* test */ static boolean parseBoolean(String envVar, boolean defaultValue) {
         boolean value = defaultValue;
 
@@ -603,6 +705,64 @@ public class ClusterOperatorConfig {
         return leaderElectionConfig;
     }
 
+    /**
+     * @return Indicates whether the resource operators should use informer based caches to get the current resources
+     */
+    public boolean isResourceCacheEnabled() {
+        return resourceCacheEnabled;
+    }
+
+    /**
+     * @return Maximal number of reconciliations of each resource kind running at the same time. Zero means no limit.
+     */
+    public int getMaxConcurrentReconciliations() {
+        return maxConcurrentReconciliations;
+    }
+
+    /**
+     * @return Time window in milliseconds over which the periodic reconciliations are spread
+     */
+    public long getPeriodicReconciliationSpreadMs() {
+        return periodicReconciliationSpreadMs;
+    }
+
+    /**
+     * @return Maximal number of Kafka brokers restarted at the same time during rolling updates
+     */
+    public int getMaxParallelBrokerRestarts() {
+        return maxParallelBrokerRestarts;
+    }
+
+    /**
+     * @return Number of workers reconciling the StrimziPodSets in parallel
+     */
+    public int getPodSetControllerWorkers() {
+        return podSetControllerWorkers;
+    }
+
+    /**
+     * @return  Indicates whether the resources should be applied using the server-side apply
+     */
+    public boolean isServerSideApplyEnabled() {
+        return serverSideApplyEnabled;
+    }
+
+    /**
+     * @return  Indicates whether the rolling updates should move the partition leadership away from the brokers before
+     *          restarting them and wait for it to come back afterwards
+     */
+    public boolean isLeadershipAwareRollingUpdates() {
+        return leadershipAwareRollingUpdates;
+    }
+
+    /**
+     * @return  Indicates whether the certificates should be generated using BouncyCastle instead of the OpenSSL command
+     *          line tool
+     */
+    public boolean isBouncyCastleCertManagerEnabled() {
+        return bouncyCastleCertManagerEnabled;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -626,6 +786,14 @@ public class ClusterOperatorConfig {
                 ",operatorName=" + operatorName +
                 ",podSecurityProviderClass=" + podSecurityProviderClass +
                 ",leaderElectionConfig=" + leaderElectionConfig +
+                ",resourceCacheEnabled=" + resourceCacheEnabled +
+                ",maxConcurrentReconciliations=" + maxConcurrentReconciliations +
+                ",periodicReconciliationSpreadMs=" + periodicReconciliationSpreadMs +
+                ",maxParallelBrokerRestarts=" + maxParallelBrokerRestarts +
+                ",podSetControllerWorkers=" + podSetControllerWorkers +
+                ",serverSideApplyEnabled=" + serverSideApplyEnabled +
+                ",leadershipAwareRollingUpdates=" + leadershipAwareRollingUpdates +
+                ",bouncyCastleCertManagerEnabled=" + bouncyCastleCertManagerEnabled +
                 ")";
     }
 }
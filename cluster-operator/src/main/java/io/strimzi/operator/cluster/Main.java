@@ -9,6 +9,8 @@ import io.fabric8.kubernetes.api.model.rbac.ClusterRole;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.strimzi.api.kafka.Crds;
+import io.strimzi.certs.BouncyCastleCertManager;
+import io.strimzi.certs.CertManager;
 import io.strimzi.certs.OpenSslCertManager;
 import io.strimzi.operator.PlatformFeaturesAvailability;
 import io.strimzi.operator.cluster.leaderelection.LeaderElectionManager;
@@ -152,6 +154,13 @@ public class Main {
                 config.getOperatorName()
         );
 
+        // Closes the pooled Admin clients and their eviction timer when the operator shuts down
+        Runtime.getRuntime().addShutdownHook(new Thread(resourceOperatorSupplier::close));
+
+        if (config.isServerSideApplyEnabled()) {
+            resourceOperatorSupplier.enableServerSideApply();
+        }
+
         // Initialize the PodSecurityProvider factory to provide the user configured provider
         PodSecurityProviderFactory.initialize(config.getPodSecurityProviderClass(), pfa);
 
@@ -163,7 +172,7 @@ public class Main {
         KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator = null;
 
         if (!config.isPodSetReconciliationOnly()) {
-            OpenSslCertManager certManager = new OpenSslCertManager();
+            CertManager certManager = config.isBouncyCastleCertManagerEnabled() ? new BouncyCastleCertManager() : new OpenSslCertManager();
             PasswordGenerator passwordGenerator = new PasswordGenerator(12,
                     "abcdefghijklmnopqrstuvwxyz" +
                             "ABCDEFGHIJKLMNOPQRSTUVWXYZ",
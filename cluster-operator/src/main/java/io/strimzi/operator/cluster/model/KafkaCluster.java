@@ -111,6 +111,8 @@ public class KafkaCluster extends AbstractModel {
     /* test */ static final String ENV_VAR_STRIMZI_CLUSTER_ID = "STRIMZI_CLUSTER_ID";
     /* test */ static final String ENV_VAR_STRIMZI_KRAFT_ENABLED = "STRIMZI_KRAFT_ENABLED";
     private static final String ENV_VAR_KAFKA_METRICS_ENABLED = "KAFKA_METRICS_ENABLED";
+    /* test */ static final String ENV_VAR_KAFKA_AGENT_BIND_ADDRESS = "STRIMZI_KAFKA_AGENT_BIND_ADDRESS";
+    /* test */ static final String ENV_VAR_KAFKA_AGENT_PORT = "STRIMZI_KAFKA_AGENT_PORT";
 
     // For port names in services, a 'tcp-' prefix is added to support Istio protocol selection
     // This helps Istio to avoid using a wildcard listener and instead present IP:PORT pairs which effects
@@ -119,6 +121,8 @@ public class KafkaCluster extends AbstractModel {
     protected static final String REPLICATION_PORT_NAME = "tcp-replication";
     public static final int CONTROLPLANE_PORT = 9090;
     protected static final String CONTROLPLANE_PORT_NAME = "tcp-ctrlplane"; // port name is up to 15 characters
+    public static final int KAFKA_AGENT_PORT = 8080; // Broker state endpoint of the Kafka agent used during rolling updates
+    protected static final String KAFKA_AGENT_PORT_NAME = "http-kafkaagent";
 
     // Ingress and Route listeners advertise port 443 regardless what port is used in Kafka, so we store them here
     public static final int ROUTE_PORT = 443;
@@ -1309,10 +1313,15 @@ public class KafkaCluster extends AbstractModel {
     }
 
     /* test */ List<ContainerPort> getContainerPortList() {
-        List<ContainerPort> ports = new ArrayList<>(listeners.size() + 3);
+        List<ContainerPort> ports = new ArrayList<>(listeners.size() + 4);
         ports.add(createContainerPort(CONTROLPLANE_PORT_NAME, CONTROLPLANE_PORT, "TCP"));
         ports.add(createContainerPort(REPLICATION_PORT_NAME, REPLICATION_PORT, "TCP"));
 
+        if (!useKRaft) {
+            // The Kafka agent is not used in KRaft mode
+            ports.add(createContainerPort(KAFKA_AGENT_PORT_NAME, KAFKA_AGENT_PORT, "TCP"));
+        }
+
         for (GenericKafkaListener listener : listeners) {
             ports.add(createContainerPort(ListenersUtils.backwardsCompatiblePortName(listener), listener.getPort(), "TCP"));
         }
@@ -1623,6 +1632,10 @@ public class KafkaCluster extends AbstractModel {
         if (useKRaft)   {
             varList.add(buildEnvVar(ENV_VAR_STRIMZI_CLUSTER_ID, clusterId));
             varList.add(buildEnvVar(ENV_VAR_STRIMZI_KRAFT_ENABLED, "true"));
+        } else {
+            // The broker state endpoint of the Kafka agent listens only on the pod IP address
+            varList.add(buildEnvVarFromFieldRef(ENV_VAR_KAFKA_AGENT_BIND_ADDRESS, "status.podIP"));
+            varList.add(buildEnvVar(ENV_VAR_KAFKA_AGENT_PORT, String.valueOf(KAFKA_AGENT_PORT)));
         }
 
         if (isJmxEnabled) {
@@ -1716,8 +1729,8 @@ public class KafkaCluster extends AbstractModel {
                 .build();
 
         // List of network policy rules for all ports
-        // Default size is number of listeners configured by the user + 4 (Control Plane listener, replication listener, metrics and JMX)
-        List<NetworkPolicyIngressRule> rules = new ArrayList<>(listeners.size() + 4);
+        // Default size is number of listeners configured by the user + 5 (Control Plane listener, replication listener, Kafka agent, metrics and JMX)
+        List<NetworkPolicyIngressRule> rules = new ArrayList<>(listeners.size() + 5);
 
         // Control Plane rule covers the control plane listener.
         // Control plane listener is used by Kafka for internal coordination only
@@ -1743,6 +1756,18 @@ public class KafkaCluster extends AbstractModel {
         replicationRule.setFrom(List.of(clusterOperatorPeer, kafkaClusterPeer, entityOperatorPeer, kafkaExporterPeer, cruiseControlPeer));
         rules.add(replicationRule);
 
+        // Kafka agent rule covers the broker state endpoint of the Kafka agent.
+        // It is used only by the Cluster Operator to follow the progress of the brokers during rolling updates
+        NetworkPolicyIngressRule kafkaAgentRule = new NetworkPolicyIngressRuleBuilder()
+                .addNewPort()
+                .withNewPort(KAFKA_AGENT_PORT)
+                .withProtocol("TCP")
+                .endPort()
+                .build();
+
+        kafkaAgentRule.setFrom(List.of(clusterOperatorPeer));
+        rules.add(kafkaAgentRule);
+
         // User-configured listeners are by default open for all. Users can pass peers in the Kafka CR.
         for (GenericKafkaListener listener : listeners) {
             NetworkPolicyIngressRule plainRule = new NetworkPolicyIngressRuleBuilder()
@@ -0,0 +1,211 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.strimzi.kafka.config.model.ConfigModel;
+import io.strimzi.kafka.config.model.ConfigModels;
+import io.strimzi.kafka.config.model.Scope;
+import io.strimzi.kafka.config.model.Type;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable catalogue of the configuration options of a given Kafka broker version. The catalogue is loaded from the
+ * config model JSON file only once for each Kafka version and is shared by all reconciliations. Apart from the config
+ * models, it indexes the option names by their scope and remembers which option names are ignorable when the broker
+ * configuration is diffed, so that the regular expression does not need to be evaluated again for every broker in
+ * every reconciliation.
+ */
+public class KafkaConfigModelCatalogue {
+    /**
+     * Options which are ignored when diffing the broker configuration because they contain placeholders or are
+     * configured per broker. 909[1-4] is for skipping all (internal, plain, secured, external) listeners properties
+     */
+    public static final Pattern IGNORABLE_PROPERTIES = Pattern.compile(
+            "^(broker\\.id"
+            + "|.*-[0-9]{2,5}\\.ssl\\.keystore\\.location"
+            + "|.*-[0-9]{2,5}\\.ssl\\.keystore\\.password"
+            + "|.*-[0-9]{2,5}\\.ssl\\.keystore\\.type"
+            + "|.*-[0-9]{2,5}\\.ssl\\.truststore\\.location"
+            + "|.*-[0-9]{2,5}\\.ssl\\.truststore\\.password"
+            + "|.*-[0-9]{2,5}\\.ssl\\.truststore\\.type"
+            + "|.*-[0-9]{2,5}\\.ssl\\.client\\.auth"
+            + "|.*-[0-9]{2,5}\\.scram-sha-512\\.sasl\\.jaas\\.config"
+            + "|.*-[0-9]{2,5}\\.sasl\\.enabled\\.mechanisms"
+            + "|advertised\\.listeners"
+            + "|zookeeper\\.connect"
+            + "|zookeeper\\.ssl\\..*"
+            + "|zookeeper\\.clientCnxnSocket"
+            + "|broker\\.rack)$");
+
+    /**
+     * Maximal number of option names which are not part of the config model (such as per-listener or plugin options)
+     * for which the result of the ignorable check is remembered. Beyond this limit, the regular expression is
+     * evaluated every time to keep the memory bounded.
+     */
+    /* test */ static final int MAX_REMEMBERED_NAMES = 10_000;
+
+    private static final Map<String, KafkaConfigModelCatalogue> CATALOGUES = new ConcurrentHashMap<>();
+    private static final Map<String, Boolean> IGNORABLE_UNKNOWN_NAMES = new ConcurrentHashMap<>();
+
+    private final String version;
+    private final Map<String, ConfigModel> configs;
+    private final Map<Scope, Set<String>> namesByScope;
+    private final Set<String> ignorableNames;
+
+    /* test */ KafkaConfigModelCatalogue(String version, Map<String, ConfigModel> configs) {
+        this.version = version;
+        this.configs = Collections.unmodifiableMap(new HashMap<>(configs));
+
+        Map<Scope, Set<String>> byScope = new EnumMap<>(Scope.class);
+        Set<String> ignorable = new HashSet<>();
+
+        for (Map.Entry<String, ConfigModel> config : configs.entrySet()) {
+            if (config.getValue().getScope() != null) {
+                byScope.computeIfAbsent(config.getValue().getScope(), scope -> new HashSet<>()).add(config.getKey());
+            }
+
+            if (IGNORABLE_PROPERTIES.matcher(config.getKey()).matches()) {
+                ignorable.add(config.getKey());
+            }
+        }
+
+        byScope.replaceAll((scope, names) -> Collections.unmodifiableSet(names));
+        this.namesByScope = Collections.unmodifiableMap(byScope);
+        this.ignorableNames = Collections.unmodifiableSet(ignorable);
+    }
+
+    /**
+     * Gets the catalogue for the given version of the Kafka broker. The config model is read from the classpath
+     * only the first time the catalogue for the given version is requested.
+     *
+     * @param kafkaVersion  The broker version
+     *
+     * @return  The config catalogue for that broker version
+     */
+    public static KafkaConfigModelCatalogue forVersion(KafkaVersion kafkaVersion) {
+        return CATALOGUES.computeIfAbsent(kafkaVersion.version(), version -> new KafkaConfigModelCatalogue(version, readConfigModel(version)));
+    }
+
+    @SuppressFBWarnings({"RCN_REDUNDANT_NULLCHECK_OF_NONNULL_VALUE"})
+    private static Map<String, ConfigModel> readConfigModel(String version) {
+        String name = "/kafka-" + version + "-config-model.json";
+        try {
+            try (InputStream in = KafkaConfigModelCatalogue.class.getResourceAsStream(name)) {
+                if (in != null) {
+                    ConfigModels configModels = new ObjectMapper().readValue(in, ConfigModels.class);
+                    if (!version.equals(configModels.getVersion())) {
+                        throw new RuntimeException("Incorrect version");
+                    }
+                    return configModels.getConfigs();
+                } else {
+                    // The configuration model does not exist
+                    throw new RuntimeException("Configuration model " + name + " was not found");
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading from classpath resource " + name, e);
+        }
+    }
+
+    /**
+     * @return  The Kafka version of this catalogue
+     */
+    public String version() {
+        return version;
+    }
+
+    /**
+     * @return  Unmodifiable map of the option names to their config models
+     */
+    public Map<String, ConfigModel> configs() {
+        return configs;
+    }
+
+    /**
+     * @param name  Name of the option
+     *
+     * @return  The config model of the option or null if the option is not known to this Kafka version
+     */
+    public ConfigModel config(String name) {
+        return configs.get(name);
+    }
+
+    /**
+     * @param name  Name of the option
+     *
+     * @return  True if the option is known to this Kafka version. False for custom options such as plugin options.
+     */
+    public boolean isKnown(String name) {
+        return configs.containsKey(name);
+    }
+
+    /**
+     * @param name  Name of the option
+     *
+     * @return  The scope of the option or null if the option is not known to this Kafka version
+     */
+    public Scope scope(String name) {
+        ConfigModel config = configs.get(name);
+        return config != null ? config.getScope() : null;
+    }
+
+    /**
+     * @param name  Name of the option
+     *
+     * @return  The type of the option or null if the option is not known to this Kafka version
+     */
+    public Type type(String name) {
+        ConfigModel config = configs.get(name);
+        return config != null ? config.getType() : null;
+    }
+
+    /**
+     * @param scope     The scope
+     *
+     * @return  Unmodifiable set with the names of all options with given scope
+     */
+    public Set<String> namesWithScope(Scope scope) {
+        return namesByScope.getOrDefault(scope, Collections.emptySet());
+    }
+
+    /**
+     * Checks whether the option should be ignored when diffing the broker configuration. Options from the config
+     * model are checked against a set precomputed when the catalogue is created. For other options, such as the
+     * per-listener options, the result of the check is remembered.
+     *
+     * @param name  Name of the option
+     *
+     * @return  True if the option matches IGNORABLE_PROPERTIES. False otherwise.
+     */
+    public boolean isIgnorable(String name) {
+        if (configs.containsKey(name)) {
+            return ignorableNames.contains(name);
+        }
+
+        Boolean ignorable = IGNORABLE_UNKNOWN_NAMES.get(name);
+
+        if (ignorable == null) {
+            ignorable = IGNORABLE_PROPERTIES.matcher(name).matches();
+
+            if (IGNORABLE_UNKNOWN_NAMES.size() < MAX_REMEMBERED_NAMES) {
+                IGNORABLE_UNKNOWN_NAMES.put(name, ignorable);
+            }
+        }
+
+        return ignorable;
+    }
+}
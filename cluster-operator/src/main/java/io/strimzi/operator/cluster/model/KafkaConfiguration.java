@@ -5,23 +5,17 @@
 
 package io.strimzi.operator.cluster.model;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.strimzi.api.kafka.model.KafkaClusterSpec;
 import io.strimzi.kafka.config.model.ConfigModel;
-import io.strimzi.kafka.config.model.ConfigModels;
 import io.strimzi.kafka.config.model.Scope;
 import io.strimzi.operator.common.Reconciliation;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyList;
 
@@ -90,11 +84,11 @@ public class KafkaConfiguration extends AbstractConfiguration {
      */
     public List<String> validate(KafkaVersion kafkaVersion) {
         List<String> errors = new ArrayList<>();
-        Map<String, ConfigModel> models = readConfigModel(kafkaVersion);
+        KafkaConfigModelCatalogue catalogue = KafkaConfigModelCatalogue.forVersion(kafkaVersion);
         for (Map.Entry<String, String> entry: asOrderedProperties().asMap().entrySet()) {
             String key = entry.getKey();
             String value = entry.getValue();
-            ConfigModel config = models.get(key);
+            ConfigModel config = catalogue.config(key);
             if (config != null) {
                 // It's not an error if config _is_ null because extra configs
                 // might be intended for plugins
@@ -109,25 +103,8 @@ public class KafkaConfiguration extends AbstractConfiguration {
      * @param kafkaVersion The broker version.
      * @return The config model for that broker version.
      */
-    @SuppressFBWarnings({"RCN_REDUNDANT_NULLCHECK_OF_NONNULL_VALUE"})
     public static Map<String, ConfigModel> readConfigModel(KafkaVersion kafkaVersion) {
-        String name = "/kafka-" + kafkaVersion.version() + "-config-model.json";
-        try {
-            try (InputStream in = KafkaConfiguration.class.getResourceAsStream(name)) {
-                if (in != null) {
-                    ConfigModels configModels = new ObjectMapper().readValue(in, ConfigModels.class);
-                    if (!kafkaVersion.version().equals(configModels.getVersion())) {
-                        throw new RuntimeException("Incorrect version");
-                    }
-                    return configModels.getConfigs();
-                } else {
-                    // The configuration model does not exist
-                    throw new RuntimeException("Configuration model " + name + " was not found");
-                }
-            }
-        } catch (IOException e) {
-            throw new RuntimeException("Error reading from classpath resource " + name, e);
-        }
+        return KafkaConfigModelCatalogue.forVersion(kafkaVersion).configs();
     }
 
     /**
@@ -168,11 +145,7 @@ public class KafkaConfiguration extends AbstractConfiguration {
     }
 
     private Set<String> withScope(KafkaVersion kafkaVersion, Scope scope) {
-        Map<String, ConfigModel> c = readConfigModel(kafkaVersion);
-        List<String> configsOfScope = c.entrySet().stream()
-                .filter(config -> scope.equals(config.getValue().getScope()))
-                .map(config -> config.getKey())
-                .collect(Collectors.toList());
+        Set<String> configsOfScope = KafkaConfigModelCatalogue.forVersion(kafkaVersion).namesWithScope(scope);
         Set<String> result = new HashSet<>(asOrderedProperties().asMap().keySet());
         result.retainAll(configsOfScope);
         return Collections.unmodifiableSet(result);
@@ -185,9 +158,9 @@ public class KafkaConfiguration extends AbstractConfiguration {
      * @return The unknown configs.
      */
     public Set<String> unknownConfigs(KafkaVersion kafkaVersion) {
-        Map<String, ConfigModel> c = readConfigModel(kafkaVersion);
+        KafkaConfigModelCatalogue catalogue = KafkaConfigModelCatalogue.forVersion(kafkaVersion);
         Set<String> result = new HashSet<>(asOrderedProperties().asMap().keySet());
-        result.removeAll(c.keySet());
+        result.removeIf(catalogue::isKnown);
         return result;
     }
 
@@ -198,10 +171,10 @@ public class KafkaConfiguration extends AbstractConfiguration {
      * @return The unknown configs.
      */
     public Set<String> unknownConfigsWithValues(KafkaVersion kafkaVersion) {
-        Map<String, ConfigModel> configModel = readConfigModel(kafkaVersion);
+        KafkaConfigModelCatalogue catalogue = KafkaConfigModelCatalogue.forVersion(kafkaVersion);
         Set<String> result = new HashSet<>();
         for (Map.Entry<String, String> e :this.asOrderedProperties().asMap().entrySet()) {
-            if (!configModel.containsKey(e.getKey())) {
+            if (!catalogue.isKnown(e.getKey())) {
                 result.add(e.getKey() + "=" + e.getValue());
             }
         }
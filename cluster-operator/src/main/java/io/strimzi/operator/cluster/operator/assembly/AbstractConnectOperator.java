@@ -76,6 +76,7 @@ import io.vertx.core.json.JsonObject;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -123,7 +124,8 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                                    ResourceOperatorSupplier supplier, ClusterOperatorConfig config,
                                    Function<Vertx, KafkaConnectApi> connectClientProvider,
                                    int port) {
-        super(vertx, kind, resourceOperator, new ConnectOperatorMetricsHolder(kind, config.getCustomResourceSelector(), supplier.metricsProvider), config.getCustomResourceSelector());
+        super(vertx, kind, resourceOperator, new ConnectOperatorMetricsHolder(kind, config.getCustomResourceSelector(), supplier.metricsProvider), config.getCustomResourceSelector(),
+                config.getMaxConcurrentReconciliations(), config.getPeriodicReconciliationSpreadMs());
 
         this.isNetworkPolicyGeneration = config.isNetworkPolicyGeneration();
         this.connectorOperator = supplier.kafkaConnectorOperator;
@@ -227,7 +229,8 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                                                 } else {
                                                     LOGGER.infoCr(reconciliation, "{} {} in namespace {} was {}", connectorKind, connectorName, connectorNamespace, action);
 
-                                                    return connectOperator.withLock(reconciliation, LOCK_TIMEOUT_MS,
+                                                    // Only the events for the same connector are coalesced
+                                                    return connectOperator.withWorkQueue(reconciliation, connectorKind + "/" + connectorName,
                                                         () -> connectOperator.reconcileConnectorAndHandleResult(reconciliation,
                                                                     KafkaConnectResources.qualifiedServiceName(connectName, connectNamespace), apiClient,
                                                                     isUseResources(connect),
@@ -353,15 +356,26 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
 
         KafkaConnectApi apiClient = connectClientProvider.apply(vertx);
 
+        // The state of all connectors is fetched in a single request and the connectors which did not change are
+        // reconciled from it. When it cannot be fetched (e.g. older Connect versions without the expand parameter),
+        // each connector is reconciled using its own requests.
+        Future<Map<String, Map<String, Object>>> connectorsStateFuture = apiClient.listExpanded(reconciliation, host, port)
+                .recover(error -> {
+                    LOGGER.debugCr(reconciliation, "Failed to get the state of all connectors, they will be fetched one by one", error);
+                    return Future.succeededFuture(null);
+                });
+
         return CompositeFuture.join(
                 apiClient.list(host, port),
                 connectorOperator.listAsync(namespace, Optional.of(new LabelSelectorBuilder().addToMatchLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName).build())),
                 apiClient.listConnectorPlugins(reconciliation, host, port),
-                apiClient.updateConnectLoggers(reconciliation, host, port, desiredLogging, defaultLogging)
+                apiClient.updateConnectLoggers(reconciliation, host, port, desiredLogging, defaultLogging),
+                connectorsStateFuture
         ).compose(cf -> {
             List<String> runningConnectorNames = cf.resultAt(0);
             List<KafkaConnector> desiredConnectors = cf.resultAt(1);
             List<ConnectorPlugin> connectorPlugins = cf.resultAt(2);
+            Map<String, Map<String, Object>> connectorsState = cf.resultAt(4);
 
             LOGGER.debugCr(reconciliation, "Setting list of connector plugins in Kafka Connect status");
             connectStatus.setConnectorPlugins(connectorPlugins);
@@ -375,7 +389,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
 
             LOGGER.debugCr(reconciliation, "{} cluster: required connectors: {}", kind(), desiredConnectors);
             Stream<Future<Void>> createUpdateFutures = desiredConnectors.stream()
-                    .map(connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector));
+                    .map(connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector, connectorsState));
 
             return CompositeFuture.join(Stream.concat(deletionFutures, createUpdateFutures).collect(Collectors.toList())).map((Void) null);
         }).recover(error -> {
@@ -403,6 +417,12 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
 
     /*test*/ Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                              boolean useResources, String connectorName, KafkaConnector connector) {
+        return reconcileConnectorAndHandleResult(reconciliation, host, apiClient, useResources, connectorName, connector, null);
+    }
+
+    private Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                             boolean useResources, String connectorName, KafkaConnector connector,
+                                             Map<String, Map<String, Object>> connectorsState) {
         Promise<Void> reconciliationResult = Promise.promise();
 
         metrics().connectorsReconciliationsCounter(reconciliation.namespace()).increment();
@@ -418,7 +438,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             );
         }
 
-        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector)
+        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector, connectorsState)
                 .onComplete(result -> {
                     if (result.succeeded() && result.result() == null)  {
                         // The reconciliation succeeded, but there is no status to be set => we complete the reconciliation and return
@@ -457,7 +477,8 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     }
 
     private Future<ConnectorStatusAndConditions> reconcileConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
-                                             boolean useResources, String connectorName, KafkaConnector connector) {
+                                             boolean useResources, String connectorName, KafkaConnector connector,
+                                             Map<String, Map<String, Object>> connectorsState) {
         if (connector == null) {
             if (useResources) {
                 LOGGER.infoCr(reconciliation, "deleting connector: {}", connectorName);
@@ -475,7 +496,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             if (!useResources) {
                 return Future.failedFuture(new NoSuchResourceException(reconciliation.kind() + " " + reconciliation.name() + " is not configured with annotation " + Annotations.STRIMZI_IO_USE_CONNECTOR_RESOURCES));
             } else {
-                return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), connector);
+                return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), connector, connectorsState);
             }
         }
     }
@@ -502,33 +523,114 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                 if (!needsReconfiguring(reconciliation, connectorName, connectorSpec, desiredConfig.asOrderedProperties().asMap(), currentConfig)) {
                     LOGGER.debugCr(reconciliation, "Connector {} exists and has desired config, {}=={}", connectorName, desiredConfig.asOrderedProperties().asMap(), currentConfig);
                     return apiClient.status(reconciliation, host, port, connectorName)
-                        .compose(status -> pauseResume(reconciliation, host, apiClient, connectorName, connectorSpec, status))
-                        .compose(ignored -> maybeRestartConnector(reconciliation, host, apiClient, connectorName, resource, new ArrayList<>()))
-                        .compose(conditions -> maybeRestartConnectorTask(reconciliation, host, apiClient, connectorName, resource, conditions))
-                        .compose(conditions ->
-                            apiClient.statusWithBackOff(reconciliation, new BackOff(200L, 2, 10), host, port, connectorName)
-                                .compose(createConnectorStatusAndConditions(conditions)))
-                        .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
+                        .compose(status -> updateExistingConnector(reconciliation, host, apiClient, connectorName, connectorSpec, resource, status));
                 } else {
                     LOGGER.debugCr(reconciliation, "Connector {} exists but does not have desired config, {}!={}", connectorName, desiredConfig.asOrderedProperties().asMap(), currentConfig);
-                    return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig)
-                        .compose(createConnectorStatusAndConditions())
-                        .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
+                    return createOrUpdateConnectorAndGetStatus(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig);
                 }
             },
             error -> {
                 if (error instanceof ConnectRestException
                         && ((ConnectRestException) error).getStatusCode() == 404) {
                     LOGGER.debugCr(reconciliation, "Connector {} does not exist", connectorName);
-                    return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig)
-                        .compose(createConnectorStatusAndConditions())
-                        .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
+                    return createOrUpdateConnectorAndGetStatus(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig);
                 } else {
                     return Future.failedFuture(error);
                 }
             });
     }
 
+    /**
+     * Compares the desired connector spec with the state of the connector taken from the state of all connectors fetched
+     * in a single request at the beginning of the reconciliation. The REST API calls are issued only when the connector
+     * needs to be created, reconfigured, paused, resumed or restarted. Otherwise, the status from the fetched state is
+     * used and only the connector topics are fetched. When the state of all connectors is not available, this falls
+     * back to {@link #maybeCreateOrUpdateConnector(Reconciliation, String, KafkaConnectApi, String, KafkaConnectorSpec, CustomResource)}.
+     *
+     * @param reconciliation The reconciliation.
+     * @param host The REST API host.
+     * @param apiClient The client instance.
+     * @param connectorName The connector name.
+     * @param connectorSpec The desired connector spec.
+     * @param resource The resource that defines the connector.
+     * @param connectorsState The state of all connectors as returned by {@link KafkaConnectApi#listExpanded(Reconciliation, String, int)} or null if it is not available.
+     * @return A Future whose result, when successfully completed, is a ConnectorStatusAndConditions object containing the map of the current connector state plus any conditions that have arisen.
+     */
+    protected Future<ConnectorStatusAndConditions> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                                                String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource,
+                                                                                Map<String, Map<String, Object>> connectorsState) {
+        if (connectorsState == null) {
+            return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, resource);
+        }
+
+        KafkaConnectorConfiguration desiredConfig = new KafkaConnectorConfiguration(reconciliation, connectorSpec.getConfig().entrySet());
+        Map<String, Object> currentState = connectorsState.get(connectorName);
+
+        if (currentState == null) {
+            LOGGER.debugCr(reconciliation, "Connector {} does not exist", connectorName);
+            return createOrUpdateConnectorAndGetStatus(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig);
+        }
+
+        Map<String, String> currentConfig = configFromState(currentState);
+        Map<String, Object> currentStatus = statusFromState(currentState);
+
+        if (currentConfig == null || currentStatus == null) {
+            LOGGER.debugCr(reconciliation, "State of connector {} is incomplete, it will be fetched separately", connectorName);
+            return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, resource);
+        } else if (needsReconfiguring(reconciliation, connectorName, connectorSpec, desiredConfig.asOrderedProperties().asMap(), currentConfig)) {
+            LOGGER.debugCr(reconciliation, "Connector {} exists but does not have desired config, {}!={}", connectorName, desiredConfig.asOrderedProperties().asMap(), currentConfig);
+            return createOrUpdateConnectorAndGetStatus(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig);
+        } else if (needsPauseOrResume(connectorSpec, currentStatus)
+                || hasRestartAnnotation(resource, connectorName)
+                || getRestartTaskAnnotationTaskID(resource, connectorName) >= 0) {
+            LOGGER.debugCr(reconciliation, "Connector {} exists and has desired config, but needs to be paused, resumed or restarted", connectorName);
+            return updateExistingConnector(reconciliation, host, apiClient, connectorName, connectorSpec, resource, currentStatus);
+        } else {
+            LOGGER.debugCr(reconciliation, "Connector {} is up-to-date", connectorName);
+            return Future.succeededFuture(currentStatus)
+                    .compose(createConnectorStatusAndConditions(new ArrayList<>()))
+                    .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> configFromState(Map<String, Object> connectorState) {
+        Object info = connectorState.get("info");
+        Object config = info instanceof Map ? ((Map<String, Object>) info).get("config") : null;
+
+        if (config instanceof Map) {
+            Map<String, String> result = new HashMap<>();
+            ((Map<String, Object>) config).forEach((key, value) -> result.put(key, value != null ? value.toString() : null));
+            return result;
+        } else {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> statusFromState(Map<String, Object> connectorState) {
+        Object status = connectorState.get("status");
+        return status instanceof Map ? (Map<String, Object>) status : null;
+    }
+
+    private Future<ConnectorStatusAndConditions> updateExistingConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, String connectorName,
+                                                                         KafkaConnectorSpec connectorSpec, CustomResource resource, Map<String, Object> currentStatus) {
+        return pauseResume(reconciliation, host, apiClient, connectorName, connectorSpec, currentStatus)
+                .compose(ignored -> maybeRestartConnector(reconciliation, host, apiClient, connectorName, resource, new ArrayList<>()))
+                .compose(conditions -> maybeRestartConnectorTask(reconciliation, host, apiClient, connectorName, resource, conditions))
+                .compose(conditions ->
+                    apiClient.statusWithBackOff(reconciliation, new BackOff(200L, 2, 10), host, port, connectorName)
+                        .compose(createConnectorStatusAndConditions(conditions)))
+                .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
+    }
+
+    private Future<ConnectorStatusAndConditions> createOrUpdateConnectorAndGetStatus(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                                                     String connectorName, KafkaConnectorSpec connectorSpec, KafkaConnectorConfiguration desiredConfig) {
+        return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig)
+                .compose(createConnectorStatusAndConditions())
+                .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
+    }
+
     private boolean needsReconfiguring(Reconciliation reconciliation, String connectorName,
                                        KafkaConnectorSpec connectorSpec,
                                        Map<String, String> desiredConfig,
@@ -558,6 +660,17 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             .compose(ignored ->  apiClient.status(reconciliation, host, port, connectorName));
     }
 
+    private static boolean needsPauseOrResume(KafkaConnectorSpec connectorSpec, Map<String, Object> status) {
+        Object path = ((Map) status.getOrDefault("connector", emptyMap())).get("state");
+        if (!(path instanceof String)) {
+            // Let pauseResume() report the invalid status
+            return true;
+        } else {
+            boolean shouldPause = Boolean.TRUE.equals(connectorSpec.getPause());
+            return ("RUNNING".equals(path) && shouldPause) || ("PAUSED".equals(path) && !shouldPause);
+        }
+    }
+
     private Future<Void> pauseResume(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, String connectorName, KafkaConnectorSpec connectorSpec, Map<String, Object> status) {
         Object path = ((Map) status.getOrDefault("connector", emptyMap())).get("state");
         if (!(path instanceof String)) {
@@ -35,6 +35,7 @@ import io.strimzi.operator.cluster.operator.resource.events.KubernetesRestartEve
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
@@ -67,6 +68,8 @@ public class CaReconciler {
     private final Reconciliation reconciliation;
     private final Vertx vertx;
     private final long operationTimeoutMs;
+    private final int maxParallelBrokerRestarts;
+    private final boolean leadershipAwareRollingUpdates;
     private final FeatureGates featureGates;
 
     private final DeploymentOperator deploymentOperator;
@@ -75,6 +78,7 @@ public class CaReconciler {
     private final SecretOperator secretOperator;
     private final PodOperator podOperator;
     private final AdminClientProvider adminClientProvider;
+    private final MetricsProvider metricsProvider;
     private final ZookeeperLeaderFinder zookeeperLeaderFinder;
     private final CertManager certManager;
     private final PasswordGenerator passwordGenerator;
@@ -118,6 +122,8 @@ public class CaReconciler {
         this.reconciliation = reconciliation;
         this.vertx = vertx;
         this.operationTimeoutMs = config.getOperationTimeoutMs();
+        this.maxParallelBrokerRestarts = config.getMaxParallelBrokerRestarts();
+        this.leadershipAwareRollingUpdates = config.isLeadershipAwareRollingUpdates();
         this.featureGates = config.featureGates();
 
         this.deploymentOperator = supplier.deploymentOperations;
@@ -127,6 +133,7 @@ public class CaReconciler {
         this.podOperator = supplier.podOperations;
 
         this.adminClientProvider = supplier.adminClientProvider;
+        this.metricsProvider = supplier.metricsProvider;
         this.zookeeperLeaderFinder = supplier.zookeeperLeaderFinder;
         this.certManager = certManager;
         this.passwordGenerator = passwordGenerator;
@@ -439,7 +446,10 @@ public class CaReconciler {
                 null,
                 null,
                 false,
-                eventPublisher
+                eventPublisher,
+                maxParallelBrokerRestarts,
+                leadershipAwareRollingUpdates,
+                metricsProvider
         ).rollingRestart(pod -> {
             LOGGER.debugCr(reconciliation, "Rolling Pod {} due to {}", pod.getMetadata().getName(), podRollReasons.getReasons());
             return podRollReasons;
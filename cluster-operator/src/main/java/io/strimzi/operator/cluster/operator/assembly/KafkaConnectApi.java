@@ -127,6 +127,20 @@ public interface KafkaConnectApi {
      */
     Future<List<String>> list(String host, int port);
 
+    /**
+     * Make a {@code GET} request to {@code /connectors?expand=status&expand=info} to get the state of all connectors
+     * in a single request.
+     * @param reconciliation The reconciliation
+     * @param host The host to make the request to.
+     * @param port The port to make the request to.
+     * @return A Future which completes with the result of the request. If the request was successful,
+     * this returns the map of connector names to their state. The state of each connector contains its status under the
+     * {@code status} key (in the same format as returned by {@link #status(Reconciliation, String, int, String)}) and
+     * its configuration and tasks under the {@code info} key (in the same format as returned by
+     * {@link #getConnector(Reconciliation, String, int, String)}).
+     */
+    Future<Map<String, Map<String, Object>>> listExpanded(Reconciliation reconciliation, String host, int port);
+
     /**
      * Make a {@code GET} request to {@code /connector-plugins}.
      * @param reconciliation The reconciliation
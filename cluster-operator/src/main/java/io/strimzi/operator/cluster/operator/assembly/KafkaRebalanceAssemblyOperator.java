@@ -34,6 +34,7 @@ import io.strimzi.operator.cluster.model.InvalidResourceException;
 import io.strimzi.operator.cluster.model.ModelUtils;
 import io.strimzi.operator.cluster.model.NoSuchResourceException;
 import io.strimzi.operator.cluster.model.StatusDiff;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.AbstractRebalanceOptions;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.AddBrokerOptions;
@@ -44,6 +45,7 @@ import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControl
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlRebalanceResponse;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlRestException;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlUserTaskStatus;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlUserTasksPoller;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.RebalanceOptions;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.RemoveBrokerOptions;
 import io.strimzi.operator.common.AbstractOperator;
@@ -61,6 +63,7 @@ import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
@@ -73,6 +76,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -147,7 +151,7 @@ import static io.strimzi.operator.common.Annotations.ANNO_STRIMZI_IO_REBALANCE;
  *    |-----------→|               |                   |
  * </code></pre>
  */
-@SuppressWarnings({"checkstyle:ClassFanOutComplexity"})
+@SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "checkstyle:ClassFanOutComplexity"})
 public class KafkaRebalanceAssemblyOperator
        extends AbstractOperator<KafkaRebalance, KafkaRebalanceSpec, KafkaRebalanceStatus, AbstractWatchableStatusedResourceOperator<KubernetesClient, KafkaRebalance, KafkaRebalanceList, Resource<KafkaRebalance>>> {
 
@@ -156,6 +160,11 @@ public class KafkaRebalanceAssemblyOperator
     private static final long REBALANCE_POLLING_TIMER_MS = 5_000;
     private static final int MAX_API_RETRIES = 5;
     protected static final String BROKER_LOAD_KEY = "brokerLoad.json";
+    /**
+     * Work type of the reconciliations triggered by the watch events. These carry the KafkaRebalance resource from the
+     * event, so they must not be merged with the periodic reconciliations of the resource (and vice versa).
+     */
+    /* test */ static final String WATCH_EVENT_WORK = "watch-event";
     private final CrdOperator<KubernetesClient, KafkaRebalance, KafkaRebalanceList> kafkaRebalanceOperator;
     private final CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOperator;
     private final SecretOperator secretOperations;
@@ -163,6 +172,9 @@ public class KafkaRebalanceAssemblyOperator
     private boolean usingJbodStorage;
 
     private final ConfigMapOperator configMapOperator;
+    private final HttpClientPool cruiseControlClientPool;
+    private final Map<String, CruiseControlUserTasksPoller> userTasksPollers = new ConcurrentHashMap<>();
+
     /**
      * @param vertx The Vertx instance
      * @param supplier Supplies the operators for different resources
@@ -170,12 +182,14 @@ public class KafkaRebalanceAssemblyOperator
      */
     public KafkaRebalanceAssemblyOperator(Vertx vertx,
                                           ResourceOperatorSupplier supplier, ClusterOperatorConfig config) {
-        super(vertx, KafkaRebalance.RESOURCE_KIND, supplier.kafkaRebalanceOperator, supplier.metricsProvider, null);
+        super(vertx, KafkaRebalance.RESOURCE_KIND, supplier.kafkaRebalanceOperator, supplier.metricsProvider, null,
+                config.getMaxConcurrentReconciliations(), config.getPeriodicReconciliationSpreadMs());
         this.kafkaSelector = (config.getCustomResourceSelector() == null || config.getCustomResourceSelector().toMap().isEmpty()) ? Optional.empty() : Optional.of(new LabelSelector(null, config.getCustomResourceSelector().toMap()));
         this.kafkaRebalanceOperator = supplier.kafkaRebalanceOperator;
         this.kafkaOperator = supplier.kafkaOperator;
         this.configMapOperator = supplier.configMapOperations;
         this.secretOperations = supplier.secretOperations;
+        this.cruiseControlClientPool = new HttpClientPool(vertx, new HttpClientOptions(), HttpClientPool.DEFAULT_IDLE_TIMEOUT_MS);
     }
 
     /**
@@ -189,7 +203,17 @@ public class KafkaRebalanceAssemblyOperator
      */
     public CruiseControlApi cruiseControlClientProvider(Secret ccSecret, Secret ccApiSecret,
                                                            boolean apiAuthEnabled, boolean apiSslEnabled) {
-        return new CruiseControlApiImpl(vertx, HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS, ccSecret, ccApiSecret, apiAuthEnabled, apiSslEnabled);
+        return new CruiseControlApiImpl(vertx, cruiseControlClientPool, HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS, ccSecret, ccApiSecret, apiAuthEnabled, apiSslEnabled);
+    }
+
+    /**
+     * Returns the poller shared by all KafkaRebalance resources which wait for the given Cruise Control instance
+     *
+     * @param host The Cruise Control hostname
+     * @return the user tasks poller for the Cruise Control instance
+     */
+    private CruiseControlUserTasksPoller userTasksPoller(String host) {
+        return userTasksPollers.computeIfAbsent(host, h -> new CruiseControlUserTasksPoller(vertx, h, CruiseControl.REST_API_PORT, REBALANCE_POLLING_TIMER_MS));
     }
 
     /**
@@ -223,7 +247,7 @@ public class KafkaRebalanceAssemblyOperator
                             kafkaRebalance.getStatus() != null ? rebalanceStateConditionType(kafkaRebalance.getStatus()) : null,
                             ANNO_STRIMZI_IO_REBALANCE, rawRebalanceAnnotation(kafkaRebalance));
 
-                    withLock(reconciliation, LOCK_TIMEOUT_MS,
+                    withWorkQueue(reconciliation, WATCH_EVENT_WORK,
                         () -> reconcileRebalance(reconciliation, action == Action.DELETED ? null : kafkaRebalance));
                 }
 
@@ -834,22 +858,23 @@ public class KafkaRebalanceAssemblyOperator
         Promise<MapAndStatus<ConfigMap, KafkaRebalanceStatus>> p = Promise.promise();
         if (rebalanceAnnotation == KafkaRebalanceAnnotation.none) {
             LOGGER.debugCr(reconciliation, "Starting Cruise Control rebalance proposal request timer");
-            vertx.setPeriodic(REBALANCE_POLLING_TIMER_MS, t ->
+            // The proposal is fetched using the rebalance endpoint which returns it in the format used in the status,
+            // so the poller does not fetch any user task and is used only for its shared timer
+            userTasksPoller(host).poll(reconciliation, apiClient, null, ignored ->
                 kafkaRebalanceOperator.getAsync(kafkaRebalance.getMetadata().getNamespace(), kafkaRebalance.getMetadata().getName())
-                    .onSuccess(currentKafkaRebalance -> {
+                    .compose(currentKafkaRebalance -> {
                         // Checking that the resource was not deleted between periodic polls
                         if (currentKafkaRebalance != null) {
                             // Check resource is in the right state as previous execution might have set the status and completed the future
-                            // Safety check as timer might be called again (from a delayed timer firing)
                             if (state(currentKafkaRebalance) == KafkaRebalanceState.PendingProposal) {
                                 if (rebalanceAnnotation(reconciliation, currentKafkaRebalance) == KafkaRebalanceAnnotation.stop) {
                                     LOGGER.debugCr(reconciliation, "Stopping current Cruise Control proposal request timer");
-                                    vertx.cancelTimer(t);
                                     p.complete(buildRebalanceStatus(null, KafkaRebalanceState.Stopped, StatusUtils.validate(reconciliation, currentKafkaRebalance)));
+                                    return Future.succeededFuture(true);
                                 } else {
-                                    requestRebalance(reconciliation, host, apiClient, kafkaRebalance, true, rebalanceOptionsBuilder,
+                                    return requestRebalance(reconciliation, host, apiClient, kafkaRebalance, true, rebalanceOptionsBuilder,
                                             currentKafkaRebalance.getStatus().getSessionId())
-                                        .onSuccess(rebalanceMapAndStatus -> {
+                                        .compose(rebalanceMapAndStatus -> {
                                             // If the returned status has an optimization result then the rebalance proposal
                                             // is ready, so stop the polling
                                             KafkaRebalanceStatus status = rebalanceMapAndStatus.getStatus();
@@ -859,33 +884,33 @@ public class KafkaRebalanceAssemblyOperator
                                             rebalanceMapAndStatus.setStatus(status);
                                             if (rebalanceMapAndStatus.getStatus().getOptimizationResult() != null &&
                                                     !rebalanceMapAndStatus.getStatus().getOptimizationResult().isEmpty()) {
-                                                vertx.cancelTimer(t);
                                                 LOGGER.debugCr(reconciliation, "Optimization proposal ready");
                                                 p.complete(rebalanceMapAndStatus);
+                                                return Future.succeededFuture(true);
                                             } else {
-                                                // The rebalance proposal is still not ready yet, keep the timer for polling
+                                                // The rebalance proposal is still not ready yet, keep polling
                                                 LOGGER.debugCr(reconciliation, "Waiting for optimization proposal to be ready");
+                                                return Future.succeededFuture(false);
                                             }
-                                        })
-                                        .onFailure(e -> {
+                                        }, e -> {
                                             LOGGER.errorCr(reconciliation, "Cruise Control getting rebalance proposal failed", e.getCause());
-                                            vertx.cancelTimer(t);
                                             p.fail(e.getCause());
+                                            return Future.succeededFuture(true);
                                         });
                                 }
                             } else {
                                 p.complete(new MapAndStatus<>(null, currentKafkaRebalance.getStatus()));
+                                return Future.succeededFuture(true);
                             }
                         } else {
                             LOGGER.debugCr(reconciliation, "Rebalance resource was deleted, stopping the request time");
-                            vertx.cancelTimer(t);
                             p.complete();
+                            return Future.succeededFuture(true);
                         }
-                    })
-                    .onFailure(e -> {
+                    }, e -> {
                         LOGGER.errorCr(reconciliation, "Cruise Control getting rebalance resource failed", e.getCause());
-                        vertx.cancelTimer(t);
                         p.fail(e.getCause());
+                        return Future.succeededFuture(true);
                     })
             );
         } else {
@@ -961,104 +986,54 @@ public class KafkaRebalanceAssemblyOperator
             LOGGER.infoCr(reconciliation, "Starting Cruise Control rebalance user task status timer");
             String sessionId = kafkaRebalance.getStatus().getSessionId();
             AtomicInteger ccApiErrorCount = new AtomicInteger();
-            vertx.setPeriodic(REBALANCE_POLLING_TIMER_MS, t -> {
+            // The state of the user task is fetched by the poller shared by all rebalances of this Kafka cluster
+            userTasksPoller(host).poll(reconciliation, apiClient, sessionId, userTaskResult -> {
                 // Check that we have not already failed to contact the API beyond the allowed number of times.
                 if (ccApiErrorCount.get() >= MAX_API_RETRIES) {
-                    vertx.cancelTimer(t);
                     p.fail(new CruiseControlRestException("Unable to reach Cruise Control API after " + MAX_API_RETRIES + " attempts"));
+                    return Future.succeededFuture(true);
                 }
-                kafkaRebalanceOperator.getAsync(kafkaRebalance.getMetadata().getNamespace(), kafkaRebalance.getMetadata().getName())
-                    .onSuccess(currentKafkaRebalance -> {
+                return kafkaRebalanceOperator.getAsync(kafkaRebalance.getMetadata().getNamespace(), kafkaRebalance.getMetadata().getName())
+                    .compose(currentKafkaRebalance -> {
                         // Checking that the resource was not deleted between periodic polls
                         if (currentKafkaRebalance != null) {
                             // Check resource is in the right state as previous execution might have set the status and completed the future
-                            // Safety check as timer might be called again (from a delayed timer firing)
                             if (state(currentKafkaRebalance) == KafkaRebalanceState.Rebalancing) {
                                 if (rebalanceAnnotation(reconciliation, currentKafkaRebalance) == KafkaRebalanceAnnotation.stop) {
                                     LOGGER.debugCr(reconciliation, "Stopping current Cruise Control rebalance user task");
-                                    vertx.cancelTimer(t);
                                     apiClient.stopExecution(host, CruiseControl.REST_API_PORT)
                                         .onSuccess(r -> p.complete(buildRebalanceStatus(null, KafkaRebalanceState.Stopped, StatusUtils.validate(reconciliation, kafkaRebalance))))
                                         .onFailure(e -> {
                                             LOGGER.errorCr(reconciliation, "Cruise Control stopping execution failed", e.getCause());
                                             p.fail(e.getCause());
                                         });
+                                    return Future.succeededFuture(true);
+                                } else if (userTaskResult.failed()) {
+                                    LOGGER.errorCr(reconciliation, "Cruise Control getting rebalance task status failed", userTaskResult.cause());
+                                    // To make sure this error is not just a temporary problem with the network we retry several times.
+                                    // If the number of errors pass the MAX_API_ERRORS limit then the next poll will fail the promise.
+                                    ccApiErrorCount.getAndIncrement();
+                                    return Future.succeededFuture(false);
                                 } else {
-                                    LOGGER.infoCr(reconciliation, "Getting Cruise Control rebalance user task status");
+                                    LOGGER.infoCr(reconciliation, "Got Cruise Control rebalance user task status");
                                     Set<Condition> conditions = StatusUtils.validate(reconciliation, kafkaRebalance);
                                     validateAnnotation(reconciliation, conditions, KafkaRebalanceState.Rebalancing, rebalanceAnnotation(reconciliation, currentKafkaRebalance), kafkaRebalance);
-                                    apiClient.getUserTaskStatus(host, CruiseControl.REST_API_PORT, sessionId)
-                                        .onSuccess(cruiseControlResponse -> {
-                                            JsonObject taskStatusJson = cruiseControlResponse.getJson();
-                                            CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusJson.getString("Status"));
-                                            switch (taskStatus) {
-                                                case COMPLETED:
-                                                    vertx.cancelTimer(t);
-                                                    LOGGER.infoCr(reconciliation, "Rebalance ({}) is now complete", sessionId);
-                                                    p.complete(buildRebalanceStatus(
-                                                            kafkaRebalance, null, KafkaRebalanceState.Ready, taskStatusJson, conditions));
-                                                    break;
-                                                case COMPLETED_WITH_ERROR:
-                                                    // TODO: There doesn't seem to be a way to retrieve the actual error message from the user tasks endpoint?
-                                                    //       We may need to propose an upstream PR for this.
-                                                    // TODO: Once we can get the error details we need to add an error field to the Rebalance Status to hold
-                                                    //       details of any issues while rebalancing.
-                                                    LOGGER.errorCr(reconciliation, "Rebalance ({}) optimization proposal has failed to complete", sessionId);
-                                                    vertx.cancelTimer(t);
-                                                    p.complete(buildRebalanceStatus(sessionId, KafkaRebalanceState.NotReady, conditions));
-                                                    break;
-                                                case IN_EXECUTION: // Rebalance is still in progress
-                                                    // We need to check that the status has been updated with the ongoing optimisation proposal
-                                                    // The proposal field can be empty if a rebalance(dryrun=false) was called and the optimisation
-                                                    // proposal was still being prepared (in progress). In that case the rebalance will start when
-                                                    // the proposal is complete but the optimisation proposal summary will be missing.
-                                                    if (currentKafkaRebalance.getStatus().getOptimizationResult() == null ||
-                                                            currentKafkaRebalance.getStatus().getOptimizationResult().isEmpty()) {
-                                                        LOGGER.infoCr(reconciliation, "Rebalance ({}) optimization proposal is now ready and has been added to the status", sessionId);
-                                                        // Cancel the timer so that the status is returned and updated.
-                                                        vertx.cancelTimer(t);
-                                                        p.complete(buildRebalanceStatus(
-                                                                kafkaRebalance, sessionId, KafkaRebalanceState.Rebalancing, taskStatusJson, conditions));
-                                                    }
-                                                    ccApiErrorCount.set(0);
-                                                    // TODO: Find out if there is any way to check the progress of a rebalance.
-                                                    //       We could parse the verbose proposal for total number of reassignments and compare to number completed (if available)?
-                                                    //       We can then update the status at this point.
-                                                    break;
-                                                case ACTIVE: // Rebalance proposal is still being calculated
-                                                    // If a rebalance(dryrun=false) was called and the proposal is still being prepared then the task
-                                                    // will be in an ACTIVE state. When the proposal is ready it will shift to IN_EXECUTION and we will
-                                                    // check that the optimisation proposal is added to the status on the next reconcile.
-                                                    LOGGER.infoCr(reconciliation, "Rebalance ({}) optimization proposal is still being prepared", sessionId);
-                                                    ccApiErrorCount.set(0);
-                                                    break;
-                                                default:
-                                                    LOGGER.errorCr(reconciliation, "Unexpected state {}", taskStatus);
-                                                    vertx.cancelTimer(t);
-                                                    p.fail("Unexpected state " + taskStatus);
-                                                    break;
-                                            }
-                                        })
-                                        .onFailure(e -> {
-                                            LOGGER.errorCr(reconciliation, "Cruise Control getting rebalance task status failed", e.getCause());
-                                            // To make sure this error is not just a temporary problem with the network we retry several times.
-                                            // If the number of errors pass the MAX_API_ERRORS limit then the period method will fail the promise.
-                                            ccApiErrorCount.getAndIncrement();
-                                        });
+                                    return Future.succeededFuture(onUserTaskStatus(reconciliation, kafkaRebalance, currentKafkaRebalance, sessionId,
+                                            userTaskResult.result().getJson(), conditions, ccApiErrorCount, p));
                                 }
                             } else {
                                 p.complete(new MapAndStatus<>(null, currentKafkaRebalance.getStatus()));
+                                return Future.succeededFuture(true);
                             }
                         } else {
                             LOGGER.debugCr(reconciliation, "Rebalance resource was deleted, stopping the request time");
-                            vertx.cancelTimer(t);
                             p.complete();
+                            return Future.succeededFuture(true);
                         }
-                    })
-                    .onFailure(e -> {
+                    }, e -> {
                         LOGGER.errorCr(reconciliation, "Cruise Control getting rebalance resource failed", e.getCause());
-                        vertx.cancelTimer(t);
                         p.fail(e.getCause());
+                        return Future.succeededFuture(true);
                     });
             });
         } else {
@@ -1067,6 +1042,70 @@ public class KafkaRebalanceAssemblyOperator
         return p.future();
     }
 
+    /**
+     * Handles the state of the user task of an ongoing rebalance and completes the promise when the rebalance finished
+     * or when the optimization proposal should be added to the status.
+     *
+     * @param reconciliation Reconciliation information
+     * @param kafkaRebalance {@code KafkaRebalance} resource at the start of the rebalance
+     * @param currentKafkaRebalance Current {@code KafkaRebalance} resource
+     * @param sessionId ID of the user task of the rebalance
+     * @param taskStatusJson State of the user task returned by Cruise Control
+     * @param conditions Conditions which should be added to the status
+     * @param ccApiErrorCount Counter of the failed Cruise Control API requests
+     * @param p Promise completed with the next {@code MapAndStatus<ConfigMap, KafkaRebalanceStatus>}
+     * @return true if the promise was completed and the user task should not be polled anymore, false otherwise
+     */
+    private boolean onUserTaskStatus(Reconciliation reconciliation, KafkaRebalance kafkaRebalance, KafkaRebalance currentKafkaRebalance,
+                                     String sessionId, JsonObject taskStatusJson, Set<Condition> conditions, AtomicInteger ccApiErrorCount,
+                                     Promise<MapAndStatus<ConfigMap, KafkaRebalanceStatus>> p) {
+        CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusJson.getString("Status"));
+        switch (taskStatus) {
+            case COMPLETED:
+                LOGGER.infoCr(reconciliation, "Rebalance ({}) is now complete", sessionId);
+                p.complete(buildRebalanceStatus(
+                        kafkaRebalance, null, KafkaRebalanceState.Ready, taskStatusJson, conditions));
+                return true;
+            case COMPLETED_WITH_ERROR:
+                // TODO: There doesn't seem to be a way to retrieve the actual error message from the user tasks endpoint?
+                //       We may need to propose an upstream PR for this.
+                // TODO: Once we can get the error details we need to add an error field to the Rebalance Status to hold
+                //       details of any issues while rebalancing.
+                LOGGER.errorCr(reconciliation, "Rebalance ({}) optimization proposal has failed to complete", sessionId);
+                p.complete(buildRebalanceStatus(sessionId, KafkaRebalanceState.NotReady, conditions));
+                return true;
+            case IN_EXECUTION: // Rebalance is still in progress
+                ccApiErrorCount.set(0);
+                // We need to check that the status has been updated with the ongoing optimisation proposal
+                // The proposal field can be empty if a rebalance(dryrun=false) was called and the optimisation
+                // proposal was still being prepared (in progress). In that case the rebalance will start when
+                // the proposal is complete but the optimisation proposal summary will be missing.
+                if (currentKafkaRebalance.getStatus().getOptimizationResult() == null ||
+                        currentKafkaRebalance.getStatus().getOptimizationResult().isEmpty()) {
+                    LOGGER.infoCr(reconciliation, "Rebalance ({}) optimization proposal is now ready and has been added to the status", sessionId);
+                    // Stop polling so that the status is returned and updated.
+                    p.complete(buildRebalanceStatus(
+                            kafkaRebalance, sessionId, KafkaRebalanceState.Rebalancing, taskStatusJson, conditions));
+                    return true;
+                }
+                // TODO: Find out if there is any way to check the progress of a rebalance.
+                //       We could parse the verbose proposal for total number of reassignments and compare to number completed (if available)?
+                //       We can then update the status at this point.
+                return false;
+            case ACTIVE: // Rebalance proposal is still being calculated
+                // If a rebalance(dryrun=false) was called and the proposal is still being prepared then the task
+                // will be in an ACTIVE state. When the proposal is ready it will shift to IN_EXECUTION and we will
+                // check that the optimisation proposal is added to the status on the next reconcile.
+                LOGGER.infoCr(reconciliation, "Rebalance ({}) optimization proposal is still being prepared", sessionId);
+                ccApiErrorCount.set(0);
+                return false;
+            default:
+                LOGGER.errorCr(reconciliation, "Unexpected state {}", taskStatus);
+                p.fail("Unexpected state " + taskStatus);
+                return true;
+        }
+    }
+
     /**
      * This method handles the transition from {@code Stopped} state.
      * If the user set strimzi.io/rebalance=refresh annotation, it calls the Cruise Control API for requesting a new rebalance proposal.
@@ -54,6 +54,7 @@ import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.MetricsAndLogging;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -110,6 +111,8 @@ public class KafkaReconciler {
     /* test */ final Reconciliation reconciliation;
     private final Vertx vertx;
     private final long operationTimeoutMs;
+    private final int maxParallelBrokerRestarts;
+    private final boolean leadershipAwareRollingUpdates;
     /* test */ final KafkaCluster kafka;
     private final Storage oldStorage;
     private final ClusterCa clusterCa;
@@ -144,6 +147,7 @@ public class KafkaReconciler {
     private final KubernetesRestartEventPublisher eventsPublisher;
 
     private final AdminClientProvider adminClientProvider;
+    private final MetricsProvider metricsProvider;
 
     private final int currentReplicas;
 
@@ -191,6 +195,8 @@ public class KafkaReconciler {
         this.reconciliation = reconciliation;
         this.vertx = vertx;
         this.operationTimeoutMs = config.getOperationTimeoutMs();
+        this.maxParallelBrokerRestarts = config.getMaxParallelBrokerRestarts();
+        this.leadershipAwareRollingUpdates = config.isLeadershipAwareRollingUpdates();
         this.kafka = KafkaCluster.fromCrd(reconciliation, kafkaCr, config.versions(), oldStorage, currentReplicas, config.featureGates().useKRaftEnabled());
 
         // We set the user-configured inter.broker.protocol.version if needed (when not set by the user)
@@ -236,6 +242,7 @@ public class KafkaReconciler {
         this.eventsPublisher = supplier.restartEventsPublisher;
 
         this.adminClientProvider = supplier.adminClientProvider;
+        this.metricsProvider = supplier.metricsProvider;
     }
 
     /**
@@ -437,8 +444,10 @@ public class KafkaReconciler {
                                 logging,
                                 kafka.getKafkaVersion(),
                                 allowReconfiguration,
-                                eventsPublisher
-
+                                eventsPublisher,
+                                maxParallelBrokerRestarts,
+                                leadershipAwareRollingUpdates,
+                                metricsProvider
                         ).rollingRestart(podNeedsRestart));
     }
 
@@ -38,6 +38,7 @@ import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
 import io.strimzi.operator.common.operator.resource.StrimziPodSetOperator;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -46,10 +47,17 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
- * StrimziPodSet controller is responsible for managing the StrimziPodSets and the pods which belong to them
+ * StrimziPodSet controller is responsible for managing the StrimziPodSets and the pods which belong to them.
+ *
+ * The reconciliations are executed by one or more workers. Each worker has its own work queue and thread. The
+ * StrimziPodSets are sharded between the workers based on the hash of their namespace and name. So all reconciliations
+ * of the same StrimziPodSet are always executed by the same worker one after another while different StrimziPodSets
+ * can be reconciled in parallel.
  */
 public class StrimziPodSetController implements Runnable {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(StrimziPodSetController.class);
@@ -66,7 +74,7 @@ public class StrimziPodSetController implements Runnable {
     private final Optional<LabelSelector> crSelector;
     private final String watchedNamespace;
 
-    private final BlockingQueue<SimplifiedReconciliation> workQueue;
+    private final List<Worker> workers;
     private final SharedIndexInformer<Pod> podInformer;
     private final SharedIndexInformer<StrimziPodSet> strimziPodSetInformer;
     private final SharedIndexInformer<Kafka> kafkaInformer;
@@ -89,15 +97,41 @@ public class StrimziPodSetController implements Runnable {
      * @param podSetControllerWorkQueueSize Indicates the size of the StrimziPodSetController work queue
      */
     public StrimziPodSetController(String watchedNamespace, Labels crSelectorLabels, CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOperator, StrimziPodSetOperator strimziPodSetOperator, PodOperator podOperator, MetricsProvider metricsProvider, int podSetControllerWorkQueueSize) {
+        this(watchedNamespace, crSelectorLabels, kafkaOperator, strimziPodSetOperator, podOperator, metricsProvider, podSetControllerWorkQueueSize, 1);
+    }
+
+    /**
+     * Creates the StrimziPodSet controller. The controller should normally exist once per operator for cluster-wide mode
+     * or once per namespace for namespaced mode.
+     *
+     * @param watchedNamespace              Namespace which should be watched. Use * for all namespaces.
+     * @param crSelectorLabels              Selector labels for custom resource managed by this operator instance. This is used
+     *                                      to check that the pods belong to a Kafka cluster matching these labels.
+     * @param kafkaOperator                 Kafka Operator for getting the Kafka custom resources
+     * @param strimziPodSetOperator         StrimziPodSet Operator used to manage the StrimziPodSet resources - get them, update
+     *                                      their status etc.
+     * @param podOperator                   Pod operator for managing pods
+     * @param metricsProvider               Metrics provider
+     * @param podSetControllerWorkQueueSize Indicates the size of the work queue of each StrimziPodSetController worker
+     * @param podSetControllerWorkers       Number of workers reconciling the StrimziPodSets in parallel
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public StrimziPodSetController(String watchedNamespace, Labels crSelectorLabels, CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOperator, StrimziPodSetOperator strimziPodSetOperator, PodOperator podOperator, MetricsProvider metricsProvider, int podSetControllerWorkQueueSize, int podSetControllerWorkers) {
         this.podOperator = podOperator;
         this.strimziPodSetOperator = strimziPodSetOperator;
         this.crSelector = (crSelectorLabels == null || crSelectorLabels.toMap().isEmpty()) ? Optional.empty() : Optional.of(new LabelSelector(null, crSelectorLabels.toMap()));
         this.watchedNamespace = watchedNamespace;
-        this.workQueue = new ArrayBlockingQueue<>(podSetControllerWorkQueueSize);
 
         // Set up the metrics holder
         this.metrics = new ControllerMetricsHolder("StrimziPodSet", crSelectorLabels != null ? crSelectorLabels : Labels.EMPTY, metricsProvider);
 
+        // Set up the workers and their work queues
+        int workerCount = Math.max(1, podSetControllerWorkers);
+        this.workers = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(new Worker(i, podSetControllerWorkQueueSize));
+        }
+
         // Kafka informer and lister is used to get Kafka CRs quickly. This is needed for verification of the CR selector labels
         this.kafkaInformer = kafkaOperator.informer(watchedNamespace, (crSelectorLabels == null) ? Map.of() : crSelectorLabels.toMap());
         this.kafkaLister = new Lister<>(kafkaInformer.getIndexer());
@@ -262,7 +296,8 @@ public class StrimziPodSetController implements Runnable {
     }
 
     /**
-     * The main reconciliation logic which handles the reconciliations.
+     * The main reconciliation logic which handles the reconciliations. It is called from the worker threads. The
+     * reconciliations of the same StrimziPodSet are always handled by the same worker, so they never run in parallel.
      *
      * @param reconciliation    Reconciliation identifier used for logging
      */
@@ -437,23 +472,30 @@ public class StrimziPodSetController implements Runnable {
     }
 
     /**
-     * Enqueues the next reconciliation. It checks whether another reconciliation for the same resource is already in
-     * the queue and enqueues the new event only if it is not there yet.
+     * Enqueues the next reconciliation to the work queue of the worker which owns the StrimziPodSet. It checks whether
+     * another reconciliation for the same resource is already in the queue and enqueues the new event only if it is
+     * not there yet. As the same resource is always sharded to the same worker, it is enough to check its queue only.
      *
      * @param reconciliation    Reconciliation identifier
      */
     private void enqueue(SimplifiedReconciliation reconciliation)    {
-        if (!workQueue.contains(reconciliation)) {
-            LOGGER.debugOp("Enqueueing StrimziPodSet {} in namespace {}", reconciliation.name, reconciliation.name);
-            workQueue.add(reconciliation);
-        } else {
-            metrics().alreadyEnqueuedReconciliationsCounter(reconciliation.namespace).increment(); // Increase the metrics counter
-            LOGGER.debugOp("StrimziPodSet {} in namespace {} is already enqueued => ignoring", reconciliation.name, reconciliation.name);
+        Worker worker = workers.get(Math.floorMod(reconciliation.hashCode(), workers.size()));
+
+        synchronized (worker.workQueue) {
+            if (!worker.workQueue.contains(reconciliation)) {
+                LOGGER.debugOp("Enqueueing StrimziPodSet {} in namespace {} to worker {}", reconciliation.name, reconciliation.namespace, worker.index);
+                worker.workQueue.add(reconciliation);
+                worker.queueSize.set(worker.workQueue.size());
+            } else {
+                metrics().alreadyEnqueuedReconciliationsCounter(reconciliation.namespace).increment(); // Increase the metrics counter
+                LOGGER.debugOp("StrimziPodSet {} in namespace {} is already enqueued => ignoring", reconciliation.name, reconciliation.namespace);
+            }
         }
     }
 
     /**
-     * The run loop of the controller thread. It picks reconciliations from the work queue and executes them.
+     * The run loop of the controller thread. It starts the informers, waits for them to sync and starts the workers
+     * which pick reconciliations from their work queues and execute them.
      */
     @Override
     public void run() {
@@ -467,15 +509,20 @@ public class StrimziPodSetController implements Runnable {
 
         LOGGER.infoOp("Informers are in-sync");
 
-        while (!stop) {
-            try {
-                LOGGER.debugOp("Waiting for next event from work queue");
-                Reconciliation reconciliation = workQueue.take().toReconciliation();
-                reconcile(reconciliation);
-            } catch (InterruptedException e)    {
-                LOGGER.debugOp("StrimziPodSet Controller was interrupted", e);
-            } catch (Exception e)   {
-                LOGGER.warnOp("StrimziPodSet reconciliation failed", e);
+        if (!stop) {
+            LOGGER.infoOp("Starting {} StrimziPodSet controller workers", workers.size());
+            for (Worker worker : workers) {
+                worker.thread.start();
+            }
+        }
+
+        for (Worker worker : workers) {
+            while (worker.thread.isAlive()) {
+                try {
+                    worker.thread.join();
+                } catch (InterruptedException e) {
+                    LOGGER.debugOp("StrimziPodSet Controller was interrupted", e);
+                }
             }
         }
 
@@ -498,9 +545,63 @@ public class StrimziPodSetController implements Runnable {
     public void stop()  {
         LOGGER.infoOp("Requesting the StrimziPodSet controller to stop");
         this.stop = true;
+
+        for (Worker worker : workers) {
+            worker.thread.interrupt();
+        }
+
         controllerThread.interrupt();
     }
 
+    /**
+     * Worker of the StrimziPodSet controller. Each worker has its own work queue and thread which takes the
+     * reconciliations from the queue and executes them.
+     */
+    private class Worker implements Runnable {
+        private final int index;
+        private final BlockingQueue<SimplifiedReconciliation> workQueue;
+        private final Thread thread;
+        private final AtomicInteger queueSize;
+        private final Timer queueWaitTimer;
+        private final Timer reconciliationsTimer;
+
+        Worker(int index, int workQueueSize) {
+            this.index = index;
+            this.workQueue = new ArrayBlockingQueue<>(workQueueSize);
+            this.thread = new Thread(this, "StrimziPodSetController-" + index);
+            this.queueSize = metrics.workerQueueSizeGauge(index);
+            this.queueWaitTimer = metrics.workerQueueWaitTimer(index);
+            this.reconciliationsTimer = metrics.workerReconciliationsTimer(index);
+        }
+
+        /**
+         * The run loop of the worker thread. It picks reconciliations from the work queue and executes them.
+         */
+        @Override
+        public void run() {
+            while (!stop) {
+                try {
+                    LOGGER.debugOp("Worker {} waiting for next event from work queue", index);
+                    SimplifiedReconciliation next = workQueue.take();
+                    queueSize.set(workQueue.size());
+
+                    long startTime = System.nanoTime();
+                    queueWaitTimer.record(startTime - next.enqueuedAt, TimeUnit.NANOSECONDS);
+
+                    try {
+                        reconcile(next.toReconciliation());
+                    } finally {
+                        reconciliationsTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                    }
+                } catch (InterruptedException e)    {
+                    LOGGER.debugOp("StrimziPodSet Controller worker {} was interrupted", index, e);
+                } catch (Exception e)   {
+                    LOGGER.warnOp("StrimziPodSet reconciliation failed", e);
+                }
+            }
+        }
+    }
+
     /**
      * Helper class to track the pod counts during reconciliation and to pass through different methods. This is used to
      * count the numbers for the StrimziPodSet status subresource.
@@ -521,10 +622,12 @@ public class StrimziPodSetController implements Runnable {
     static class SimplifiedReconciliation    {
         private final String namespace;
         private final String name;
+        private final long enqueuedAt;
 
         public SimplifiedReconciliation(String namespace, String name) {
             this.namespace = namespace;
             this.name = name;
+            this.enqueuedAt = System.nanoTime();
         }
 
         /**
@@ -0,0 +1,141 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * State of a Kafka broker as reported by the broker state endpoint of the Kafka agent
+ */
+public class BrokerState {
+    /**
+     * Broker state used by Kafka while the logs are being recovered (see {@code kafka.server.BrokerState})
+     */
+    public static final int RECOVERY = 2;
+
+    /**
+     * Broker state used by Kafka once the broker is running (see {@code kafka.server.BrokerState})
+     */
+    public static final int RUNNING_AS_BROKER = 3;
+
+    private final int state;
+    private final int remainingLogsToRecover;
+    private final int remainingSegmentsToRecover;
+    private final int underReplicatedPartitions;
+    private final String sessionState;
+
+    /**
+     * Constructs the broker state
+     *
+     * @param state                         Broker state as defined by {@code kafka.server.BrokerState} or -1 when unknown
+     * @param remainingLogsToRecover        Number of logs which remain to be recovered
+     * @param remainingSegmentsToRecover    Number of segments which remain to be recovered
+     * @param underReplicatedPartitions     Number of under-replicated partitions or -1 when unknown
+     * @param sessionState                  ZooKeeper session state or null when unknown
+     */
+    public BrokerState(int state, int remainingLogsToRecover, int remainingSegmentsToRecover, int underReplicatedPartitions, String sessionState) {
+        this.state = state;
+        this.remainingLogsToRecover = remainingLogsToRecover;
+        this.remainingSegmentsToRecover = remainingSegmentsToRecover;
+        this.underReplicatedPartitions = underReplicatedPartitions;
+        this.sessionState = sessionState;
+    }
+
+    /**
+     * Parses the broker state from the JSON returned by the Kafka agent
+     *
+     * @param json  JSON returned by the Kafka agent
+     *
+     * @return  The broker state
+     */
+    public static BrokerState fromJson(JsonObject json) {
+        JsonObject recoveryState = json.getJsonObject("recoveryState", new JsonObject());
+
+        return new BrokerState(
+                json.getInteger("brokerState", -1),
+                recoveryState.getInteger("remainingLogsToRecover", 0),
+                recoveryState.getInteger("remainingSegmentsToRecover", 0),
+                json.getInteger("underReplicatedPartitions", -1),
+                json.getString("sessionState"));
+    }
+
+    /**
+     * @return  True if the broker is recovering its logs. False otherwise.
+     */
+    public boolean isRecovering() {
+        return state == RECOVERY;
+    }
+
+    /**
+     * @return  True if the broker is running. False otherwise.
+     */
+    public boolean isRunning() {
+        return state == RUNNING_AS_BROKER;
+    }
+
+    /**
+     * Checks whether the broker made progress in the log recovery since the previous state was observed.
+     *
+     * @param previous  Previously observed state or null if no state was observed before
+     *
+     * @return  True if the broker is recovering and fewer logs or segments remain to be recovered than before
+     */
+    public boolean recoveryProgressedSince(BrokerState previous) {
+        if (!isRecovering()) {
+            return false;
+        } else if (previous == null || !previous.isRecovering()) {
+            return true;
+        } else {
+            return remainingLogsToRecover < previous.remainingLogsToRecover
+                    || remainingSegmentsToRecover < previous.remainingSegmentsToRecover;
+        }
+    }
+
+    /**
+     * @return  Broker state as defined by {@code kafka.server.BrokerState} or -1 when unknown
+     */
+    public int state() {
+        return state;
+    }
+
+    /**
+     * @return  Number of logs which remain to be recovered
+     */
+    public int remainingLogsToRecover() {
+        return remainingLogsToRecover;
+    }
+
+    /**
+     * @return  Number of segments which remain to be recovered
+     */
+    public int remainingSegmentsToRecover() {
+        return remainingSegmentsToRecover;
+    }
+
+    /**
+     * @return  Number of under-replicated partitions or -1 when unknown
+     */
+    public int underReplicatedPartitions() {
+        return underReplicatedPartitions;
+    }
+
+    /**
+     * @return  ZooKeeper session state or null when unknown
+     */
+    public String sessionState() {
+        return sessionState;
+    }
+
+    @Override
+    public String toString() {
+        return "BrokerState(" +
+                "state=" + state +
+                ", remainingLogsToRecover=" + remainingLogsToRecover +
+                ", remainingSegmentsToRecover=" + remainingSegmentsToRecover +
+                ", underReplicatedPartitions=" + underReplicatedPartitions +
+                ", sessionState=" + sessionState +
+                ")";
+    }
+}
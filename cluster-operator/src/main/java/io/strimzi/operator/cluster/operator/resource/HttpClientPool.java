@@ -0,0 +1,323 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxException;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.json.JsonObject;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Pool of long-lived HTTP clients with one client per remote host and port. Each client keeps its own pool of
+ * keep-alive connections, so the REST calls to the same service (for example the REST API of one Kafka Connect
+ * cluster) reuse the already opened connections instead of opening and closing a new connection for every call.
+ *
+ * Callers which connect to services with different TLS or other client settings (for example the Cruise Control
+ * instances of different Kafka clusters) can pass their own client options with each call. When the options used for a
+ * host and port change (for example because of a renewed CA certificate), the old client is replaced by a new one.
+ *
+ * When a call fails with a connection-level error (for example because the pod it was connected to went away), the
+ * client for this host and port is evicted from the pool and the next call uses a new client with new connections.
+ * The evicted client is closed once the calls still using it complete. Clients which are not used for longer than the
+ * idle timeout (for example because the Kafka Connect cluster was deleted) are closed by a periodic timer, which runs
+ * only while the pool contains some clients. All clients are closed when the pool is closed.
+ */
+public class HttpClientPool {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(HttpClientPool.class);
+
+    /**
+     * Default time after which unused clients are closed
+     */
+    public static final long DEFAULT_IDLE_TIMEOUT_MS = 300_000L;
+
+    private final Vertx vertx;
+    private final HttpClientOptions options;
+    private final long idleTimeoutMs;
+    private final Map<String, PooledClient> pool = new HashMap<>();
+    private long idleTimerId = -1L;
+
+    /**
+     * Constructs the HTTP client pool
+     *
+     * @param vertx         Vert.x instance used to create the clients
+     * @param options       Options used to create the clients
+     * @param idleTimeoutMs Time in milliseconds after which clients which are not used are closed. When 0, the idle
+     *                      clients are closed whenever the pool is used.
+     */
+    public HttpClientPool(Vertx vertx, HttpClientOptions options, long idleTimeoutMs) {
+        this.vertx = vertx;
+        this.options = options;
+        this.idleTimeoutMs = idleTimeoutMs;
+    }
+
+    /**
+     * Perform the given operation, which completes the promise, using the pooled HTTP client for given host and port.
+     * The client is not closed once the operation completes.
+     *
+     * @param host      The host the operation connects to
+     * @param port      The port the operation connects to
+     * @param operation The operation to perform.
+     * @param <T>       The type of the result
+     *
+     * @return A future which is completed with the result performed by the operation
+     */
+    public <T> Future<T> withHttpClient(String host, int port, BiConsumer<HttpClient, Promise<T>> operation) {
+        return withHttpClient(host, port, options, operation);
+    }
+
+    /**
+     * Perform the given operation, which completes the promise, using the pooled HTTP client for given host and port.
+     * If the pooled client was created with different options, it is replaced with a new client using the given options.
+     * The client is not closed once the operation completes.
+     *
+     * @param host      The host the operation connects to
+     * @param port      The port the operation connects to
+     * @param options   Options used to create the client
+     * @param operation The operation to perform.
+     * @param <T>       The type of the result
+     *
+     * @return A future which is completed with the result performed by the operation
+     */
+    public <T> Future<T> withHttpClient(String host, int port, HttpClientOptions options, BiConsumer<HttpClient, Promise<T>> operation) {
+        closeIdleClients();
+
+        PooledClient pooled = acquire(host, port, options);
+        Promise<T> promise = Promise.promise();
+
+        try {
+            operation.accept(pooled.client, promise);
+        } catch (RuntimeException e) {
+            promise.tryFail(e);
+        }
+
+        return promise.future()
+                .onComplete(res -> {
+                    if (res.failed() && isConnectionError(res.cause())) {
+                        LOGGER.debugOp("Connection to {} failed and its HTTP client will be recreated", pooled.address);
+                        evict(pooled);
+                    }
+
+                    release(pooled);
+                });
+    }
+
+    /**
+     * Evicts the client for given host and port from the pool. The client is closed once it is not used anymore.
+     *
+     * @param host  The host
+     * @param port  The port
+     */
+    public void evict(String host, int port) {
+        PooledClient pooled;
+
+        synchronized (this) {
+            pooled = pool.get(address(host, port));
+        }
+
+        if (pooled != null) {
+            evict(pooled);
+        }
+    }
+
+    /**
+     * Closes all clients in the pool. The clients which are still used are closed once their calls complete.
+     */
+    public void close() {
+        List<PooledClient> unused = new ArrayList<>();
+
+        synchronized (this) {
+            cancelIdleTimer();
+
+            for (PooledClient pooled : pool.values()) {
+                pooled.retired = true;
+
+                if (pooled.inFlight == 0) {
+                    unused.add(pooled);
+                }
+            }
+
+            pool.clear();
+        }
+
+        for (PooledClient pooled : unused) {
+            pooled.client.close();
+        }
+    }
+
+    /**
+     * Closes and removes from the pool the clients which are not used and were not used for longer than the idle timeout.
+     */
+    /* test */ void closeIdleClients() {
+        List<PooledClient> idle = new ArrayList<>();
+        long now = System.nanoTime();
+
+        synchronized (this) {
+            Iterator<PooledClient> it = pool.values().iterator();
+
+            while (it.hasNext()) {
+                PooledClient pooled = it.next();
+
+                if (pooled.inFlight == 0 && now - pooled.lastUsed >= idleTimeoutMs * 1_000_000L) {
+                    it.remove();
+                    pooled.retired = true;
+                    idle.add(pooled);
+                }
+            }
+
+            if (pool.isEmpty()) {
+                cancelIdleTimer();
+            }
+        }
+
+        for (PooledClient pooled : idle) {
+            LOGGER.debugOp("Closing idle HTTP client for {}", pooled.address);
+            pooled.client.close();
+        }
+    }
+
+    /**
+     * @return  Number of HTTP clients currently in the pool
+     */
+    /* test */ synchronized int size() {
+        return pool.size();
+    }
+
+    /**
+     * @return  True if the timer closing the idle clients is running. False otherwise.
+     */
+    /* test */ synchronized boolean isIdleTimerRunning() {
+        return idleTimerId != -1L;
+    }
+
+    /**
+     * Starts the periodic timer closing the idle clients if it is not running yet. Has to be called while holding the
+     * pool lock.
+     */
+    private void startIdleTimer() {
+        if (idleTimerId == -1L && idleTimeoutMs > 0) {
+            idleTimerId = vertx.setPeriodic(idleTimeoutMs, id -> closeIdleClients());
+        }
+    }
+
+    /**
+     * Cancels the periodic timer closing the idle clients. Has to be called while holding the pool lock.
+     */
+    private void cancelIdleTimer() {
+        if (idleTimerId != -1L) {
+            vertx.cancelTimer(idleTimerId);
+            idleTimerId = -1L;
+        }
+    }
+
+    private PooledClient acquire(String host, int port, HttpClientOptions options) {
+        String address = address(host, port);
+        JsonObject optionsJson = options == this.options ? null : options.toJson();
+        PooledClient outdated = null;
+        PooledClient pooled;
+
+        synchronized (this) {
+            pooled = pool.get(address);
+
+            if (pooled != null && !Objects.equals(pooled.optionsJson, optionsJson)) {
+                LOGGER.debugOp("Options of the HTTP client for {} changed and the client will be recreated", address);
+                pool.remove(address);
+                pooled.retired = true;
+
+                if (pooled.inFlight == 0) {
+                    outdated = pooled;
+                }
+
+                pooled = null;
+            }
+
+            if (pooled == null) {
+                pooled = new PooledClient(address, vertx.createHttpClient(new HttpClientOptions(options)), optionsJson);
+                pool.put(address, pooled);
+                startIdleTimer();
+            }
+
+            pooled.inFlight++;
+        }
+
+        if (outdated != null) {
+            outdated.client.close();
+        }
+
+        return pooled;
+    }
+
+    private void release(PooledClient pooled) {
+        boolean close;
+
+        synchronized (this) {
+            pooled.inFlight--;
+            pooled.lastUsed = System.nanoTime();
+            close = pooled.retired && pooled.inFlight == 0;
+        }
+
+        if (close) {
+            pooled.client.close();
+        }
+    }
+
+    private void evict(PooledClient pooled) {
+        boolean close;
+
+        synchronized (this) {
+            pool.remove(pooled.address, pooled);
+
+            close = !pooled.retired && pooled.inFlight == 0;
+            pooled.retired = true;
+        }
+
+        if (close) {
+            pooled.client.close();
+        }
+    }
+
+    /**
+     * Connection failures are reported as IOExceptions and closed or timed out connections as VertxExceptions. The
+     * errors returned by the remote service are not connection errors and do not evict the client.
+     */
+    private static boolean isConnectionError(Throwable error) {
+        return error instanceof IOException || error instanceof VertxException;
+    }
+
+    private static String address(String host, int port) {
+        return host + ":" + port;
+    }
+
+    /**
+     * HTTP client shared in the pool. The mutable fields are guarded by the pool instance.
+     */
+    private static class PooledClient {
+        private final String address;
+        private final HttpClient client;
+        private final JsonObject optionsJson;
+
+        private int inFlight = 0;
+        private long lastUsed = System.nanoTime();
+        private boolean retired = false;
+
+        PooledClient(String address, HttpClient client, JsonObject optionsJson) {
+            this.address = address;
+            this.client = client;
+            this.optionsJson = optionsJson;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.strimzi.api.kafka.model.KafkaResources;
+import io.strimzi.operator.cluster.model.DnsNameGenerator;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.RequestOptions;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Client for the broker state endpoint of the Kafka agent running in the Kafka brokers. The HTTP clients are taken from
+ * a pool, so that the repeated checks of the same broker do not create a new HTTP client for every request. The pool is
+ * owned by the creator of the Kafka agent client, which closes it once it does not need the client anymore (for example
+ * the KafkaRoller once the rolling update is finished).
+ */
+public class KafkaAgentClient {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaAgentClient.class);
+
+    /**
+     * Path of the broker state endpoint
+     */
+    public static final String BROKER_STATE_PATH = "/v1/broker-state";
+
+    private static final int TIMEOUT_MS = 5_000;
+
+    private final Reconciliation reconciliation;
+    private final HttpClientPool httpClientPool;
+
+    /**
+     * Constructs the Kafka agent client with its own pool of HTTP clients. The pool is closed by {@link #close()}.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param vertx             Vert.x instance
+     */
+    public KafkaAgentClient(Reconciliation reconciliation, Vertx vertx) {
+        this(reconciliation, new HttpClientPool(vertx, httpClientOptions(), HttpClientPool.DEFAULT_IDLE_TIMEOUT_MS));
+    }
+
+    /**
+     * Constructs the Kafka agent client
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param httpClientPool    Pool of the HTTP clients
+     */
+    /* test */ KafkaAgentClient(Reconciliation reconciliation, HttpClientPool httpClientPool) {
+        this.reconciliation = reconciliation;
+        this.httpClientPool = httpClientPool;
+    }
+
+    /**
+     * Closes the HTTP clients used by this Kafka agent client
+     */
+    public void close() {
+        httpClientPool.close();
+    }
+
+    private static HttpClientOptions httpClientOptions() {
+        return new HttpClientOptions()
+                .setConnectTimeout(TIMEOUT_MS);
+    }
+
+    /**
+     * Gets the state of the broker running in the given pod
+     *
+     * @param podName   Name of the broker pod
+     *
+     * @return  Future which completes with the state of the broker or fails when it could not be retrieved
+     */
+    public Future<BrokerState> brokerState(String podName) {
+        String host = DnsNameGenerator.podDnsName(reconciliation.namespace(), KafkaResources.brokersServiceName(reconciliation.name()), podName);
+
+        return brokerState(host, KafkaCluster.KAFKA_AGENT_PORT);
+    }
+
+    /* test */ Future<BrokerState> brokerState(String host, int port) {
+        RequestOptions options = new RequestOptions()
+                .setMethod(HttpMethod.GET)
+                .setHost(host)
+                .setPort(port)
+                .setURI(BROKER_STATE_PATH)
+                .setTimeout(TIMEOUT_MS);
+
+        return httpClientPool.withHttpClient(host, port, (httpClient, result) ->
+            httpClient.request(options, request -> {
+                if (request.succeeded()) {
+                    request.result().putHeader("Accept", "application/json");
+                    request.result().send(response -> {
+                        if (response.succeeded()) {
+                            if (response.result().statusCode() == 200) {
+                                response.result().bodyHandler(buffer -> {
+                                    try {
+                                        BrokerState state = BrokerState.fromJson(new JsonObject(buffer));
+                                        LOGGER.debugCr(reconciliation, "Broker state of {}: {}", host, state);
+                                        result.complete(state);
+                                    } catch (RuntimeException e) {
+                                        result.fail(new RuntimeException("Could not parse the broker state returned by " + host, e));
+                                    }
+                                });
+                            } else {
+                                result.fail(new RuntimeException("Unexpected status code " + response.result().statusCode() + " when getting the broker state from " + host));
+                            }
+                        } else {
+                            result.tryFail(response.cause());
+                        }
+                    });
+                } else {
+                    result.tryFail(request.cause());
+                }
+            }));
+    }
+}
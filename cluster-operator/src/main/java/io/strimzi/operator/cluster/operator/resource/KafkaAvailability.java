@@ -14,15 +14,18 @@ import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.ListTopicsOptions;
 import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.TopicPartitionInfo;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static java.lang.Integer.parseInt;
@@ -30,28 +33,135 @@ import static java.lang.Integer.parseInt;
 /**
  * Determines whether the given broker can be rolled without affecting
  * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
+ *
+ * <p>A single instance is meant to be used for the whole rolling update. The descriptions of all topics are collected
+ * only once when the instance is created and indexed by the brokers hosting their replicas. Every following check
+ * refreshes only the descriptions of the topics hosted by the checked broker (and of the topics created in the
+ * meantime), so that it sees the current ISRs without describing all topics in the cluster again. The
+ * {@code min.insync.replicas} configurations of the topics are fetched in batches and cached.</p>
+ *
+ * <p>When several brokers are restarted in parallel, the check takes the brokers which are already being restarted
+ * into account as if they were not in the ISR anymore. A broker is only added to the set of restarting brokers when
+ * none of its partitions would drop below {@code min.insync.replicas} together with the rest of the set.</p>
+ *
+ * <p>The same snapshot provides the partition leadership used by the leadership-aware rolling updates.</p>
  */
 class KafkaAvailability {
 
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaAvailability.class.getName());
 
+    /* test */ static final int DESCRIBE_CONFIGS_BATCH_SIZE = 1000;
+
     private final Admin ac;
 
     private final Reconciliation reconciliation;
 
-    private final Future<Collection<TopicDescription>> descriptions;
+    private final Map<String, Integer> minIsrs = new ConcurrentHashMap<>();
+
+    private Future<TopicSnapshot> snapshot;
+
+    private boolean snapshotFresh = true;
 
     KafkaAvailability(Reconciliation reconciliation, Admin ac) {
         this.ac = ac;
         this.reconciliation = reconciliation;
+        this.snapshot = createSnapshot();
+    }
+
+    /**
+     * Collects the descriptions of all topics in the cluster
+     *
+     * @return  Future with the snapshot of the topics
+     */
+    private Future<TopicSnapshot> createSnapshot() {
         // 1. Get all topic names
-        Future<Set<String>> topicNames = topicNames();
-        // 2. Get topic descriptions
-        descriptions = topicNames.compose(names -> {
-            LOGGER.debugCr(reconciliation, "Got {} topic names", names.size());
-            LOGGER.traceCr(reconciliation, "Topic names {}", names);
-            return describeTopics(names);
-        });
+        return topicNames()
+                .compose(names -> {
+                    LOGGER.debugCr(reconciliation, "Got {} topic names", names.size());
+                    LOGGER.traceCr(reconciliation, "Topic names {}", names);
+                    // 2. Get topic descriptions
+                    return describeTopics(names);
+                })
+                .map(topicDescriptions -> {
+                    LOGGER.debugCr(reconciliation, "Got {} topic descriptions", topicDescriptions.size());
+                    TopicSnapshot snapshot = new TopicSnapshot();
+                    snapshot.update(topicDescriptions);
+                    return snapshot;
+                });
+    }
+
+    /**
+     * Returns the snapshot of the topics to check the given broker against. The first call uses the snapshot created
+     * with this instance. The following calls refresh the descriptions of the topics hosted by the broker and of any
+     * new topics first. When the snapshot could not be created, it is created again.
+     *
+     * @param podId     ID of the broker
+     *
+     * @return  Future with the up-to-date snapshot
+     */
+    private synchronized Future<TopicSnapshot> snapshot(int podId) {
+        if (snapshot.failed()) {
+            snapshot = createSnapshot();
+        } else if (snapshotFresh) {
+            snapshotFresh = false;
+        } else {
+            return snapshot.compose(current -> refresh(current, podId));
+        }
+
+        return snapshot;
+    }
+
+    private Future<TopicSnapshot> refresh(TopicSnapshot current, int podId) {
+        return topicNames()
+                .compose(names -> {
+                    Set<String> toDescribe = current.retainTopics(names);
+                    toDescribe.addAll(current.topicsOnBroker(podId));
+
+                    LOGGER.debugCr(reconciliation, "Refreshing descriptions of {} topics", toDescribe.size());
+                    return toDescribe.isEmpty() ? Future.succeededFuture(List.<TopicDescription>of()) : describeTopics(toDescribe);
+                })
+                .map(topicDescriptions -> {
+                    current.update(topicDescriptions);
+                    return current;
+                });
+    }
+
+    /**
+     * Counts the partitions led by each broker in the snapshot. The snapshot is not refreshed, so the counts reflect
+     * the leadership as it was when the snapshot was created or last refreshed.
+     *
+     * @return  Future with a map of broker IDs to the number of partitions they lead
+     */
+    synchronized Future<Map<Integer, Integer>> leaderCounts() {
+        if (snapshot.failed()) {
+            snapshot = createSnapshot();
+        }
+
+        return snapshot.map(TopicSnapshot::leaderCounts);
+    }
+
+    /**
+     * Describes the current state of the partitions with a replica on the given broker. The descriptions of the topics
+     * hosted by the broker are refreshed in the snapshot first.
+     *
+     * @param podId     ID of the broker
+     *
+     * @return  Future with a map of the partitions with a replica on the given broker to their current description
+     */
+    Future<Map<TopicPartition, TopicPartitionInfo>> partitionsOnBroker(int podId) {
+        Future<TopicSnapshot> current;
+
+        synchronized (this) {
+            if (snapshot.failed()) {
+                snapshot = createSnapshot();
+            }
+
+            current = snapshot;
+        }
+
+        return current
+                .compose(snapshot -> refresh(snapshot, podId))
+                .map(snapshot -> snapshot.partitionsOnBroker(podId));
     }
 
     /**
@@ -59,29 +169,41 @@ class KafkaAvailability {
      * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
      */
     Future<Boolean> canRoll(int podId) {
-        LOGGER.debugCr(reconciliation, "Determining whether broker {} can be rolled", podId);
-        return canRollBroker(descriptions, podId);
+        return canRoll(podId, Set.of());
     }
 
-    private Future<Boolean> canRollBroker(Future<Collection<TopicDescription>> descriptions, int podId) {
-        Future<Set<TopicDescription>> topicsOnGivenBroker = descriptions
-                .compose(topicDescriptions -> {
-                    LOGGER.debugCr(reconciliation, "Got {} topic descriptions", topicDescriptions.size());
-                    return Future.succeededFuture(groupTopicsByBroker(topicDescriptions, podId));
-                }).recover(error -> {
+    /**
+     * Determine whether the given broker can be rolled together with the brokers which are already being restarted
+     * without affecting producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
+     *
+     * @param podId                 ID of the broker which should be rolled
+     * @param restartingBrokers     IDs of the brokers which are being restarted at the same time
+     *
+     * @return  Future with true if the broker can be rolled and false otherwise
+     */
+    Future<Boolean> canRoll(int podId, Set<Integer> restartingBrokers) {
+        LOGGER.debugCr(reconciliation, "Determining whether broker {} can be rolled while brokers {} are restarting", podId, restartingBrokers);
+        return canRollBroker(podId, restartingBrokers);
+    }
+
+    private Future<Boolean> canRollBroker(int podId, Set<Integer> restartingBrokers) {
+        // 3. Look up the topics on the broker in the snapshot
+        Future<Collection<TopicDescription>> topicsOnGivenBroker = snapshot(podId)
+                .map(snapshot -> snapshot.descriptionsOnBroker(podId))
+                .recover(error -> {
                     LOGGER.warnCr(reconciliation, "failed to get topic descriptions", error);
                     return Future.failedFuture(error);
                 });
 
         // 4. Get topic configs (for those on $broker)
-        Future<Map<String, Config>> topicConfigsOnGivenBroker = topicsOnGivenBroker
-                .compose(td -> topicConfigs(td.stream().map(t -> t.name()).collect(Collectors.toSet())));
+        Future<Map<String, Integer>> topicMinIsrsOnGivenBroker = topicsOnGivenBroker
+                .compose(td -> topicMinIsrs(td.stream().map(TopicDescription::name).collect(Collectors.toSet())));
 
         // 5. join
-        return topicConfigsOnGivenBroker.map(topicNameToConfig -> {
+        return topicMinIsrsOnGivenBroker.map(topicNameToMinIsr -> {
             Collection<TopicDescription> tds = topicsOnGivenBroker.result();
             boolean canRoll = tds.stream().noneMatch(
-                td -> wouldAffectAvailability(podId, topicNameToConfig, td));
+                td -> wouldAffectAvailability(podId, restartingBrokers, topicNameToMinIsr.get(td.name()), td));
             if (!canRoll) {
                 LOGGER.debugCr(reconciliation, "Restart pod {} would remove it from ISR, stalling producers with acks=all", podId);
             }
@@ -92,20 +214,18 @@ class KafkaAvailability {
         });
     }
 
-    private boolean wouldAffectAvailability(int broker, Map<String, Config> nameToConfig, TopicDescription td) {
-        Config config = nameToConfig.get(td.name());
-        ConfigEntry minIsrConfig = config.get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
-        int minIsr;
-        if (minIsrConfig != null && minIsrConfig.value() != null) {
-            minIsr = parseInt(minIsrConfig.value());
+    private boolean wouldAffectAvailability(int broker, Set<Integer> restartingBrokers, int minIsr, TopicDescription td) {
+        if (minIsr >= 0) {
             LOGGER.debugCr(reconciliation, "{} has {}={}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr);
         } else {
-            minIsr = -1;
             LOGGER.debugCr(reconciliation, "{} lacks {}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
         }
 
         for (TopicPartitionInfo pi : td.partitions()) {
-            List<Node> isr = pi.isr();
+            // The brokers which are being restarted are about to leave the ISR (if they did not leave it yet)
+            List<Node> isr = restartingBrokers.isEmpty() ? pi.isr() : pi.isr().stream()
+                    .filter(node -> !restartingBrokers.contains(node.id()))
+                    .collect(Collectors.toList());
             if (minIsr >= 0) {
                 if (pi.replicas().size() <= minIsr) {
                     if (LOGGER.isDebugEnabled()) {
@@ -157,39 +277,61 @@ class KafkaAvailability {
         return isr.stream().anyMatch(node -> node.id() == broker);
     }
 
-    private Future<Map<String, Config>> topicConfigs(Collection<String> topicNames) {
-        LOGGER.debugCr(reconciliation, "Getting topic configs for {} topics", topicNames.size());
+    /**
+     * Returns the {@code min.insync.replicas} values of the given topics. The values which are not cached yet are
+     * fetched in batches of at most {@link #DESCRIBE_CONFIGS_BATCH_SIZE} topics.
+     *
+     * @param topicNames    Names of the topics
+     *
+     * @return  Future with a map of topic names to their {@code min.insync.replicas} (-1 when it is not set)
+     */
+    private Future<Map<String, Integer>> topicMinIsrs(Set<String> topicNames) {
+        List<String> missing = topicNames.stream().filter(topicName -> !minIsrs.containsKey(topicName)).collect(Collectors.toList());
+        LOGGER.debugCr(reconciliation, "Getting topic configs for {} topics ({} cached)", topicNames.size(), topicNames.size() - missing.size());
+
+        Future<Void> fetched = Future.succeededFuture();
+        for (int i = 0; i < missing.size(); i += DESCRIBE_CONFIGS_BATCH_SIZE) {
+            List<String> batch = missing.subList(i, Math.min(i + DESCRIBE_CONFIGS_BATCH_SIZE, missing.size()));
+            fetched = fetched.compose(ignore -> topicConfigs(batch));
+        }
+
+        return fetched.map(ignore -> {
+            Map<String, Integer> result = new HashMap<>(topicNames.size());
+            for (String topicName : topicNames) {
+                result.put(topicName, minIsrs.get(topicName));
+            }
+            return result;
+        });
+    }
+
+    private Future<Void> topicConfigs(Collection<String> topicNames) {
+        LOGGER.debugCr(reconciliation, "Describing topic configs for {} topics", topicNames.size());
         List<ConfigResource> configs = topicNames.stream()
                 .map((String topicName) -> new ConfigResource(ConfigResource.Type.TOPIC, topicName))
                 .collect(Collectors.toList());
-        Promise<Map<String, Config>> promise = Promise.promise();
+        Promise<Void> promise = Promise.promise();
         ac.describeConfigs(configs).all().whenComplete((topicNameToConfig, error) -> {
             if (error != null) {
                 promise.fail(error);
             } else {
                 LOGGER.debugCr(reconciliation, "Got topic configs for {} topics", topicNames.size());
-                promise.complete(topicNameToConfig.entrySet().stream()
-                        .collect(Collectors.toMap(
-                            entry -> entry.getKey().name(),
-                            entry -> entry.getValue())));
+                for (Map.Entry<ConfigResource, Config> entry : topicNameToConfig.entrySet()) {
+                    minIsrs.put(entry.getKey().name(), minIsr(entry.getValue()));
+                }
+                promise.complete();
             }
         });
         return promise.future();
     }
 
-    private Set<TopicDescription> groupTopicsByBroker(Collection<TopicDescription> tds, int podId) {
-        Set<TopicDescription> topicPartitionInfos = new HashSet<>();
-        for (TopicDescription td : tds) {
-            LOGGER.traceCr(reconciliation, td);
-            for (TopicPartitionInfo pd : td.partitions()) {
-                for (Node broker : pd.replicas()) {
-                    if (podId == broker.id()) {
-                        topicPartitionInfos.add(td);
-                    }
-                }
-            }
+    private static int minIsr(Config config) {
+        ConfigEntry minIsrConfig = config.get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+
+        if (minIsrConfig != null && minIsrConfig.value() != null) {
+            return parseInt(minIsrConfig.value());
+        } else {
+            return -1;
         }
-        return topicPartitionInfos;
     }
 
     protected Future<Collection<TopicDescription>> describeTopics(Set<String> names) {
@@ -219,4 +361,121 @@ class KafkaAvailability {
                 });
         return namesPromise.future();
     }
+
+    /**
+     * Descriptions of the topics in the cluster indexed by the brokers hosting their replicas
+     */
+    /* test */ static class TopicSnapshot {
+        private final Map<String, TopicDescription> descriptions = new HashMap<>();
+        private final Map<Integer, Set<String>> topicsByBroker = new HashMap<>();
+
+        /**
+         * Adds or replaces the topic descriptions and updates the index of topics by brokers
+         *
+         * @param topicDescriptions     Descriptions of the topics
+         */
+        synchronized void update(Collection<TopicDescription> topicDescriptions) {
+            for (TopicDescription td : topicDescriptions) {
+                unindex(descriptions.put(td.name(), td));
+
+                for (TopicPartitionInfo pd : td.partitions()) {
+                    for (Node broker : pd.replicas()) {
+                        topicsByBroker.computeIfAbsent(broker.id(), id -> new HashSet<>()).add(td.name());
+                    }
+                }
+            }
+        }
+
+        /**
+         * Removes the topics which do not exist anymore
+         *
+         * @param existingTopics    Names of the existing topics
+         *
+         * @return  Names of the existing topics which are not in the snapshot yet
+         */
+        synchronized Set<String> retainTopics(Set<String> existingTopics) {
+            descriptions.values().removeIf(td -> {
+                if (existingTopics.contains(td.name())) {
+                    return false;
+                } else {
+                    unindex(td);
+                    return true;
+                }
+            });
+
+            Set<String> newTopics = new HashSet<>(existingTopics);
+            newTopics.removeAll(descriptions.keySet());
+            return newTopics;
+        }
+
+        private void unindex(TopicDescription td) {
+            if (td != null) {
+                for (TopicPartitionInfo pd : td.partitions()) {
+                    for (Node broker : pd.replicas()) {
+                        Set<String> topics = topicsByBroker.get(broker.id());
+
+                        if (topics != null) {
+                            topics.remove(td.name());
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * @param podId     ID of the broker
+         *
+         * @return  Names of the topics with a replica on given broker
+         */
+        synchronized Set<String> topicsOnBroker(int podId) {
+            return new HashSet<>(topicsByBroker.getOrDefault(podId, Set.of()));
+        }
+
+        /**
+         * @param podId     ID of the broker
+         *
+         * @return  Descriptions of the topics with a replica on given broker
+         */
+        synchronized Collection<TopicDescription> descriptionsOnBroker(int podId) {
+            return topicsByBroker.getOrDefault(podId, Set.of()).stream()
+                    .map(descriptions::get)
+                    .collect(Collectors.toList());
+        }
+
+        /**
+         * @param podId     ID of the broker
+         *
+         * @return  Descriptions of the partitions with a replica on given broker
+         */
+        synchronized Map<TopicPartition, TopicPartitionInfo> partitionsOnBroker(int podId) {
+            Map<TopicPartition, TopicPartitionInfo> partitions = new HashMap<>();
+
+            for (String topic : topicsByBroker.getOrDefault(podId, Set.of())) {
+                for (TopicPartitionInfo pi : descriptions.get(topic).partitions()) {
+                    if (pi.replicas().stream().anyMatch(node -> node.id() == podId)) {
+                        partitions.put(new TopicPartition(topic, pi.partition()), pi);
+                    }
+                }
+            }
+
+            return partitions;
+        }
+
+        /**
+         * @return  Number of partitions led by each broker
+         */
+        synchronized Map<Integer, Integer> leaderCounts() {
+            Map<Integer, Integer> counts = new HashMap<>();
+
+            for (TopicDescription td : descriptions.values()) {
+                for (TopicPartitionInfo pi : td.partitions()) {
+                    if (pi.leader() != null && !pi.leader().isEmpty()) {
+                        counts.merge(pi.leader().id(), 1, Integer::sum);
+                    }
+                }
+            }
+
+            return counts;
+        }
+    }
 }
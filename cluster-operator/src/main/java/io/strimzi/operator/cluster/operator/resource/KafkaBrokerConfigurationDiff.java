@@ -9,15 +9,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
-import java.util.Optional;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.fabric8.zjsonpatch.JsonDiff;
-import io.strimzi.kafka.config.model.ConfigModel;
 import io.strimzi.kafka.config.model.Scope;
-import io.strimzi.operator.cluster.model.KafkaConfiguration;
+import io.strimzi.operator.cluster.model.KafkaConfigModelCatalogue;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
@@ -38,43 +36,31 @@ import org.apache.kafka.clients.admin.ConfigEntry;
  */
 public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaBrokerConfigurationDiff.class);
-    private static final String PLACE_HOLDER = Pattern.quote("STRIMZI_BROKER_ID");
+    private static final Pattern PLACE_HOLDER = Pattern.compile("\\$\\{" + Pattern.quote("STRIMZI_BROKER_ID") + "}");
 
     private final Reconciliation reconciliation;
     private final Collection<AlterConfigOp> diff;
-    private final Map<String, ConfigModel> configModel;
+    private final KafkaConfigModelCatalogue configModel;
 
     /**
      * These options are skipped because they contain placeholders
      * 909[1-4] is for skipping all (internal, plain, secured, external) listeners properties
+     * The diff checks the names through the memoized {@link KafkaConfigModelCatalogue#isIgnorable(String)}.
      */
-    public static final Pattern IGNORABLE_PROPERTIES = Pattern.compile(
-            "^(broker\\.id"
-            + "|.*-[0-9]{2,5}\\.ssl\\.keystore\\.location"
-            + "|.*-[0-9]{2,5}\\.ssl\\.keystore\\.password"
-            + "|.*-[0-9]{2,5}\\.ssl\\.keystore\\.type"
-            + "|.*-[0-9]{2,5}\\.ssl\\.truststore\\.location"
-            + "|.*-[0-9]{2,5}\\.ssl\\.truststore\\.password"
-            + "|.*-[0-9]{2,5}\\.ssl\\.truststore\\.type"
-            + "|.*-[0-9]{2,5}\\.ssl\\.client\\.auth"
-            + "|.*-[0-9]{2,5}\\.scram-sha-512\\.sasl\\.jaas\\.config"
-            + "|.*-[0-9]{2,5}\\.sasl\\.enabled\\.mechanisms"
-            + "|advertised\\.listeners"
-            + "|zookeeper\\.connect"
-            + "|zookeeper\\.ssl\\..*"
-            + "|zookeeper\\.clientCnxnSocket"
-            + "|broker\\.rack)$");
+    public static final Pattern IGNORABLE_PROPERTIES = KafkaConfigModelCatalogue.IGNORABLE_PROPERTIES;
 
     public KafkaBrokerConfigurationDiff(Reconciliation reconciliation, Config brokerConfigs, String desired, KafkaVersion kafkaVersion, int brokerId) {
         this.reconciliation = reconciliation;
-        this.configModel = KafkaConfiguration.readConfigModel(kafkaVersion);
+        this.configModel = KafkaConfigModelCatalogue.forVersion(kafkaVersion);
         this.diff = diff(brokerId, desired, brokerConfigs, configModel);
     }
 
     private static void fillPlaceholderValue(Map<String, String> orderedProperties, String value) {
         orderedProperties.entrySet().forEach(entry -> {
-            String v = entry.getValue().replaceAll("\\$\\{" + PLACE_HOLDER + "}", value);
-            entry.setValue(v);
+            if (entry.getValue().contains("${")) {
+                String v = PLACE_HOLDER.matcher(entry.getValue()).replaceAll(value);
+                entry.setValue(v);
+            }
         });
     }
 
@@ -95,7 +81,7 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
      * @return true if the entry is READ_ONLY
      */
     private boolean isEntryReadOnly(ConfigEntry entry) {
-        return configModel.get(entry.name()).getScope().equals(Scope.READ_ONLY);
+        return Scope.READ_ONLY.equals(configModel.scope(entry.name()));
     }
 
     /**
@@ -113,8 +99,8 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
         return diff.size();
     }
 
-    private static boolean isIgnorableProperty(String key) {
-        return IGNORABLE_PROPERTIES.matcher(key).matches();
+    private boolean isIgnorableProperty(String key) {
+        return configModel.isIgnorable(key);
     }
 
     /**
@@ -122,12 +108,12 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
      * @param brokerId id of compared broker
      * @param desired desired configuration, may be null if the related ConfigMap does not exist yet or no changes are required
      * @param brokerConfigs current configuration
-     * @param configModel default configuration for {@code kafkaVersion} of broker
+     * @param configModel config catalogue for {@code kafkaVersion} of broker
      * @return Collection of AlterConfigOp containing all entries which were changed from current in desired configuration
      */
     private Collection<AlterConfigOp> diff(int brokerId, String desired,
                                                   Config brokerConfigs,
-                                                  Map<String, ConfigModel> configModel) {
+                                                  KafkaConfigModelCatalogue configModel) {
         if (brokerConfigs == null || desired == null) {
             return Collections.emptyList();
         }
@@ -154,13 +140,10 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
             String pathValue = d.get("path").asText();
             String pathValueWithoutSlash = pathValue.substring(1);
 
-            Optional<ConfigEntry> optEntry = brokerConfigs.entries().stream()
-                    .filter(configEntry -> configEntry.name().equals(pathValueWithoutSlash))
-                    .findFirst();
+            ConfigEntry entry = brokerConfigs.get(pathValueWithoutSlash);
 
             String op = d.get("op").asText();
-            if (optEntry.isPresent()) {
-                ConfigEntry entry = optEntry.get();
+            if (entry != null) {
                 if ("remove".equals(op)) {
                     removeProperty(configModel, updatedCE, pathValueWithoutSlash, entry);
                 } else if ("replace".equals(op)) {
@@ -189,7 +172,7 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
         return updatedCE;
     }
 
-    private void updateOrAdd(String propertyName, Map<String, ConfigModel> configModel, Map<String, String> desiredMap, Collection<AlterConfigOp> updatedCE) {
+    private void updateOrAdd(String propertyName, KafkaConfigModelCatalogue configModel, Map<String, String> desiredMap, Collection<AlterConfigOp> updatedCE) {
         if (!isIgnorableProperty(propertyName)) {
             if (isCustomEntry(propertyName, configModel)) {
                 LOGGER.traceCr(reconciliation, "custom property {} has been updated/added {}", propertyName, desiredMap.get(propertyName));
@@ -202,7 +185,7 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
         }
     }
 
-    private void removeProperty(Map<String, ConfigModel> configModel, Collection<AlterConfigOp> updatedCE, String pathValueWithoutSlash, ConfigEntry entry) {
+    private void removeProperty(KafkaConfigModelCatalogue configModel, Collection<AlterConfigOp> updatedCE, String pathValueWithoutSlash, ConfigEntry entry) {
         if (isCustomEntry(entry.name(), configModel)) {
             // we are deleting custom option
             LOGGER.traceCr(reconciliation, "removing custom property {}", entry.name());
@@ -235,11 +218,11 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
     /**
      * For some reason not all default entries have set ConfigEntry.ConfigSource.DEFAULT_CONFIG so we need to compare
      * @param entryName tested ConfigEntry
-     * @param configModel configModel
+     * @param configModel config catalogue
      * @return true if entry is custom (not default)
      */
-    private static boolean isCustomEntry(String entryName, Map<String, ConfigModel> configModel) {
-        return !configModel.containsKey(entryName);
+    private static boolean isCustomEntry(String entryName, KafkaConfigModelCatalogue configModel) {
+        return !configModel.isKnown(entryName);
     }
 
 }
@@ -10,6 +10,7 @@ import java.net.Socket;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -30,6 +31,10 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.fabric8.kubernetes.api.model.ContainerStateWaiting;
 import io.fabric8.kubernetes.api.model.ContainerStatus;
 import io.fabric8.kubernetes.api.model.Pod;
@@ -45,6 +50,8 @@ import io.strimzi.operator.cluster.model.RestartReasons;
 import io.strimzi.operator.cluster.operator.resource.events.KubernetesRestartEventPublisher;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.CachingAdminClientProvider;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.Util;
@@ -58,9 +65,12 @@ import org.apache.kafka.clients.admin.AlterConfigOp;
 import org.apache.kafka.clients.admin.AlterConfigsResult;
 import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.DescribeClusterResult;
+import org.apache.kafka.common.ElectionType;
 import org.apache.kafka.common.KafkaException;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
 import org.apache.kafka.common.config.ConfigException;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.errors.SslAuthenticationException;
@@ -94,8 +104,33 @@ import static java.util.Collections.singletonList;
  *         iii. Continue from 1.
  * </pre>
  *
+ * <p>When a restarted pod does not become ready within the operation timeout, the broker state endpoint of the Kafka
+ * agent is checked. As long as the broker is recovering its logs and the number of remaining logs or segments
+ * decreases, the progress is reported and the roller keeps waiting for another operation timeout instead of failing.</p>
+ *
  * <p>Where "impacting availability" is defined by {@link KafkaAvailability}.</p>
  *
+ * <p>When more than one parallel restart is allowed, the pods are considered by several threads at the same time.
+ * A pod is restarted only if restarting it together with the pods which are being restarted right now would not
+ * impact availability. The brokers restarted at the same time therefore never share a partition which would drop
+ * below its {@code min.insync.replicas}. The controller is still rolled last, when no other pod is being rolled.</p>
+ *
+ * <p>When leadership-aware rolling is enabled, the ready pods are rolled in the ascending order of the number of
+ * partitions they lead, so that the brokers which are cheap to restart go first. Before a broker is restarted, the
+ * preferred leader election is triggered for the partitions it leads without being their preferred leader, so that
+ * they move to their in-sync preferred leaders. The partitions for which the broker is the preferred leader cannot be
+ * moved by the Admin API and are moved by the controlled shutdown of the broker. Once the restarted broker is ready,
+ * the preferred leader election is triggered for the partitions it should lead until they are led by it again or the
+ * operation timeout expires. The time it takes to drain and to restore the leadership and the number of leader changes
+ * seen by the clients are exposed as metrics.</p>
+ *
+ * <p>When reconfiguration is allowed, the configurations and loggers of all ready brokers which do not need to be
+ * restarted are described with a single request before rolling. All brokers whose configuration can be updated
+ * dynamically are then reconfigured with a single request as well. The brokers which were reconfigured successfully
+ * are not described or reconfigured again when they are considered by the algorithm above. The brokers which could not
+ * be reconfigured are reported individually and handled by the algorithm above, which retries the dynamic update and
+ * restarts them if it fails again.</p>
+ *
  * <p>Note the following important properties of this algorithm:</p>
  * <ul>
  *     <li>if there is a spontaneous change in controller while the rolling restart is happening, any new
@@ -127,13 +162,24 @@ public class KafkaRoller {
     private final KafkaVersion kafkaVersion;
     private final Reconciliation reconciliation;
     private final boolean allowReconfiguration;
+    private final ScheduledExecutorService executor;
+    private final Set<Integer> restartingBrokers = new HashSet<>();
+    private final Map<Integer, Config> describedConfigs = new ConcurrentHashMap<>();
+    private final Map<Integer, Config> describedLoggings = new ConcurrentHashMap<>();
+    private final Set<Integer> reconfiguredBrokers = ConcurrentHashMap.newKeySet();
+    private final Map<Integer, EvaluatedRestartReasons> evaluatedRestartReasons = new ConcurrentHashMap<>();
+    private final KafkaAgentClient kafkaAgentClient;
+    private final boolean leadershipAwareRolling;
+    protected final MetricsProvider metricsProvider;
     private Admin allClient;
+    private KafkaAvailability kafkaAvailability;
 
     public KafkaRoller(Reconciliation reconciliation, Vertx vertx, PodOperator podOperations,
                        long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier, List<String> podList,
                        Secret clusterCaCertSecret, Secret coKeySecret,
                        AdminClientProvider adminClientProvider,
-                       Function<Integer, String> kafkaConfigProvider, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration, KubernetesRestartEventPublisher eventsPublisher) {
+                       Function<Integer, String> kafkaConfigProvider, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration, KubernetesRestartEventPublisher eventsPublisher,
+                       int maxParallelRestarts, boolean leadershipAwareRolling, MetricsProvider metricsProvider) {
         this.namespace = reconciliation.namespace();
         this.cluster = reconciliation.name();
         this.podList = podList;
@@ -154,6 +200,11 @@ public class KafkaRoller {
         this.kafkaVersion = kafkaVersion;
         this.reconciliation = reconciliation;
         this.allowReconfiguration = allowReconfiguration;
+        this.kafkaAgentClient = new KafkaAgentClient(reconciliation, vertx);
+        this.leadershipAwareRolling = leadershipAwareRolling;
+        this.metricsProvider = metricsProvider;
+        this.executor = Executors.newScheduledThreadPool(maxParallelRestarts,
+            runnable -> new Thread(runnable, "kafka-roller"));
     }
 
     /**
@@ -164,9 +215,6 @@ public class KafkaRoller {
         return podOperations.getAsync(namespace, KafkaResources.kafkaPodName(cluster, podId));
     }
 
-    private final ScheduledExecutorService singleExecutor = Executors.newSingleThreadScheduledExecutor(
-        runnable -> new Thread(runnable, "kafka-roller"));
-
     private ConcurrentHashMap<String, RestartContext> podToContext = new ConcurrentHashMap<>();
     private Function<Pod, RestartReasons> podNeedsRestart;
 
@@ -174,7 +222,7 @@ public class KafkaRoller {
      * If allClient has not been initialized yet, does exactly that
      * @return true if the creation of AC succeeded, false otherwise
      */
-    private boolean initAdminClient() {
+    private synchronized boolean initAdminClient() {
         if (this.allClient == null) {
             try {
                 this.allClient = adminClient(IntStream.range(0, podList.size()).boxed().collect(Collectors.toList()), false);
@@ -196,13 +244,30 @@ public class KafkaRoller {
     public Future<Void> rollingRestart(Function<Pod, RestartReasons> podNeedsRestart) {
         this.podNeedsRestart = podNeedsRestart;
         Promise<Void> result = Promise.promise();
-        singleExecutor.submit(() -> {
+        executor.submit(() -> {
             List<PodRef> pods = new ArrayList<>(podList.size());
+            List<PodRef> readyPods = new ArrayList<>(podList.size());
+            int unreadyPods = 0;
 
             for (int podIndex = 0; podIndex < podList.size(); podIndex++) {
                 // Order the podNames unready first otherwise repeated reconciliations might each restart a pod
                 // only for it not to become ready and thus drive the cluster to a worse state.
-                pods.add(podOperations.isReady(namespace, podList.get(podIndex)) ? pods.size() : 0, new PodRef(podList.get(podIndex), ModelUtils.idOfPod(podList.get(podIndex))));
+                boolean ready = podOperations.isReady(namespace, podList.get(podIndex));
+                PodRef podRef = new PodRef(podList.get(podIndex), ModelUtils.idOfPod(podList.get(podIndex)));
+                pods.add(ready ? pods.size() : 0, podRef);
+                unreadyPods += ready ? 0 : 1;
+
+                if (ready) {
+                    readyPods.add(podRef);
+                }
+            }
+
+            if (allowReconfiguration) {
+                reconfigureDynamically(readyPods);
+            }
+
+            if (leadershipAwareRolling) {
+                orderByLeadership(pods.subList(unreadyPods, pods.size()));
             }
             LOGGER.debugCr(reconciliation, "Initial order for rolling restart {}", pods);
             List<Future> futures = new ArrayList<>(podList.size());
@@ -210,7 +275,8 @@ public class KafkaRoller {
                 futures.add(schedule(podRef, 0, TimeUnit.MILLISECONDS));
             }
             CompositeFuture.join(futures).onComplete(ar -> {
-                singleExecutor.shutdown();
+                executor.shutdown();
+                kafkaAgentClient.close();
                 try {
                     if (allClient != null) {
                         allClient.close(Duration.ofSeconds(30));
@@ -224,6 +290,192 @@ public class KafkaRoller {
         return result.future();
     }
 
+    /**
+     * Orders the pods in the ascending order of the number of partitions they lead. When the leadership cannot be
+     * determined, the order is not changed.
+     *
+     * @param pods  List of the pods which will be ordered
+     */
+    private void orderByLeadership(List<PodRef> pods) {
+        if (pods.size() < 2 || !initAdminClient()) {
+            return;
+        }
+
+        try {
+            Map<Integer, Integer> leaderCounts = await(availability().leaderCounts(), operationTimeoutMs, TimeUnit.MILLISECONDS,
+                t -> new ForceableProblem("Error getting the partition leadership", t));
+            pods.sort(Comparator.comparingInt(podRef -> leaderCounts.getOrDefault(podRef.getPodId(), 0)));
+            LOGGER.debugCr(reconciliation, "Pods ordered by the number of partitions they lead {}", leaderCounts);
+        } catch (ForceableProblem e) {
+            LOGGER.warnCr(reconciliation, "Could not order the pods by the partition leadership", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Reconfigures the given brokers which do not need to be restarted and whose configuration can be updated
+     * dynamically. Their configurations and loggers are described with a single request and updated with a single
+     * request. Errors are logged per broker and the failed brokers are left to the per-pod rolling algorithm.
+     *
+     * @param pods  Ready pods which should be reconfigured
+     */
+    private void reconfigureDynamically(List<PodRef> pods) {
+        List<PodRef> candidates = new ArrayList<>(pods.size());
+
+        for (PodRef podRef : pods) {
+            try {
+                Pod pod = podOperations.get(namespace, podRef.getPodName());
+
+                if (pod != null) {
+                    RestartReasons reasons = podNeedsRestart.apply(pod);
+                    evaluatedRestartReasons.put(podRef.getPodId(), new EvaluatedRestartReasons(pod, reasons));
+
+                    if (!reasons.shouldRestart()) {
+                        candidates.add(podRef);
+                    }
+                }
+            } catch (KubernetesClientException e) {
+                LOGGER.debugCr(reconciliation, "Error getting pod {}, it will not be reconfigured in a batch", podRef, e);
+            }
+        }
+
+        if (candidates.isEmpty() || !initAdminClient()) {
+            return;
+        }
+
+        try {
+            LOGGER.debugCr(reconciliation, "Describing the configuration of pods {}", candidates);
+            Map<ConfigResource, Future<Config>> described = describeBrokerConfigs(candidates.stream().map(PodRef::getPodId).collect(Collectors.toList()));
+            await(CompositeFuture.join(new ArrayList<>(described.values())).<Void>mapEmpty().recover(error -> Future.succeededFuture()),
+                30, TimeUnit.SECONDS, error -> new ForceableProblem("Error getting broker configs", error));
+
+            Map<ConfigResource, Collection<AlterConfigOp>> updates = new HashMap<>();
+            for (PodRef podRef : candidates) {
+                int podId = podRef.getPodId();
+                Future<Config> config = described.get(Util.getBrokersConfig(podId));
+                Future<Config> logging = described.get(Util.getBrokersLogging(podId));
+
+                if (config == null || config.failed() || logging == null || logging.failed()) {
+                    LOGGER.debugCr(reconciliation, "Could not describe the configuration of pod {}", podRef,
+                            config != null && config.failed() ? config.cause() : logging != null ? logging.cause() : null);
+                    continue;
+                }
+
+                describedConfigs.put(podId, config.result());
+                describedLoggings.put(podId, logging.result());
+
+                KafkaBrokerConfigurationDiff diff = new KafkaBrokerConfigurationDiff(reconciliation, config.result(), kafkaConfigProvider.apply(podId), kafkaVersion, podId);
+                KafkaBrokerLoggingConfigurationDiff loggingDiff = new KafkaBrokerLoggingConfigurationDiff(reconciliation, logging.result(), kafkaLogging, podId);
+
+                if ((diff.getDiffSize() > 0 || loggingDiff.getDiffSize() > 0) && diff.canBeUpdatedDynamically()) {
+                    updates.put(Util.getBrokersConfig(podId), diff.getConfigDiff());
+                    updates.put(Util.getBrokersLogging(podId), loggingDiff.getLoggingDiff());
+                }
+            }
+
+            if (updates.isEmpty()) {
+                return;
+            }
+
+            // Once an alter is attempted, the described configurations might not be current anymore even when the
+            // alter fails or times out. The per-pod rolling algorithm has to describe these brokers again.
+            for (ConfigResource resource : updates.keySet()) {
+                int podId = Integer.parseInt(resource.name());
+                describedConfigs.remove(podId);
+                describedLoggings.remove(podId);
+            }
+
+            LOGGER.debugCr(reconciliation, "Altering the configuration of {} brokers", updates.size() / 2);
+            LOGGER.traceCr(reconciliation, "Altering the configuration of brokers with {}", updates);
+            Map<ConfigResource, Future<Void>> altered = alterBrokerConfigs(updates);
+            await(CompositeFuture.join(new ArrayList<>(altered.values())).<Void>mapEmpty().recover(error -> Future.succeededFuture()),
+                30, TimeUnit.SECONDS, error -> new ForceableProblem("Error doing dynamic update", error));
+
+            for (PodRef podRef : candidates) {
+                int podId = podRef.getPodId();
+                Future<Void> config = altered.get(Util.getBrokersConfig(podId));
+                Future<Void> logging = altered.get(Util.getBrokersLogging(podId));
+
+                if (config == null) {
+                    continue;
+                } else if (config.succeeded() && logging != null && logging.succeeded()) {
+                    LOGGER.infoCr(reconciliation, "Dynamic reconfiguration for broker {} was successful.", podId);
+                    reconfiguredBrokers.add(podId);
+                } else {
+                    LOGGER.errorCr(reconciliation, "Error doing dynamic config update for pod {}", podRef,
+                            config.failed() ? config.cause() : logging != null ? logging.cause() : null);
+                }
+            }
+        } catch (ForceableProblem | RuntimeException e) {
+            LOGGER.warnCr(reconciliation, "Could not reconfigure the brokers in a batch, they will be reconfigured one by one", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Describes the configurations and loggers of the given brokers with a single request
+     *
+     * @param podIds    IDs of the brokers
+     *
+     * @return  Map with the broker configuration and logger resources and futures with their configurations. Each
+     *          future completes or fails independently.
+     */
+    protected Map<ConfigResource, Future<Config>> describeBrokerConfigs(List<Integer> podIds) {
+        List<ConfigResource> resources = new ArrayList<>(podIds.size() * 2);
+        for (int podId : podIds) {
+            resources.add(Util.getBrokersConfig(podId));
+            resources.add(Util.getBrokersLogging(podId));
+        }
+
+        Map<ConfigResource, Future<Config>> result = new HashMap<>(resources.size());
+        allClient.describeConfigs(resources).values()
+                .forEach((resource, future) -> result.put(resource, Util.kafkaFutureToVertxFuture(reconciliation, vertx, future)));
+        return result;
+    }
+
+    /**
+     * Alters the configurations and loggers of several brokers with a single request
+     *
+     * @param updates   Map with the broker configuration and logger resources and the operations which should be applied
+     *
+     * @return  Map with the broker configuration and logger resources and futures which complete or fail independently
+     *          when the resource was altered
+     */
+    protected Map<ConfigResource, Future<Void>> alterBrokerConfigs(Map<ConfigResource, Collection<AlterConfigOp>> updates) {
+        Map<ConfigResource, Future<Void>> result = new HashMap<>(updates.size());
+        allClient.incrementalAlterConfigs(updates).values()
+                .forEach((resource, future) -> result.put(resource, Util.kafkaFutureToVertxFuture(reconciliation, vertx, future)));
+        return result;
+    }
+
+    /**
+     * Restart reasons evaluated for a given revision of a pod
+     */
+    private static class EvaluatedRestartReasons {
+        private final String uid;
+        private final String resourceVersion;
+        private final RestartReasons reasons;
+
+        EvaluatedRestartReasons(Pod pod, RestartReasons reasons) {
+            this.uid = pod.getMetadata().getUid();
+            this.resourceVersion = pod.getMetadata().getResourceVersion();
+            this.reasons = reasons;
+        }
+
+        /**
+         * @param pod   The pod
+         *
+         * @return  True if the reasons were evaluated for the same revision of the given pod. False otherwise.
+         */
+        boolean isFor(Pod pod) {
+            return pod != null
+                    && Objects.equals(uid, pod.getMetadata().getUid())
+                    && Objects.equals(resourceVersion, pod.getMetadata().getResourceVersion());
+        }
+    }
+
     protected static class RestartContext {
         final Promise<Void> promise;
         final BackOff backOff;
@@ -269,7 +521,7 @@ public class KafkaRoller {
      * Schedule the rolling of the given pod at or after the given delay,
      * completed the returned Future when the pod is rolled.
      * When called multiple times with the same podId this method will return the same Future instance.
-     * Pods will be rolled one-at-a-time so the delay may be overrun.
+     * Pods will be rolled one-at-a-time (or a few at a time when parallel restarts are allowed) so the delay may be overrun.
      * @param podRef  The reference to pod to roll.
      * @param delay The delay.
      * @param unit The unit of the delay.
@@ -278,10 +530,14 @@ public class KafkaRoller {
     private Future<Void> schedule(PodRef podRef, long delay, TimeUnit unit) {
         RestartContext ctx = podToContext.computeIfAbsent(podRef.getPodName(),
             k -> new RestartContext(backoffSupplier));
-        singleExecutor.schedule(() -> {
+        executor.schedule(() -> {
             LOGGER.debugCr(reconciliation, "Considering restart of pod {} after delay of {} {}", podRef, delay, unit);
             try {
-                restartIfNecessary(podRef, ctx);
+                try {
+                    restartIfNecessary(podRef, ctx);
+                } finally {
+                    restartFinished(podRef);
+                }
                 ctx.promise.complete();
             } catch (InterruptedException e) {
                 // Let the executor deal with interruption.
@@ -290,7 +546,7 @@ public class KafkaRoller {
                 LOGGER.infoCr(reconciliation, "Could not restart pod {}, giving up after {} attempts. Total delay between attempts {}ms",
                         podRef, ctx.backOff.maxAttempts(), ctx.backOff.totalDelayMs(), e);
                 ctx.promise.fail(e);
-                singleExecutor.shutdownNow();
+                executor.shutdownNow();
                 podToContext.forEachValue(Integer.MAX_VALUE, f -> {
                     f.promise.tryFail(e);
                 });
@@ -312,6 +568,48 @@ public class KafkaRoller {
         return ctx.promise.future();
     }
 
+    /**
+     * Marks the broker as being restarted so that the availability checks of the other brokers take it into account
+     *
+     * @param podRef    Reference of the pod which is being restarted
+     */
+    private void restartStarted(PodRef podRef) {
+        synchronized (restartingBrokers) {
+            restartingBrokers.add(podRef.getPodId());
+        }
+    }
+
+    /**
+     * Marks the broker as not being restarted anymore. This is called once the broker was rolled and is ready again,
+     * but also when it was not rolled because of some error.
+     *
+     * @param podRef    Reference of the pod
+     */
+    private void restartFinished(PodRef podRef) {
+        synchronized (restartingBrokers) {
+            restartingBrokers.remove(podRef.getPodId());
+        }
+    }
+
+    /**
+     * Evaluates whether the pod needs to be restarted. The reasons evaluated before the batched reconfiguration are
+     * reused for the first evaluation of the same pod as long as the pod did not change in the meantime.
+     *
+     * @param podRef    Reference of the pod
+     * @param pod       The pod
+     *
+     * @return  The reasons why the pod should be restarted
+     */
+    private RestartReasons restartReasons(PodRef podRef, Pod pod) {
+        EvaluatedRestartReasons evaluated = evaluatedRestartReasons.remove(podRef.getPodId());
+
+        if (evaluated != null && evaluated.isFor(pod)) {
+            return evaluated.reasons;
+        } else {
+            return podNeedsRestart.apply(pod);
+        }
+    }
+
     /**
      * Restart the given pod now if necessary according to {@link #podNeedsRestart}.
      * This method blocks.
@@ -332,7 +630,7 @@ public class KafkaRoller {
             throw new UnforceableProblem("Error getting pod " + podRef.getPodName(), e);
         }
 
-        restartContext.restartReasons = podNeedsRestart.apply(pod);
+        restartContext.restartReasons = restartReasons(podRef, pod);
 
         try {
             checkReconfigurability(podRef, pod, restartContext);
@@ -345,7 +643,16 @@ public class KafkaRoller {
                         // Check for rollability before trying a dynamic update so that if the dynamic update fails we can go to a full restart
                         if (restartContext.forceRestart || !maybeDynamicUpdateBrokerConfig(podRef.getPodId(), restartContext)) {
                             LOGGER.debugCr(reconciliation, "Pod {} can be rolled now", podRef);
-                            restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS, restartContext);
+                            // Forced restarts skip the availability check which marks the broker as restarting otherwise
+                            restartStarted(podRef);
+
+                            if (leadershipAwareRolling && !restartContext.forceRestart) {
+                                Map<TopicPartition, Integer> leaders = drainLeadership(podRef);
+                                restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS, restartContext);
+                                restoreLeadership(podRef, leaders);
+                            } else {
+                                restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS, restartContext);
+                            }
                         } else {
                             awaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
                         }
@@ -473,9 +780,21 @@ public class KafkaRoller {
             restartContext.logDiff = null;
             return;
         }
+        if (!needsRestart && reconfiguredBrokers.remove(podRef.getPodId())) {
+            LOGGER.debugCr(reconciliation, "Pod {} was already reconfigured dynamically", podRef);
+            restartContext.needsRestart = false;
+            restartContext.needsReconfig = false;
+            restartContext.forceRestart = podStuck;
+            restartContext.diff = null;
+            restartContext.logDiff = null;
+            return;
+        }
+        // The configurations described in the batch are used only once
+        Config describedLogging = describedLoggings.remove(podRef.getPodId());
         Config brokerConfig;
         try {
-            brokerConfig = brokerConfig(podRef);
+            Config described = describedConfigs.remove(podRef.getPodId());
+            brokerConfig = described != null ? described : brokerConfig(podRef);
         } catch (ForceableProblem e) {
             if (restartContext.backOff.done()) {
                 needsRestart = true;
@@ -488,7 +807,7 @@ public class KafkaRoller {
         if (!needsRestart && allowReconfiguration) {
             LOGGER.traceCr(reconciliation, "Broker {}: description {}", podRef, brokerConfig);
             diff = new KafkaBrokerConfigurationDiff(reconciliation, brokerConfig, kafkaConfigProvider.apply(podRef.getPodId()), kafkaVersion, podRef.getPodId());
-            loggingDiff = logging(podRef);
+            loggingDiff = logging(podRef, describedLogging);
 
             if (diff.getDiffSize() > 0) {
                 if (diff.canBeUpdatedDynamically()) {
@@ -569,9 +888,9 @@ public class KafkaRoller {
         LOGGER.infoCr(reconciliation, "Dynamic reconfiguration for broker {} was successful.", podId);
     }
 
-    private KafkaBrokerLoggingConfigurationDiff logging(PodRef podRef)
+    private KafkaBrokerLoggingConfigurationDiff logging(PodRef podRef, Config described)
             throws ForceableProblem, InterruptedException {
-        Config brokerLogging = brokerLogging(podRef.getPodId());
+        Config brokerLogging = described != null ? described : brokerLogging(podRef.getPodId());
         LOGGER.traceCr(reconciliation, "Broker {}: logging description {}", podRef, brokerLogging);
         return new KafkaBrokerLoggingConfigurationDiff(reconciliation, brokerLogging, kafkaLogging, podRef.getPodId());
     }
@@ -616,20 +935,248 @@ public class KafkaRoller {
 
     private boolean canRoll(PodRef podRef, long timeout, TimeUnit unit, boolean ignoreSslError, RestartContext restartContext)
             throws ForceableProblem, InterruptedException {
+        // Checking the availability and marking the broker as restarting has to be atomic when brokers are restarted
+        // in parallel. Otherwise, two brokers sharing a partition could both pass the check at the same time.
+        synchronized (restartingBrokers) {
+            boolean canRoll;
+
+            try {
+                canRoll = await(availability().canRoll(podRef.getPodId(), Set.copyOf(restartingBrokers)), timeout, unit,
+                    t -> new ForceableProblem("An error while trying to determine rollability", t));
+            } catch (ForceableProblem e) {
+                // If we're not able to connect then roll
+                if (ignoreSslError && e.getCause() instanceof SslAuthenticationException) {
+                    restartContext.restartReasons.add(RestartReason.POD_UNRESPONSIVE);
+                    canRoll = true;
+                } else {
+                    throw e;
+                }
+            }
+
+            if (canRoll) {
+                restartStarted(podRef);
+            }
+
+            return canRoll;
+        }
+    }
+
+    /**
+     * Returns the availability checker shared by all brokers rolled during this rolling update
+     *
+     * @return  The availability checker
+     */
+    private KafkaAvailability availability() {
+        synchronized (restartingBrokers) {
+            if (kafkaAvailability == null) {
+                // The topic snapshot is shared by all brokers checked during this rolling update
+                kafkaAvailability = availability(allClient);
+            }
+
+            return kafkaAvailability;
+        }
+    }
+
+    /**
+     * Moves the leadership of the partitions led by the given broker to their in-sync preferred leaders. It waits
+     * until the leadership is moved or until the operation timeout expires. Errors are logged, but they do not prevent
+     * the restart.
+     *
+     * @param podRef    Reference of the pod which is going to be restarted
+     *
+     * @return  Leaders of the partitions with a replica on the broker after the leadership was drained or null if it
+     *          could not be determined
+     */
+    private Map<TopicPartition, Integer> drainLeadership(PodRef podRef) throws InterruptedException {
+        int podId = podRef.getPodId();
+        Timer.Sample sample = Timer.start(metricsProvider.meterRegistry());
+
         try {
-            return await(availability(allClient).canRoll(podRef.getPodId()), timeout, unit,
-                t -> new ForceableProblem("An error while trying to determine rollability", t));
+            Map<TopicPartition, TopicPartitionInfo> partitions = partitionsOnBroker(podId);
+            Map<TopicPartition, Integer> leadersBefore = leaders(partitions);
+            Set<TopicPartition> toMove = partitions.entrySet().stream()
+                    .filter(e -> leaderId(e.getValue()) == podId && preferredLeaderId(e.getValue()) != podId && isInSync(e.getValue(), preferredLeaderId(e.getValue())))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toSet());
+
+            if (!toMove.isEmpty()) {
+                LOGGER.infoCr(reconciliation, "Moving the leadership of {} partitions from pod {} to their preferred leaders", toMove.size(), podRef);
+                partitions = awaitLeadership(podId, toMove, false);
+            }
+
+            leaderChangesCounter("drain").increment(leaderChanges(leadersBefore, partitions));
+            LOGGER.debugCr(reconciliation, "Pod {} leads {} partitions which will be moved by its controlled shutdown", podRef,
+                    partitions.values().stream().filter(pi -> leaderId(pi) == podId).count());
+
+            return leaders(partitions);
         } catch (ForceableProblem e) {
-            // If we're not able to connect then roll
-            if (ignoreSslError && e.getCause() instanceof SslAuthenticationException) {
-                restartContext.restartReasons.add(RestartReason.POD_UNRESPONSIVE);
-                return true;
-            } else {
-                throw e;
+            LOGGER.warnCr(reconciliation, "Could not move the partition leadership away from pod {}, it will be restarted anyway", podRef, e);
+            return null;
+        } finally {
+            sample.stop(leadershipTimer("drain"));
+        }
+    }
+
+    /**
+     * Moves the leadership of the partitions for which the restarted broker is the preferred leader back to it. It
+     * waits until the leadership is moved or until the operation timeout expires. Errors are logged, but they do not
+     * fail the rolling update because Kafka will eventually rebalance the leadership on its own.
+     *
+     * @param podRef            Reference of the restarted pod
+     * @param leadersBefore     Leaders of the partitions before the restart or null if they are not known
+     */
+    private void restoreLeadership(PodRef podRef, Map<TopicPartition, Integer> leadersBefore) throws InterruptedException {
+        int podId = podRef.getPodId();
+        Timer.Sample sample = Timer.start(metricsProvider.meterRegistry());
+
+        try {
+            Map<TopicPartition, TopicPartitionInfo> partitions = partitionsOnBroker(podId);
+
+            if (leadersBefore != null) {
+                leaderChangesCounter("restart").increment(leaderChanges(leadersBefore, partitions));
+            }
+
+            Map<TopicPartition, Integer> leadersAfterRestart = leaders(partitions);
+            Set<TopicPartition> toMove = partitions.entrySet().stream()
+                    .filter(e -> preferredLeaderId(e.getValue()) == podId && leaderId(e.getValue()) != podId)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toSet());
+
+            if (!toMove.isEmpty()) {
+                LOGGER.infoCr(reconciliation, "Moving the leadership of {} partitions back to pod {}", toMove.size(), podRef);
+                partitions = awaitLeadership(podId, toMove, true);
+                leaderChangesCounter("restore").increment(leaderChanges(leadersAfterRestart, partitions));
+            }
+        } catch (ForceableProblem e) {
+            LOGGER.warnCr(reconciliation, "Could not move the partition leadership back to pod {}, it will be rebalanced by Kafka", podRef, e);
+        } finally {
+            sample.stop(leadershipTimer("restore"));
+        }
+    }
+
+    /**
+     * Triggers the preferred leader election for the given partitions until the given broker leads all of them (or
+     * none of them) or until the operation timeout expires. The election is triggered again in every polling interval
+     * for the partitions whose preferred leader is in-sync, because the preferred leader might have not been in-sync
+     * before.
+     *
+     * @param podId         ID of the broker
+     * @param partitions    Partitions whose leadership should be moved
+     * @param toBroker      True if the leadership should be moved to the broker, false if away from it
+     *
+     * @return  The current description of the partitions with a replica on the broker
+     */
+    private Map<TopicPartition, TopicPartitionInfo> awaitLeadership(int podId, Set<TopicPartition> partitions, boolean toBroker)
+            throws ForceableProblem, InterruptedException {
+        long deadline = System.currentTimeMillis() + operationTimeoutMs;
+        Map<TopicPartition, TopicPartitionInfo> current = null;
+        Set<TopicPartition> remaining = partitions;
+
+        while (true) {
+            Map<TopicPartition, TopicPartitionInfo> previous = current;
+            Set<TopicPartition> toElect = previous == null ? remaining : remaining.stream()
+                    .filter(tp -> previous.containsKey(tp) && isInSync(previous.get(tp), preferredLeaderId(previous.get(tp))))
+                    .collect(Collectors.toSet());
+
+            if (!toElect.isEmpty()) {
+                await(electPreferredLeaders(toElect), operationTimeoutMs, TimeUnit.MILLISECONDS,
+                    t -> new ForceableProblem("Error electing the preferred leaders", t));
             }
+
+            current = partitionsOnBroker(podId);
+            Map<TopicPartition, TopicPartitionInfo> described = current;
+            remaining = remaining.stream()
+                    .filter(tp -> described.containsKey(tp) && (leaderId(described.get(tp)) == podId) != toBroker)
+                    .collect(Collectors.toSet());
+
+            if (remaining.isEmpty()) {
+                return current;
+            } else if (System.currentTimeMillis() >= deadline) {
+                LOGGER.warnCr(reconciliation, "The leadership of {} partitions was not moved {} broker {} within {}ms", remaining.size(),
+                        toBroker ? "to" : "away from", podId, operationTimeoutMs);
+                return current;
+            }
+
+            Thread.sleep(pollingIntervalMs);
         }
     }
 
+    /**
+     * Describes the partitions with a replica on the given broker
+     *
+     * @param podId     ID of the broker
+     *
+     * @return  The current description of the partitions with a replica on the broker
+     */
+    private Map<TopicPartition, TopicPartitionInfo> partitionsOnBroker(int podId) throws ForceableProblem, InterruptedException {
+        return await(availability().partitionsOnBroker(podId), operationTimeoutMs, TimeUnit.MILLISECONDS,
+            t -> new ForceableProblem("Error describing the partitions on broker " + podId, t));
+    }
+
+    /**
+     * Triggers the preferred leader election for the given partitions. The partitions for which the election was not
+     * needed or was not possible are only logged.
+     *
+     * @param partitions    Partitions for which the preferred leader should be elected
+     *
+     * @return  Future which completes when the election is complete
+     */
+    protected Future<Void> electPreferredLeaders(Set<TopicPartition> partitions) {
+        return Util.kafkaFutureToVertxFuture(reconciliation, vertx, allClient.electLeaders(ElectionType.PREFERRED, partitions).partitions())
+                .map(results -> {
+                    results.forEach((partition, error) -> error.ifPresent(e -> LOGGER.debugCr(reconciliation, "Preferred leader of {} was not elected: {}", partition, e.getMessage())));
+                    return null;
+                });
+    }
+
+    private static int leaderId(TopicPartitionInfo pi) {
+        return pi.leader() == null || pi.leader().isEmpty() ? -1 : pi.leader().id();
+    }
+
+    private static int preferredLeaderId(TopicPartitionInfo pi) {
+        return pi.replicas().isEmpty() ? -1 : pi.replicas().get(0).id();
+    }
+
+    private static boolean isInSync(TopicPartitionInfo pi, int brokerId) {
+        return pi.isr().stream().anyMatch(node -> node.id() == brokerId);
+    }
+
+    private static Map<TopicPartition, Integer> leaders(Map<TopicPartition, TopicPartitionInfo> partitions) {
+        Map<TopicPartition, Integer> leaders = new HashMap<>(partitions.size());
+        partitions.forEach((partition, pi) -> leaders.put(partition, leaderId(pi)));
+        return leaders;
+    }
+
+    /**
+     * Counts the partitions whose leader changed
+     *
+     * @param before    Leaders of the partitions before
+     * @param after     Current description of the partitions
+     *
+     * @return  Number of partitions which exist in both and have a different leader
+     */
+    /* test */ static int leaderChanges(Map<TopicPartition, Integer> before, Map<TopicPartition, TopicPartitionInfo> after) {
+        return (int) after.entrySet().stream()
+                .filter(e -> before.containsKey(e.getKey()) && before.get(e.getKey()) != leaderId(e.getValue()))
+                .count();
+    }
+
+    private Timer leadershipTimer(String phase) {
+        return metricsProvider.timer("strimzi.rolling.leadership.duration",
+                "The time it takes to move the partition leadership away from a broker before it is restarted (phase=drain) and back to it once it is ready (phase=restore)",
+                metricTags(phase));
+    }
+
+    private Counter leaderChangesCounter(String phase) {
+        return metricsProvider.counter("strimzi.rolling.leader.changes",
+                "Number of partition leader changes seen by the clients during rolling updates",
+                metricTags(phase));
+    }
+
+    private Tags metricTags(String phase) {
+        return Tags.of(Tag.of("kind", reconciliation.kind()), Tag.of("namespace", namespace), Tag.of("name", cluster), Tag.of("phase", phase));
+    }
+
     /**
      * Synchronously restart the given pod
      * by deleting it and letting it be recreated by K8s, then synchronously wait for it to be ready.
@@ -647,13 +1194,61 @@ public class KafkaRoller {
         awaitReadiness(pod, timeout, unit);
     }
 
+    /**
+     * Synchronously waits for the given pod to become ready. When the pod does not become ready within the timeout but
+     * the broker is still recovering its logs and made progress since the last check, it keeps waiting for another
+     * timeout.
+     *
+     * @param pod       The Pod to wait for.
+     * @param timeout   The timeout.
+     * @param unit      The timeout unit.
+     */
     private void awaitReadiness(Pod pod, long timeout, TimeUnit unit) throws FatalProblem, InterruptedException {
         String podName = pod.getMetadata().getName();
         LOGGER.debugCr(reconciliation, "Waiting for restarted pod {} to become ready", podName);
-        await(isReady(pod), timeout, unit, e -> new FatalProblem("Error while waiting for restarted pod " + podName + " to become ready", e));
+        BrokerState previousState = null;
+
+        while (true) {
+            try {
+                await(isReady(pod), timeout, unit, e -> new FatalProblem("Error while waiting for restarted pod " + podName + " to become ready", e));
+                break;
+            } catch (FatalProblem e) {
+                BrokerState state = brokerState(podName);
+
+                if (state != null && state.recoveryProgressedSince(previousState)) {
+                    LOGGER.infoCr(reconciliation, "Pod {} is not ready yet because it is recovering its logs ({} logs and {} segments remaining). Waiting for another {}ms",
+                            podName, state.remainingLogsToRecover(), state.remainingSegmentsToRecover(), unit.toMillis(timeout));
+                    previousState = state;
+                } else {
+                    if (state != null) {
+                        LOGGER.warnCr(reconciliation, "Pod {} did not become ready and the broker is not making progress: {}", podName, state);
+                    }
+
+                    throw e;
+                }
+            }
+        }
+
         LOGGER.debugCr(reconciliation, "Pod {} is now ready", podName);
     }
 
+    /**
+     * Gets the broker state from the Kafka agent running in the given pod.
+     *
+     * @param podName   Name of the pod
+     *
+     * @return  The broker state or null when it could not be retrieved (for example because the pod is not running or
+     *          because it runs a Kafka agent without the broker state endpoint)
+     */
+    protected BrokerState brokerState(String podName) throws InterruptedException {
+        try {
+            return await(kafkaAgentClient.brokerState(podName), 30, TimeUnit.SECONDS, e -> new ForceableProblem("Error getting broker state", e));
+        } catch (ForceableProblem e) {
+            LOGGER.debugCr(reconciliation, "Could not get the broker state of pod {}", podName, e);
+            return null;
+        }
+    }
+
     /**
      * Block waiting for up to the given timeout for the given Future to complete, returning its result.
      * @param future The future to wait for.
@@ -704,11 +1299,23 @@ public class KafkaRoller {
      * Returns an AdminClient instance bootstrapped from the given pod.
      */
     protected Admin adminClient(List<Integer> bootstrapPods, boolean ceShouldBeFatal) throws ForceableProblem, FatalProblem {
+        return adminClient(adminClientProvider, bootstrapPods, ceShouldBeFatal);
+    }
+
+    /**
+     * Returns a new AdminClient instance bootstrapped from the given pod which is not shared with other users of the
+     * Admin client provider and thus has no cached metadata.
+     */
+    protected Admin uncachedAdminClient(List<Integer> bootstrapPods, boolean ceShouldBeFatal) throws ForceableProblem, FatalProblem {
+        return adminClient(CachingAdminClientProvider.uncached(adminClientProvider), bootstrapPods, ceShouldBeFatal);
+    }
+
+    private Admin adminClient(AdminClientProvider provider, List<Integer> bootstrapPods, boolean ceShouldBeFatal) throws ForceableProblem, FatalProblem {
         List<String> podNames = bootstrapPods.stream().map(this::podName).collect(Collectors.toList());
         try {
             String bootstrapHostnames = podNames.stream().map(podName -> DnsNameGenerator.podDnsName(namespace, KafkaResources.brokersServiceName(cluster), podName) + ":" + KafkaCluster.REPLICATION_PORT).collect(Collectors.joining(","));
             LOGGER.debugCr(reconciliation, "Creating AdminClient for {}", bootstrapHostnames);
-            return adminClientProvider.createAdminClient(bootstrapHostnames, this.clusterCaCertSecret, this.coKeySecret, "cluster-operator");
+            return provider.createAdminClient(bootstrapHostnames, this.clusterCaCertSecret, this.coKeySecret, "cluster-operator");
         } catch (KafkaException e) {
             if (ceShouldBeFatal && (e instanceof ConfigException
                     || e.getCause() instanceof ConfigException)) {
@@ -748,8 +1355,8 @@ public class KafkaRoller {
      */
     @SuppressFBWarnings("RCN_REDUNDANT_NULLCHECK_WOULD_HAVE_BEEN_A_NPE") // seems to be completely spurious
     int controller(PodRef podRef, long timeout, TimeUnit unit, RestartContext restartContext) throws Exception {
-        // Don't use all allClient here, because it will have cache metadata about which is the controller.
-        try (Admin ac = adminClient(singletonList(podRef.getPodId()), false)) {
+        // Don't use all allClient or any other pooled client here, because it will have cache metadata about which is the controller.
+        try (Admin ac = uncachedAdminClient(singletonList(podRef.getPodId()), false)) {
             Node controllerNode = null;
             try {
                 DescribeClusterResult describeClusterResult = ac.describeCluster();
@@ -23,8 +23,10 @@ import io.strimzi.operator.PlatformFeaturesAvailability;
 import io.strimzi.operator.cluster.operator.resource.events.KubernetesRestartEventPublisher;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.CachingAdminClientProvider;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.operator.resource.AbstractResourceOperator;
 import io.strimzi.operator.common.operator.resource.BuildConfigOperator;
 import io.strimzi.operator.common.operator.resource.BuildOperator;
 import io.strimzi.operator.common.operator.resource.ClusterRoleBindingOperator;
@@ -51,6 +53,9 @@ import io.strimzi.operator.common.operator.resource.StorageClassOperator;
 import io.strimzi.operator.common.operator.resource.StrimziPodSetOperator;
 import io.vertx.core.Vertx;
 
+import java.util.ArrayList;
+import java.util.List;
+
 // Deprecation is suppressed because of KafkaMirrorMaker
 @SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "deprecation"})
 public class ResourceOperatorSupplier {
@@ -95,7 +100,7 @@ public class ResourceOperatorSupplier {
                 new ZookeeperLeaderFinder(vertx,
                         // Retry up to 3 times (4 attempts), with overall max delay of 35000ms
                         () -> new BackOff(5_000, 2, 4)),
-                new DefaultAdminClientProvider(),
+                new CachingAdminClientProvider(vertx, new DefaultAdminClientProvider(), CachingAdminClientProvider.DEFAULT_IDLE_TIMEOUT_MS),
                 new DefaultZookeeperScalerProvider(),
                 metricsProvider,
                 pfa,
@@ -240,4 +245,71 @@ public class ResourceOperatorSupplier {
         this.zookeeperLeaderFinder = zookeeperLeaderFinder;
         this.restartEventsPublisher = restartEventsPublisher;
     }
+
+    /**
+     * @return  List of resource operators which can use the informer based resource cache
+     */
+    private List<AbstractResourceOperator<?, ?, ?, ?>> cacheableOperators()  {
+        return List.of(secretOperations, configMapOperations, serviceOperations, serviceAccountOperations, pvcOperations,
+                networkPolicyOperator, strimziPodSetOperator);
+    }
+
+    /**
+     * @return  List of resource operators which can use the server-side apply. The operators which need the current
+     *          resource to patch it (for example to keep the node ports of Services or the volume names of PVCs) are not
+     *          included.
+     */
+    private List<AbstractResourceOperator<?, ?, ?, ?>> serverSideApplyOperators()  {
+        List<AbstractResourceOperator<?, ?, ?, ?>> operators = new ArrayList<>(List.of(secretOperations, configMapOperations,
+                roleOperations, roleBindingOperations, networkPolicyOperator, podDisruptionBudgetOperator,
+                podDisruptionBudgetV1Beta1Operator, ingressOperations, ingressV1Beta1Operations));
+
+        if (routeOperations != null) {
+            operators.add(routeOperations);
+        }
+
+        return operators;
+    }
+
+    /**
+     * Enables the server-side apply in the resource operators which support it.
+     */
+    public void enableServerSideApply() {
+        for (AbstractResourceOperator<?, ?, ?, ?> operator : serverSideApplyOperators())  {
+            operator.enableServerSideApply();
+        }
+    }
+
+    /**
+     * Enables the informer based resource caches in the resource operators for given namespace. This method blocks
+     * until the informers are started and should be called from a worker thread.
+     *
+     * @param namespace     Namespace for which the caches should be enabled. Use * for all namespaces.
+     */
+    public void enableResourceCaches(String namespace) {
+        for (AbstractResourceOperator<?, ?, ?, ?> operator : cacheableOperators())  {
+            operator.enableCache(namespace, metricsProvider);
+        }
+    }
+
+    /**
+     * Disables the informer based resource caches in the resource operators for given namespace.
+     *
+     * @param namespace     Namespace for which the caches should be disabled. Use * for all namespaces.
+     */
+    public void disableResourceCaches(String namespace) {
+        for (AbstractResourceOperator<?, ?, ?, ?> operator : cacheableOperators())  {
+            operator.disableCache(namespace);
+        }
+    }
+
+    /**
+     * Closes the resources shared by the operators, such as the pooled Admin clients. It should be called when the
+     * Cluster Operator shuts down.
+     */
+    public void close() {
+        if (adminClientProvider instanceof CachingAdminClientProvider) {
+            ((CachingAdminClientProvider) adminClientProvider).close();
+        }
+    }
 }
@@ -14,11 +14,13 @@ import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.net.NetClient;
 import io.vertx.core.net.NetClientOptions;
 import io.vertx.core.net.NetSocket;
 import io.vertx.core.net.PemKeyCertOptions;
@@ -27,15 +29,26 @@ import io.vertx.core.net.PemTrustOptions;
 import java.io.ByteArrayInputStream;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
- * Helper class for finding the leader of a ZK cluster
+ * Helper class for finding the leader of a ZK cluster.
+ *
+ * The TLS client options (built from the Cluster Operator key and the cluster CA certificates) and the NetClient using
+ * them are cached per cluster, so that the repeated probes and reconciliations reuse the same TLS context (and its TLS
+ * session cache) instead of parsing the certificates and creating a new client every time. The cached client is
+ * replaced when the certificates in the Secrets change and closed when it was not used for longer than the idle timeout.
  */
 public class ZookeeperLeaderFinder {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ZookeeperLeaderFinder.class);
@@ -44,12 +57,32 @@ public class ZookeeperLeaderFinder {
 
     public static final String UNKNOWN_LEADER = "-1";
 
+    /**
+     * Default time after which unused cached clients are closed
+     */
+    public static final long DEFAULT_IDLE_TIMEOUT_MS = 300_000L;
+
     private final Vertx vertx;
     private final Supplier<BackOff> backOffSupplier;
+    private final long idleTimeoutMs;
+    private final Map<String, CachedClient> clients = new HashMap<>();
+    private final Map<NetClientOptions, CachedClient> clientsByOptions = new IdentityHashMap<>();
 
     public ZookeeperLeaderFinder(Vertx vertx, Supplier<BackOff> backOffSupplier) {
+        this(vertx, backOffSupplier, DEFAULT_IDLE_TIMEOUT_MS);
+    }
+
+    /**
+     * Constructs the leader finder
+     *
+     * @param vertx             Vert.x instance
+     * @param backOffSupplier   Supplier of the BackOff used between the attempts to find the leader
+     * @param idleTimeoutMs     Time in milliseconds after which cached clients which are not used are closed
+     */
+    public ZookeeperLeaderFinder(Vertx vertx, Supplier<BackOff> backOffSupplier, long idleTimeoutMs) {
         this.vertx = vertx;
         this.backOffSupplier = backOffSupplier;
+        this.idleTimeoutMs = idleTimeoutMs;
     }
 
     /*test*/ NetClientOptions clientOptions(Reconciliation reconciliation, Secret coCertKeySecret, Secret clusterCaCertificateSecret) {
@@ -137,13 +170,148 @@ public class ZookeeperLeaderFinder {
         }
 
         try {
-            NetClientOptions netClientOptions = clientOptions(reconciliation, coKeySecret, clusterCaSecret);
-            return zookeeperLeaderWithBackoff(reconciliation, pods, netClientOptions);
+            closeIdleClients();
+            CachedClient client = acquire(reconciliation, coKeySecret, clusterCaSecret);
+
+            return zookeeperLeaderWithBackoff(reconciliation, pods, client.options)
+                    .onComplete(ignore -> release(client));
         } catch (Throwable e) {
             return Future.failedFuture(e);
         }
     }
 
+    /**
+     * Returns the cached client options of the given cluster or caches new ones if the Secrets changed.
+     */
+    private CachedClient acquire(Reconciliation reconciliation, Secret coKeySecret, Secret clusterCaSecret) {
+        String cluster = reconciliation.namespace() + "/" + reconciliation.name();
+        Map<String, String> coKeyData = coKeySecret.getData();
+        Map<String, String> clusterCaData = clusterCaSecret.getData();
+        CachedClient outdated = null;
+        CachedClient cached;
+
+        synchronized (this) {
+            cached = clients.get(cluster);
+
+            if (cached != null && !(Objects.equals(cached.coKeyData, coKeyData) && Objects.equals(cached.clusterCaData, clusterCaData))) {
+                LOGGER.debugCr(reconciliation, "Certificates used to connect to ZooKeeper changed and the client will be recreated");
+                clients.remove(cluster);
+                cached.retired = true;
+
+                if (cached.inFlight == 0) {
+                    outdated = cached;
+                }
+
+                cached = null;
+            }
+        }
+
+        if (outdated != null) {
+            close(outdated);
+        }
+
+        if (cached == null) {
+            // Validating the certificates is done outside of the lock as it is expensive
+            CachedClient created = new CachedClient(cluster, coKeyData, clusterCaData, clientOptions(reconciliation, coKeySecret, clusterCaSecret));
+
+            synchronized (this) {
+                cached = clients.get(cluster);
+
+                if (cached == null) {
+                    clients.put(cluster, created);
+                    clientsByOptions.put(created.options, created);
+                    cached = created;
+                }
+
+                cached.inFlight++;
+            }
+        } else {
+            synchronized (this) {
+                cached.inFlight++;
+            }
+        }
+
+        return cached;
+    }
+
+    private void release(CachedClient cached) {
+        boolean close;
+
+        synchronized (this) {
+            cached.inFlight--;
+            cached.lastUsed = System.nanoTime();
+            close = cached.retired && cached.inFlight == 0;
+        }
+
+        if (close) {
+            close(cached);
+        }
+    }
+
+    private void close(CachedClient cached) {
+        NetClient client;
+
+        synchronized (this) {
+            clientsByOptions.remove(cached.options);
+            client = cached.client;
+            cached.client = null;
+        }
+
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    /**
+     * Closes and removes the cached clients which are not used and were not used for longer than the idle timeout.
+     */
+    /* test */ void closeIdleClients() {
+        List<CachedClient> idle = new ArrayList<>();
+        long now = System.nanoTime();
+
+        synchronized (this) {
+            Iterator<CachedClient> it = clients.values().iterator();
+
+            while (it.hasNext()) {
+                CachedClient cached = it.next();
+
+                if (cached.inFlight == 0 && now - cached.lastUsed >= idleTimeoutMs * 1_000_000L) {
+                    it.remove();
+                    cached.retired = true;
+                    idle.add(cached);
+                }
+            }
+        }
+
+        for (CachedClient cached : idle) {
+            LOGGER.debugOp("Closing idle ZooKeeper client for cluster {}", cached.cluster);
+            close(cached);
+        }
+    }
+
+    /**
+     * @return  Number of cached clients
+     */
+    /* test */ synchronized int size() {
+        return clients.size();
+    }
+
+    /**
+     * Returns the cached NetClient for the given cached options. The client is created when it is used for the first
+     * time and shared by all probes using the same options. Returns null for options which are not cached.
+     */
+    private synchronized NetClient cachedNetClient(NetClientOptions netClientOptions) {
+        CachedClient cached = clientsByOptions.get(netClientOptions);
+
+        if (cached == null) {
+            return null;
+        } else if (cached.client == null) {
+            cached.client = vertx.createNetClient(netClientOptions);
+        }
+
+        return cached.client;
+    }
+
     private Future<String> zookeeperLeaderWithBackoff(Reconciliation reconciliation, Set<String> pods, NetClientOptions netClientOptions) {
         Promise<String> result = Promise.promise();
         BackOff backOff = backOffSupplier.get();
@@ -192,33 +360,36 @@ public class ZookeeperLeaderFinder {
     }
 
     /**
-     * Synchronously find the leader by testing each pod in the given list
-     * using {@link #isLeader(Reconciliation, String, NetClientOptions)}.
+     * Find the leader by testing all pods in the given list concurrently
+     * using {@link #isLeader(Reconciliation, String, NetClientOptions, Future)}.
+     * The first pod which answers that it is the leader wins and the probes of the other pods are cancelled.
      */
+    @SuppressWarnings({ "rawtypes" })
     private Future<String> zookeeperLeader(Reconciliation reconciliation, Set<String> pods, NetClientOptions netClientOptions) {
         try {
-            Future<String> f = Future.succeededFuture(UNKNOWN_LEADER);
+            Promise<String> result = Promise.promise();
+            Promise<Void> cancelled = Promise.promise();
+            List<Future> probes = new ArrayList<>(pods.size());
 
             for (String podName : pods) {
-                f = f.compose(leader -> {
-                    if (UNKNOWN_LEADER.equals(leader)) {
-                        LOGGER.debugCr(reconciliation, "Checker whether {} is leader", podName);
-                        return isLeader(reconciliation, podName, netClientOptions).map(isLeader -> {
-                            if (isLeader != null && isLeader) {
-                                LOGGER.infoCr(reconciliation, "Pod {} is leader", podName);
-                                return podName;
-                            } else {
-                                LOGGER.infoCr(reconciliation, "Pod {} is not a leader", podName);
-                                return UNKNOWN_LEADER;
-                            }
-                        });
-                    } else {
-                        return Future.succeededFuture(leader);
+                LOGGER.debugCr(reconciliation, "Checker whether {} is leader", podName);
+                probes.add(isLeader(reconciliation, podName, netClientOptions, cancelled.future()).map(isLeader -> {
+                    if (isLeader != null && isLeader) {
+                        if (result.tryComplete(podName)) {
+                            LOGGER.infoCr(reconciliation, "Pod {} is leader", podName);
+                            cancelled.tryComplete();
+                        }
+                    } else if (!cancelled.future().isComplete()) {
+                        LOGGER.infoCr(reconciliation, "Pod {} is not a leader", podName);
                     }
-                });
+
+                    return null;
+                }));
             }
 
-            return f;
+            CompositeFuture.join(probes).onComplete(ignore -> result.tryComplete(UNKNOWN_LEADER));
+
+            return result.future();
         } catch (Throwable t) {
             return Future.failedFuture(t);
         }
@@ -226,14 +397,27 @@ public class ZookeeperLeaderFinder {
 
     /**
      * Returns whether the given pod is the zookeeper leader.
+     * When the {@code cancelled} future completes before the pod answered, the probe is cancelled and returns false.
      */
-    protected Future<Boolean> isLeader(Reconciliation reconciliation, String podName, NetClientOptions netClientOptions) {
+    protected Future<Boolean> isLeader(Reconciliation reconciliation, String podName, NetClientOptions netClientOptions, Future<Void> cancelled) {
 
         Promise<Boolean> promise = Promise.promise();
         String host = host(reconciliation, podName);
         int port = port(podName);
+
+        if (cancelled.isComplete()) {
+            return Future.succeededFuture(Boolean.FALSE);
+        }
+
+        NetClient cachedNetClient = cachedNetClient(netClientOptions);
+        NetClient netClient = cachedNetClient != null ? cachedNetClient : vertx.createNetClient(netClientOptions);
+
+        if (cachedNetClient == null) {
+            promise.future().onComplete(ignore -> netClient.close());
+        }
+
         LOGGER.debugCr(reconciliation, "Connecting to zookeeper on {}:{}", host, port);
-        vertx.createNetClient(netClientOptions)
+        netClient
             .connect(port, host, ar -> {
                 if (ar.failed()) {
                     LOGGER.warnCr(reconciliation, "ZK {}:{}: failed to connect to zookeeper:", host, port, ar.cause().getMessage());
@@ -241,6 +425,13 @@ public class ZookeeperLeaderFinder {
                 } else {
                     LOGGER.debugCr(reconciliation, "ZK {}:{}: connected", host, port);
                     NetSocket socket = ar.result();
+                    cancelled.onComplete(ignore -> {
+                        if (!promise.future().isComplete()) {
+                            LOGGER.debugCr(reconciliation, "ZK {}:{}: Leader already found, cancelling the probe", host, port);
+                            promise.tryComplete(Boolean.FALSE);
+                            socket.close();
+                        }
+                    });
                     socket.exceptionHandler(ex -> {
                         if (!promise.tryFail(ex)) {
                             LOGGER.debugCr(reconciliation, "ZK {}:{}: Ignoring error, since leader status of pod {} is already known: {}",
@@ -304,4 +495,26 @@ public class ZookeeperLeaderFinder {
     protected int port(String podName) {
         return ZookeeperCluster.CLIENT_TLS_PORT;
     }
+
+    /**
+     * Client options and client cached for a cluster. The mutable fields are guarded by the leader finder instance.
+     */
+    private static class CachedClient {
+        private final String cluster;
+        private final Map<String, String> coKeyData;
+        private final Map<String, String> clusterCaData;
+        private final NetClientOptions options;
+
+        private NetClient client;
+        private int inFlight = 0;
+        private long lastUsed = System.nanoTime();
+        private boolean retired = false;
+
+        CachedClient(String cluster, Map<String, String> coKeyData, Map<String, String> clusterCaData, NetClientOptions options) {
+            this.cluster = cluster;
+            this.coKeyData = coKeyData;
+            this.clusterCaData = clusterCaData;
+            this.options = options;
+        }
+    }
 }
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
 
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.cluster.operator.resource.HttpClientUtils;
 import io.fabric8.kubernetes.api.model.HTTPHeader;
 import io.fabric8.kubernetes.api.model.Secret;
@@ -14,30 +15,60 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.PemTrustOptions;
 
 import java.net.ConnectException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
 
 public class CruiseControlApiImpl implements CruiseControlApi {
     private static final boolean HTTP_CLIENT_ACTIVITY_LOGGING = false;
     public static final int HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS = -1; // use default internal HTTP client timeout
     private static final String STATUS_KEY = "Status";
+    private static final String USER_TASK_ID_KEY = "UserTaskId";
 
     private final Vertx vertx;
     private final long idleTimeout;
     private boolean apiSslEnabled;
     private HTTPHeader authHttpHeader;
     private PemTrustOptions pto;
+    private final HttpClientPool httpClientPool;
 
     public CruiseControlApiImpl(Vertx vertx, int idleTimeout, Secret ccSecret, Secret ccApiSecret, Boolean apiAuthEnabled, boolean apiSslEnabled) {
+        this(vertx, null, idleTimeout, ccSecret, ccApiSecret, apiAuthEnabled, apiSslEnabled);
+    }
+
+    /**
+     * Constructs the Cruise Control API client which uses the long-lived HTTP clients from the HTTP client pool instead of
+     * creating a new HTTP client for every request.
+     *
+     * @param vertx             Vert.x instance
+     * @param httpClientPool    Pool of HTTP clients shared by the Cruise Control API clients or null to create a new HTTP
+     *                          client for every request
+     * @param idleTimeout       Request timeout in seconds
+     * @param ccSecret          Cruise Control secret
+     * @param ccApiSecret       Cruise Control API secret
+     * @param apiAuthEnabled    if enabled, configures auth
+     * @param apiSslEnabled     if enabled, configures SSL
+     */
+    public CruiseControlApiImpl(Vertx vertx, HttpClientPool httpClientPool, int idleTimeout, Secret ccSecret, Secret ccApiSecret, Boolean apiAuthEnabled, boolean apiSslEnabled) {
         this.vertx = vertx;
+        this.httpClientPool = httpClientPool;
         this.idleTimeout = idleTimeout;
         this.apiSslEnabled = apiSslEnabled;
         this.authHttpHeader = getAuthHttpHeader(apiAuthEnabled, ccApiSecret);
@@ -64,6 +95,14 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         }
     }
 
+    private <T> Future<T> withHttpClient(String host, int port, BiConsumer<HttpClient, Promise<T>> operation) {
+        if (httpClientPool != null) {
+            return httpClientPool.withHttpClient(host, port, getHttpClientOptions(), operation);
+        } else {
+            return HttpClientUtils.withHttpClient(vertx, getHttpClientOptions(), operation);
+        }
+    }
+
     private static HTTPHeader generateAuthHttpHeader(String user, String password) {
         String headerName = "Authorization";
         String headerValue = "Basic " + Util.encodeToBase64(String.join(":", user, password));
@@ -89,9 +128,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                 .withParameter(CruiseControlParameters.VERBOSE, String.valueOf(verbose))
                 .build();
 
-        HttpClientOptions options = getHttpClientOptions();
-
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return withHttpClient(host, port, (httpClient, result) -> {
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
 
@@ -231,9 +268,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                 .withRebalanceParameters(options)
                 .build();
 
-        HttpClientOptions httpOptions = getHttpClientOptions();
-
-        return HttpClientUtils.withHttpClient(vertx, httpOptions, (httpClient, result) -> {
+        return withHttpClient(host, port, (httpClient, result) -> {
             httpClient.request(HttpMethod.POST, port, host, path, request -> internalRebalance(host, port, path, userTaskId, request, result));
         });
     }
@@ -250,9 +285,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                 .withAddBrokerParameters(options)
                 .build();
 
-        HttpClientOptions httpOptions = getHttpClientOptions();
-
-        return HttpClientUtils.withHttpClient(vertx, httpOptions, (httpClient, result) -> {
+        return withHttpClient(host, port, (httpClient, result) -> {
             httpClient.request(HttpMethod.POST, port, host, path, request -> internalRebalance(host, port, path, userTaskId, request, result));
         });
     }
@@ -269,9 +302,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                 .withRemoveBrokerParameters(options)
                 .build();
 
-        HttpClientOptions httpOptions = getHttpClientOptions();
-
-        return HttpClientUtils.withHttpClient(vertx, httpOptions, (httpClient, result) -> {
+        return withHttpClient(host, port, (httpClient, result) -> {
             httpClient.request(HttpMethod.POST, port, host, path, request -> internalRebalance(host, port, path, userTaskId, request, result));
         });
     }
@@ -290,9 +321,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         String path = pathBuilder.build();
 
-        HttpClientOptions options = getHttpClientOptions();
-
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return withHttpClient(host, port, (httpClient, result) -> {
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
 
@@ -313,38 +342,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                                                 "Error for request: " + host + ":" + port + path + ". Server returned: " +
                                                         json.getString(CC_REST_API_ERROR_KEY)));
                                     }
-                                    JsonObject statusJson = new JsonObject();
-                                    String taskStatusStr = jsonUserTask.getString(STATUS_KEY);
-                                    statusJson.put(STATUS_KEY, taskStatusStr);
-                                    CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusStr);
-                                    switch (taskStatus) {
-                                        case ACTIVE:
-                                            // If the status is ACTIVE there will not be a "summary" so we skip pulling the summary key
-                                            break;
-                                        case IN_EXECUTION:
-                                            // Tasks in execution will be rebalance tasks, so their original response will contain the summary of the rebalance they are executing
-                                            // We handle these in the same way as COMPLETED tasks so we drop down to that case.
-                                        case COMPLETED:
-                                            // Completed tasks will have the original rebalance proposal summary in their original response
-                                            JsonObject originalResponse = (JsonObject) Json.decodeValue(jsonUserTask.getString(
-                                                    CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()));
-                                            statusJson.put(CruiseControlRebalanceKeys.SUMMARY.getKey(),
-                                                    originalResponse.getJsonObject(CruiseControlRebalanceKeys.SUMMARY.getKey()));
-                                            // Extract the load before/after information for the brokers
-                                            statusJson.put(
-                                                    CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey(),
-                                                    originalResponse.getJsonObject(CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey()));
-                                            statusJson.put(
-                                                    CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey(),
-                                                    originalResponse.getJsonObject(CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey()));
-                                            break;
-                                        case COMPLETED_WITH_ERROR:
-                                            // Completed with error tasks will have "CompletedWithError" as their original response, which is not Json.
-                                            statusJson.put(CruiseControlRebalanceKeys.SUMMARY.getKey(), jsonUserTask.getString(CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()));
-                                            break;
-                                        default:
-                                            throw new IllegalStateException("Unexpected user task status: " + taskStatus);
-                                    }
+                                    JsonObject statusJson = userTaskStatusJson(jsonUserTask);
                                     result.complete(new CruiseControlResponse(userTaskID, statusJson));
                                 });
                             } else if (response.result().statusCode() == 500) {
@@ -380,6 +378,128 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         });
     }
 
+    @Override
+    @SuppressWarnings("deprecation")
+    public Future<Map<String, CruiseControlResponse>> getUserTasksStatus(String host, int port, Collection<String> userTaskIds) {
+        if (userTaskIds.isEmpty()) {
+            return Future.succeededFuture(Collections.emptyMap());
+        }
+
+        List<String> ids = new ArrayList<>(new LinkedHashSet<>(userTaskIds));
+
+        String path = new PathBuilder(CruiseControlEndpoints.USER_TASKS)
+                .withParameter(CruiseControlParameters.JSON, "true")
+                .withParameter(CruiseControlParameters.FETCH_COMPLETE, "true")
+                .withParameter(CruiseControlParameters.USER_TASK_IDS, ids)
+                .build();
+
+        return withHttpClient(host, port, (httpClient, result) -> {
+            httpClient.request(HttpMethod.GET, port, host, path, request -> {
+                if (request.succeeded()) {
+                    if (authHttpHeader != null) {
+                        request.result().putHeader(authHttpHeader.getName(), authHttpHeader.getValue());
+                    }
+
+                    if (idleTimeout != HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS) {
+                        request.result().setTimeout(idleTimeout * 1000);
+                    }
+
+                    request.result().send(response -> {
+                        if (response.succeeded()) {
+                            if (response.result().statusCode() == 200 || response.result().statusCode() == 201) {
+                                response.result().bodyHandler(buffer -> {
+                                    try {
+                                        JsonArray jsonUserTasks = buffer.toJsonObject().getJsonArray("userTasks");
+                                        Map<String, CruiseControlResponse> statuses = new HashMap<>(ids.size());
+
+                                        for (int i = 0; i < jsonUserTasks.size(); i++) {
+                                            JsonObject jsonUserTask = jsonUserTasks.getJsonObject(i);
+                                            // When a single task is requested, the returned task is its task (in the same way as in getUserTaskStatus)
+                                            String userTaskId = ids.size() == 1 && jsonUserTasks.size() == 1 ? ids.get(0) : jsonUserTask.getString(USER_TASK_ID_KEY);
+
+                                            if (ids.contains(userTaskId)) {
+                                                statuses.put(userTaskId, new CruiseControlResponse(userTaskId, userTaskStatusJson(jsonUserTask)));
+                                            }
+                                        }
+
+                                        result.complete(statuses);
+                                    } catch (RuntimeException e) {
+                                        result.fail(new CruiseControlRestException(
+                                                "Error for request: " + host + ":" + port + path + ". Failed to parse the response: " + e.getMessage()));
+                                    }
+                                });
+                            } else if (response.result().statusCode() == 500) {
+                                response.result().bodyHandler(buffer -> {
+                                    JsonObject json = buffer.toJsonObject();
+                                    String errorString;
+                                    if (json.containsKey(CC_REST_API_ERROR_KEY)) {
+                                        errorString = json.getString(CC_REST_API_ERROR_KEY);
+                                    } else {
+                                        errorString = json.toString();
+                                    }
+                                    result.fail(new CruiseControlRestException(
+                                            "Error for request: " + host + ":" + port + path + ". Server returned: " + errorString));
+                                });
+                            } else {
+                                result.fail(new CruiseControlRestException(
+                                        "Unexpected status code " + response.result().statusCode() + " for GET request to " +
+                                                host + ":" + port + path));
+                            }
+                        } else {
+                            result.fail(response.cause());
+                        }
+                    });
+                } else {
+                    httpExceptionHandler(result, request.cause());
+                }
+            });
+        });
+    }
+
+    /**
+     * Extracts the status and, for tasks which are executing or completed, the summary and the broker load of the
+     * original optimization proposal from the user task JSON returned by the {@code user_tasks} endpoint.
+     *
+     * @param jsonUserTask  JSON object of a single user task
+     *
+     * @return  JSON object with the status of the user task
+     */
+    private static JsonObject userTaskStatusJson(JsonObject jsonUserTask) {
+        JsonObject statusJson = new JsonObject();
+        String taskStatusStr = jsonUserTask.getString(STATUS_KEY);
+        statusJson.put(STATUS_KEY, taskStatusStr);
+        CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusStr);
+        switch (taskStatus) {
+            case ACTIVE:
+                // If the status is ACTIVE there will not be a "summary" so we skip pulling the summary key
+                break;
+            case IN_EXECUTION:
+                // Tasks in execution will be rebalance tasks, so their original response will contain the summary of the rebalance they are executing
+                // We handle these in the same way as COMPLETED tasks so we drop down to that case.
+            case COMPLETED:
+                // Completed tasks will have the original rebalance proposal summary in their original response
+                JsonObject originalResponse = (JsonObject) Json.decodeValue(jsonUserTask.getString(
+                        CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()));
+                statusJson.put(CruiseControlRebalanceKeys.SUMMARY.getKey(),
+                        originalResponse.getJsonObject(CruiseControlRebalanceKeys.SUMMARY.getKey()));
+                // Extract the load before/after information for the brokers
+                statusJson.put(
+                        CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey(),
+                        originalResponse.getJsonObject(CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey()));
+                statusJson.put(
+                        CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey(),
+                        originalResponse.getJsonObject(CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey()));
+                break;
+            case COMPLETED_WITH_ERROR:
+                // Completed with error tasks will have "CompletedWithError" as their original response, which is not Json.
+                statusJson.put(CruiseControlRebalanceKeys.SUMMARY.getKey(), jsonUserTask.getString(CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()));
+                break;
+            default:
+                throw new IllegalStateException("Unexpected user task status: " + taskStatus);
+        }
+        return statusJson;
+    }
+
     @Override
     @SuppressWarnings("deprecation")
     public Future<CruiseControlResponse> stopExecution(String host, int port) {
@@ -387,9 +507,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         String path = new PathBuilder(CruiseControlEndpoints.STOP)
                         .withParameter(CruiseControlParameters.JSON, "true").build();
 
-        HttpClientOptions options = getHttpClientOptions();
-
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return withHttpClient(host, port, (httpClient, result) -> {
             httpClient.request(HttpMethod.POST, port, host, path, request -> {
                 if (request.succeeded()) {
 
@@ -430,7 +548,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         });
     }
 
-    private void httpExceptionHandler(Promise<? extends CruiseControlResponse> result, Throwable t) {
+    private void httpExceptionHandler(Promise<?> result, Throwable t) {
         if (t instanceof TimeoutException) {
             // Vert.x throws a NoStackTraceTimeoutException (inherits from TimeoutException) when the request times out
             // so we catch and raise a TimeoutException instead
@@ -0,0 +1,187 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Polls the Cruise Control instance of a single Kafka cluster on behalf of all KafkaRebalance resources which are
+ * waiting for it. Instead of every KafkaRebalance resource running its own periodic timer and sending its own requests,
+ * the waiting resources register with the shared poller. The poller uses a single timer, fetches the state of all
+ * outstanding user tasks with a single {@code user_tasks} request and dispatches the results to the registered handlers.
+ *
+ * Each handler is called once per polling interval until the future it returns completes with {@code true} (or fails).
+ * The next poll is scheduled as soon as the user tasks are fetched, independently of the handlers. A handler which is
+ * still running from the previous poll is skipped until its future completes, so a slow handler delays only itself and
+ * is never called concurrently with itself.
+ */
+public class CruiseControlUserTasksPoller {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(CruiseControlUserTasksPoller.class);
+
+    private final Vertx vertx;
+    private final String host;
+    private final int port;
+    private final long pollingIntervalMs;
+
+    private final List<Waiter> waiters = new ArrayList<>();
+    private boolean scheduled = false;
+
+    /**
+     * Constructs the poller
+     *
+     * @param vertx                 Vert.x instance
+     * @param host                  The address of the Cruise Control server
+     * @param port                  The port the Cruise Control server is listening on
+     * @param pollingIntervalMs     Interval in milliseconds in which the user tasks are polled
+     */
+    public CruiseControlUserTasksPoller(Vertx vertx, String host, int port, long pollingIntervalMs) {
+        this.vertx = vertx;
+        this.host = host;
+        this.port = port;
+        this.pollingIntervalMs = pollingIntervalMs;
+    }
+
+    /**
+     * Registers a handler which will be called with the state of the user task after each polling interval.
+     *
+     * @param reconciliation    The reconciliation
+     * @param apiClient         Cruise Control API client used to query the user tasks
+     * @param userTaskId        ID of the user task which should be polled or null if the handler does not wait for a
+     *                          user task. In such case, the handler is called with a null result after each interval.
+     * @param handler           Handler called with the state of the user task or with the error if it could not be
+     *                          fetched. It returns a future which completes with true when the handler does not want
+     *                          to be called anymore.
+     */
+    public void poll(Reconciliation reconciliation, CruiseControlApi apiClient, String userTaskId,
+                     Function<AsyncResult<CruiseControlResponse>, Future<Boolean>> handler) {
+        synchronized (this) {
+            waiters.add(new Waiter(reconciliation, apiClient, userTaskId, handler));
+
+            if (!scheduled) {
+                scheduled = true;
+                vertx.setTimer(pollingIntervalMs, id -> pollUserTasks());
+            }
+        }
+    }
+
+    /**
+     * @return  Number of registered handlers
+     */
+    /* test */ synchronized int size() {
+        return waiters.size();
+    }
+
+    private void pollUserTasks() {
+        List<Waiter> current = new ArrayList<>();
+
+        synchronized (this) {
+            for (Waiter waiter : waiters) {
+                if (!waiter.inProgress) {
+                    waiter.inProgress = true;
+                    current.add(waiter);
+                }
+            }
+        }
+
+        if (current.isEmpty()) {
+            scheduleNext();
+            return;
+        }
+
+        Set<String> userTaskIds = new LinkedHashSet<>();
+        CruiseControlApi apiClient = null;
+
+        for (Waiter waiter : current) {
+            if (waiter.userTaskId != null) {
+                userTaskIds.add(waiter.userTaskId);
+                // The most recently registered client is used as it has the latest credentials
+                apiClient = waiter.apiClient;
+            }
+        }
+
+        LOGGER.debugOp("Polling {} Cruise Control user tasks for {} waiting resources from {}", userTaskIds.size(), current.size(), host);
+
+        Future<Map<String, CruiseControlResponse>> userTasks = apiClient != null
+                ? apiClient.getUserTasksStatus(host, port, userTaskIds)
+                : Future.succeededFuture(Collections.emptyMap());
+
+        userTasks.onComplete(result -> {
+            scheduleNext();
+
+            for (Waiter waiter : current) {
+                dispatch(waiter, userTaskResult(waiter, result))
+                        .onComplete(finished -> handled(waiter, finished.failed() || Boolean.TRUE.equals(finished.result())));
+            }
+        });
+    }
+
+    private AsyncResult<CruiseControlResponse> userTaskResult(Waiter waiter, AsyncResult<Map<String, CruiseControlResponse>> result) {
+        if (waiter.userTaskId == null) {
+            return Future.succeededFuture();
+        } else if (result.failed()) {
+            return Future.failedFuture(result.cause());
+        } else if (!result.result().containsKey(waiter.userTaskId)) {
+            return Future.failedFuture(new CruiseControlRestException("User task " + waiter.userTaskId + " was not found"));
+        } else {
+            return Future.succeededFuture(result.result().get(waiter.userTaskId));
+        }
+    }
+
+    private Future<Boolean> dispatch(Waiter waiter, AsyncResult<CruiseControlResponse> userTaskResult) {
+        try {
+            return waiter.handler.apply(userTaskResult);
+        } catch (RuntimeException e) {
+            LOGGER.warnCr(waiter.reconciliation, "Failed to handle the Cruise Control user task state", e);
+            return Future.failedFuture(e);
+        }
+    }
+
+    private synchronized void handled(Waiter waiter, boolean finished) {
+        if (finished) {
+            waiters.remove(waiter);
+        } else {
+            waiter.inProgress = false;
+        }
+    }
+
+    private synchronized void scheduleNext() {
+        if (waiters.isEmpty()) {
+            scheduled = false;
+        } else {
+            vertx.setTimer(pollingIntervalMs, id -> pollUserTasks());
+        }
+    }
+
+    /**
+     * Registered handler waiting for the user task
+     */
+    private static class Waiter {
+        private final Reconciliation reconciliation;
+        private final CruiseControlApi apiClient;
+        private final String userTaskId;
+        private final Function<AsyncResult<CruiseControlResponse>, Future<Boolean>> handler;
+        // Guarded by the poller
+        private boolean inProgress = false;
+
+        Waiter(Reconciliation reconciliation, CruiseControlApi apiClient, String userTaskId, Function<AsyncResult<CruiseControlResponse>, Future<Boolean>> handler) {
+            this.reconciliation = reconciliation;
+            this.apiClient = apiClient;
+            this.userTaskId = userTaskId;
+            this.handler = handler;
+        }
+    }
+}
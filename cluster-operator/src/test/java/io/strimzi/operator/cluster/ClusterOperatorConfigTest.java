@@ -73,6 +73,14 @@ public class ClusterOperatorConfigTest {
         assertThat(config.isPodSetReconciliationOnly(), is(false));
         assertThat(config.getPodSecurityProviderClass(), is(ClusterOperatorConfig.DEFAULT_POD_SECURITY_PROVIDER_CLASS));
         assertThat(config.getLeaderElectionConfig(), is(nullValue()));
+        assertThat(config.isResourceCacheEnabled(), is(false));
+        assertThat(config.getMaxConcurrentReconciliations(), is(ClusterOperatorConfig.DEFAULT_MAX_CONCURRENT_RECONCILIATIONS));
+        assertThat(config.getPeriodicReconciliationSpreadMs(), is(ClusterOperatorConfig.DEFAULT_PERIODIC_RECONCILIATION_SPREAD_MS));
+        assertThat(config.getMaxParallelBrokerRestarts(), is(ClusterOperatorConfig.DEFAULT_MAX_PARALLEL_BROKER_RESTARTS));
+        assertThat(config.getPodSetControllerWorkers(), is(ClusterOperatorConfig.DEFAULT_POD_SET_CONTROLLER_WORKERS));
+        assertThat(config.isServerSideApplyEnabled(), is(false));
+        assertThat(config.isLeadershipAwareRollingUpdates(), is(false));
+        assertThat(config.isBouncyCastleCertManagerEnabled(), is(false));
     }
 
     @Test
@@ -97,7 +105,7 @@ public class ClusterOperatorConfigTest {
                 false,
                 1024,
                 "operator_name",
-                null, null);
+                null, null, false, 0, 0, 1, 1, false, false, false);
 
         assertThat(config.getNamespaces(), is(singleton("namespace")));
         assertThat(config.getReconciliationIntervalMs(), is(60_000L));
@@ -280,6 +288,23 @@ public class ClusterOperatorConfigTest {
         );
     }
 
+    @Test
+    public void testPeriodicReconciliationSpreadIsValidated() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.STRIMZI_FULL_RECONCILIATION_INTERVAL_MS, "60000");
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_PERIODIC_RECONCILIATION_SPREAD_MS, "30000");
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getPeriodicReconciliationSpreadMs(), is(30_000L));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_PERIODIC_RECONCILIATION_SPREAD_MS, "60000");
+        InvalidConfigurationException e = assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+        assertThat(e.getMessage(), is("STRIMZI_PERIODIC_RECONCILIATION_SPREAD_MS must be lower than STRIMZI_FULL_RECONCILIATION_INTERVAL_MS"));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_PERIODIC_RECONCILIATION_SPREAD_MS, "-1");
+        e = assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+        assertThat(e.getMessage(), is("STRIMZI_PERIODIC_RECONCILIATION_SPREAD_MS must not be negative"));
+    }
+
     @Test
     public void testConfigParsingWithAllVersionEnvVars() {
         Map<String, String> envVars = new HashMap<>(5);
@@ -373,6 +398,76 @@ public class ClusterOperatorConfigTest {
         assertThat(e.getMessage(), containsString("Failed to parse labels from STRIMZI_CUSTOM_RESOURCE_SELECTOR"));
     }
 
+    @Test
+    public void testResourceCacheEnabled() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.STRIMZI_RESOURCE_CACHE_ENABLED, "true");
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+
+        assertThat(config.isResourceCacheEnabled(), is(true));
+    }
+
+    @Test
+    public void testReconciliationScheduling() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_CONCURRENT_RECONCILIATIONS, "5");
+        envVars.put(ClusterOperatorConfig.STRIMZI_PERIODIC_RECONCILIATION_SPREAD_MS, "10000");
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+
+        assertThat(config.getMaxConcurrentReconciliations(), is(5));
+        assertThat(config.getPeriodicReconciliationSpreadMs(), is(10_000L));
+    }
+
+    @Test
+    public void testMaxParallelBrokerRestarts() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_PARALLEL_BROKER_RESTARTS, "3");
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getMaxParallelBrokerRestarts(), is(3));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_PARALLEL_BROKER_RESTARTS, "0");
+
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testPodSetControllerWorkers() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.STRIMZI_POD_SET_CONTROLLER_WORKERS, "4");
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getPodSetControllerWorkers(), is(4));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_POD_SET_CONTROLLER_WORKERS, "0");
+
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testServerSideApplyEnabled() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.STRIMZI_SERVER_SIDE_APPLY_ENABLED, "true");
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).isServerSideApplyEnabled(), is(true));
+    }
+
+    @Test
+    public void testLeadershipAwareRollingUpdates() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.STRIMZI_LEADERSHIP_AWARE_ROLLING_UPDATES, "true");
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).isLeadershipAwareRollingUpdates(), is(true));
+    }
+
+    @Test
+    public void testBouncyCastleCertManagerEnabled() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.STRIMZI_BOUNCY_CASTLE_CERT_MANAGER_ENABLED, "true");
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).isBouncyCastleCertManagerEnabled(), is(true));
+    }
+
     @Test
     public void testParseBoolean() {
         assertThat(ClusterOperatorConfig.parseBoolean(null, true), is(true));
@@ -561,7 +561,7 @@ public class ResourceUtils {
     public static ZookeeperLeaderFinder zookeeperLeaderFinder(Vertx vertx, KubernetesClient client) {
         return new ZookeeperLeaderFinder(vertx, () -> new BackOff(5_000, 2, 4)) {
                 @Override
-                protected Future<Boolean> isLeader(Reconciliation reconciliation, String podName, NetClientOptions options) {
+                protected Future<Boolean> isLeader(Reconciliation reconciliation, String podName, NetClientOptions options, Future<Void> cancelled) {
                     return Future.succeededFuture(true);
                 }
 
@@ -742,7 +742,7 @@ public class ResourceUtils {
                 false,
                 1024,
                 "cluster-operator-name",
-                ClusterOperatorConfig.DEFAULT_POD_SECURITY_PROVIDER_CLASS, null);
+                ClusterOperatorConfig.DEFAULT_POD_SECURITY_PROVIDER_CLASS, null, false, 0, 0, 1, 1, false, false, false);
     }
 
     public static ClusterOperatorConfig dummyClusterOperatorConfig(KafkaVersion.Lookup versions, long operationTimeoutMs) {
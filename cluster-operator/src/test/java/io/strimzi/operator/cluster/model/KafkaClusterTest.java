@@ -2355,6 +2355,11 @@ public class KafkaClusterTest {
         assertThat(rules.contains(cruiseControlPeer), is(true));
         assertThat(rules.contains(clusterOperatorPeerSameNamespace), is(true));
 
+        rules = np.getSpec().getIngress().stream().filter(ing -> ing.getPorts().get(0).getPort().equals(new IntOrString(KafkaCluster.KAFKA_AGENT_PORT))).map(NetworkPolicyIngressRule::getFrom).findFirst().orElseThrow();
+
+        assertThat(rules.size(), is(1));
+        assertThat(rules.contains(clusterOperatorPeerSameNamespace), is(true));
+
         // Check Network Policies => Namespace with Labels
         np = k.generateNetworkPolicy("operator-namespace", Labels.fromMap(Collections.singletonMap("nsLabelKey", "nsLabelValue")));
 
@@ -3691,6 +3696,28 @@ public class KafkaClusterTest {
         EnvVar kraftEnabledEnvVar = kafkaEnvVars.stream().filter(env -> KafkaCluster.ENV_VAR_STRIMZI_KRAFT_ENABLED.equals(env.getName())).findFirst().orElse(null);
         assertThat(kraftEnabledEnvVar, is(Matchers.notNullValue()));
         assertThat(kraftEnabledEnvVar.getValue().isEmpty(), is(false));
+
+        // Test that the Kafka agent endpoint is not configured because the agent is not used with KRaft
+        assertThat(kafkaEnvVars.stream().anyMatch(env -> KafkaCluster.ENV_VAR_KAFKA_AGENT_BIND_ADDRESS.equals(env.getName())), is(false));
+        assertThat(kafkaEnvVars.stream().anyMatch(env -> KafkaCluster.ENV_VAR_KAFKA_AGENT_PORT.equals(env.getName())), is(false));
+        assertThat(kc.getContainerPortList().stream().anyMatch(port -> port.getContainerPort() == KafkaCluster.KAFKA_AGENT_PORT), is(false));
+    }
+
+    @ParallelTest
+    public void testKafkaAgentEndpoint() {
+        KafkaCluster kc = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, KAFKA, VERSIONS);
+
+        // The broker state endpoint listens on the pod IP address
+        EnvVar bindAddressEnvVar = kc.getEnvVars().stream().filter(env -> KafkaCluster.ENV_VAR_KAFKA_AGENT_BIND_ADDRESS.equals(env.getName())).findFirst().orElse(null);
+        assertThat(bindAddressEnvVar, is(Matchers.notNullValue()));
+        assertThat(bindAddressEnvVar.getValueFrom().getFieldRef().getFieldPath(), is("status.podIP"));
+
+        // The port of the endpoint is passed to the Kafka agent
+        EnvVar portEnvVar = kc.getEnvVars().stream().filter(env -> KafkaCluster.ENV_VAR_KAFKA_AGENT_PORT.equals(env.getName())).findFirst().orElse(null);
+        assertThat(portEnvVar, is(Matchers.notNullValue()));
+        assertThat(portEnvVar.getValue(), is(String.valueOf(KafkaCluster.KAFKA_AGENT_PORT)));
+
+        assertThat(kc.getContainerPortList().contains(kc.createContainerPort(KafkaCluster.KAFKA_AGENT_PORT_NAME, KafkaCluster.KAFKA_AGENT_PORT, "TCP")), is(true));
     }
 
     @ParallelTest
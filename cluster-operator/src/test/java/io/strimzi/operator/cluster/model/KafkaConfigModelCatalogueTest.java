@@ -0,0 +1,96 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.strimzi.kafka.config.model.ConfigModel;
+import io.strimzi.kafka.config.model.Scope;
+import io.strimzi.kafka.config.model.Type;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.test.annotations.ParallelSuite;
+import io.strimzi.test.annotations.ParallelTest;
+import org.junit.jupiter.api.Assertions;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+
+@ParallelSuite
+public class KafkaConfigModelCatalogueTest {
+    private final KafkaVersion kafkaVersion = KafkaVersionTestUtils.getKafkaVersionLookup().defaultVersion();
+
+    private static ConfigModel model(Scope scope, Type type) {
+        ConfigModel model = new ConfigModel();
+        model.setScope(scope);
+        model.setType(type);
+        return model;
+    }
+
+    @ParallelTest
+    public void testCatalogueIsSharedPerVersion() {
+        KafkaConfigModelCatalogue catalogue = KafkaConfigModelCatalogue.forVersion(kafkaVersion);
+
+        assertThat(catalogue.version(), is(kafkaVersion.version()));
+        assertThat(KafkaConfigModelCatalogue.forVersion(kafkaVersion), is(sameInstance(catalogue)));
+        assertThat(KafkaConfiguration.readConfigModel(kafkaVersion), is(sameInstance(catalogue.configs())));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> catalogue.configs().remove("broker.id"));
+    }
+
+    @ParallelTest
+    public void testLookups() {
+        Map<String, ConfigModel> configs = new HashMap<>();
+        configs.put("broker.id", model(Scope.READ_ONLY, Type.INT));
+        configs.put("log.retention.ms", model(Scope.CLUSTER_WIDE, Type.LONG));
+        configs.put("num.io.threads", model(Scope.CLUSTER_WIDE, Type.INT));
+        configs.put("zookeeper.ssl.keystore.location", model(Scope.READ_ONLY, Type.STRING));
+        KafkaConfigModelCatalogue catalogue = new KafkaConfigModelCatalogue("3.2.1", configs);
+
+        assertThat(catalogue.isKnown("log.retention.ms"), is(true));
+        assertThat(catalogue.isKnown("my.plugin.option"), is(false));
+        assertThat(catalogue.scope("log.retention.ms"), is(Scope.CLUSTER_WIDE));
+        assertThat(catalogue.scope("my.plugin.option"), is(nullValue()));
+        assertThat(catalogue.type("broker.id"), is(Type.INT));
+        assertThat(catalogue.type("my.plugin.option"), is(nullValue()));
+
+        assertThat(catalogue.namesWithScope(Scope.CLUSTER_WIDE).size(), is(2));
+        assertThat(catalogue.namesWithScope(Scope.READ_ONLY).contains("broker.id"), is(true));
+        assertThat(catalogue.namesWithScope(Scope.PER_BROKER).isEmpty(), is(true));
+    }
+
+    @ParallelTest
+    public void testIgnorableNames() {
+        Map<String, ConfigModel> configs = new HashMap<>();
+        configs.put("broker.id", model(Scope.READ_ONLY, Type.INT));
+        configs.put("log.retention.ms", model(Scope.CLUSTER_WIDE, Type.LONG));
+        configs.put("zookeeper.ssl.keystore.location", model(Scope.READ_ONLY, Type.STRING));
+        KafkaConfigModelCatalogue catalogue = new KafkaConfigModelCatalogue("3.2.1", configs);
+
+        // Names from the config model
+        assertThat(catalogue.isIgnorable("broker.id"), is(true));
+        assertThat(catalogue.isIgnorable("zookeeper.ssl.keystore.location"), is(true));
+        assertThat(catalogue.isIgnorable("log.retention.ms"), is(false));
+
+        // Names which are not part of the config model give the same result when asked repeatedly
+        for (int i = 0; i < 2; i++) {
+            assertThat(catalogue.isIgnorable("listener.name.replication-9091.ssl.keystore.location"), is(true));
+            assertThat(catalogue.isIgnorable("advertised.listeners"), is(true));
+            assertThat(catalogue.isIgnorable("listener.name.replication-9091.ssl.cipher.suites"), is(false));
+            assertThat(catalogue.isIgnorable("my.plugin.option"), is(false));
+        }
+    }
+
+    @ParallelTest
+    public void testUnsupportedVersion() {
+        RuntimeException exc = Assertions.assertThrows(RuntimeException.class, () ->
+                KafkaConfigModelCatalogue.forVersion(KafkaVersionTestUtils.getKafkaVersionLookup().version("2.6.0"))
+        );
+
+        assertThat(exc.getMessage(), containsString("Configuration model /kafka-2.6.0-config-model.json was not found"));
+    }
+}
@@ -73,6 +73,7 @@ import java.util.stream.Collectors;
 
 import static io.strimzi.test.TestUtils.map;
 import static io.strimzi.test.TestUtils.waitFor;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.is;
@@ -144,6 +145,33 @@ public class ConnectorMockTest {
         return Future.succeededFuture(statusNode);
     }
 
+    private Future<Map<String, Map<String, Object>>> kafkaConnectApiListExpandedMock(String host)   {
+        String matchingKeyPrefix = host + "##";
+        Map<String, Map<String, Object>> connectorsState = new HashMap<>();
+        for (Map.Entry<String, ConnectorState> entry : runningConnectors.entrySet()) {
+            if (entry.getKey().startsWith(matchingKeyPrefix)) {
+                String connectorName = entry.getKey().substring(matchingKeyPrefix.length());
+                Map<String, Object> config = new HashMap<>();
+                config.put("name", connectorName);
+                for (Map.Entry<String, Object> configEntry : entry.getValue().config) {
+                    if (configEntry.getValue() != null) {
+                        config.put(configEntry.getKey(), configEntry.getValue().toString());
+                    }
+                }
+                Map<String, Object> info = new HashMap<>();
+                info.put("name", connectorName);
+                info.put("config", config);
+                info.put("tasks", emptyList());
+                Map<String, Object> state = new HashMap<>();
+                state.put("status", kafkaConnectApiStatusMock(host, connectorName).result());
+                state.put("info", info);
+                connectorsState.put(connectorName, state);
+            }
+        }
+
+        return Future.succeededFuture(connectorsState);
+    }
+
     @SuppressWarnings({"checkstyle:MethodLength"})
     @BeforeEach
     public void setup(VertxTestContext testContext) {
@@ -207,6 +235,7 @@ public class ConnectorMockTest {
                     .map(s -> s.substring(matchingKeyPrefix.length()))
                     .collect(Collectors.toList()));
         });
+        when(api.listExpanded(any(), any(), anyInt())).thenAnswer(i -> kafkaConnectApiListExpandedMock(i.getArgument(1)));
         when(api.listConnectorPlugins(any(), any(), anyInt())).thenAnswer(i -> {
             ConnectorPlugin connectorPlugin = new ConnectorPluginBuilder()
                     .withConnectorClass("io.strimzi.MyClass")
@@ -961,6 +990,52 @@ public class ConnectorMockTest {
             })));
     }
 
+    /** Create connect, create connector, reconcile connect without any change to the connector */
+    @Test
+    public void testUnchangedConnectorIsReconciledFromConnectorsState(VertxTestContext context) {
+        String connectName = "cluster";
+        String connectorName = "connector";
+
+        KafkaConnect connect = new KafkaConnectBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(connectName)
+                    .addToAnnotations(Annotations.STRIMZI_IO_USE_CONNECTOR_RESOURCES, "true")
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(1)
+                .endSpec()
+                .build();
+        Crds.kafkaConnectOperation(client).inNamespace(NAMESPACE).resource(connect).create();
+        waitForConnectReady(connectName);
+
+        KafkaConnector connector = defaultKafkaConnectorBuilder()
+                .editMetadata()
+                    .withName(connectorName)
+                    .addToLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName)
+                .endMetadata()
+                .build();
+        Crds.kafkaConnectorOperation(client).inNamespace(NAMESPACE).resource(connector).create();
+        waitForConnectorReady(connectorName);
+
+        String host = KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE);
+        Reconciliation reconciliation = new Reconciliation("test", "KafkaConnect", NAMESPACE, connectName);
+
+        Checkpoint async = context.checkpoint();
+        kafkaConnectOperator.reconcile(reconciliation)
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                verify(api, times(1)).listExpanded(eq(reconciliation), eq(host), eq(KafkaConnectCluster.REST_API_PORT));
+                verify(api, times(1)).getConnectorTopics(eq(reconciliation), eq(host), eq(KafkaConnectCluster.REST_API_PORT), eq(connectorName));
+
+                // The connector did not change, so its config and status are not fetched separately and it is not updated
+                verify(api, never()).getConnectorConfig(eq(reconciliation), any(), eq(host), eq(KafkaConnectCluster.REST_API_PORT), eq(connectorName));
+                verify(api, never()).status(eq(reconciliation), eq(host), eq(KafkaConnectCluster.REST_API_PORT), eq(connectorName));
+                verify(api, never()).statusWithBackOff(eq(reconciliation), any(), eq(host), eq(KafkaConnectCluster.REST_API_PORT), eq(connectorName));
+                verify(api, times(1)).createOrUpdatePutRequest(any(), eq(host), eq(KafkaConnectCluster.REST_API_PORT), eq(connectorName), any());
+                async.flag();
+            })));
+    }
+
     /** Create connect, create connector, delete connector, delete connect */
     @Test
     public void testConnectorNotReadyWhenExceptionFromConnectRestApi() {
@@ -1467,6 +1542,7 @@ public class ConnectorMockTest {
         assertThat(runningConnectors.keySet(), is(Collections.singleton(key("cluster-connect-api.ns.svc", connectorName))));
 
         when(api.list(any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
+        when(api.listExpanded(any(), any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.listConnectorPlugins(any(), any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.createOrUpdatePutRequest(any(), any(), anyInt(), anyString(), any())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.getConnectorConfig(any(), any(), anyInt(), any())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
@@ -1533,6 +1609,7 @@ public class ConnectorMockTest {
         assertThat(runningConnectors.keySet(), is(Collections.singleton(key("cluster-connect-api.ns.svc", connectorName))));
 
         when(api.list(any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
+        when(api.listExpanded(any(), any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.listConnectorPlugins(any(), any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.createOrUpdatePutRequest(any(), any(), anyInt(), anyString(), any())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.getConnectorConfig(any(), any(), any(), anyInt(), any())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
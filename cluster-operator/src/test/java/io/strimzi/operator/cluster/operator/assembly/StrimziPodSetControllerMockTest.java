@@ -47,6 +47,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -568,6 +569,60 @@ public class StrimziPodSetControllerMockTest {
         }
     }
 
+    /**
+     * Tests the controller with multiple workers
+     *   - Restarts the controller with multiple workers
+     *   - Creates multiple StrimziPodSets and checks that their pods are created
+     *   - Checks the per-worker metrics
+     *
+     * @param context   Test context
+     */
+    @Test
+    public void testMultipleWorkers(VertxTestContext context) {
+        int workers = 3;
+        List<String> podSetNames = List.of("workers-test-a", "workers-test-b", "workers-test-c", "workers-test-d");
+
+        stopController();
+        controller = new StrimziPodSetController(NAMESPACE, Labels.fromMap(MATCHING_LABELS), kafkaOperator, podSetOperator, podOperator, metricsProvider, ClusterOperatorConfig.DEFAULT_POD_SET_CONTROLLER_WORK_QUEUE_SIZE, workers);
+        controller.start();
+
+        try {
+            for (String podSetName : podSetNames) {
+                // Each PodSet selects only its own pods so that they do not delete each other's pods
+                StrimziPodSet podSet = podSet(podSetName, KAFKA_NAME, pod(podSetName + "-0", KAFKA_NAME, podSetName));
+                podSet.getSpec().setSelector(new LabelSelector(null, Map.of(Labels.STRIMZI_KIND_LABEL, "Kafka", Labels.STRIMZI_CLUSTER_LABEL, KAFKA_NAME, Labels.STRIMZI_NAME_LABEL, podSetName)));
+
+                podSetOp().inNamespace(NAMESPACE).resource(podSet).create();
+            }
+
+            // Check that all pods are created
+            TestUtils.waitFor(
+                    "Wait for Pods to be created",
+                    100,
+                    10_000,
+                    () -> podSetNames.stream().allMatch(podSetName -> client.pods().inNamespace(NAMESPACE).withName(podSetName + "-0").get() != null),
+                    () -> context.failNow("Test timed out waiting for pod creation!"));
+
+            // Check the per-worker metrics
+            MeterRegistry registry = metricsProvider.meterRegistry();
+            long reconciliations = 0;
+
+            for (int i = 0; i < workers; i++) {
+                assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "controller.worker.queue.size").tag("kind", "StrimziPodSet").tag("worker", String.valueOf(i)).gauge().value(), greaterThanOrEqualTo(0.0));
+                reconciliations += registry.get(AbstractOperator.METRICS_PREFIX + "controller.worker.queue.wait.duration").tag("kind", "StrimziPodSet").tag("worker", String.valueOf(i)).timer().count();
+                assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "controller.worker.reconciliations.duration").tag("kind", "StrimziPodSet").tag("worker", String.valueOf(i)).timer().count(), greaterThanOrEqualTo(0L));
+            }
+
+            assertThat(reconciliations, greaterThanOrEqualTo((long) podSetNames.size()));
+
+            context.completeNow();
+        } finally {
+            for (String podSetName : podSetNames) {
+                podSetOp().inNamespace(NAMESPACE).withName(podSetName).delete();
+            }
+        }
+    }
+
     /**
      * Tests the metrics during the reconciliation
      *   - It creates and deletes the SPS
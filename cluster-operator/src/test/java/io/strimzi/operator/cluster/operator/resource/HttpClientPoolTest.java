@@ -0,0 +1,157 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class HttpClientPoolTest {
+    private static final HttpClientOptions OPTIONS = new HttpClientOptions().setKeepAlive(true).setMaxPoolSize(1);
+
+    private static HttpServer server(Vertx vertx, AtomicInteger connections, boolean closeConnections) throws ExecutionException, InterruptedException {
+        return vertx.createHttpServer()
+                .connectionHandler(connection -> connections.incrementAndGet())
+                .requestHandler(request -> {
+                    if (closeConnections) {
+                        request.connection().close();
+                    } else {
+                        request.response().setStatusCode(200).end("OK");
+                    }
+                })
+                .listen(0)
+                .toCompletionStage().toCompletableFuture().get();
+    }
+
+    private static Future<String> get(HttpClientPool pool, int port) {
+        return pool.withHttpClient("127.0.0.1", port, (HttpClient client, Promise<String> result) ->
+                client.request(HttpMethod.GET, port, "127.0.0.1", "/")
+                        .compose(request -> request.send())
+                        .compose(response -> response.body())
+                        .onComplete(res -> {
+                            if (res.succeeded()) {
+                                result.complete(res.result().toString());
+                            } else {
+                                result.fail(res.cause());
+                            }
+                        }));
+    }
+
+    @Test
+    public void testConnectionsAreReused(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        AtomicInteger connections = new AtomicInteger();
+        HttpServer server = server(vertx, connections, false);
+        HttpClientPool pool = new HttpClientPool(vertx, OPTIONS, HttpClientPool.DEFAULT_IDLE_TIMEOUT_MS);
+
+        Checkpoint async = context.checkpoint();
+        get(pool, server.actualPort())
+                .compose(ignore -> get(pool, server.actualPort()))
+                .compose(ignore -> get(pool, server.actualPort()))
+                .onComplete(context.succeeding(body -> context.verify(() -> {
+                    assertThat(body, is("OK"));
+                    assertThat(connections.get(), is(1));
+                    assertThat(pool.size(), is(1));
+
+                    server.close();
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testClientIsEvictedOnConnectionError(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        AtomicInteger connections = new AtomicInteger();
+        HttpServer server = server(vertx, connections, true);
+        HttpClientPool pool = new HttpClientPool(vertx, OPTIONS, HttpClientPool.DEFAULT_IDLE_TIMEOUT_MS);
+
+        Checkpoint async = context.checkpoint();
+        get(pool, server.actualPort())
+                .onComplete(context.failing(error -> context.verify(() -> {
+                    assertThat(pool.size(), is(0));
+
+                    server.close();
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testIdleClientsAreClosed(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        AtomicInteger connections = new AtomicInteger();
+        HttpServer server = server(vertx, connections, false);
+        HttpClientPool pool = new HttpClientPool(vertx, OPTIONS, 0L);
+
+        Checkpoint async = context.checkpoint();
+        get(pool, server.actualPort())
+                .onComplete(context.succeeding(body -> context.verify(() -> {
+                    assertThat(pool.size(), is(1));
+
+                    pool.closeIdleClients();
+                    assertThat(pool.size(), is(0));
+
+                    server.close();
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testIdleClientsAreClosedByTimer(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        AtomicInteger connections = new AtomicInteger();
+        HttpServer server = server(vertx, connections, false);
+        HttpClientPool pool = new HttpClientPool(vertx, OPTIONS, 100L);
+
+        assertThat(pool.isIdleTimerRunning(), is(false));
+
+        Checkpoint async = context.checkpoint();
+        get(pool, server.actualPort())
+                .onComplete(context.succeeding(body -> context.verify(() -> {
+                    assertThat(pool.size(), is(1));
+                    assertThat(pool.isIdleTimerRunning(), is(true));
+
+                    vertx.setTimer(500L, id -> context.verify(() -> {
+                        // The client was closed without using the pool again and the timer stopped
+                        assertThat(pool.size(), is(0));
+                        assertThat(pool.isIdleTimerRunning(), is(false));
+
+                        server.close();
+                        async.flag();
+                    }));
+                })));
+    }
+
+    @Test
+    public void testClientsAreClosedWithPool(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        AtomicInteger connections = new AtomicInteger();
+        HttpServer server = server(vertx, connections, false);
+        HttpClientPool pool = new HttpClientPool(vertx, OPTIONS, HttpClientPool.DEFAULT_IDLE_TIMEOUT_MS);
+
+        Checkpoint async = context.checkpoint();
+        get(pool, server.actualPort())
+                .onComplete(context.succeeding(body -> context.verify(() -> {
+                    assertThat(pool.size(), is(1));
+
+                    pool.close();
+                    assertThat(pool.size(), is(0));
+                    assertThat(pool.isIdleTimerRunning(), is(false));
+
+                    server.close();
+                    async.flag();
+                })));
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpServer;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class KafkaAgentClientTest {
+    private static HttpServer server(Vertx vertx, int statusCode, String body) throws ExecutionException, InterruptedException {
+        return vertx.createHttpServer()
+                .requestHandler(request -> {
+                    if (KafkaAgentClient.BROKER_STATE_PATH.equals(request.path())) {
+                        request.response().setStatusCode(statusCode).end(body);
+                    } else {
+                        request.response().setStatusCode(404).end();
+                    }
+                })
+                .listen(0)
+                .toCompletionStage().toCompletableFuture().get();
+    }
+
+    @Test
+    public void testRecoveringBrokerState(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        HttpServer server = server(vertx, 200,
+                "{\"brokerState\":2,\"recoveryState\":{\"remainingLogsToRecover\":120,\"remainingSegmentsToRecover\":1500},\"underReplicatedPartitions\":-1,\"sessionState\":\"CONNECTED\"}");
+        KafkaAgentClient client = new KafkaAgentClient(Reconciliation.DUMMY_RECONCILIATION, vertx);
+
+        Checkpoint async = context.checkpoint();
+        client.brokerState("127.0.0.1", server.actualPort())
+                .onComplete(context.succeeding(state -> context.verify(() -> {
+                    assertThat(state.isRecovering(), is(true));
+                    assertThat(state.isRunning(), is(false));
+                    assertThat(state.remainingLogsToRecover(), is(120));
+                    assertThat(state.remainingSegmentsToRecover(), is(1500));
+                    assertThat(state.underReplicatedPartitions(), is(-1));
+                    assertThat(state.sessionState(), is("CONNECTED"));
+
+                    // Progress is measured against the previously observed state
+                    assertThat(state.recoveryProgressedSince(null), is(true));
+                    assertThat(state.recoveryProgressedSince(new BrokerState(BrokerState.RECOVERY, 130, 1500, -1, "CONNECTED")), is(true));
+                    assertThat(state.recoveryProgressedSince(new BrokerState(BrokerState.RECOVERY, 120, 1500, -1, "CONNECTED")), is(false));
+
+                    server.close();
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testRunningBrokerState(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        HttpServer server = server(vertx, 200,
+                "{\"brokerState\":3,\"recoveryState\":{\"remainingLogsToRecover\":0,\"remainingSegmentsToRecover\":0},\"underReplicatedPartitions\":4,\"sessionState\":null}");
+        KafkaAgentClient client = new KafkaAgentClient(Reconciliation.DUMMY_RECONCILIATION, vertx);
+
+        Checkpoint async = context.checkpoint();
+        client.brokerState("127.0.0.1", server.actualPort())
+                .onComplete(context.succeeding(state -> context.verify(() -> {
+                    assertThat(state.isRunning(), is(true));
+                    assertThat(state.recoveryProgressedSince(null), is(false));
+                    assertThat(state.underReplicatedPartitions(), is(4));
+                    assertThat(state.sessionState(), is(nullValue()));
+
+                    server.close();
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testErrorResponse(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        HttpServer server = server(vertx, 500, "Internal error");
+        KafkaAgentClient client = new KafkaAgentClient(Reconciliation.DUMMY_RECONCILIATION, vertx);
+
+        Checkpoint async = context.checkpoint();
+        client.brokerState("127.0.0.1", server.actualPort())
+                .onComplete(context.failing(e -> context.verify(() -> {
+                    server.close();
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testHttpClientIsReused(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        HttpServer server = server(vertx, 200,
+                "{\"brokerState\":3,\"recoveryState\":{\"remainingLogsToRecover\":0,\"remainingSegmentsToRecover\":0},\"underReplicatedPartitions\":0,\"sessionState\":\"CONNECTED\"}");
+        HttpClientPool pool = new HttpClientPool(vertx, new HttpClientOptions(), HttpClientPool.DEFAULT_IDLE_TIMEOUT_MS);
+        KafkaAgentClient client = new KafkaAgentClient(Reconciliation.DUMMY_RECONCILIATION, pool);
+
+        Checkpoint async = context.checkpoint();
+        client.brokerState("127.0.0.1", server.actualPort())
+                .compose(state -> new KafkaAgentClient(Reconciliation.DUMMY_RECONCILIATION, pool).brokerState("127.0.0.1", server.actualPort()))
+                .onComplete(context.succeeding(state -> context.verify(() -> {
+                    assertThat(state.isRunning(), is(true));
+                    assertThat(pool.size(), is(1));
+
+                    // Closing the client closes its pool
+                    client.close();
+                    assertThat(pool.size(), is(0));
+
+                    server.close();
+                    async.flag();
+                })));
+    }
+}
@@ -18,6 +18,7 @@ import org.apache.kafka.clients.admin.ListTopicsResult;
 import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.TopicPartitionInfo;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
@@ -26,6 +27,7 @@ import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -34,15 +36,19 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -375,6 +381,47 @@ public class KafkaAvailabilityTest {
         }
     }
 
+    @Test
+    public void testLeadership(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1)
+                        .leader(0)
+                        .isr(0, 1)
+                    .endPartition()
+                    .addNewPartition(1)
+                        .replicaOn(1, 0)
+                        .leader(0)
+                        .isr(0, 1)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(1, 2)
+                        .leader(2)
+                        .isr(1, 2)
+                    .endPartition()
+                .endTopic();
+
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.leaderCounts()
+                .compose(leaderCounts -> {
+                    context.verify(() -> assertThat(leaderCounts, is(Map.of(0, 2, 2, 1))));
+                    return kafkaAvailability.partitionsOnBroker(0);
+                })
+                .onComplete(context.succeeding(partitions -> context.verify(() -> {
+                    assertThat(partitions.keySet(), is(Set.of(new TopicPartition("A", 0), new TopicPartition("A", 1))));
+                    assertThat(partitions.get(new TopicPartition("A", 1)).leader().id(), is(0));
+                    assertThat(partitions.get(new TopicPartition("A", 1)).replicas().get(0).id(), is(1));
+                    a.flag();
+                })));
+    }
+
     @Test
     public void testMinIsrEqualsReplicas(VertxTestContext context) {
         KSB ksb = new KSB()
@@ -632,4 +679,131 @@ public class KafkaAvailabilityTest {
             }
         }
     }
+
+    @Test
+    public void testSnapshotIsRefreshedForCheckedBroker(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(1, 2, 3)
+                        .leader(1)
+                        .isr(1, 2, 3)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ac);
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.canRoll(0)
+                .compose(canRoll -> {
+                    context.verify(() -> assertTrue(canRoll));
+
+                    // Broker 1 was restarted and is not back in the ISR yet
+                    ksb.topics.get("A").partitions.get(0).isr(0, 2);
+                    return kafkaAvailability.canRoll(0);
+                })
+                .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                    assertFalse(canRoll, "broker 0 should not be rollable, being minisr = 2 and broker 1 not being in the ISR");
+
+                    // All topics are described only once. Later only the topics on the checked broker are described.
+                    ArgumentCaptor<Collection<String>> describedTopics = ArgumentCaptor.forClass(Collection.class);
+                    verify(ac, times(2)).describeTopics(describedTopics.capture());
+                    assertThat(new HashSet<>(describedTopics.getAllValues().get(0)), is(Set.of("A", "B")));
+                    assertThat(new HashSet<>(describedTopics.getAllValues().get(1)), is(Set.of("A")));
+
+                    // The configs are cached
+                    verify(ac, times(1)).describeConfigs(any());
+
+                    a.flag();
+                })));
+    }
+
+    @Test
+    public void testTopicConfigsAreDescribedInBatches(VertxTestContext context) {
+        KSB ksb = new KSB();
+        int topics = KafkaAvailability.DESCRIBE_CONFIGS_BATCH_SIZE * 2 + 1;
+
+        for (int i = 0; i < topics; i++) {
+            ksb.addNewTopic("topic-" + i, false)
+                        .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                        .addNewPartition(0)
+                            .replicaOn(0, 1, 2)
+                            .leader(0)
+                            .isr(0, 1, 2)
+                        .endPartition()
+                    .endTopic();
+        }
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ac);
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.canRoll(0)
+                .compose(canRoll -> {
+                    context.verify(() -> assertTrue(canRoll));
+                    return kafkaAvailability.canRoll(1);
+                })
+                .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                    assertTrue(canRoll);
+
+                    ArgumentCaptor<Collection<ConfigResource>> describedConfigs = ArgumentCaptor.forClass(Collection.class);
+                    verify(ac, times(3)).describeConfigs(describedConfigs.capture());
+                    assertThat(describedConfigs.getAllValues().stream().mapToInt(Collection::size).sum(), is(topics));
+                    assertThat(describedConfigs.getAllValues().stream().allMatch(batch -> batch.size() <= KafkaAvailability.DESCRIBE_CONFIGS_BATCH_SIZE), is(true));
+
+                    a.flag();
+                })));
+    }
+
+    @Test
+    public void testCanRollTogetherWithRestartingBrokers(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(3, 4, 5)
+                        .leader(3)
+                        .isr(3, 4, 5)
+                    .endPartition()
+                .endTopic();
+
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.canRoll(1, Set.of())
+                .compose(canRoll -> {
+                    context.verify(() -> assertTrue(canRoll, "broker 1 should be rollable when no other broker is restarting"));
+                    return kafkaAvailability.canRoll(1, Set.of(0));
+                })
+                .compose(canRoll -> {
+                    context.verify(() -> assertFalse(canRoll, "broker 1 should not be rollable together with broker 0, being minisr = 2"));
+                    return kafkaAvailability.canRoll(3, Set.of(0));
+                })
+                .compose(canRoll -> {
+                    context.verify(() -> assertTrue(canRoll, "broker 3 should be rollable together with broker 0, sharing no partitions"));
+                    return kafkaAvailability.canRoll(4, Set.of(0, 3));
+                })
+                .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                    assertFalse(canRoll, "broker 4 should not be rollable together with brokers 0 and 3, being minisr = 2");
+                    a.flag();
+                })));
+    }
 }
@@ -5,6 +5,7 @@
 package io.strimzi.operator.cluster.operator.resource;
 
 import io.fabric8.kubernetes.api.model.Pod;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.strimzi.api.kafka.model.KafkaResources;
@@ -14,18 +15,25 @@ import io.strimzi.operator.cluster.model.RestartReasons;
 import io.strimzi.operator.cluster.operator.resource.events.KubernetesRestartEventPublisher;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.strimzi.operator.common.operator.resource.TimeoutException;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AlterConfigOp;
 import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.config.ConfigResource;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.AfterAll;
@@ -37,10 +45,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -55,9 +66,12 @@ import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -202,6 +216,38 @@ public class KafkaRollerTest {
                 singletonList(2));
     }
 
+    @Test
+    public void testRecoveringPodIsAwaitedAfterRolling(VertxTestContext testContext) {
+        // Pod 1 becomes ready only after two readiness timeouts while it keeps recovering its logs
+        AtomicInteger readinessChecks = new AtomicInteger();
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        doAnswer(invocation -> podName2Number(invocation.getArgument(2)) == 1 && readinessChecks.getAndIncrement() < 2
+                ? failedFuture(new TimeoutException("Timeout")) : succeededFuture()
+        ).when(podOps).readiness(any(), any(), any(), anyLong(), anyLong());
+
+        TestingKafkaRoller kafkaRoller = rollerWithControllers(podOps, 2);
+        kafkaRoller.brokerStateFn = podId -> new BrokerState(BrokerState.RECOVERY, 10 - readinessChecks.get(), 100, -1, "CONNECTED");
+
+        doSuccessfulRollingRestart(testContext, kafkaRoller,
+                asList(0, 1, 2, 3, 4),
+                asList(0, 1, 3, 4, 2));
+    }
+
+    @Test
+    public void testRecoveringPodWithoutProgressNotReadyAfterRolling(VertxTestContext testContext) throws InterruptedException {
+        PodOperator podOps = mockPodOps(podId ->
+                podId == 1 ? failedFuture(new TimeoutException("Timeout")) : succeededFuture()
+        );
+        TestingKafkaRoller kafkaRoller = rollerWithControllers(podOps, 2);
+        kafkaRoller.brokerStateFn = podId -> new BrokerState(BrokerState.RECOVERY, 10, 100, -1, "CONNECTED");
+
+        // The first timeout is extended because the broker is recovering, the second one fails as it made no progress
+        doFailingRollingRestart(testContext, kafkaRoller,
+                asList(0, 1, 2, 3, 4),
+                KafkaRoller.FatalProblem.class, "Error while waiting for restarted pod c-kafka-1 to become ready",
+                asList(1));
+    }
+
     public List<String> addPodNames(int replicas) {
         ArrayList<String> podNames = new ArrayList<>(replicas);
 
@@ -460,6 +506,236 @@ public class KafkaRollerTest {
             asList(0, 1, 4));
     }
 
+    @Test
+    public void testParallelRollingWithPod3AsController(VertxTestContext testContext) {
+        // Pods 0, 1 and 2 become ready only once all of them were restarted, so they have to be restarted in parallel
+        Promise<Void> allRestarted = Promise.promise();
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        doAnswer(invocation -> {
+            if (restarted().containsAll(asList(0, 1, 2))) {
+                allRestarted.tryComplete();
+            }
+
+            return podName2Number(invocation.getArgument(2)) < 3 ? allRestarted.future() : succeededFuture();
+        }).when(podOps).readiness(any(), any(), any(), anyLong(), anyLong());
+        restarted = Collections.synchronizedList(new ArrayList<>());
+
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(3, null, null, addPodNames(4), podOps,
+                noException(), null, noException(), noException(), noException(),
+                brokerId -> succeededFuture(true),
+                3);
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> RestartReasons.of(RestartReason.MANUAL_ROLLING_UPDATE))
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    // The controller is still rolled last
+                    assertThat(restarted().subList(0, 3), containsInAnyOrder(0, 1, 2));
+                    assertThat(restarted().get(3), is(3));
+
+                    // The availability check of the last broker in the parallel set took the other restarting brokers into account
+                    assertThat(kafkaRoller.restartingBrokersChecked.stream().mapToInt(Set::size).max().orElse(0), is(2));
+                    assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testBatchedDynamicReconfiguration(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        TestingKafkaRoller kafkaRoller = reconfiguringRoller(podOps, "log.retention.ms=1000", noException());
+        Map<String, AtomicInteger> evaluations = new ConcurrentHashMap<>();
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> {
+            evaluations.computeIfAbsent(pod.getMetadata().getName(), name -> new AtomicInteger()).incrementAndGet();
+            return RestartReasons.empty();
+        })
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    assertThat(restarted(), is(emptyList()));
+
+                    // The restart reasons were evaluated only once per pod
+                    assertThat(evaluations.size(), is(REPLICAS));
+                    assertThat(evaluations.values().stream().allMatch(count -> count.get() == 1), is(true));
+
+                    // All brokers were described and reconfigured with a single request
+                    assertThat(kafkaRoller.describeBatches, is(singletonList(asList(0, 1, 2, 3, 4))));
+                    assertThat(kafkaRoller.alterBatches.size(), is(1));
+                    assertThat(kafkaRoller.alterBatches.get(0).size(), is(10));
+                    assertThat(kafkaRoller.describedOneByOne, is(empty()));
+                    assertThat(kafkaRoller.reconfiguredOneByOne, is(empty()));
+                    assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testBatchedDynamicReconfigurationFailureForOneBroker(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        TestingKafkaRoller kafkaRoller = reconfiguringRoller(podOps, "log.retention.ms=1000",
+            podId -> podId == 3 ? new KafkaRoller.ForceableProblem("could not alter config") : null);
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> RestartReasons.empty())
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    // Only the broker which failed in the batch is handled one by one and restarted after it fails again
+                    assertThat(kafkaRoller.alterBatches.size(), is(1));
+                    assertThat(kafkaRoller.reconfiguredOneByOne, is(singletonList(3)));
+
+                    // The configuration described before the failed alter is not reused
+                    assertThat(kafkaRoller.describedOneByOne, is(singletonList(3)));
+                    assertThat(kafkaRoller.loggingDescribedOneByOne, is(singletonList(3)));
+                    assertThat(restarted(), is(singletonList(3)));
+                    assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testBatchedDynamicReconfigurationSkipsReadOnlyChanges(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        TestingKafkaRoller kafkaRoller = reconfiguringRoller(podOps, "auto.create.topics.enable=false", noException());
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> RestartReasons.empty())
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    // The read-only change cannot be applied dynamically, so the brokers are restarted with the controller last
+                    assertThat(kafkaRoller.describeBatches.size(), is(1));
+                    assertThat(kafkaRoller.alterBatches, is(empty()));
+                    assertThat(restarted(), is(asList(0, 1, 3, 4, 2)));
+                    assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                    async.flag();
+                })));
+    }
+
+    private TestingKafkaRoller reconfiguringRoller(PodOperator podOps, String kafkaConfig, Function<Integer, KafkaRoller.ForceableProblem> alterConfigsException) {
+        return new TestingKafkaRoller(1, null, kafkaConfig, null, null, addPodNames(REPLICAS), podOps,
+                noException(), null, noException(), alterConfigsException, noException(),
+                brokerId -> succeededFuture(true),
+                2);
+    }
+
+    @Test
+    public void testLeadershipAwareRollingOrdersByLeaderCount(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        SimulatedLeadership leadership = new SimulatedLeadership();
+        TestingKafkaRoller kafkaRoller = leadershipAwareRoller(podOps, leadership);
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> RestartReasons.of(RestartReason.MANUAL_ROLLING_UPDATE))
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    // Broker 0 leads most partitions, so it is restarted last
+                    assertThat(restarted(), is(asList(1, 2, 0)));
+
+                    // The leadership is back on the preferred leaders
+                    assertThat(leadership.nonPreferredLeaders(), is(empty()));
+                    assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testLeadershipIsDrainedAndRestored(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        SimulatedLeadership leadership = new SimulatedLeadership();
+        TestingKafkaRoller kafkaRoller = leadershipAwareRoller(podOps, leadership);
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> podName2Number(pod.getMetadata().getName()) == 0 ? RestartReasons.of(RestartReason.MANUAL_ROLLING_UPDATE) : RestartReasons.empty())
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    assertThat(restarted(), is(singletonList(0)));
+
+                    // The partitions not preferring broker 0 were moved away before the restart, the partitions
+                    // preferring it were moved by the controlled shutdown and moved back after the restart
+                    assertThat(leadership.elections, is(asList(
+                            Set.of(new TopicPartition("t", 1), new TopicPartition("t", 2)),
+                            Set.of(new TopicPartition("t", 0), new TopicPartition("t", 3)))));
+                    assertThat(leadership.ledWhenShutDown, is(Map.of(0, 2)));
+                    assertThat(leadership.nonPreferredLeaders(), is(empty()));
+
+                    assertThat(leaderChanges(kafkaRoller, "drain"), is(2.0));
+                    assertThat(leaderChanges(kafkaRoller, "restart"), is(2.0));
+                    assertThat(leaderChanges(kafkaRoller, "restore"), is(2.0));
+                    assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testLeaderChanges() {
+        TopicPartition t0 = new TopicPartition("t", 0);
+        TopicPartition t1 = new TopicPartition("t", 1);
+        Node node0 = new Node(0, "localhost", 9091);
+        Node node1 = new Node(1, "localhost", 9091);
+
+        Map<TopicPartition, TopicPartitionInfo> after = Map.of(
+                t0, new TopicPartitionInfo(0, node1, List.of(node0, node1), List.of(node0, node1)),
+                t1, new TopicPartitionInfo(1, node1, List.of(node1, node0), List.of(node0, node1)));
+
+        assertThat(KafkaRoller.leaderChanges(Map.of(t0, 0, t1, 1), after), is(1));
+        assertThat(KafkaRoller.leaderChanges(Map.of(t0, 1), after), is(0));
+        assertThat(KafkaRoller.leaderChanges(Map.of(), after), is(0));
+    }
+
+    private static double leaderChanges(TestingKafkaRoller kafkaRoller, String phase) {
+        return kafkaRoller.metricsProvider.meterRegistry().get("strimzi.rolling.leader.changes").tag("phase", phase).counter().count();
+    }
+
+    private TestingKafkaRoller leadershipAwareRoller(PodOperator podOps, SimulatedLeadership leadership) {
+        return new TestingKafkaRoller(1, leadership, "", null, null, addPodNames(3), podOps,
+                noException(), null, noException(), noException(), noException(),
+                brokerId -> succeededFuture(true),
+                -1);
+    }
+
+    /**
+     * Simulates the partition leadership of the topic "t" with 6 partitions on 3 brokers. Broker 0 leads 4
+     * partitions (2 of them as their preferred leader) and brokers 1 and 2 lead 1 partition each.
+     */
+    static class SimulatedLeadership {
+        private final Map<Integer, List<Integer>> replicas = new HashMap<>();
+        private final Map<Integer, Integer> leaders = new HashMap<>();
+        private final List<Set<TopicPartition>> elections = Collections.synchronizedList(new ArrayList<>());
+        private final Map<Integer, Integer> ledWhenShutDown = new HashMap<>();
+
+        SimulatedLeadership() {
+            for (int partition = 0; partition < 6; partition++) {
+                replicas.put(partition, List.of(partition % 3, (partition + 1) % 3, (partition + 2) % 3));
+            }
+
+            leaders.putAll(Map.of(0, 0, 1, 0, 2, 0, 3, 0, 4, 1, 5, 2));
+        }
+
+        synchronized Collection<TopicDescription> describe() {
+            List<TopicPartitionInfo> partitions = new ArrayList<>();
+
+            for (int partition = 0; partition < 6; partition++) {
+                List<Node> nodes = replicas.get(partition).stream().map(id -> new Node(id, "localhost", 9091)).collect(Collectors.toList());
+                partitions.add(new TopicPartitionInfo(partition, new Node(leaders.get(partition), "localhost", 9091), nodes, nodes));
+            }
+
+            return List.of(new TopicDescription("t", false, partitions));
+        }
+
+        synchronized void elect(Set<TopicPartition> partitions) {
+            elections.add(partitions);
+            partitions.forEach(tp -> leaders.put(tp.partition(), replicas.get(tp.partition()).get(0)));
+        }
+
+        synchronized void shutdown(int brokerId) {
+            ledWhenShutDown.put(brokerId, (int) leaders.values().stream().filter(leader -> leader == brokerId).count());
+
+            // Controlled shutdown moves the leadership to the next replica
+            leaders.replaceAll((partition, leader) -> leader == brokerId ? replicas.get(partition).stream().filter(id -> id != brokerId).findFirst().orElseThrow() : leader);
+        }
+
+        synchronized List<Integer> nonPreferredLeaders() {
+            return leaders.entrySet().stream()
+                    .filter(e -> !e.getValue().equals(replicas.get(e.getKey()).get(0)))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+        }
+    }
+
     private TestingKafkaRoller rollerWithControllers(PodOperator podOps, int... controllers) {
         return new TestingKafkaRoller(null, null, addPodNames(KafkaRollerTest.REPLICAS), podOps,
                 noException(), null, noException(), noException(), noException(),
@@ -576,10 +852,18 @@ public class KafkaRollerTest {
         private final Function<List<Integer>, RuntimeException> acOpenException;
         private final Throwable acCloseException;
         private final Function<Integer, Future<Boolean>> canRollFn;
+        private final List<Set<Integer>> restartingBrokersChecked = Collections.synchronizedList(new ArrayList<>());
         private final Function<Integer, Throwable> controllerException;
         private final Function<Integer, ForceableProblem> alterConfigsException;
         private final Function<Integer, ForceableProblem> getConfigsException;
         private final int[] controllers;
+        private Function<Integer, BrokerState> brokerStateFn = podId -> null;
+        private final SimulatedLeadership leadership;
+        private final List<List<Integer>> describeBatches = Collections.synchronizedList(new ArrayList<>());
+        private final List<Set<ConfigResource>> alterBatches = Collections.synchronizedList(new ArrayList<>());
+        private final List<Integer> describedOneByOne = Collections.synchronizedList(new ArrayList<>());
+        private final List<Integer> loggingDescribedOneByOne = Collections.synchronizedList(new ArrayList<>());
+        private final List<Integer> reconfiguredOneByOne = Collections.synchronizedList(new ArrayList<>());
 
         private TestingKafkaRoller(Secret clusterCaCertSecret, Secret coKeySecret, List<String> podList,
                                    PodOperator podOps,
@@ -590,6 +874,32 @@ public class KafkaRollerTest {
                                    Function<Integer, ForceableProblem> getConfigsException,
                                    Function<Integer, Future<Boolean>> canRollFn,
                                    int... controllers) {
+            this(1, clusterCaCertSecret, coKeySecret, podList, podOps, acOpenException, acCloseException, controllerException,
+                    alterConfigsException, getConfigsException, canRollFn, controllers);
+        }
+
+        private TestingKafkaRoller(int maxParallelRestarts, Secret clusterCaCertSecret, Secret coKeySecret, List<String> podList,
+                                   PodOperator podOps,
+                                   Function<List<Integer>, RuntimeException> acOpenException,
+                                   Throwable acCloseException,
+                                   Function<Integer, Throwable> controllerException,
+                                   Function<Integer, ForceableProblem> alterConfigsException,
+                                   Function<Integer, ForceableProblem> getConfigsException,
+                                   Function<Integer, Future<Boolean>> canRollFn,
+                                   int... controllers) {
+            this(maxParallelRestarts, null, "", clusterCaCertSecret, coKeySecret, podList, podOps, acOpenException, acCloseException, controllerException,
+                    alterConfigsException, getConfigsException, canRollFn, controllers);
+        }
+
+        private TestingKafkaRoller(int maxParallelRestarts, SimulatedLeadership leadership, String kafkaConfig, Secret clusterCaCertSecret, Secret coKeySecret, List<String> podList,
+                                   PodOperator podOps,
+                                   Function<List<Integer>, RuntimeException> acOpenException,
+                                   Throwable acCloseException,
+                                   Function<Integer, Throwable> controllerException,
+                                   Function<Integer, ForceableProblem> alterConfigsException,
+                                   Function<Integer, ForceableProblem> getConfigsException,
+                                   Function<Integer, Future<Boolean>> canRollFn,
+                                   int... controllers) {
             super(
                     new Reconciliation("test", "Kafka", stsNamespace(), clusterName()),
                     KafkaRollerTest.vertx,
@@ -601,13 +911,18 @@ public class KafkaRollerTest {
                     clusterCaCertSecret,
                     coKeySecret,
                     new DefaultAdminClientProvider(),
-                    brokerId -> "",
+                    brokerId -> kafkaConfig,
                     "",
                     KafkaVersionTestUtils.getLatestVersion(),
                     true,
-                    mock(KubernetesRestartEventPublisher.class)
+                    mock(KubernetesRestartEventPublisher.class),
+                    maxParallelRestarts,
+                    leadership != null,
+                    new MicrometerMetricsProvider(new SimpleMeterRegistry())
             );
 
+            this.leadership = leadership;
+
             this.controllers = controllers;
             this.controllerCall = 0;
             Objects.requireNonNull(acOpenException);
@@ -646,16 +961,17 @@ public class KafkaRollerTest {
             return new KafkaAvailability(null, null) {
                 @Override
                 protected Future<Set<String>> topicNames() {
-                    return succeededFuture(Collections.emptySet());
+                    return succeededFuture(leadership != null ? Set.of("t") : Collections.emptySet());
                 }
 
                 @Override
                 protected Future<Collection<TopicDescription>> describeTopics(Set<String> names) {
-                    return succeededFuture(Collections.emptySet());
+                    return succeededFuture(leadership != null ? leadership.describe() : Collections.emptySet());
                 }
 
                 @Override
-                Future<Boolean> canRoll(int podId) {
+                Future<Boolean> canRoll(int podId, Set<Integer> restartingBrokers) {
+                    restartingBrokersChecked.add(restartingBrokers);
                     return canRollFn.apply(podId);
                 }
             };
@@ -678,8 +994,32 @@ public class KafkaRollerTest {
             }
         }
 
+        @Override
+        protected Map<ConfigResource, Future<Config>> describeBrokerConfigs(List<Integer> podIds) {
+            describeBatches.add(podIds);
+            Map<ConfigResource, Future<Config>> result = new HashMap<>();
+            for (int podId : podIds) {
+                ForceableProblem problem = getConfigsException.apply(podId);
+                result.put(new ConfigResource(ConfigResource.Type.BROKER, String.valueOf(podId)), problem != null ? failedFuture(problem) : succeededFuture(new Config(emptyList())));
+                result.put(new ConfigResource(ConfigResource.Type.BROKER_LOGGER, String.valueOf(podId)), succeededFuture(new Config(emptyList())));
+            }
+            return result;
+        }
+
+        @Override
+        protected Map<ConfigResource, Future<Void>> alterBrokerConfigs(Map<ConfigResource, Collection<AlterConfigOp>> updates) {
+            alterBatches.add(updates.keySet());
+            Map<ConfigResource, Future<Void>> result = new HashMap<>();
+            for (ConfigResource resource : updates.keySet()) {
+                ForceableProblem problem = resource.type() == ConfigResource.Type.BROKER ? alterConfigsException.apply(Integer.parseInt(resource.name())) : null;
+                result.put(resource, problem != null ? failedFuture(problem) : succeededFuture());
+            }
+            return result;
+        }
+
         @Override
         protected Config brokerConfig(PodRef podRef) throws ForceableProblem {
+            describedOneByOne.add(podRef.getPodId());
             ForceableProblem problem = getConfigsException.apply(podRef.getPodId());
             if (problem != null) {
                 throw problem;
@@ -688,11 +1028,13 @@ public class KafkaRollerTest {
 
         @Override
         protected Config brokerLogging(int brokerId) {
+            loggingDescribedOneByOne.add(brokerId);
             return new Config(emptyList());
         }
 
         @Override
         protected void dynamicUpdateBrokerConfig(int podId, Admin ac, KafkaBrokerConfigurationDiff configurationDiff, KafkaBrokerLoggingConfigurationDiff logDiff) throws ForceableProblem {
+            reconfiguredOneByOne.add(podId);
             ForceableProblem problem = alterConfigsException.apply(podId);
             if (problem != null) {
                 throw problem;
@@ -702,9 +1044,23 @@ public class KafkaRollerTest {
         @Override
         protected Future<Void> restart(Pod pod, RestartContext restartContext) {
             restarted.add(pod.getMetadata().getName());
+            if (leadership != null) {
+                leadership.shutdown(podName2Number(pod.getMetadata().getName()));
+            }
             return succeededFuture();
         }
 
+        @Override
+        protected Future<Void> electPreferredLeaders(Set<TopicPartition> partitions) {
+            leadership.elect(partitions);
+            return succeededFuture();
+        }
+
+        @Override
+        protected BrokerState brokerState(String podName) {
+            return brokerStateFn.apply(podName2Number(podName));
+        }
+
     }
 
     // TODO Error when finding the next broker
@@ -49,9 +49,12 @@ import static io.strimzi.test.TestUtils.map;
 import static java.lang.Integer.parseInt;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
+import static org.hamcrest.CoreMatchers.both;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -82,14 +85,20 @@ public class ZookeeperLeaderFinderTest {
 
     class TestingZookeeperLeaderFinder extends ZookeeperLeaderFinder {
         private final int[] ports;
+        private final AtomicInteger clientOptionsCalls = new AtomicInteger();
 
         public TestingZookeeperLeaderFinder(Supplier<BackOff> backOffSupplier, int[] ports) {
-            super(vertx, backOffSupplier);
+            this(backOffSupplier, ports, ZookeeperLeaderFinder.DEFAULT_IDLE_TIMEOUT_MS);
+        }
+
+        public TestingZookeeperLeaderFinder(Supplier<BackOff> backOffSupplier, int[] ports, long idleTimeoutMs) {
+            super(vertx, backOffSupplier, idleTimeoutMs);
             this.ports = ports;
         }
 
         @Override
         NetClientOptions clientOptions(Reconciliation reconciliation, Secret coCertKeySecret, Secret clusterCaCertificateSecret) {
+            clientOptionsCalls.incrementAndGet();
             return new NetClientOptions()
                     .setKeyCertOptions(coCertificate.keyCertOptions())
                     .setTrustOptions(zkCertificate.trustOptions())
@@ -362,7 +371,12 @@ public class ZookeeperLeaderFinderTest {
             .onComplete(context.succeeding(leader -> context.verify(() -> {
                 assertThat(leader, is(leaderPod));
                 for (FakeZk zk : zks) {
-                    assertThat("Unexpected number of attempts for node " + zk.id, zk.attempts.get(), is(succeedOnAttempt + 1));
+                    if (zk.id == desiredLeaderId) {
+                        assertThat("Unexpected number of attempts for node " + zk.id, zk.attempts.get(), is(succeedOnAttempt + 1));
+                    } else {
+                        // The probe of the other node in the last attempt might be cancelled once the leader is found
+                        assertThat("Unexpected number of attempts for node " + zk.id, zk.attempts.get(), is(both(greaterThanOrEqualTo(succeedOnAttempt)).and(lessThanOrEqualTo(succeedOnAttempt + 1))));
+                    }
                 }
                 a.flag();
             })));
@@ -382,12 +396,63 @@ public class ZookeeperLeaderFinderTest {
             .onComplete(context.succeeding(l -> context.verify(() -> {
                 assertThat(l, is(leaderPod));
                 for (FakeZk zk : zks) {
-                    assertThat("Unexpected number of attempts for node " + zk.id, zk.attempts.get(), is(1));
+                    if (zk.id == leader) {
+                        assertThat("Unexpected number of attempts for node " + zk.id, zk.attempts.get(), is(1));
+                    } else {
+                        // The probe of the other node might be cancelled once the leader is found
+                        assertThat("Unexpected number of attempts for node " + zk.id, zk.attempts.get(), is(lessThanOrEqualTo(1)));
+                    }
                 }
                 a.flag();
             })));
     }
 
+    @Test
+    public void testClientIsCachedUntilCertificatesChange(VertxTestContext context) throws InterruptedException {
+        int leader = 1;
+        String leaderPod = "my-cluster-kafka-1";
+
+        int[] ports = startMockZks(context, 2, (id, attempt) -> id == leader);
+
+        TestingZookeeperLeaderFinder finder = new TestingZookeeperLeaderFinder(this::backoff, ports);
+        Secret coKeySecret = new SecretBuilder().withData(map("cluster-operator.key", "key")).build();
+        Secret renewedCoKeySecret = new SecretBuilder().withData(map("cluster-operator.key", "renewed-key")).build();
+
+        Checkpoint a = context.checkpoint();
+        finder.findZookeeperLeader(Reconciliation.DUMMY_RECONCILIATION, treeSet(createPodWithId(0), createPodWithId(1)), dummySecret(), coKeySecret)
+            .compose(l -> finder.findZookeeperLeader(Reconciliation.DUMMY_RECONCILIATION, treeSet(createPodWithId(0), createPodWithId(1)), dummySecret(), coKeySecret))
+            .onComplete(context.succeeding(l -> context.verify(() -> {
+                assertThat(l, is(leaderPod));
+                assertThat(finder.clientOptionsCalls.get(), is(1));
+                assertThat(finder.size(), is(1));
+            })))
+            .compose(l -> finder.findZookeeperLeader(Reconciliation.DUMMY_RECONCILIATION, treeSet(createPodWithId(0), createPodWithId(1)), dummySecret(), renewedCoKeySecret))
+            .onComplete(context.succeeding(l -> context.verify(() -> {
+                assertThat(l, is(leaderPod));
+                assertThat(finder.clientOptionsCalls.get(), is(2));
+                assertThat(finder.size(), is(1));
+                a.flag();
+            })));
+    }
+
+    @Test
+    public void testIdleClientsAreClosed(VertxTestContext context) throws InterruptedException {
+        int[] ports = startMockZks(context, 2, (id, attempt) -> id == 0);
+
+        TestingZookeeperLeaderFinder finder = new TestingZookeeperLeaderFinder(this::backoff, ports, 0L);
+
+        Checkpoint a = context.checkpoint();
+        finder.findZookeeperLeader(Reconciliation.DUMMY_RECONCILIATION, treeSet(createPodWithId(0), createPodWithId(1)), dummySecret(), dummySecret())
+            .onComplete(context.succeeding(l -> context.verify(() -> {
+                assertThat(l, is("my-cluster-kafka-0"));
+                assertThat(finder.size(), is(1));
+
+                finder.closeIdleClients();
+                assertThat(finder.size(), is(0));
+                a.flag();
+            })));
+    }
+
     String createPodWithId(int id) {
         return "my-cluster-kafka-" + id;
     }
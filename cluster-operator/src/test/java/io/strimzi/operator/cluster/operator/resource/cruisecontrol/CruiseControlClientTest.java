@@ -4,7 +4,9 @@
  */
 package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
 
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientOptions;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
@@ -18,6 +20,7 @@ import org.mockserver.integration.ClientAndServer;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
 
 import static io.strimzi.operator.cluster.JSONObjectMatchers.hasEntry;
@@ -126,6 +129,27 @@ public class CruiseControlClientTest {
         }));
     }
 
+    @Test
+    public void testCCGetRebalanceUserTasksWithPooledClient(Vertx vertx, VertxTestContext context) throws IOException, URISyntaxException {
+
+        MockCruiseControl.setupCCUserTasksResponseNoGoals(ccServer, 0, 0);
+
+        HttpClientPool pool = new HttpClientPool(vertx, new HttpClientOptions(), HttpClientPool.DEFAULT_IDLE_TIMEOUT_MS);
+        CruiseControlApi client = new CruiseControlApiImpl(vertx, pool, HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS, MockCruiseControl.CC_SECRET, MockCruiseControl.CC_API_SECRET, API_AUTH_ENABLED, API_SSL_ENABLED);
+        String userTaskID = MockCruiseControl.REBALANCE_NO_GOALS_RESPONSE_UTID;
+
+        Checkpoint checkpoint = context.checkpoint();
+        client.getUserTasksStatus(HOST, PORT, List.of(userTaskID))
+            .compose(first -> client.getUserTasksStatus(HOST, PORT, List.of(userTaskID)))
+            .onComplete(context.succeeding(result -> context.verify(() -> {
+                assertThat(result.keySet(), is(Set.of(userTaskID)));
+                assertThat(result.get(userTaskID).getUserTaskId(), is(userTaskID));
+                assertThat(result.get(userTaskID).getJson().getString("Status"), is(CruiseControlUserTaskStatus.COMPLETED.toString()));
+                assertThat(result.get(userTaskID).getJson().getJsonObject(CruiseControlRebalanceKeys.SUMMARY.getKey()), is(notNullValue()));
+                checkpoint.flag();
+            })));
+    }
+
     @Test
     public void testCCAddBroker(Vertx vertx, VertxTestContext context) throws IOException, URISyntaxException {
         AddBrokerOptions options = new AddBrokerOptions.AddBrokerOptionsBuilder()
@@ -0,0 +1,175 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class CruiseControlUserTasksPollerTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "KafkaRebalance", "namespace", "rebalance");
+    private static final String HOST = "my-cluster-cruise-control.namespace.svc";
+    private static final int PORT = 9090;
+
+    private static CruiseControlResponse userTask(String userTaskId, String status) {
+        return new CruiseControlResponse(userTaskId, new JsonObject().put("Status", status));
+    }
+
+    @Test
+    public void testUserTasksArePolledInSingleRequest(Vertx vertx, VertxTestContext context) {
+        CruiseControlApi apiClient = mock(CruiseControlApi.class);
+        when(apiClient.getUserTasksStatus(anyString(), anyInt(), any()))
+                .thenReturn(Future.succeededFuture(Map.of("task-1", userTask("task-1", "Completed"), "task-2", userTask("task-2", "Active"))));
+
+        CruiseControlUserTasksPoller poller = new CruiseControlUserTasksPoller(vertx, HOST, PORT, 10L);
+
+        Promise<String> first = Promise.promise();
+        Promise<String> second = Promise.promise();
+
+        poller.poll(RECONCILIATION, apiClient, "task-1", res -> {
+            first.tryComplete(res.result().getJson().getString("Status"));
+            return Future.succeededFuture(true);
+        });
+        poller.poll(RECONCILIATION, apiClient, "task-2", res -> {
+            second.tryComplete(res.result().getJson().getString("Status"));
+            return Future.succeededFuture(true);
+        });
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(first.future(), second.future())
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(first.future().result(), is("Completed"));
+                    assertThat(second.future().result(), is("Active"));
+                    verify(apiClient, times(1)).getUserTasksStatus(eq(HOST), eq(PORT), eq(Set.of("task-1", "task-2")));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testHandlerIsCalledUntilItCompletes(Vertx vertx, VertxTestContext context) {
+        CruiseControlApi apiClient = mock(CruiseControlApi.class);
+        when(apiClient.getUserTasksStatus(anyString(), anyInt(), any()))
+                .thenReturn(Future.succeededFuture(Map.of("task-1", userTask("task-1", "Active"))));
+
+        CruiseControlUserTasksPoller poller = new CruiseControlUserTasksPoller(vertx, HOST, PORT, 10L);
+        AtomicInteger calls = new AtomicInteger();
+
+        Checkpoint async = context.checkpoint();
+        poller.poll(RECONCILIATION, apiClient, "task-1", res -> {
+            if (calls.incrementAndGet() < 3) {
+                return Future.succeededFuture(false);
+            } else {
+                vertx.runOnContext(v -> context.verify(() -> {
+                    assertThat(poller.size(), is(0));
+                    verify(apiClient, times(3)).getUserTasksStatus(anyString(), anyInt(), any());
+
+                    async.flag();
+                }));
+
+                return Future.succeededFuture(true);
+            }
+        });
+
+        assertThat(poller.size(), is(1));
+    }
+
+    @Test
+    public void testSlowHandlerDoesNotBlockPolling(Vertx vertx, VertxTestContext context) {
+        CruiseControlApi apiClient = mock(CruiseControlApi.class);
+        when(apiClient.getUserTasksStatus(anyString(), anyInt(), any()))
+                .thenReturn(Future.succeededFuture(Map.of("task-1", userTask("task-1", "Active"), "task-2", userTask("task-2", "Active"))));
+
+        CruiseControlUserTasksPoller poller = new CruiseControlUserTasksPoller(vertx, HOST, PORT, 10L);
+        AtomicInteger slowCalls = new AtomicInteger();
+        AtomicInteger calls = new AtomicInteger();
+
+        // The handler never completes, so it should be called only once
+        poller.poll(RECONCILIATION, apiClient, "task-1", res -> {
+            slowCalls.incrementAndGet();
+            return Promise.<Boolean>promise().future();
+        });
+
+        Checkpoint async = context.checkpoint();
+        poller.poll(RECONCILIATION, apiClient, "task-2", res -> {
+            if (calls.incrementAndGet() < 3) {
+                return Future.succeededFuture(false);
+            } else {
+                vertx.runOnContext(v -> context.verify(() -> {
+                    assertThat(slowCalls.get(), is(1));
+                    assertThat(poller.size(), is(1));
+
+                    async.flag();
+                }));
+
+                return Future.succeededFuture(true);
+            }
+        });
+    }
+
+    @Test
+    public void testMissingUserTaskIsReportedAsFailure(Vertx vertx, VertxTestContext context) {
+        CruiseControlApi apiClient = mock(CruiseControlApi.class);
+        when(apiClient.getUserTasksStatus(anyString(), anyInt(), any()))
+                .thenReturn(Future.succeededFuture(Map.of()));
+
+        CruiseControlUserTasksPoller poller = new CruiseControlUserTasksPoller(vertx, HOST, PORT, 10L);
+
+        Checkpoint async = context.checkpoint();
+        poller.poll(RECONCILIATION, apiClient, "task-1", res -> {
+            context.verify(() -> {
+                assertThat(res.failed(), is(true));
+                assertThat(res.cause(), instanceOf(CruiseControlRestException.class));
+            });
+
+            async.flag();
+            return Future.succeededFuture(true);
+        });
+    }
+
+    @Test
+    public void testHandlerWithoutUserTaskDoesNotQueryCruiseControl(Vertx vertx, VertxTestContext context) {
+        CruiseControlApi apiClient = mock(CruiseControlApi.class);
+        CruiseControlUserTasksPoller poller = new CruiseControlUserTasksPoller(vertx, HOST, PORT, 10L);
+
+        Checkpoint async = context.checkpoint();
+        poller.poll(RECONCILIATION, apiClient, null, res -> {
+            context.verify(() -> {
+                assertThat(res.succeeded(), is(true));
+                assertThat(res.result(), is(nullValue()));
+                verify(apiClient, times(0)).getUserTasksStatus(anyString(), anyInt(), any());
+            });
+
+            async.flag();
+            return Future.succeededFuture(true);
+        });
+    }
+}
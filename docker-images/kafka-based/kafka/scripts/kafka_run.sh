@@ -67,7 +67,12 @@ if [ "$STRIMZI_KRAFT_ENABLED" = "true" ]; then
   touch /var/opt/kafka/zk-connected
 else
   rm -f /var/opt/kafka/kafka-ready /var/opt/kafka/zk-connected 2> /dev/null
-  KAFKA_OPTS="${KAFKA_OPTS} -javaagent:$(ls "$KAFKA_HOME"/libs/kafka-agent*.jar)=/var/opt/kafka/kafka-ready:/var/opt/kafka/zk-connected"
+  KAFKA_AGENT_ARGS="/var/opt/kafka/kafka-ready:/var/opt/kafka/zk-connected"
+  if [ -n "$STRIMZI_KAFKA_AGENT_PORT" ]; then
+    # The broker state endpoint is enabled only when its port is configured by the Cluster Operator
+    KAFKA_AGENT_ARGS="${KAFKA_AGENT_ARGS}:${STRIMZI_KAFKA_AGENT_PORT}"
+  fi
+  KAFKA_OPTS="${KAFKA_OPTS} -javaagent:$(ls "$KAFKA_HOME"/libs/kafka-agent*.jar)=${KAFKA_AGENT_ARGS}"
   export KAFKA_OPTS
 fi
 
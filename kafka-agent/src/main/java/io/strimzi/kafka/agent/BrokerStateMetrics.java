@@ -0,0 +1,159 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.kafka.agent;
+
+import com.yammer.metrics.core.Gauge;
+import com.yammer.metrics.core.Metric;
+import com.yammer.metrics.core.MetricName;
+import com.yammer.metrics.core.MetricsRegistryListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of the Yammer metrics which describe the state of the broker and renders them as JSON for the broker
+ * state endpoint. The tracked metrics are:
+ * <ul>
+ *     <li>{@code kafka.server:type=KafkaServer,name=BrokerState}</li>
+ *     <li>{@code kafka.server:type=SessionExpireListener,name=SessionState} (ZooKeeper based clusters only)</li>
+ *     <li>{@code kafka.server:type=ReplicaManager,name=UnderReplicatedPartitions}</li>
+ *     <li>{@code kafka.log:type=LogManager,name=remainingLogsToRecover} (one per log directory)</li>
+ *     <li>{@code kafka.log:type=LogManager,name=remainingSegmentsToRecover} (one per log directory and recovery thread)</li>
+ * </ul>
+ * The log recovery metrics exist only while the logs are being recovered, which is why the removed metrics are tracked
+ * as well.
+ */
+public class BrokerStateMetrics implements MetricsRegistryListener {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BrokerStateMetrics.class);
+
+    /**
+     * Value reported for metrics which are not registered (yet)
+     */
+    /* test */ static final int UNKNOWN = -1;
+
+    private volatile Gauge<?> brokerState;
+    private volatile Gauge<?> sessionState;
+    private volatile Gauge<?> underReplicatedPartitions;
+    private final Map<MetricName, Gauge<?>> remainingLogsToRecover = new ConcurrentHashMap<>();
+    private final Map<MetricName, Gauge<?>> remainingSegmentsToRecover = new ConcurrentHashMap<>();
+
+    @Override
+    public void onMetricAdded(MetricName metricName, Metric metric) {
+        if (!(metric instanceof Gauge)) {
+            return;
+        }
+
+        Gauge<?> gauge = (Gauge<?>) metric;
+
+        if ("kafka.server".equals(metricName.getGroup())) {
+            if ("KafkaServer".equals(metricName.getType()) && "BrokerState".equals(metricName.getName())) {
+                brokerState = gauge;
+            } else if ("SessionExpireListener".equals(metricName.getType()) && "SessionState".equals(metricName.getName())) {
+                sessionState = gauge;
+            } else if ("ReplicaManager".equals(metricName.getType()) && "UnderReplicatedPartitions".equals(metricName.getName())) {
+                underReplicatedPartitions = gauge;
+            }
+        } else if ("kafka.log".equals(metricName.getGroup()) && "LogManager".equals(metricName.getType())) {
+            if ("remainingLogsToRecover".equals(metricName.getName())) {
+                LOGGER.debug("Metric {} added", metricName);
+                remainingLogsToRecover.put(metricName, gauge);
+            } else if ("remainingSegmentsToRecover".equals(metricName.getName())) {
+                LOGGER.debug("Metric {} added", metricName);
+                remainingSegmentsToRecover.put(metricName, gauge);
+            }
+        }
+    }
+
+    @Override
+    public void onMetricRemoved(MetricName metricName) {
+        if ("kafka.log".equals(metricName.getGroup()) && "LogManager".equals(metricName.getType())) {
+            remainingLogsToRecover.remove(metricName);
+            remainingSegmentsToRecover.remove(metricName);
+        } else if ("kafka.server".equals(metricName.getGroup())
+                && "ReplicaManager".equals(metricName.getType())
+                && "UnderReplicatedPartitions".equals(metricName.getName())) {
+            underReplicatedPartitions = null;
+        }
+    }
+
+    /**
+     * @return  The broker state as defined by {@code kafka.server.BrokerState} or -1 when it is not known yet
+     */
+    public int brokerState() {
+        return intValue(brokerState);
+    }
+
+    /**
+     * @return  The ZooKeeper session state or null when it is not known
+     */
+    public String sessionState() {
+        Gauge<?> gauge = sessionState;
+        return gauge != null ? String.valueOf(gauge.value()) : null;
+    }
+
+    /**
+     * @return  Number of under-replicated partitions or -1 when it is not known yet
+     */
+    public int underReplicatedPartitions() {
+        return intValue(underReplicatedPartitions);
+    }
+
+    /**
+     * @return  Number of logs which remain to be recovered in all log directories
+     */
+    public int remainingLogsToRecover() {
+        return sum(remainingLogsToRecover);
+    }
+
+    /**
+     * @return  Number of segments which remain to be recovered in all log directories
+     */
+    public int remainingSegmentsToRecover() {
+        return sum(remainingSegmentsToRecover);
+    }
+
+    /**
+     * Renders the broker state as JSON. For example:
+     * <pre>
+     * {"brokerState":2,"recoveryState":{"remainingLogsToRecover":120,"remainingSegmentsToRecover":1500},"underReplicatedPartitions":-1,"sessionState":"CONNECTED"}
+     * </pre>
+     *
+     * @return  The broker state in JSON format
+     */
+    public String toJson() {
+        String session = sessionState();
+
+        return "{\"brokerState\":" + brokerState()
+                + ",\"recoveryState\":{\"remainingLogsToRecover\":" + remainingLogsToRecover()
+                + ",\"remainingSegmentsToRecover\":" + remainingSegmentsToRecover() + "}"
+                + ",\"underReplicatedPartitions\":" + underReplicatedPartitions()
+                + ",\"sessionState\":" + (session != null ? "\"" + session.replace("\\", "\\\\").replace("\"", "\\\"") + "\"" : "null")
+                + "}";
+    }
+
+    private static int sum(Map<MetricName, Gauge<?>> gauges) {
+        int sum = 0;
+
+        for (Gauge<?> gauge : gauges.values()) {
+            sum += Math.max(intValue(gauge), 0);
+        }
+
+        return sum;
+    }
+
+    private static int intValue(Gauge<?> gauge) {
+        if (gauge != null) {
+            Object value = gauge.value();
+
+            if (value instanceof Number) {
+                return ((Number) value).intValue();
+            }
+        }
+
+        return UNKNOWN;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.kafka.agent;
+
+import com.yammer.metrics.core.Gauge;
+import com.yammer.metrics.core.MetricName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Detects changes of the values of Yammer gauges and notifies the listeners only when the value changes.
+ *
+ * The Yammer gauges do not notify anybody when their value changes, so their values are sampled. Sampling a gauge is
+ * just a read of the value held by the broker, so it is done frequently (every 50ms by default) to react to the
+ * changes with a low latency. The listeners, which typically do file I/O, are called only when the value changed.
+ * A gauge is sampled for the first time as soon as it is watched, so its initial value is reported without waiting
+ * for the next sampling.
+ *
+ * All gauges are sampled and all listeners are called from a single daemon thread.
+ */
+public class GaugeChangeDetector {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GaugeChangeDetector.class);
+
+    /**
+     * Default interval in which the watched gauges are sampled
+     */
+    public static final long DEFAULT_INTERVAL_MS = 50L;
+
+    private static final Object NOT_SAMPLED = new Object();
+
+    private final long intervalMs;
+    private final List<Watch> watches = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "KafkaAgentChangeDetector");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Constructs the change detector
+     *
+     * @param intervalMs    Interval in milliseconds in which the watched gauges are sampled
+     */
+    public GaugeChangeDetector(long intervalMs) {
+        this.intervalMs = intervalMs;
+    }
+
+    /**
+     * Starts sampling the watched gauges
+     */
+    public void start() {
+        executor.scheduleWithFixedDelay(this::detectChanges, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops sampling the watched gauges. It can be called from the listeners as well.
+     */
+    public void stop() {
+        executor.shutdown();
+    }
+
+    /**
+     * @return  True if the detector was stopped. False otherwise.
+     */
+    public boolean isStopped() {
+        return executor.isShutdown();
+    }
+
+    /**
+     * Watches the given gauge. The listener is called with the old and the new value whenever the value of the gauge
+     * changes. When the gauge is sampled for the first time, the old value is null.
+     *
+     * @param name      Name of the metric
+     * @param gauge     The gauge
+     * @param listener  Listener called with the old and the new value
+     */
+    public void watch(MetricName name, Gauge<?> gauge, BiConsumer<Object, Object> listener) {
+        LOGGER.debug("Watching metric {}", name);
+        watches.add(new Watch(name, gauge, listener));
+
+        try {
+            executor.execute(this::detectChanges);
+        } catch (RejectedExecutionException e) {
+            LOGGER.debug("Change detector is already stopped and metric {} will not be sampled", name);
+        }
+    }
+
+    /**
+     * Stops watching the given metric
+     *
+     * @param name  Name of the metric
+     */
+    public void unwatch(MetricName name) {
+        watches.removeIf(watch -> watch.name.equals(name));
+    }
+
+    /**
+     * Samples all watched gauges and calls the listeners of the gauges which changed
+     */
+    /* test */ void detectChanges() {
+        for (Watch watch : watches) {
+            if (isStopped()) {
+                break;
+            }
+
+            Object value;
+
+            try {
+                value = watch.gauge.value();
+            } catch (RuntimeException e) {
+                LOGGER.debug("Failed to sample metric {}", watch.name, e);
+                continue;
+            }
+
+            if (!Objects.equals(watch.lastValue, value)) {
+                Object oldValue = watch.lastValue == NOT_SAMPLED ? null : watch.lastValue;
+                watch.lastValue = value;
+                LOGGER.trace("Metric {} changed from {} to {}", watch.name, oldValue, value);
+
+                try {
+                    watch.listener.accept(oldValue, value);
+                } catch (RuntimeException e) {
+                    LOGGER.error("Failed to handle the change of metric {}", watch.name, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Watched gauge. The last value is updated only from the thread sampling the gauges.
+     */
+    private static class Watch {
+        private final MetricName name;
+        private final Gauge<?> gauge;
+        private final BiConsumer<Object, Object> listener;
+        private volatile Object lastValue = NOT_SAMPLED;
+
+        Watch(MetricName name, Gauge<?> gauge, BiConsumer<Object, Object> listener) {
+            this.name = name;
+            this.gauge = gauge;
+            this.listener = listener;
+        }
+    }
+}
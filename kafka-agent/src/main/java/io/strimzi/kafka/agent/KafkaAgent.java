@@ -9,6 +9,8 @@ import com.yammer.metrics.core.Metric;
 import com.yammer.metrics.core.MetricName;
 import com.yammer.metrics.core.MetricsRegistry;
 import com.yammer.metrics.core.MetricsRegistryListener;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
 import kafka.metrics.KafkaYammerMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,27 +18,74 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
 
 /**
- * A very simple Java agent which polls the value of the {@code kafka.server:type=KafkaServer,name=BrokerState}
+ * A very simple Java agent which watches the value of the {@code kafka.server:type=KafkaServer,name=BrokerState}
  * Yammer Metric and once it reaches the value 3 (meaning "running as broker", see {@code kafka.server.BrokerState}),
  * creates a given file.
  * The presence of this file is tested via a Kube "exec" readiness probe to determine when the broker is ready.
+ * The metrics are watched using a {@link GaugeChangeDetector}, so the files are updated within tens of milliseconds
+ * after the state changes and file I/O is done only when the state changes.
+ *
+ * When a port is configured, the agent also runs a small HTTP server which serves the broker state, the log recovery
+ * progress, the number of under-replicated partitions and the ZooKeeper session state in JSON format on the
+ * {@code /v1/broker-state} path. The Cluster Operator uses it during rolling updates to distinguish a broker which is
+ * still recovering its logs from a broker which is stuck. The server listens only on the address from the
+ * {@code STRIMZI_KAFKA_AGENT_BIND_ADDRESS} environment variable (the pod IP address) or on the loopback address when it
+ * is not set, so that it is not exposed on other network interfaces. The endpoint does not serve any sensitive data and
+ * the network policy allows only the Cluster Operator to access it.
  */
 public class KafkaAgent {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(KafkaAgent.class);
 
+    /* test */ static final String BROKER_STATE_PATH = "/v1/broker-state";
+    private static final String BIND_ADDRESS_ENV_VAR = "STRIMZI_KAFKA_AGENT_BIND_ADDRESS";
+
     private final File sessionConnectedFile;
-    private File brokerReadyFile;
-    private MetricName brokerStateName;
-    private Gauge brokerState;
-    private MetricName sessionStateName;
-    private Gauge sessionState;
+    private final File brokerReadyFile;
+    private final String brokerStateAddress;
+    private final int brokerStatePort;
+    private final BrokerStateMetrics brokerStateMetrics = new BrokerStateMetrics();
+    private final GaugeChangeDetector changeDetector;
 
     public KafkaAgent(File brokerReadyFile, File sessionConnectedFile) {
+        this(brokerReadyFile, sessionConnectedFile, null, -1);
+    }
+
+    /**
+     * Constructs the agent
+     *
+     * @param brokerReadyFile       File created once the broker is running
+     * @param sessionConnectedFile  File which exists while the ZooKeeper session is connected
+     * @param brokerStateAddress    Address on which the broker state HTTP endpoint listens or null for the loopback address
+     * @param brokerStatePort       Port of the broker state HTTP endpoint or -1 when it should not be started
+     */
+    public KafkaAgent(File brokerReadyFile, File sessionConnectedFile, String brokerStateAddress, int brokerStatePort) {
+        this(brokerReadyFile, sessionConnectedFile, brokerStateAddress, brokerStatePort, GaugeChangeDetector.DEFAULT_INTERVAL_MS);
+    }
+
+    /**
+     * Constructs the agent
+     *
+     * @param brokerReadyFile               File created once the broker is running
+     * @param sessionConnectedFile          File which exists while the ZooKeeper session is connected
+     * @param brokerStateAddress            Address on which the broker state HTTP endpoint listens or null for the
+     *                                      loopback address
+     * @param brokerStatePort               Port of the broker state HTTP endpoint or -1 when it should not be started
+     * @param changeDetectionIntervalMs     Interval in which the broker and session state metrics are sampled
+     */
+    /* test */ KafkaAgent(File brokerReadyFile, File sessionConnectedFile, String brokerStateAddress, int brokerStatePort, long changeDetectionIntervalMs) {
         this.brokerReadyFile = brokerReadyFile;
         this.sessionConnectedFile = sessionConnectedFile;
+        this.brokerStateAddress = brokerStateAddress;
+        this.brokerStatePort = brokerStatePort;
+        this.changeDetector = new GaugeChangeDetector(changeDetectionIntervalMs);
     }
 
     private void run() {
@@ -44,108 +93,162 @@ public class KafkaAgent {
 
         MetricsRegistry metricsRegistry = KafkaYammerMetrics.defaultRegistry();
 
+        if (brokerStatePort > 0) {
+            metricsRegistry.addListener(brokerStateMetrics);
+
+            try {
+                startBrokerStateServer(brokerStateAddress, brokerStatePort, brokerStateMetrics);
+            } catch (IOException e) {
+                // The readiness files are still maintained, only the additional state information is not available
+                LOGGER.error("Could not start the broker state endpoint on {}:{}", brokerStateAddress, brokerStatePort, e);
+            }
+        }
+
+        run(metricsRegistry);
+    }
+
+    /**
+     * Starts watching the broker state and session state metrics in the given registry. The files are created or
+     * deleted as soon as the values of the metrics change. Once the broker is running, the agent stops watching.
+     *
+     * @param metricsRegistry   Registry with the Kafka metrics
+     */
+    /* test */ void run(MetricsRegistry metricsRegistry) {
+        LOGGER.info("Starting change detector");
+        changeDetector.start();
+
         metricsRegistry.addListener(new MetricsRegistryListener() {
             @Override
             public void onMetricRemoved(MetricName metricName) {
+                changeDetector.unwatch(metricName);
             }
 
             @Override
-            public synchronized void onMetricAdded(MetricName metricName, Metric metric) {
+            public void onMetricAdded(MetricName metricName, Metric metric) {
                 LOGGER.trace("Metric added {}", metricName);
-                if ("kafka.server".equals(metricName.getGroup())) {
+                if ("kafka.server".equals(metricName.getGroup()) && metric instanceof Gauge) {
                     if ("KafkaServer".equals(metricName.getType())
-                            && "BrokerState".equals(metricName.getName())
-                            && metric instanceof Gauge) {
+                            && "BrokerState".equals(metricName.getName())) {
                         LOGGER.debug("Metric {} added ", metricName);
-                        brokerStateName = metricName;
-                        brokerState = (Gauge) metric;
+                        changeDetector.watch(metricName, (Gauge<?>) metric, (oldValue, value) -> {
+                            if (handleBrokerState(metricName, value)) {
+                                metricsRegistry.removeListener(this);
+                                changeDetector.stop();
+                                LOGGER.debug("Broker is ready, stopped the change detector");
+                            }
+                        });
                     } else if ("SessionExpireListener".equals(metricName.getType())
-                            && "SessionState".equals(metricName.getName())
-                            && metric instanceof Gauge) {
-                        sessionStateName = metricName;
-                        sessionState = (Gauge) metric;
+                            && "SessionState".equals(metricName.getName())) {
+                        LOGGER.debug("Metric {} added ", metricName);
+                        changeDetector.watch(metricName, (Gauge<?>) metric, (oldValue, value) -> handleSessionState(metricName, value));
                     }
                 }
-                if (brokerState != null
-                        && sessionState != null) {
-                    metricsRegistry.removeListener(this);
-                    LOGGER.info("Starting poller");
-                    Thread pollerThread = new Thread(poller(),
-                            "KafkaAgentPoller");
-                    pollerThread.setDaemon(true);
-                    pollerThread.start();
-                }
             }
         });
     }
 
-    private Runnable poller() {
-        return new Runnable() {
-            int i = 0;
-
-            @Override
-            public void run() {
-                while (true) {
-                    handleSessionState();
+    /**
+     * @return  True if the agent stopped watching the metrics because the broker is ready. False otherwise.
+     */
+    /* test */ boolean isStopped() {
+        return changeDetector.isStopped();
+    }
 
-                    if (handleBrokerState()) {
-                        break;
-                    }
+    /**
+     * Handles the change of the broker state. Creates the readiness file when the broker is running.
+     *
+     * @param brokerStateName   Name of the broker state metric
+     * @param value             New value of the broker state
+     *
+     * @return  True if the broker is ready. False otherwise.
+     */
+    private boolean handleBrokerState(MetricName brokerStateName, Object value) {
+        Integer running = Integer.valueOf(3);
 
-                    try {
-                        Thread.sleep(1000L);
-                    } catch (InterruptedException e) {
-                        // In theory this should never normally happen
-                        LOGGER.warn("Unexpectedly interrupted");
-                        break;
-                    }
-                }
-                LOGGER.debug("Exiting thread");
+        if ((value instanceof Integer && running.equals(value))
+                || (value instanceof Byte && running.equals(((Byte) value).intValue()))) {
+            try {
+                LOGGER.trace("Running as server according to {} => ready", brokerStateName);
+                touch(brokerReadyFile);
+            } catch (IOException e) {
+                LOGGER.error("Could not write readiness file {}", brokerReadyFile, e);
             }
 
-            boolean handleBrokerState() {
-                LOGGER.trace("Polling {}", brokerStateName);
-                boolean ready = false;
-                Integer running = Integer.valueOf(3);
-                Object value = brokerState.value();
-
-                if ((value instanceof Integer && running.equals(value))
-                        || (value instanceof Byte && running.equals(((Byte) value).intValue()))) {
-                    try {
-                        LOGGER.trace("Running as server according to {} => ready", brokerStateName);
-                        touch(brokerReadyFile);
-                    } catch (IOException e) {
-                        LOGGER.error("Could not write readiness file {}", brokerReadyFile, e);
-                    }
-                    ready = true;
+            return true;
+        } else {
+            LOGGER.debug("Metric {} = {} (type: {})", brokerStateName, value, value != null ? value.getClass() : null);
+            return false;
+        }
+    }
 
-                } else if (i++ % 60 == 0) {
-                    LOGGER.debug("Metric {} = {} (type: {})", brokerStateName, value, value.getClass());
-                }
-                return ready;
+    /**
+     * Handles the change of the ZooKeeper session state. Creates the session connected file when the session is
+     * connected and deletes it otherwise.
+     *
+     * @param sessionStateName  Name of the session state metric
+     * @param value             New value of the session state
+     */
+    private void handleSessionState(MetricName sessionStateName, Object value) {
+        String sessionStateStr = String.valueOf(value);
+
+        if ("CONNECTED".equals(sessionStateStr)) {
+            try {
+                touch(sessionConnectedFile);
+            } catch (IOException e) {
+                LOGGER.error("Could not write session connected file {}", sessionConnectedFile, e);
+            }
+        } else {
+            if (sessionConnectedFile.exists() && !sessionConnectedFile.delete()) {
+                LOGGER.error("Could not delete session connected file {}", sessionConnectedFile);
             }
 
-            void handleSessionState() {
-                LOGGER.trace("Polling {}", sessionStateName);
-                String sessionStateStr = String.valueOf(sessionState.value());
-                if ("CONNECTED".equals(sessionStateStr)) {
-                    if (!sessionConnectedFile.exists()) {
-                        try {
-                            touch(sessionConnectedFile);
-                        } catch (IOException e) {
-                            LOGGER.error("Could not write session connected file {}", sessionConnectedFile, e);
-                        }
-                    }
-                } else {
-                    if (sessionConnectedFile.exists() && !sessionConnectedFile.delete()) {
-                        LOGGER.error("Could not delete session connected file {}", sessionConnectedFile);
-                    }
-                    if (i++ % 60 == 0) {
-                        LOGGER.debug("Metric {} = {}", sessionStateName, sessionStateStr);
-                    }
+            LOGGER.debug("Metric {} = {}", sessionStateName, sessionStateStr);
+        }
+    }
+
+    /**
+     * Starts the HTTP server serving the broker state. The server uses a single daemon thread because the requests
+     * only read the current values of the metrics.
+     *
+     * @param address   Address on which the server listens or null for the loopback address
+     * @param port      Port on which the server listens
+     * @param metrics   Metrics providing the broker state
+     *
+     * @return  The started HTTP server
+     *
+     * @throws IOException  When the server could not be started
+     */
+    /* test */ static HttpServer startBrokerStateServer(String address, int port, BrokerStateMetrics metrics) throws IOException {
+        InetAddress bindAddress = address != null ? InetAddress.getByName(address) : InetAddress.getLoopbackAddress();
+        HttpServer server = HttpServer.create(new InetSocketAddress(bindAddress, port), 0);
+        server.createContext(BROKER_STATE_PATH, exchange -> handleBrokerState(exchange, metrics));
+        server.setExecutor(Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "KafkaAgentBrokerState");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.start();
+
+        LOGGER.info("Broker state endpoint listening on {}", server.getAddress());
+        return server;
+    }
+
+    private static void handleBrokerState(HttpExchange exchange, BrokerStateMetrics metrics) throws IOException {
+        try {
+            if ("GET".equals(exchange.getRequestMethod())) {
+                byte[] body = metrics.toJson().getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
                 }
+            } else {
+                exchange.sendResponseHeaders(405, -1);
             }
-        };
+        } finally {
+            exchange.close();
+        }
     }
 
     private void touch(File file) throws IOException {
@@ -155,17 +258,31 @@ public class KafkaAgent {
     }
 
     /**
-     * Agent entry point
+     * Agent entry point. The arguments are in the format {@code <brokerReadyFile>:<sessionConnectedFile>[:<brokerStatePort>]}.
+     * The address of the broker state endpoint is read from the {@code STRIMZI_KAFKA_AGENT_BIND_ADDRESS} environment
+     * variable, because IPv6 addresses cannot be passed in the colon separated arguments.
+     *
      * @param agentArgs The agent arguments
      */
     public static void premain(String agentArgs) {
-        int index = agentArgs.indexOf(':');
-        if (index == -1) {
+        String[] args = agentArgs.split(":");
+        int brokerStatePort = -1;
+
+        if (args.length == 3) {
+            try {
+                brokerStatePort = Integer.parseInt(args[2]);
+            } catch (NumberFormatException e) {
+                LOGGER.error("Unable to parse the broker state port in arguments {}", agentArgs);
+                System.exit(1);
+            }
+        }
+
+        if (args.length < 2 || args.length > 3) {
             LOGGER.error("Unable to parse arguments {}", agentArgs);
             System.exit(1);
         } else {
-            File brokerReadyFile = new File(agentArgs.substring(0, index));
-            File sessionConnectedFile = new File(agentArgs.substring(index + 1));
+            File brokerReadyFile = new File(args[0]);
+            File sessionConnectedFile = new File(args[1]);
             if (brokerReadyFile.exists() && !brokerReadyFile.delete()) {
                 LOGGER.error("Broker readiness file already exists and could not be deleted: {}", brokerReadyFile);
                 System.exit(1);
@@ -173,8 +290,13 @@ public class KafkaAgent {
                 LOGGER.error("Session connected file already exists and could not be deleted: {}", sessionConnectedFile);
                 System.exit(1);
             } else {
-                LOGGER.info("Starting KafkaAgent with brokerReadyFile={} and sessionConnectedFile={}", brokerReadyFile, sessionConnectedFile);
-                new KafkaAgent(brokerReadyFile, sessionConnectedFile).run();
+                String brokerStateAddress = System.getenv(BIND_ADDRESS_ENV_VAR);
+                if (brokerStateAddress != null && brokerStateAddress.isEmpty()) {
+                    brokerStateAddress = null;
+                }
+
+                LOGGER.info("Starting KafkaAgent with brokerReadyFile={}, sessionConnectedFile={}, brokerStateAddress={} and brokerStatePort={}", brokerReadyFile, sessionConnectedFile, brokerStateAddress, brokerStatePort);
+                new KafkaAgent(brokerReadyFile, sessionConnectedFile, brokerStateAddress, brokerStatePort).run();
             }
         }
     }
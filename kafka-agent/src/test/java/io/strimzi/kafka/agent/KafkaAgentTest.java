@@ -0,0 +1,215 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.kafka.agent;
+
+import com.sun.net.httpserver.HttpServer;
+import com.yammer.metrics.core.Gauge;
+import com.yammer.metrics.core.MetricName;
+import com.yammer.metrics.core.MetricsRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class KafkaAgentTest {
+    private static final byte NOT_RUNNING = 0;
+    private static final byte STARTING = 1;
+    private static final byte RECOVERY = 2;
+    private static final byte RUNNING_AS_BROKER = 3;
+
+    private static final long AWAIT_TIMEOUT_NS = TimeUnit.SECONDS.toNanos(30);
+
+    @TempDir
+    public File tempDir;
+
+    /**
+     * Simulates the broker state and session state metrics of a Kafka broker
+     */
+    static class SimulatedBroker {
+        private final MetricsRegistry registry = new MetricsRegistry();
+        private final AtomicReference<Byte> brokerState = new AtomicReference<>(NOT_RUNNING);
+        private final AtomicReference<String> sessionState = new AtomicReference<>("NOT_CONNECTED");
+        private final AtomicInteger brokerStateSamples = new AtomicInteger();
+
+        void registerBrokerState() {
+            registry.newGauge(new MetricName("kafka.server", "KafkaServer", "BrokerState"), new Gauge<Byte>() {
+                @Override
+                public Byte value() {
+                    brokerStateSamples.incrementAndGet();
+                    return brokerState.get();
+                }
+            });
+        }
+
+        void registerSessionState() {
+            registry.newGauge(new MetricName("kafka.server", "SessionExpireListener", "SessionState"), new Gauge<String>() {
+                @Override
+                public String value() {
+                    return sessionState.get();
+                }
+            });
+        }
+
+        void brokerState(byte state) {
+            brokerState.set(state);
+        }
+
+        void sessionState(String state) {
+            sessionState.set(state);
+        }
+
+        /**
+         * Waits until the agent handled the current broker state. The gauges are sampled and the changes are handled
+         * by a single thread, so once the gauge is sampled twice after the state was set, the change was handled.
+         */
+        void awaitBrokerStateHandled() {
+            int samples = brokerStateSamples.get();
+            await("broker state to be sampled", () -> brokerStateSamples.get() >= samples + 2);
+        }
+    }
+
+    /**
+     * Waits until the condition is met
+     *
+     * @param description   Description of the condition used in the error message
+     * @param condition     The condition
+     */
+    private static void await(String description, BooleanSupplier condition) {
+        long deadline = System.nanoTime() + AWAIT_TIMEOUT_NS;
+
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Timed out waiting for " + description);
+            }
+
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1L));
+        }
+    }
+
+    private static void awaitFile(File file, boolean exists) {
+        await("file " + file + " to " + (exists ? "exist" : "not exist"), () -> file.exists() == exists);
+    }
+
+    @Test
+    public void testReadyOnlyWhenRunningAsBroker() {
+        File readyFile = new File(tempDir, "kafka-ready");
+        File sessionFile = new File(tempDir, "zk-connected");
+        SimulatedBroker broker = new SimulatedBroker();
+        KafkaAgent agent = new KafkaAgent(readyFile, sessionFile, null, -1, 10L);
+
+        agent.run(broker.registry);
+        broker.registerBrokerState();
+        broker.registerSessionState();
+
+        for (byte state : new byte[] {STARTING, RECOVERY}) {
+            broker.brokerState(state);
+            broker.awaitBrokerStateHandled();
+            assertThat(readyFile.exists(), is(false));
+            assertThat(agent.isStopped(), is(false));
+        }
+
+        broker.brokerState(RUNNING_AS_BROKER);
+        awaitFile(readyFile, true);
+
+        // The agent stops watching the metrics once the broker is ready
+        await("agent to stop", agent::isStopped);
+    }
+
+    @Test
+    public void testReadyWhenMetricsRegisteredAfterStart() {
+        File readyFile = new File(tempDir, "kafka-ready");
+        File sessionFile = new File(tempDir, "zk-connected");
+        SimulatedBroker broker = new SimulatedBroker();
+        broker.brokerState(RUNNING_AS_BROKER);
+        broker.sessionState("CONNECTED");
+
+        // Use an interval longer than the await timeout to check that the gauges are sampled as soon as they are
+        // registered and not only in the next interval
+        KafkaAgent agent = new KafkaAgent(readyFile, sessionFile, null, -1, 60_000L);
+        agent.run(broker.registry);
+        broker.registerSessionState();
+        broker.registerBrokerState();
+
+        awaitFile(sessionFile, true);
+        awaitFile(readyFile, true);
+    }
+
+    @Test
+    public void testSessionStateTransitions() {
+        File readyFile = new File(tempDir, "kafka-ready");
+        File sessionFile = new File(tempDir, "zk-connected");
+        SimulatedBroker broker = new SimulatedBroker();
+        KafkaAgent agent = new KafkaAgent(readyFile, sessionFile, null, -1, 10L);
+
+        agent.run(broker.registry);
+        broker.registerBrokerState();
+        broker.registerSessionState();
+
+        broker.sessionState("CONNECTED");
+        awaitFile(sessionFile, true);
+
+        broker.sessionState("DISCONNECTED");
+        awaitFile(sessionFile, false);
+
+        broker.sessionState("CONNECTED");
+        awaitFile(sessionFile, true);
+
+        assertThat(readyFile.exists(), is(false));
+    }
+
+    @Test
+    public void testReadyAfterRecoveryWithDefaultInterval() {
+        File readyFile = new File(tempDir, "kafka-ready");
+        File sessionFile = new File(tempDir, "zk-connected");
+        SimulatedBroker broker = new SimulatedBroker();
+        KafkaAgent agent = new KafkaAgent(readyFile, sessionFile, null, -1);
+
+        agent.run(broker.registry);
+        broker.registerBrokerState();
+        broker.registerSessionState();
+
+        broker.brokerState(RECOVERY);
+        broker.awaitBrokerStateHandled();
+        assertThat(readyFile.exists(), is(false));
+
+        broker.brokerState(RUNNING_AS_BROKER);
+        awaitFile(readyFile, true);
+        await("agent to stop", agent::isStopped);
+    }
+
+    @Test
+    public void testBrokerStateServerListensOnLoopbackByDefault() throws IOException {
+        HttpServer server = KafkaAgent.startBrokerStateServer(null, 0, new BrokerStateMetrics());
+
+        try {
+            assertThat(server.getAddress().getAddress(), is(InetAddress.getLoopbackAddress()));
+
+            URL url = new URL("http", InetAddress.getLoopbackAddress().getHostAddress(), server.getAddress().getPort(), KafkaAgent.BROKER_STATE_PATH);
+            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+
+            assertThat(connection.getResponseCode(), is(200));
+            try (InputStream is = connection.getInputStream()) {
+                assertThat(new String(is.readAllBytes(), StandardCharsets.UTF_8), containsString("\"brokerState\""));
+            }
+        } finally {
+            server.stop(0);
+        }
+    }
+}
@@ -25,13 +25,10 @@ import io.strimzi.operator.common.model.NamespaceAndName;
 import io.strimzi.operator.common.operator.resource.AbstractWatchableStatusedResourceOperator;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
-import io.strimzi.operator.common.operator.resource.TimeoutException;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
-import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
-import io.vertx.core.shareddata.Lock;
 
 import java.util.ArrayList;
 import java.util.Map;
@@ -70,8 +67,6 @@ public abstract class AbstractOperator<
 
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(AbstractOperator.class);
 
-    private static final long PROGRESS_WARNING = 60_000L;
-    protected static final int LOCK_TIMEOUT_MS = 10000;
     public static final String METRICS_PREFIX = "strimzi.";
 
     protected final Vertx vertx;
@@ -82,6 +77,9 @@ public abstract class AbstractOperator<
 
     protected final OperatorMetricsHolder metrics;
 
+    private final ReconciliationScheduler scheduler;
+    private final ResourceWorkQueue workQueue;
+
     private Map<String, AtomicInteger> resourcesStateCounter = new ConcurrentHashMap<>(1);
 
     /**
@@ -96,11 +94,35 @@ public abstract class AbstractOperator<
      * @param selectorLabels    Selector labels for selecting custom resources which should be operated
      */
     public AbstractOperator(Vertx vertx, String kind, O resourceOperator, OperatorMetricsHolder metrics, Labels selectorLabels) {
+        this(vertx, kind, resourceOperator, metrics, selectorLabels, 0, 0);
+    }
+
+    /**
+     * Constructs the AbstractOperator with a reconciliation scheduler. When {@code maxConcurrentReconciliations} is
+     * bigger than zero, the reconciliations are queued and at most {@code maxConcurrentReconciliations} of them are
+     * executed at the same time. The reconciliations triggered by watch events are executed before the periodic
+     * reconciliations, which are spread over {@code periodicReconciliationSpreadMs} milliseconds.
+     *
+     * @param vertx                             Vert.x instance
+     * @param kind                              Resource kind which will be operated by this operator
+     * @param resourceOperator                  Resource operator for given custom resource
+     * @param metrics                           MetricsHolder for managing operator metrics
+     * @param selectorLabels                    Selector labels for selecting custom resources which should be operated
+     * @param maxConcurrentReconciliations      Maximal number of concurrent reconciliations. Zero or less disables
+     *                                          the scheduler.
+     * @param periodicReconciliationSpreadMs    Time window over which the periodic reconciliations are spread
+     */
+    public AbstractOperator(Vertx vertx, String kind, O resourceOperator, OperatorMetricsHolder metrics, Labels selectorLabels,
+                            int maxConcurrentReconciliations, long periodicReconciliationSpreadMs) {
         this.vertx = vertx;
         this.kind = kind;
         this.resourceOperator = resourceOperator;
         this.selector = (selectorLabels == null || selectorLabels.toMap().isEmpty()) ? Optional.empty() : Optional.of(new LabelSelector(null, selectorLabels.toMap()));
         this.metrics = metrics;
+        this.workQueue = new ResourceWorkQueue(vertx);
+        this.scheduler = maxConcurrentReconciliations > 0
+                ? new ReconciliationScheduler(vertx, metrics, maxConcurrentReconciliations, periodicReconciliationSpreadMs)
+                : null;
     }
 
     /**
@@ -118,6 +140,24 @@ public abstract class AbstractOperator<
         this(vertx, kind, resourceOperator, new OperatorMetricsHolder(kind, selectorLabels, metricsProvider), selectorLabels);
     }
 
+    /**
+     * Constructs the AbstractOperator with a reconciliation scheduler using the MetricsProvider instance.
+     *
+     * @param vertx                             Vert.x instance
+     * @param kind                              Resource kind which will be operated by this operator
+     * @param resourceOperator                  Resource operator for given custom resource
+     * @param metricsProvider                   Metrics provider which should be used to create the OperatorMetricsHolder instance
+     * @param selectorLabels                    Selector labels for selecting custom resources which should be operated
+     * @param maxConcurrentReconciliations      Maximal number of concurrent reconciliations. Zero or less disables
+     *                                          the scheduler.
+     * @param periodicReconciliationSpreadMs    Time window over which the periodic reconciliations are spread
+     */
+    public AbstractOperator(Vertx vertx, String kind, O resourceOperator, MetricsProvider metricsProvider, Labels selectorLabels,
+                            int maxConcurrentReconciliations, long periodicReconciliationSpreadMs) {
+        this(vertx, kind, resourceOperator, new OperatorMetricsHolder(kind, selectorLabels, metricsProvider), selectorLabels,
+                maxConcurrentReconciliations, periodicReconciliationSpreadMs);
+    }
+
     @Override
     public String kind() {
         return kind;
@@ -128,15 +168,19 @@ public abstract class AbstractOperator<
         return metrics;
     }
 
+    /* test */ ResourceWorkQueue workQueue() {
+        return workQueue;
+    }
+
     /**
-     * Gets the name of the lock to be used for operating on the given {@code namespace} and
+     * Gets the key of the work queue to be used for operating on the given {@code namespace} and
      * cluster {@code name}
      *
      * @param namespace The namespace containing the cluster
      * @param name The name of the cluster
      */
-    /* test */ String getLockName(String namespace, String name) {
-        return "lock::" + namespace + "::" + kind() + "::" + name;
+    /* test */ String getWorkQueueKey(String namespace, String name) {
+        return namespace + "::" + kind() + "::" + name;
     }
 
     /**
@@ -170,15 +214,39 @@ public abstract class AbstractOperator<
      * @return A Future which is completed with the result of the reconciliation.
      */
     @Override
-    @SuppressWarnings("unchecked")
     public final Future<Void> reconcile(Reconciliation reconciliation) {
+        if (scheduler != null) {
+            return scheduler.schedule(reconciliation, () -> reconcileNow(reconciliation));
+        } else {
+            return reconcileNow(reconciliation);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Future<Void> reconcileNow(Reconciliation reconciliation) {
         String namespace = reconciliation.namespace();
         String name = reconciliation.name();
 
-        metrics().reconciliationsCounter(reconciliation.namespace()).increment();
-        Timer.Sample reconciliationTimerSample = Timer.start(metrics().metricsProvider().meterRegistry());
+        return withWorkQueue(reconciliation, () -> {
+            metrics().reconciliationsCounter(reconciliation.namespace()).increment();
+            Timer.Sample reconciliationTimerSample = Timer.start(metrics().metricsProvider().meterRegistry());
+
+            Promise<Void> result = Promise.promise();
+            reconcileResource(reconciliation, namespace, name).onComplete(reconcileResult -> {
+                try {
+                    handleResult(reconciliation, reconcileResult, reconciliationTimerSample);
+                } finally {
+                    result.handle(reconcileResult);
+                }
+            });
+
+            return result.future();
+        });
+    }
 
-        Future<Void> handler = withLock(reconciliation, LOCK_TIMEOUT_MS, () -> {
+    @SuppressWarnings("unchecked")
+    private Future<Void> reconcileResource(Reconciliation reconciliation, String namespace, String name) {
+        try {
             T cr = resourceOperator.get(namespace, name);
 
             if (cr != null) {
@@ -282,18 +350,10 @@ public abstract class AbstractOperator<
                     return Future.failedFuture(deleteResult);
                 });
             }
-        });
-
-        Promise<Void> result = Promise.promise();
-        handler.onComplete(reconcileResult -> {
-            try {
-                handleResult(reconciliation, reconcileResult, reconciliationTimerSample);
-            } finally {
-                result.handle(reconcileResult);
-            }
-        });
-
-        return result.future();
+        } catch (Throwable ex) {
+            LOGGER.errorCr(reconciliation, "Reconciliation failed", ex);
+            return Future.failedFuture(ex);
+        }
     }
 
     /**
@@ -348,102 +408,46 @@ public abstract class AbstractOperator<
     protected abstract S createStatus();
 
     /**
-     * The exception by which Futures returned by {@link #withLock(Reconciliation, long, Callable)} are failed when
-     * the lock cannot be acquired within the timeout.
-     */
-    static class UnableToAcquireLockException extends TimeoutException { }
-
-    /**
-     * Acquire the lock for the resource implied by the {@code reconciliation}
-     * and call the given {@code callable} with the lock held.
-     * Once the callable returns (or if it throws) release the lock and complete the returned Future.
-     * If the lock cannot be acquired the given {@code callable} is not called and the returned Future is completed with {@link UnableToAcquireLockException}.
-     * @param reconciliation
-     * @param callable
-     * @param <T>
-     * @return
-     */
-    protected final <T> Future<T> withLock(Reconciliation reconciliation, long lockTimeoutMs, Callable<Future<T>> callable) {
-        Promise<T> handler = Promise.promise();
-        String namespace = reconciliation.namespace();
-        String name = reconciliation.name();
-        final String lockName = getLockName(namespace, name);
-        LOGGER.debugCr(reconciliation, "Try to acquire lock {}", lockName);
-        vertx.sharedData().getLockWithTimeout(lockName, lockTimeoutMs, res -> {
-            if (res.succeeded()) {
-                LOGGER.debugCr(reconciliation, "Lock {} acquired", lockName);
-
-                Lock lock = res.result();
-                long timerId = vertx.setPeriodic(PROGRESS_WARNING, timer -> {
-                    LOGGER.infoCr(reconciliation, "Reconciliation is in progress");
-                });
-
-                callSafely(reconciliation, callable)
-                    .onSuccess(handleSafely(reconciliation, handler::complete))
-                    .onFailure(handleSafely(reconciliation, handler::fail))
-                    .eventually(ignored -> releaseLockAndTimer(reconciliation, lock, lockName, timerId));
-            } else {
-                LOGGER.debugCr(reconciliation, "Failed to acquire lock {} within {}ms.", lockName, lockTimeoutMs);
-                handler.fail(new UnableToAcquireLockException());
-            }
-        });
-        return handler.future();
-    }
-
-    /**
-     * Safely executes <code>callable</code>, always returning a
-     * <code>Future</code>. In the context of this method, the term "safely"
-     * indicates that exceptions thrown by <code>callable</code> will result in the
-     * return of a failed <code>Future</code>.
+     * Executes the given {@code callable} through the work queue of the resource implied by the {@code reconciliation}.
+     * The callable is never executed concurrently with other work for the same resource. If other work for the same
+     * resource is running, the callable is executed once it completes. Multiple requests submitted while the resource
+     * is busy are coalesced into a single follow-up execution and share its result. So this should be used only for
+     * callables which are interchangeable, such as the reconciliation of the whole resource. Other work should use
+     * {@link #withWorkQueue(Reconciliation, String, Callable)} with its own work type. The returned Future is
+     * completed with the result of the callable (or failed if it throws).
      *
-     * @param <C>            result type of the <code>Future</code> returned by the
-     *                       provided <code>callable</code>
-     * @param reconciliation the reconciliation being processed by
-     *                       <code>callable</code>
-     * @param callable       callable routine for processing the reconciliation
+     * @param reconciliation    The reconciliation
+     * @param callable          The work which should be done for the resource
+     * @param <T>               Type of the result
      *
-     * @return the result of <code>callable</code> or a failed <code>Future</code>
-     *         when an exception is thrown
+     * @return  Future which completes with the result of the callable
      */
-    private <C> Future<C> callSafely(Reconciliation reconciliation, Callable<Future<C>> callable) {
-        try {
-            return callable.call();
-        } catch (Throwable ex) {
-            LOGGER.errorCr(reconciliation, "Reconciliation failed", ex);
-            return Future.failedFuture(ex);
-        }
+    protected final <T> Future<T> withWorkQueue(Reconciliation reconciliation, Callable<Future<T>> callable) {
+        return withWorkQueue(reconciliation, ResourceWorkQueue.RECONCILIATION_WORK, callable);
     }
 
     /**
-     * Provides a proxy <code>Handler</code> that will safely execute the given
-     * <code>handler</code>. In the context of this method, the term "safely"
-     * indicates that exceptions thrown by <code>handler</code> will be caught and
-     * logged, and not thrown to the caller.
+     * Executes the given {@code callable} through the work queue of the resource implied by the {@code reconciliation}
+     * like {@link #withWorkQueue(Reconciliation, Callable)}. But the callable is coalesced only with other waiting work
+     * of the same type. This is used for work which does not reconcile the whole resource, such as the reconciliation
+     * of a single sub-resource.
      *
-     * @param <H>            argument type of the <code>Handler</code>
-     * @param reconciliation the reconciliation being processed, the context of the
-     *                       operation
-     * @param handler        handler, for either success or failure
+     * @param reconciliation    The reconciliation
+     * @param workType          Type of the work
+     * @param callable          The work which should be done for the resource
+     * @param <T>               Type of the result
      *
-     * @return a proxy <code>Handler</code> that, when executed, will execute the
-     *         provided handler, ensuring that unhandled exceptions are caught and
-     *         logged.
+     * @return  Future which completes with the result of the callable
      */
-    private <H> Handler<H> handleSafely(Reconciliation reconciliation, Handler<H> handler) {
-        return result -> {
-            try {
-                handler.handle(result);
-            } catch (Throwable ex) {
-                LOGGER.errorCr(reconciliation, "Reconciliation completion handler failed", ex);
-            }
-        };
-    }
+    protected final <T> Future<T> withWorkQueue(Reconciliation reconciliation, String workType, Callable<Future<T>> callable) {
+        ResourceWorkQueue.Submission<T> submission = workQueue.submit(reconciliation,
+                getWorkQueueKey(reconciliation.namespace(), reconciliation.name()), workType, callable);
+
+        if (submission.coalesced()) {
+            metrics().alreadyEnqueuedReconciliationsCounter(reconciliation.namespace()).increment();
+        }
 
-    private Future<Void> releaseLockAndTimer(Reconciliation reconciliation, Lock lock, String lockName, long timerId) {
-        vertx.cancelTimer(timerId);
-        lock.release();
-        LOGGER.debugCr(reconciliation, "Lock {} released", lockName);
-        return Future.succeededFuture();
+        return submission.result();
     }
 
     public Future<Set<NamespaceAndName>> allResourceNames(String namespace) {
@@ -494,6 +498,8 @@ public abstract class AbstractOperator<
      * Log the reconciliation outcome.
      */
     private void handleResult(Reconciliation reconciliation, AsyncResult<Void> result, Timer.Sample reconciliationTimerSample) {
+        metrics().savedApiCallsCounter(reconciliation.namespace()).increment(reconciliation.savedApiCalls());
+
         if (result.succeeded()) {
             updateResourceState(reconciliation, true, null);
             metrics().successfulReconciliationsCounter(reconciliation.namespace()).increment();
@@ -507,8 +513,6 @@ public abstract class AbstractOperator<
                 metrics().failedReconciliationsCounter(reconciliation.namespace()).increment();
                 reconciliationTimerSample.stop(metrics().reconciliationsTimer(reconciliation.namespace()));
                 LOGGER.warnCr(reconciliation, "Failed to reconcile {}", cause.getMessage());
-            } else if (cause instanceof UnableToAcquireLockException) {
-                metrics().lockedReconciliationsCounter(reconciliation.namespace()).increment();
             } else  {
                 updateResourceState(reconciliation, false, cause);
                 metrics().failedReconciliationsCounter(reconciliation.namespace()).increment();
@@ -0,0 +1,392 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.vertx.core.Vertx;
+import org.apache.kafka.clients.admin.Admin;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Admin client provider which pools the Admin clients created by another provider. The clients are shared per
+ * bootstrap address and per hash of the credentials (cluster CA certificates, client key and certificate and the
+ * additional configuration) used to create them. This allows the different parts of the reconciliation (for example
+ * the KafkaRoller and the reconcilers) to reuse the same client instead of creating a new one with a new TLS handshake
+ * and metadata bootstrap every time.
+ *
+ * The returned Admin instances are leases of the pooled client. Closing them releases the lease without closing the
+ * pooled client. When the credentials used for a given bootstrap address change (for example because the cluster CA
+ * or the Cluster Operator key were renewed), a new client is created and the old one is closed once all its leases are
+ * released. Clients without any lease are closed and removed from the pool once they have been idle for longer than
+ * the idle timeout.
+ *
+ * The pooled clients keep their metadata (for example which broker is the controller) cached. Callers which need to
+ * get fresh metadata from a particular broker should use the provider returned by {@link #uncached(AdminClientProvider)}.
+ */
+public class CachingAdminClientProvider implements AdminClientProvider, AutoCloseable {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(CachingAdminClientProvider.class);
+
+    /**
+     * Default time after which Admin clients without any lease are closed
+     */
+    public static final long DEFAULT_IDLE_TIMEOUT_MS = 300_000L;
+
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(30);
+
+    private final Vertx vertx;
+    private final AdminClientProvider delegate;
+    private final long idleTimeoutMs;
+    private final long evictionTimerId;
+    private final Map<String, PooledAdmin> pool = new HashMap<>();
+
+    /**
+     * Constructs the caching provider
+     *
+     * @param vertx         Vert.x instance used to periodically evict the idle clients
+     * @param delegate      Provider used to create the pooled Admin clients
+     * @param idleTimeoutMs Time in milliseconds after which clients without any lease are closed
+     */
+    public CachingAdminClientProvider(Vertx vertx, AdminClientProvider delegate, long idleTimeoutMs) {
+        this.vertx = vertx;
+        this.delegate = delegate;
+        this.idleTimeoutMs = idleTimeoutMs;
+
+        this.evictionTimerId = vertx.setPeriodic(Math.max(idleTimeoutMs / 2, 1_000L), timerId -> vertx.executeBlocking(promise -> {
+            evictIdleClients();
+            promise.complete();
+        }, false, res -> { }));
+    }
+
+    /**
+     * Returns a provider which creates a new Admin client for every call. For the caching provider, this is the
+     * provider it delegates to. Other providers are returned as they are.
+     *
+     * @param provider  The Admin client provider
+     *
+     * @return  Provider which does not share the created clients
+     */
+    public static AdminClientProvider uncached(AdminClientProvider provider) {
+        return provider instanceof CachingAdminClientProvider ? ((CachingAdminClientProvider) provider).delegate : provider;
+    }
+
+    @Override
+    public Admin createAdminClient(String bootstrapHostnames, Secret clusterCaCertSecret, Secret keyCertSecret, String keyCertName) {
+        return createAdminClient(bootstrapHostnames, clusterCaCertSecret, keyCertSecret, keyCertName, new Properties());
+    }
+
+    /**
+     * Returns a lease of the pooled client for given bootstrap address and credentials. The client is created when it
+     * does not exist yet. The creation is blocking, so it is done outside the provider lock. Concurrent callers asking
+     * for the same client while it is being created wait only for that client.
+     */
+    @Override
+    public Admin createAdminClient(String bootstrapHostnames, Secret clusterCaCertSecret, Secret keyCertSecret, String keyCertName, Properties config) {
+        String credentialsHash = credentialsHash(clusterCaCertSecret, keyCertSecret, keyCertName, config);
+        PooledAdmin retired = null;
+        PooledAdmin pooled;
+        boolean create = false;
+        Admin lease;
+
+        synchronized (this) {
+            pooled = pool.get(bootstrapHostnames);
+
+            if (pooled != null && !pooled.credentialsHash.equals(credentialsHash)) {
+                LOGGER.debugOp("Credentials for Admin client connected to {} changed and the client will be recreated", bootstrapHostnames);
+                pool.remove(bootstrapHostnames);
+                retired = pooled.retire();
+                pooled = null;
+            }
+
+            if (pooled == null) {
+                pooled = new PooledAdmin(bootstrapHostnames, credentialsHash);
+                pool.put(bootstrapHostnames, pooled);
+                create = true;
+            }
+
+            lease = pooled.lease();
+        }
+
+        if (retired != null) {
+            retired.close();
+        }
+
+        if (create) {
+            try {
+                Properties copy = new Properties();
+                copy.putAll(config);
+
+                pooled.created.complete(delegate.createAdminClient(bootstrapHostnames, clusterCaCertSecret, keyCertSecret, keyCertName, copy));
+            } catch (RuntimeException e) {
+                pooled.created.completeExceptionally(e);
+            }
+        }
+
+        try {
+            pooled.created.join();
+        } catch (CompletionException e) {
+            synchronized (this) {
+                // The next call will try to create the client again
+                pool.remove(bootstrapHostnames, pooled);
+            }
+
+            lease.close();
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+
+        return lease;
+    }
+
+    /**
+     * Closes and removes from the pool the clients which have no lease and have been idle for longer than the idle timeout.
+     */
+    /* test */ void evictIdleClients() {
+        List<PooledAdmin> evicted = new ArrayList<>();
+        long now = System.nanoTime();
+
+        synchronized (this) {
+            Iterator<PooledAdmin> it = pool.values().iterator();
+
+            while (it.hasNext()) {
+                PooledAdmin pooled = it.next();
+
+                if (pooled.leases == 0 && now - pooled.lastReleased >= idleTimeoutMs * 1_000_000L) {
+                    it.remove();
+                    evicted.add(pooled.retire());
+                }
+            }
+        }
+
+        for (PooledAdmin pooled : evicted) {
+            LOGGER.debugOp("Closing idle Admin client connected to {}", pooled.bootstrapHostnames);
+            pooled.close();
+        }
+    }
+
+    /**
+     * Stops the eviction of the idle clients and closes the pooled clients. Clients which are still leased are closed
+     * once their last lease is released.
+     */
+    @Override
+    public void close() {
+        vertx.cancelTimer(evictionTimerId);
+
+        List<PooledAdmin> closed = new ArrayList<>();
+
+        synchronized (this) {
+            for (PooledAdmin pooled : pool.values()) {
+                PooledAdmin retired = pooled.retire();
+
+                if (retired != null) {
+                    closed.add(retired);
+                }
+            }
+
+            pool.clear();
+        }
+
+        for (PooledAdmin pooled : closed) {
+            pooled.close();
+        }
+    }
+
+    /**
+     * @return  Number of Admin clients currently in the pool
+     */
+    /* test */ synchronized int size() {
+        return pool.size();
+    }
+
+    /**
+     * Calculates a hash of the credentials and configuration used to create the Admin client. It is used to detect
+     * when the certificates or keys have been renewed and the client needs to be recreated.
+     */
+    private static String credentialsHash(Secret clusterCaCertSecret, Secret keyCertSecret, String keyCertName, Properties config) {
+        StringBuilder sb = new StringBuilder();
+
+        if (clusterCaCertSecret != null) {
+            sb.append(Util.certsToPemString(clusterCaCertSecret));
+        }
+
+        sb.append('\0');
+
+        if (keyCertSecret != null && keyCertName != null && !keyCertName.isEmpty()) {
+            Map<String, String> data = keyCertSecret.getData() != null ? keyCertSecret.getData() : Map.of();
+
+            sb.append(keyCertName)
+                    .append('\0')
+                    .append(data.get(keyCertName + ".key"))
+                    .append('\0')
+                    .append(data.get(keyCertName + ".crt"));
+        }
+
+        sb.append('\0');
+
+        if (config != null) {
+            // Sorted to get the same hash regardless of the order in which the options were set
+            Map<String, String> sortedConfig = new TreeMap<>();
+            config.stringPropertyNames().forEach(name -> sortedConfig.put(name, config.getProperty(name)));
+            sb.append(sortedConfig);
+        }
+
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            byte[] digest = sha256.digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to get SHA-256 hash", e);
+        }
+    }
+
+    /**
+     * Releases a lease of a pooled client. If the client was retired and this was its last lease, it is closed.
+     */
+    private void release(PooledAdmin pooled) {
+        boolean close;
+
+        synchronized (this) {
+            pooled.leases--;
+            pooled.lastReleased = System.nanoTime();
+            close = pooled.retired && pooled.leases == 0;
+        }
+
+        if (close) {
+            pooled.close();
+        }
+    }
+
+    /**
+     * Admin client shared in the pool. All fields except the immutable ones are guarded by the provider instance.
+     */
+    private class PooledAdmin {
+        private final String bootstrapHostnames;
+        private final String credentialsHash;
+        // Completed by the caller which created this entry once the client is created outside the provider lock
+        private final CompletableFuture<Admin> created = new CompletableFuture<>();
+
+        private int leases = 0;
+        private long lastReleased = System.nanoTime();
+        private boolean retired = false;
+        private boolean closed = false;
+
+        PooledAdmin(String bootstrapHostnames, String credentialsHash) {
+            this.bootstrapHostnames = bootstrapHostnames;
+            this.credentialsHash = credentialsHash;
+        }
+
+        /**
+         * Marks the client as retired so that it is closed once its last lease is released. Has to be called while
+         * holding the provider lock.
+         *
+         * @return  This client if it has no lease and should be closed right away, null otherwise
+         */
+        PooledAdmin retire() {
+            retired = true;
+            return leases == 0 ? this : null;
+        }
+
+        /**
+         * Creates a new lease of this client. Has to be called while holding the provider lock.
+         *
+         * @return  Admin instance delegating to the pooled client which releases the lease when closed
+         */
+        Admin lease() {
+            leases++;
+
+            return (Admin) Proxy.newProxyInstance(Admin.class.getClassLoader(), new Class<?>[] {Admin.class}, new LeaseHandler(this));
+        }
+
+        /**
+         * @return  The pooled client. Leases are handed out only once it is created.
+         */
+        Admin admin() {
+            return created.join();
+        }
+
+        /**
+         * Closes the client. If it is still being created, it is closed once it is created.
+         */
+        void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+
+                closed = true;
+            }
+
+            created.thenAccept(admin -> {
+                try {
+                    admin.close(CLOSE_TIMEOUT);
+                } catch (Exception e) {
+                    LOGGER.warnOp("Failed to close Admin client connected to {}", bootstrapHostnames, e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Invocation handler delegating all calls to the pooled client except for close which releases the lease
+     */
+    private class LeaseHandler implements InvocationHandler {
+        private final PooledAdmin pooled;
+        private boolean released = false;
+
+        LeaseHandler(PooledAdmin pooled) {
+            this.pooled = pooled;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    synchronized (this) {
+                        if (released) {
+                            return null;
+                        }
+
+                        released = true;
+                    }
+
+                    release(pooled);
+                    return null;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Lease of Admin client connected to " + pooled.bootstrapHostnames;
+                default:
+                    try {
+                        return method.invoke(pooled.admin(), args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        }
+    }
+}
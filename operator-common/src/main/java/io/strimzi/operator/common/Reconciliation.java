@@ -28,6 +28,7 @@ public class Reconciliation {
     private final String name;
     private final int id;
     private final Marker marker;
+    private final AtomicInteger savedApiCalls = new AtomicInteger();
 
     public Reconciliation(String trigger, String kind, String namespace, String assemblyName) {
         this.trigger = trigger;
@@ -38,6 +39,10 @@ public class Reconciliation {
         this.marker = MarkerManager.getMarker(this.kind + "(" + this.namespace + "/" + this.name + ")");
     }
 
+    public String trigger() {
+        return trigger;
+    }
+
     public String kind() {
         return kind;
     }
@@ -54,6 +59,21 @@ public class Reconciliation {
         return marker;
     }
 
+    /**
+     * Records a Kubernetes API call which was not needed during this reconciliation because the resource was already
+     * known to the operator (for example from the resource cache).
+     */
+    public void apiCallSaved() {
+        savedApiCalls.incrementAndGet();
+    }
+
+    /**
+     * @return  Number of Kubernetes API calls saved so far during this reconciliation
+     */
+    public int savedApiCalls() {
+        return savedApiCalls.get();
+    }
+
     public String toString() {
         return "Reconciliation #" + id + "(" + trigger + ") " + kind() + "(" + namespace() + "/" + name() + ")";
     }
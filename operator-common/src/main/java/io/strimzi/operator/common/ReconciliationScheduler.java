@@ -0,0 +1,238 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Schedules the reconciliations of an operator. The scheduler:
+ * <ul>
+ *     <li>Limits the number of reconciliations executed at the same time. Other reconciliations wait in a queue.</li>
+ *     <li>Prioritizes the event-triggered reconciliations (e.g. from watches) over the periodic reconciliations
+ *     triggered by the timer.</li>
+ *     <li>Spreads the periodic reconciliations over a configurable time window using a random delay, so that they do
+ *     not all start at the same time.</li>
+ *     <li>Never runs two reconciliations of the same resource at the same time. When a reconciliation of a resource
+ *     is requested while another reconciliation of the same resource is already queued, both requests share the same
+ *     reconciliation.</li>
+ * </ul>
+ */
+public class ReconciliationScheduler {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReconciliationScheduler.class);
+
+    /**
+     * Trigger used for the periodic reconciliations
+     */
+    public static final String PERIODIC_TRIGGER = "timer";
+
+    private final Vertx vertx;
+    private final MetricsHolder metrics;
+    private final int maxConcurrentReconciliations;
+    private final long periodicReconciliationSpreadMs;
+
+    private final Deque<Task> eventQueue = new ArrayDeque<>();
+    private final Deque<Task> periodicQueue = new ArrayDeque<>();
+    private final Map<String, Task> queued = new HashMap<>();
+    private final Set<String> running = new HashSet<>();
+
+    /**
+     * Constructs the reconciliation scheduler
+     *
+     * @param vertx                             Vert.x instance
+     * @param metrics                           Metrics holder used for the queue metrics
+     * @param maxConcurrentReconciliations      Maximal number of reconciliations running at the same time. Zero or
+     *                                          negative value means no limit.
+     * @param periodicReconciliationSpreadMs    Time window over which the periodic reconciliations should be spread.
+     *                                          Zero or negative value means the periodic reconciliations are
+     *                                          enqueued right away.
+     */
+    public ReconciliationScheduler(Vertx vertx, MetricsHolder metrics, int maxConcurrentReconciliations, long periodicReconciliationSpreadMs) {
+        this.vertx = vertx;
+        this.metrics = metrics;
+        this.maxConcurrentReconciliations = maxConcurrentReconciliations;
+        this.periodicReconciliationSpreadMs = periodicReconciliationSpreadMs;
+    }
+
+    /**
+     * Schedules the reconciliation. The reconciliation is executed once there is free capacity and no other
+     * reconciliation of the same resource is running.
+     *
+     * @param reconciliation    Reconciliation which should be scheduled
+     * @param action            The reconciliation logic
+     *
+     * @return  Future which completes with the result of the reconciliation
+     */
+    public Future<Void> schedule(Reconciliation reconciliation, Supplier<Future<Void>> action) {
+        boolean periodic = PERIODIC_TRIGGER.equals(reconciliation.trigger());
+
+        if (periodic && periodicReconciliationSpreadMs > 0) {
+            Promise<Void> result = Promise.promise();
+            long delay = 1 + ThreadLocalRandom.current().nextLong(periodicReconciliationSpreadMs);
+
+            LOGGER.debugCr(reconciliation, "Periodic reconciliation will be enqueued in {}ms", delay);
+            vertx.setTimer(delay, timerId -> enqueue(reconciliation, false, action).onComplete(result));
+
+            return result.future();
+        } else {
+            return enqueue(reconciliation, !periodic, action);
+        }
+    }
+
+    private Future<Void> enqueue(Reconciliation reconciliation, boolean priority, Supplier<Future<Void>> action) {
+        String key = reconciliation.namespace() + "/" + reconciliation.name();
+        Future<Void> result;
+
+        synchronized (this) {
+            Task existing = queued.get(key);
+
+            if (existing != null) {
+                if (priority && !existing.priority) {
+                    // Move the already queued reconciliation to the front
+                    periodicQueue.remove(existing);
+                    existing.priority = true;
+                    eventQueue.add(existing);
+                }
+
+                LOGGER.debugCr(reconciliation, "Reconciliation of the same resource is already queued => it will be used instead");
+                metrics.alreadyEnqueuedReconciliationsCounter(reconciliation.namespace()).increment();
+                return existing.promise.future();
+            }
+
+            Task task = new Task(key, reconciliation, priority, action, Timer.start(metrics.metricsProvider().meterRegistry()));
+            queued.put(key, task);
+
+            if (priority) {
+                eventQueue.add(task);
+            } else {
+                periodicQueue.add(task);
+            }
+
+            metrics.queuedReconciliationsGauge(reconciliation.namespace()).incrementAndGet();
+            result = task.promise.future();
+        }
+
+        maybeStartNext();
+
+        return result;
+    }
+
+    /**
+     * Starts the next queued reconciliations if there is free capacity
+     */
+    private void maybeStartNext() {
+        List<Task> toStart = new ArrayList<>();
+
+        synchronized (this) {
+            while (maxConcurrentReconciliations <= 0 || running.size() < maxConcurrentReconciliations) {
+                Task task = poll(eventQueue);
+
+                if (task == null) {
+                    task = poll(periodicQueue);
+                }
+
+                if (task == null) {
+                    break;
+                }
+
+                queued.remove(task.key);
+                running.add(task.key);
+                metrics.queuedReconciliationsGauge(task.reconciliation.namespace()).decrementAndGet();
+                metrics.inFlightReconciliationsGauge(task.reconciliation.namespace()).incrementAndGet();
+                toStart.add(task);
+            }
+        }
+
+        for (Task task : toStart) {
+            start(task);
+        }
+    }
+
+    /**
+     * Takes the first task from the queue for a resource which is not being reconciled right now.
+     *
+     * @param queue     Queue from which the task should be taken
+     *
+     * @return  The task or null if there is no task which could be started
+     */
+    private Task poll(Deque<Task> queue) {
+        Iterator<Task> iterator = queue.iterator();
+
+        while (iterator.hasNext()) {
+            Task task = iterator.next();
+
+            if (!running.contains(task.key)) {
+                iterator.remove();
+                return task;
+            }
+        }
+
+        return null;
+    }
+
+    private void start(Task task) {
+        task.waitTimerSample.stop(metrics.reconciliationsWaitTimer(task.reconciliation.namespace()));
+
+        Future<Void> reconciliation;
+        try {
+            reconciliation = task.action.get();
+        } catch (Throwable t) {
+            LOGGER.errorCr(task.reconciliation, "Reconciliation failed", t);
+            reconciliation = Future.failedFuture(t);
+        }
+
+        reconciliation.onComplete(res -> {
+            synchronized (this) {
+                running.remove(task.key);
+                metrics.inFlightReconciliationsGauge(task.reconciliation.namespace()).decrementAndGet();
+            }
+
+            task.promise.handle(res);
+            maybeStartNext();
+        });
+    }
+
+    /**
+     * @return  Number of queued reconciliations. Used for testing.
+     */
+    /* test */ synchronized int queueSize() {
+        return eventQueue.size() + periodicQueue.size();
+    }
+
+    /**
+     * Reconciliation waiting in the queue
+     */
+    private static class Task {
+        private final String key;
+        private final Reconciliation reconciliation;
+        private final Supplier<Future<Void>> action;
+        private final Timer.Sample waitTimerSample;
+        private final Promise<Void> promise = Promise.promise();
+        private boolean priority;
+
+        Task(String key, Reconciliation reconciliation, boolean priority, Supplier<Future<Void>> action, Timer.Sample waitTimerSample) {
+            this.key = key;
+            this.reconciliation = reconciliation;
+            this.priority = priority;
+            this.action = action;
+            this.waitTimerSample = waitTimerSample;
+        }
+    }
+}
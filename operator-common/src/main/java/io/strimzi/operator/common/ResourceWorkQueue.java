@@ -0,0 +1,230 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Per-resource work queue used to make sure that the work for one resource is never executed concurrently. Work
+ * submitted while another work for the same key is running is not rejected. Instead, it is remembered and executed
+ * once the running work completes. When more work of the same type is submitted for the same key while some work of
+ * this type is already waiting, the waiting work is replaced with the latest one and all submitters share its result.
+ * So at most one follow-up execution of each type of work happens after the running work, no matter how many events
+ * arrived in the meantime. Waiting work of different types is executed in the order in which it was submitted.
+ */
+public class ResourceWorkQueue {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ResourceWorkQueue.class);
+
+    private static final long PROGRESS_WARNING = 60_000L;
+
+    /**
+     * Type of the work used for the reconciliation of the whole resource
+     */
+    public static final String RECONCILIATION_WORK = "reconciliation";
+
+    private final Vertx vertx;
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    /**
+     * Constructs the work queue
+     *
+     * @param vertx     Vert.x instance
+     */
+    public ResourceWorkQueue(Vertx vertx) {
+        this.vertx = vertx;
+    }
+
+    /**
+     * Result of the submission of the work to the queue
+     *
+     * @param <T>   Type of the result of the work
+     */
+    public static class Submission<T> {
+        private final Future<T> result;
+        private final boolean coalesced;
+
+        private Submission(Future<T> result, boolean coalesced) {
+            this.result = result;
+            this.coalesced = coalesced;
+        }
+
+        /**
+         * @return  Future which completes with the result of the work
+         */
+        public Future<T> result() {
+            return result;
+        }
+
+        /**
+         * @return  True if the work was merged with work of the same type which was already waiting for the same key.
+         *          False otherwise.
+         */
+        public boolean coalesced() {
+            return coalesced;
+        }
+    }
+
+    /**
+     * Submits the reconciliation of the resource to the queue. The work is started right away when no other work for
+     * the same key is running. Otherwise, it is executed after the running work completes.
+     *
+     * @param reconciliation    Reconciliation used for logging
+     * @param key               Key identifying the resource
+     * @param callable          The work
+     *
+     * @param <T>   Type of the result of the work
+     *
+     * @return  The submission with the future which completes with the result of the work
+     */
+    public <T> Submission<T> submit(Reconciliation reconciliation, String key, Callable<Future<T>> callable) {
+        return submit(reconciliation, key, RECONCILIATION_WORK, callable);
+    }
+
+    /**
+     * Submits the work to the queue. The work is started right away when no other work for the same key is running.
+     * Otherwise, it is executed after the running work completes. Only waiting work of the same type is merged with
+     * this work.
+     *
+     * @param reconciliation    Reconciliation used for logging
+     * @param key               Key identifying the resource
+     * @param workType          Type of the work (for example the name of a sub-resource which is reconciled)
+     * @param callable          The work
+     *
+     * @param <T>   Type of the result of the work
+     *
+     * @return  The submission with the future which completes with the result of the work
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Submission<T> submit(Reconciliation reconciliation, String key, String workType, Callable<Future<T>> callable) {
+        Work<Object> toStart;
+        Future<T> result;
+
+        synchronized (this) {
+            Entry entry = entries.get(key);
+
+            if (entry != null) {
+                Work<Object> waiting = entry.pending.get(workType);
+                boolean coalesced = waiting != null;
+                Work<Object> work;
+
+                if (coalesced) {
+                    // The latest submission is used, but all submitters get its result
+                    work = new Work<>(reconciliation, (Callable<Future<Object>>) (Callable<?>) callable, waiting.promise);
+                    LOGGER.debugCr(reconciliation, "Work {} for {} is already waiting and will be merged with this request", workType, key);
+                } else {
+                    work = new Work<>(reconciliation, (Callable<Future<Object>>) (Callable<?>) callable, Promise.promise());
+                    LOGGER.debugCr(reconciliation, "Work for {} is in progress and this request ({}) will be executed afterwards", key, workType);
+                }
+
+                // Replacing the value keeps the original position of the waiting work
+                entry.pending.put(workType, work);
+
+                return new Submission<>((Future<T>) (Future<?>) work.promise.future(), coalesced);
+            }
+
+            toStart = new Work<>(reconciliation, (Callable<Future<Object>>) (Callable<?>) callable, Promise.promise());
+            entries.put(key, new Entry());
+            result = (Future<T>) (Future<?>) toStart.promise.future();
+        }
+
+        start(key, toStart);
+
+        return new Submission<>(result, false);
+    }
+
+    private void start(String key, Work<Object> work) {
+        vertx.runOnContext(v -> {
+            LOGGER.debugCr(work.reconciliation, "Starting work for {}", key);
+
+            long timerId = vertx.setPeriodic(PROGRESS_WARNING, timer -> LOGGER.infoCr(work.reconciliation, "Reconciliation is in progress"));
+
+            callSafely(work)
+                    .onComplete(res -> {
+                        vertx.cancelTimer(timerId);
+                        // The key is released (or the follow-up work is scheduled) before the result is handed over
+                        next(key);
+                        completeSafely(work, res);
+                    });
+        });
+    }
+
+    private void next(String key) {
+        Work<Object> pending;
+
+        synchronized (this) {
+            Iterator<Work<Object>> waiting = entries.get(key).pending.values().iterator();
+
+            if (!waiting.hasNext()) {
+                entries.remove(key);
+                LOGGER.debugOp("Work for {} finished", key);
+                return;
+            } else {
+                pending = waiting.next();
+                waiting.remove();
+            }
+        }
+
+        start(key, pending);
+    }
+
+    private Future<Object> callSafely(Work<Object> work) {
+        try {
+            return work.callable.call();
+        } catch (Throwable ex) {
+            LOGGER.errorCr(work.reconciliation, "Reconciliation failed", ex);
+            return Future.failedFuture(ex);
+        }
+    }
+
+    private void completeSafely(Work<Object> work, AsyncResult<Object> result) {
+        try {
+            work.promise.handle(result);
+        } catch (Throwable ex) {
+            LOGGER.errorCr(work.reconciliation, "Reconciliation completion handler failed", ex);
+        }
+    }
+
+    /**
+     * Indicates whether any work for given key is running or waiting
+     *
+     * @param key   Key identifying the resource
+     *
+     * @return  True if some work for this key is in progress. False otherwise.
+     */
+    public synchronized boolean isBusy(String key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * State of one key in the queue. Existence of the entry means that some work is running for this key.
+     */
+    private static class Entry {
+        private final Map<String, Work<Object>> pending = new LinkedHashMap<>();
+    }
+
+    /**
+     * Work waiting or running in the queue
+     */
+    private static class Work<T> {
+        private final Reconciliation reconciliation;
+        private final Callable<Future<T>> callable;
+        private final Promise<T> promise;
+
+        Work(Reconciliation reconciliation, Callable<Future<T>> callable, Promise<T> promise) {
+            this.reconciliation = reconciliation;
+            this.callable = callable;
+            this.promise = promise;
+        }
+    }
+}
@@ -4,18 +4,23 @@
  */
 package io.strimzi.operator.common.metrics;
 
-import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.model.Labels;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A metrics holder for controllers.
  */
 public class ControllerMetricsHolder extends MetricsHolder {
-    private final Map<String, Counter> alreadyQueuedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<Integer, AtomicInteger> workerQueueSizeGaugeMap = new ConcurrentHashMap<>(1);
+    private final Map<Integer, Timer> workerQueueWaitTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<Integer, Timer> workerReconciliationsTimerMap = new ConcurrentHashMap<>(1);
 
     /**
      * Constructs the controller metrics holder
@@ -29,16 +34,45 @@ public class ControllerMetricsHolder extends MetricsHolder {
     }
 
     /**
-     * Counter metric for number of reconciliations which are already queued when we try to enqueue them again. This
-     * might indicate for example that the periodic reconciliations are triggering too often (faster than the operator
-     * reconciles them).
+     * Gauge metric for number of reconciliations waiting in the work queue of given controller worker.
      *
-     * @param namespace     Namespace of the resources being reconciled
+     * @param worker    Index of the controller worker
      *
-     * @return  Metrics counter
+     * @return  Metrics gauge
      */
-    public Counter alreadyEnqueuedReconciliationsCounter(String namespace) {
-        return getCounter(namespace, kind, METRICS_PREFIX + "reconciliations.already.enqueued", metricsProvider, selectorLabels, alreadyQueuedReconciliationsCounterMap,
-                "Number of reconciliations skipped because another reconciliation for the same resource was still running");
+    public AtomicInteger workerQueueSizeGauge(int worker) {
+        return workerQueueSizeGaugeMap.computeIfAbsent(worker, w -> metricsProvider.gauge(METRICS_PREFIX + "controller.worker.queue.size",
+                "Number of reconciliations waiting in the work queue of the controller worker", workerTags(w)));
+    }
+
+    /**
+     * Timer which measures how long do the reconciliations wait in the work queue of given controller worker before
+     * they are executed.
+     *
+     * @param worker    Index of the controller worker
+     *
+     * @return  Metrics timer
+     */
+    public Timer workerQueueWaitTimer(int worker) {
+        return workerQueueWaitTimerMap.computeIfAbsent(worker, w -> metricsProvider.timer(METRICS_PREFIX + "controller.worker.queue.wait.duration",
+                "The time the reconciliation waits in the work queue of the controller worker before it is executed", workerTags(w)));
+    }
+
+    /**
+     * Timer which measures how long do the reconciliations executed by given controller worker take.
+     *
+     * @param worker    Index of the controller worker
+     *
+     * @return  Metrics timer
+     */
+    public Timer workerReconciliationsTimer(int worker) {
+        return workerReconciliationsTimerMap.computeIfAbsent(worker, w -> metricsProvider.timer(METRICS_PREFIX + "controller.worker.reconciliations.duration",
+                "The time the reconciliation executed by the controller worker takes to complete", workerTags(w)));
+    }
+
+    private Tags workerTags(int worker) {
+        return Tags.of(Tag.of("kind", kind),
+                Tag.of("selector", selectorLabels != null ? selectorLabels.toSelectorString() : ""),
+                Tag.of("worker", String.valueOf(worker)));
     }
 }
@@ -34,6 +34,11 @@ public abstract class MetricsHolder {
     private final Map<String, Counter> failedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
     private final Map<String, Counter> successfulReconciliationsCounterMap = new ConcurrentHashMap<>(1);
     private final Map<String, Timer> reconciliationsTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> alreadyQueuedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> queuedReconciliationsGaugeMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> inFlightReconciliationsGaugeMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> reconciliationsWaitTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> savedApiCallsCounterMap = new ConcurrentHashMap<>(1);
 
     /**
      * Constructs the metrics holder
@@ -147,6 +152,70 @@ public abstract class MetricsHolder {
                 "The time the reconciliation takes to complete");
     }
 
+    /**
+     * Counter metric for number of reconciliations which are already queued when we try to enqueue them again. This
+     * might indicate for example that the periodic reconciliations are triggering too often (faster than the operator
+     * reconciles them).
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics counter
+     */
+    public Counter alreadyEnqueuedReconciliationsCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "reconciliations.already.enqueued", metricsProvider, selectorLabels, alreadyQueuedReconciliationsCounterMap,
+                "Number of reconciliations skipped because another reconciliation for the same resource was still running");
+    }
+
+    /**
+     * Gauge metric for number of reconciliations which are waiting in the queue to be executed.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger queuedReconciliationsGauge(String namespace) {
+        return getGauge(namespace, kind, METRICS_PREFIX + "reconciliations.queued", metricsProvider, selectorLabels, queuedReconciliationsGaugeMap,
+                "Number of reconciliations waiting in the queue to be executed");
+    }
+
+    /**
+     * Gauge metric for number of reconciliations which are currently being executed.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger inFlightReconciliationsGauge(String namespace) {
+        return getGauge(namespace, kind, METRICS_PREFIX + "reconciliations.inflight", metricsProvider, selectorLabels, inFlightReconciliationsGaugeMap,
+                "Number of reconciliations currently being executed");
+    }
+
+    /**
+     * Timer which measures how long do the reconciliations wait in the queue before they are executed.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics timer
+     */
+    public Timer reconciliationsWaitTimer(String namespace) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "reconciliations.wait.duration", metricsProvider, selectorLabels, reconciliationsWaitTimerMap,
+                "The time the reconciliation waits in the queue before it is executed");
+    }
+
+    /**
+     * Counter metric for number of Kubernetes API calls saved by the reconciliations (for example reads answered from
+     * the resource cache). It is incremented once the reconciliation completes. Divided by the number of
+     * reconciliations, it gives the number of API calls saved per reconciliation.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics counter
+     */
+    public Counter savedApiCallsCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "reconciliations.api.calls.saved", metricsProvider, selectorLabels, savedApiCallsCounterMap,
+                "Number of Kubernetes API calls saved by the reconciliations done by the operator for individual resources");
+    }
+
     ////////////////////
     // Static methods for handling metrics
     ////////////////////
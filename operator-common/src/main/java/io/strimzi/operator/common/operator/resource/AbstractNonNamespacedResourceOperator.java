@@ -24,7 +24,6 @@ import io.vertx.core.Vertx;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 /**
  * Abstract resource creation, for a generic resource type {@code R}.
@@ -39,9 +38,9 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
         L extends KubernetesResourceList<T>, R extends Resource<T>> {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(AbstractNonNamespacedResourceOperator.class);
 
-    protected static final Pattern IGNORABLE_PATHS = Pattern.compile(
-            "^(/metadata/managedFields" +
-                    "|/status)$");
+    protected static final JsonPathTrie IGNORABLE_PATHS = JsonPathTrie.of(
+            "/metadata/managedFields",
+            "/status");
 
     protected final Vertx vertx;
     protected final C client;
@@ -167,9 +166,9 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
     }
 
     /**
-     * @return  Returns the Pattern for matching paths which can be ignored in the resource diff
+     * @return  Returns the trie with the paths which can be ignored in the resource diff
      */
-    protected Pattern ignorablePaths() {
+    protected JsonPathTrie ignorablePaths() {
         return IGNORABLE_PATHS;
     }
 
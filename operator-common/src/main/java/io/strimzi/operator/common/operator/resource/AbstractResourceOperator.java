@@ -8,6 +8,7 @@ import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.ManagedFieldsEntry;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.AnyNamespaceOperation;
@@ -18,6 +19,7 @@ import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.dsl.base.PatchContext;
 import io.fabric8.kubernetes.client.dsl.base.PatchType;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -27,12 +29,13 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiPredicate;
-import java.util.regex.Pattern;
 
 /**
  * Abstract resource creation, for a generic resource type {@code R}.
@@ -49,15 +52,34 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         R extends Resource<T>> {
     public final static String ANY_NAMESPACE = "*";
 
-    protected static final Pattern IGNORABLE_PATHS = Pattern.compile(
-            "^(/metadata/managedFields" +
-                    "|/status)$");
+    /**
+     * Name of the field manager used for the server-side apply
+     */
+    public final static String FIELD_MANAGER = "strimzi";
+
+    /**
+     * Maximal number of resources for which the version written by the server-side apply is remembered
+     */
+    private static final int MAX_APPLIED_VERSIONS = 10_000;
+
+    protected static final JsonPathTrie IGNORABLE_PATHS = JsonPathTrie.of(
+            "/metadata/managedFields",
+            "/status");
 
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(AbstractResourceOperator.class);
     protected final Vertx vertx;
     protected final C client;
     protected final String resourceKind;
     protected final ResourceSupport resourceSupport;
+    private volatile ResourceCache<T> cache = null;
+    private volatile boolean serverSideApply = false;
+    private final Map<String, AppliedVersion> appliedVersions = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, AppliedVersion> eldest) {
+            // Resources deleted by someone else (e.g. together with their namespace) are never removed explicitly
+            return size() > MAX_APPLIED_VERSIONS;
+        }
+    });
 
     /**
      * Constructor.
@@ -108,20 +130,29 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         Promise<ReconcileResult<T>> promise = Promise.promise();
         vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
             future -> {
-                T current = operation().inNamespace(namespace).withName(name).get();
+                AppliedVersion applied = serverSideApply && canApplyWithoutCurrent() && cache == null && desired != null ? appliedVersions.get(namespace + "/" + name) : null;
+                if (applied != null) {
+                    // The resource was already written by this operator => apply it without reading it first
+                    LOGGER.debugCr(reconciliation, "{} {}/{} was already applied, applying it again", resourceKind, namespace, name);
+                    reconciliation.apiCallSaved();
+                    internalApply(reconciliation, namespace, name, desired, applied).map(result -> updateCache(namespace, name, result)).onComplete(future);
+                    return;
+                }
+
+                T current = getCurrent(reconciliation, namespace, name);
                 if (desired != null) {
                     if (current == null) {
                         LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, creating it", resourceKind, namespace, name);
-                        internalCreate(reconciliation, namespace, name, desired).onComplete(future);
+                        internalCreate(reconciliation, namespace, name, desired).map(result -> updateCache(namespace, name, result)).onComplete(future);
                     } else {
                         LOGGER.debugCr(reconciliation, "{} {}/{} already exists, patching it", resourceKind, namespace, name);
-                        internalPatch(reconciliation, namespace, name, current, desired).onComplete(future);
+                        internalPatch(reconciliation, namespace, name, current, desired).map(result -> updateCache(namespace, name, result)).onComplete(future);
                     }
                 } else {
                     if (current != null) {
                         // Deletion is desired
                         LOGGER.debugCr(reconciliation, "{} {}/{} exist, deleting it", resourceKind, namespace, name);
-                        internalDelete(reconciliation, namespace, name).onComplete(future);
+                        internalDelete(reconciliation, namespace, name).map(result -> updateCache(namespace, name, result)).onComplete(future);
                     } else {
                         LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, noop", resourceKind, namespace, name);
                         future.complete(ReconcileResult.noop(null));
@@ -135,6 +166,168 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         return promise.future();
     }
 
+    /**
+     * Gets the current state of the resource which is being reconciled. When the resource cache is enabled, the
+     * resource is taken from the cache and the Kubernetes API is called only when it is missing in the cache or when
+     * the cached version is outdated.
+     *
+     * @param namespace Namespace of the resource
+     * @param name      Name of the resource
+     *
+     * @return  The current resource or null if it does not exist
+     */
+    protected T getCurrent(String namespace, String name) {
+        return getCurrent(null, namespace, name);
+    }
+
+    /**
+     * Gets the current resource from the resource cache (if enabled) or from the Kubernetes API. Reads answered from
+     * the cache are recorded as saved API calls in the reconciliation.
+     *
+     * @param reconciliation    Reconciliation in which the resource is read or null if it is read outside of any reconciliation
+     * @param namespace         Namespace of the resource
+     * @param name              Name of the resource
+     *
+     * @return  The current resource or null if it does not exist
+     */
+    protected T getCurrent(Reconciliation reconciliation, String namespace, String name) {
+        ResourceCache<T> cache = this.cache;
+
+        if (cache != null)  {
+            return cache.get(reconciliation, namespace, name, () -> operation().inNamespace(namespace).withName(name).get());
+        } else {
+            return operation().inNamespace(namespace).withName(name).get();
+        }
+    }
+
+    /**
+     * Records the result of a write to the Kubernetes API in the resource cache (if enabled). This makes sure that
+     * the cache will not use older versions of the resource which might still be in the informer.
+     *
+     * @param namespace Namespace of the resource
+     * @param name      Name of the resource
+     * @param result    Result of the reconciliation
+     *
+     * @return  The result of the reconciliation
+     */
+    private ReconcileResult<T> updateCache(String namespace, String name, ReconcileResult<T> result) {
+        ResourceCache<T> cache = this.cache;
+
+        if (cache != null && !(result instanceof ReconcileResult.Noop)) {
+            cache.written(namespace, name, result.resourceOpt().orElse(null));
+        }
+
+        if (serverSideApply) {
+            T resource = result.resourceOpt().orElse(null);
+
+            if (resource != null && resource.getMetadata() != null && isApplied(resource)) {
+                appliedVersions.put(namespace + "/" + name, new AppliedVersion(resource.getMetadata().getUid(), resource.getMetadata().getResourceVersion()));
+            } else if (!(result instanceof ReconcileResult.Noop)) {
+                appliedVersions.remove(namespace + "/" + name);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Enables the server-side apply. The changed resources are then patched using the server-side apply with the
+     * strimzi field manager instead of the JSON Patch. Resources created before the server-side apply was enabled are
+     * still patched using the JSON Patch, because the fields they got from the create and update operations are not
+     * owned by the server-side apply and would not be removed from the resource when they are removed from the desired
+     * resource. When {@link #canApplyWithoutCurrent()} allows it, resources which were already written or read by
+     * this operator are applied directly without reading them first and the API server detects whether anything
+     * changed. When the resource cache is enabled, the current resources are still read from the cache, because it
+     * allows to skip the unchanged resources without any API call.
+     */
+    public void enableServerSideApply() {
+        this.serverSideApply = true;
+    }
+
+    /**
+     * @return  True if the server-side apply is enabled. False otherwise.
+     */
+    public boolean isServerSideApplyEnabled() {
+        return serverSideApply;
+    }
+
+    /**
+     * Indicates whether the desired resource can be applied without reading the current resource first when the
+     * server-side apply is enabled. This skips {@link #internalPatch(Reconciliation, String, String, HasMetadata, HasMetadata)}
+     * and {@link #needsPatching(Reconciliation, String, HasMetadata, HasMetadata)}. So it should be allowed only by
+     * operators which do not customize the patching (for example by copying some fields from the current resource).
+     *
+     * @return  True if the resource can be applied without reading it first. False otherwise.
+     */
+    protected boolean canApplyWithoutCurrent() {
+        return false;
+    }
+
+    /**
+     * Checks whether the fields of the resource are owned by the server-side apply of the strimzi field manager.
+     * That is the case for resources created or already patched using the server-side apply by this operator.
+     *
+     * @param resource  The resource
+     *
+     * @return  True if the resource is managed using the server-side apply. False otherwise.
+     */
+    private static boolean isApplied(HasMetadata resource) {
+        List<ManagedFieldsEntry> managedFields = resource.getMetadata().getManagedFields();
+
+        return managedFields != null
+                && managedFields.stream().anyMatch(entry -> FIELD_MANAGER.equals(entry.getManager()) && "Apply".equals(entry.getOperation()));
+    }
+
+    /**
+     * @return  The patch context used for the server-side apply
+     */
+    private static PatchContext serverSideApplyContext() {
+        return new PatchContext.Builder()
+                .withPatchType(PatchType.SERVER_SIDE_APPLY)
+                .withFieldManager(FIELD_MANAGER)
+                .withForce(true)
+                .build();
+    }
+
+    /**
+     * Enables the informer based resource cache for given namespace. Once the informer is in sync, the reconciliations
+     * will use it to get the current resources instead of calling the Kubernetes API. Only the resources with the
+     * strimzi.io/kind label (i.e. resources managed by Strimzi) are cached. Other resources are still fetched from the
+     * Kubernetes API. This method blocks until the informer is started and should be called from a worker thread.
+     *
+     * @param namespace         Namespace for which the cache should be enabled. Use * for all namespaces.
+     * @param metricsProvider   Metrics provider used for the cache metrics
+     */
+    public synchronized void enableCache(String namespace, MetricsProvider metricsProvider) {
+        ResourceCache<T> cache = this.cache != null ? this.cache : new ResourceCache<>(resourceKind, metricsProvider,
+                resource -> resource.getMetadata().getLabels() != null && resource.getMetadata().getLabels().containsKey(Labels.STRIMZI_KIND_LABEL));
+
+        if (ANY_NAMESPACE.equals(namespace))    {
+            cache.addInformer(namespace, operation().inAnyNamespace().withLabel(Labels.STRIMZI_KIND_LABEL).inform());
+        } else {
+            cache.addInformer(namespace, operation().inNamespace(namespace).withLabel(Labels.STRIMZI_KIND_LABEL).inform());
+        }
+
+        this.cache = cache;
+    }
+
+    /**
+     * Disables the resource cache for given namespace and stops its informer.
+     *
+     * @param namespace Namespace for which the cache should be disabled. Use * for all namespaces.
+     */
+    public synchronized void disableCache(String namespace) {
+        ResourceCache<T> cache = this.cache;
+
+        if (cache != null)  {
+            cache.removeInformer(namespace);
+
+            if (cache.isEmpty())    {
+                this.cache = null;
+            }
+        }
+    }
+
     /**
      * Deletes the resource with the given namespace and name and completes the given future accordingly.
      * This method will do a cascading delete.
@@ -199,9 +392,9 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
     }
 
     /**
-     * @return  Returns the Pattern for matching paths which can be ignored in the resource diff
+     * @return  Returns the trie with the paths which can be ignored in the resource diff
      */
-    protected Pattern ignorablePaths() {
+    protected JsonPathTrie ignorablePaths() {
         return IGNORABLE_PATHS;
     }
 
@@ -240,7 +433,14 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
     protected Future<ReconcileResult<T>> internalPatch(Reconciliation reconciliation, String namespace, String name, T current, T desired) {
         if (needsPatching(reconciliation, name, current, desired))  {
             try {
-                T result = operation().inNamespace(namespace).withName(name).patch(PatchContext.of(PatchType.JSON), desired);
+                T result;
+
+                if (serverSideApply && isApplied(current)) {
+                    result = operation().inNamespace(namespace).withName(name).patch(serverSideApplyContext(), desired);
+                } else {
+                    result = operation().inNamespace(namespace).withName(name).patch(PatchContext.of(PatchType.JSON), desired);
+                }
+
                 LOGGER.debugCr(reconciliation, "{} {} in namespace {} has been patched", resourceKind, name, namespace);
                 return Future.succeededFuture(wasChanged(current, result) ? ReconcileResult.patched(result) : ReconcileResult.noop(result));
             } catch (Exception e) {
@@ -253,6 +453,43 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         }
     }
 
+    /**
+     * Applies the desired resource using the server-side apply without reading the current resource first. Whether
+     * the resource was created, changed or not changed at all is decided based on the UID and resource version of
+     * the resource after the previous write by this operator.
+     *
+     * @param reconciliation    The reconciliation
+     * @param namespace         Namespace of the resource
+     * @param name              Name of the resource
+     * @param desired           Desired resource
+     * @param applied           UID and resource version of the resource after the previous write
+     *
+     * @return  Future with the reconciliation result
+     */
+    private Future<ReconcileResult<T>> internalApply(Reconciliation reconciliation, String namespace, String name, T desired, AppliedVersion applied) {
+        try {
+            T result = operation().inNamespace(namespace).withName(name).patch(serverSideApplyContext(), desired);
+
+            if (result == null || result.getMetadata() == null) {
+                return Future.succeededFuture(ReconcileResult.patched(result));
+            } else if (!Objects.equals(applied.uid, result.getMetadata().getUid())) {
+                LOGGER.debugCr(reconciliation, "{} {} in namespace {} has been created", resourceKind, name, namespace);
+                return Future.succeededFuture(ReconcileResult.created(result));
+            } else if (Objects.equals(applied.resourceVersion, result.getMetadata().getResourceVersion())) {
+                LOGGER.debugCr(reconciliation, "{} {} in namespace {} did not change", resourceKind, name, namespace);
+                return Future.succeededFuture(ReconcileResult.noop(result));
+            } else {
+                LOGGER.debugCr(reconciliation, "{} {} in namespace {} has been patched", resourceKind, name, namespace);
+                return Future.succeededFuture(ReconcileResult.patched(result));
+            }
+        } catch (Exception e) {
+            LOGGER.debugCr(reconciliation, "Caught exception while applying {} {} in namespace {}", resourceKind, name, namespace, e);
+            // The resource might have been deleted or changed by someone else => use the regular path next time
+            appliedVersions.remove(namespace + "/" + name);
+            return Future.failedFuture(e);
+        }
+    }
+
     protected boolean wasChanged(T oldVersion, T newVersion) {
         if (oldVersion != null
                 && oldVersion.getMetadata() != null
@@ -266,11 +503,15 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
 
     /**
      * Creates a resource with the given namespace and name with the given desired state
-     * and completes the given future accordingly.
+     * and completes the given future accordingly. When the server-side apply is enabled, the resource is created using
+     * the server-side apply as well, so that all its fields are owned by the strimzi field manager from the beginning.
      */
     protected Future<ReconcileResult<T>> internalCreate(Reconciliation reconciliation, String namespace, String name, T desired) {
         try {
-            ReconcileResult<T> result = ReconcileResult.created(operation().inNamespace(namespace).resource(desired).create());
+            T created = serverSideApply
+                    ? operation().inNamespace(namespace).withName(name).patch(serverSideApplyContext(), desired)
+                    : operation().inNamespace(namespace).resource(desired).create();
+            ReconcileResult<T> result = ReconcileResult.created(created);
             LOGGER.debugCr(reconciliation, "{} {} in namespace {} has been created", resourceKind, name, namespace);
             return Future.succeededFuture(result);
         } catch (Exception e) {
@@ -289,7 +530,7 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         if (name == null || name.isEmpty()) {
             throw new IllegalArgumentException(namespace + "/" + resourceKind + " with an empty name cannot be configured. Please provide a name.");
         }
-        return operation().inNamespace(namespace).withName(name).get();
+        return getCurrent(namespace, name);
     }
 
     /**
@@ -302,7 +543,19 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         if (name == null || name.isEmpty()) {
             throw new IllegalArgumentException(namespace + "/" + resourceKind + " with an empty name cannot be configured. Please provide a name.");
         }
-        return resourceSupport.getAsync(operation().inNamespace(namespace).withName(name));
+
+        if (cache != null)  {
+            return resourceSupport.executeBlocking(
+                blockingFuture -> {
+                    try {
+                        blockingFuture.complete(getCurrent(namespace, name));
+                    } catch (Throwable t) {
+                        blockingFuture.fail(t);
+                    }
+                });
+        } else {
+            return resourceSupport.getAsync(operation().inNamespace(namespace).withName(name));
+        }
     }
 
     /**
@@ -439,6 +692,7 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
      * @return                  A Future with True if the deletion succeeded and False when it failed.
      */
     public Future<Void> deleteAsync(Reconciliation reconciliation, String namespace, String name, boolean cascading) {
+        appliedVersions.remove(namespace + "/" + name);
         return internalDelete(reconciliation, namespace, name, cascading).map((Void) null);
     }
 
@@ -482,4 +736,17 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
     public MixedOperation<T, L, R> client() {
         return operation();
     }
+
+    /**
+     * UID and resource version of the resource after it was last written by this operator
+     */
+    private static class AppliedVersion {
+        private final String uid;
+        private final String resourceVersion;
+
+        AppliedVersion(String uid, String resourceVersion) {
+            this.uid = uid;
+            this.resourceVersion = resourceVersion;
+        }
+    }
 }
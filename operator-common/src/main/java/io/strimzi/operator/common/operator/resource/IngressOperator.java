@@ -65,4 +65,9 @@ public class IngressOperator extends AbstractResourceOperator<KubernetesClient,
 
         return false;
     }
+
+    @Override
+    protected boolean canApplyWithoutCurrent() {
+        return true;
+    }
 }
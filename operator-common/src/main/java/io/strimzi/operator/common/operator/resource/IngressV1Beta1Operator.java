@@ -65,4 +65,9 @@ public class IngressV1Beta1Operator extends AbstractResourceOperator<KubernetesC
 
         return false;
     }
+
+    @Override
+    protected boolean canApplyWithoutCurrent() {
+        return true;
+    }
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Trie of JSON pointer paths (e.g. {@code /metadata/managedFields}) used to quickly decide whether a path inside a
+ * resource can be ignored when diffing it. The trie is walked one path segment at a time together with the diffed
+ * JSON trees, so no path strings or regular expression matching are needed during the diff. Path segments use the JSON
+ * pointer escaping ({@code ~1} for {@code /} and {@code ~0} for {@code ~}). The {@code *} segment matches any object
+ * field or array index.
+ */
+public class JsonPathTrie {
+    /**
+     * Wildcard matching any single path segment
+     */
+    public static final String WILDCARD = "*";
+
+    /**
+     * Empty trie which does not match any path
+     */
+    public static final JsonPathTrie EMPTY = new JsonPathTrie();
+
+    private final Map<String, JsonPathTrie> children;
+    private final boolean terminal;
+
+    private JsonPathTrie() {
+        this(Collections.emptyMap(), false);
+    }
+
+    private JsonPathTrie(Map<String, JsonPathTrie> children, boolean terminal) {
+        this.children = children;
+        this.terminal = terminal;
+    }
+
+    /**
+     * Builds the trie from the JSON pointer paths
+     *
+     * @param paths     Paths which should be matched by the trie
+     *
+     * @return  The trie
+     */
+    public static JsonPathTrie of(String... paths) {
+        Builder root = new Builder();
+
+        for (String path : paths) {
+            if (path == null || !path.startsWith("/")) {
+                throw new IllegalArgumentException("Invalid JSON pointer path " + path);
+            }
+
+            Builder node = root;
+            for (String segment : path.substring(1).split("/", -1)) {
+                node = node.children.computeIfAbsent(unescape(segment), k -> new Builder());
+            }
+
+            node.terminal = true;
+        }
+
+        return root.build();
+    }
+
+    private static String unescape(String segment) {
+        return segment.replace("~1", "/").replace("~0", "~");
+    }
+
+    /**
+     * Returns the sub-trie for given path segment. The sub-trie is empty when no path continues with this segment.
+     *
+     * @param segment   Object field name or array index
+     *
+     * @return  The sub-trie for the segment
+     */
+    public JsonPathTrie child(String segment) {
+        if (children.isEmpty()) {
+            return EMPTY;
+        }
+
+        JsonPathTrie child = children.get(segment);
+
+        if (child == null) {
+            child = children.get(WILDCARD);
+        }
+
+        return child != null ? child : EMPTY;
+    }
+
+    /**
+     * @return  True if a whole path ends at this node. All paths under such node are matched as well.
+     */
+    public boolean isTerminal() {
+        return terminal;
+    }
+
+    /**
+     * @return  True if this trie does not match any path
+     */
+    public boolean isEmpty() {
+        return !terminal && children.isEmpty();
+    }
+
+    /**
+     * Checks whether the JSON pointer path is matched by the trie. Paths nested under a matched path are matched as
+     * well.
+     *
+     * @param path  JSON pointer path
+     *
+     * @return  True if the path is matched. False otherwise.
+     */
+    public boolean matches(String path) {
+        JsonPathTrie node = this;
+
+        for (String segment : path.substring(1).split("/", -1)) {
+            if (node.terminal) {
+                return true;
+            }
+
+            node = node.child(unescape(segment));
+        }
+
+        return node.terminal;
+    }
+
+    /**
+     * Mutable node used to build the trie
+     */
+    private static class Builder {
+        private final Map<String, Builder> children = new HashMap<>(2);
+        private boolean terminal = false;
+
+        JsonPathTrie build() {
+            if (children.isEmpty()) {
+                return new JsonPathTrie(Collections.emptyMap(), terminal);
+            }
+
+            Map<String, JsonPathTrie> built = new HashMap<>(children.size());
+            children.forEach((segment, child) -> built.put(segment, child.build()));
+
+            return new JsonPathTrie(Collections.unmodifiableMap(built), terminal);
+        }
+    }
+}
@@ -11,13 +11,12 @@ import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.vertx.core.Vertx;
 
-import java.util.regex.Pattern;
 
 public class NetworkPolicyOperator extends AbstractResourceOperator<KubernetesClient, NetworkPolicy, NetworkPolicyList, Resource<NetworkPolicy>> {
-    protected static final Pattern IGNORABLE_PATHS = Pattern.compile(
-            "^(/metadata/managedFields" +
-                    "|/spec/policyTypes" +
-                    "|/status)$");
+    protected static final JsonPathTrie IGNORABLE_PATHS = JsonPathTrie.of(
+            "/metadata/managedFields",
+            "/spec/policyTypes",
+            "/status");
 
     public NetworkPolicyOperator(Vertx vertx, KubernetesClient client) {
         super(vertx, client, "NetworkPolicy");
@@ -29,10 +28,15 @@ public class NetworkPolicyOperator extends AbstractResourceOperator<KubernetesCl
     }
 
     /**
-     * @return  Returns the Pattern for matching paths which can be ignored in the resource diff
+     * @return  Returns the trie with the paths which can be ignored in the resource diff
      */
     @Override
-    protected Pattern ignorablePaths() {
+    protected JsonPathTrie ignorablePaths() {
         return IGNORABLE_PATHS;
     }
+
+    @Override
+    protected boolean canApplyWithoutCurrent() {
+        return true;
+    }
 }
@@ -21,4 +21,9 @@ public class PodDisruptionBudgetOperator extends AbstractResourceOperator<Kubern
     protected MixedOperation<PodDisruptionBudget, PodDisruptionBudgetList, Resource<PodDisruptionBudget>> operation() {
         return client.policy().v1().podDisruptionBudget();
     }
+
+    @Override
+    protected boolean canApplyWithoutCurrent() {
+        return true;
+    }
 }
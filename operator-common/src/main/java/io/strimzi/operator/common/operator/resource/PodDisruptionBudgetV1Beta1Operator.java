@@ -21,4 +21,9 @@ public class PodDisruptionBudgetV1Beta1Operator extends AbstractResourceOperator
     protected MixedOperation<PodDisruptionBudget, PodDisruptionBudgetList, Resource<PodDisruptionBudget>> operation() {
         return client.policy().v1beta1().podDisruptionBudget();
     }
+
+    @Override
+    protected boolean canApplyWithoutCurrent() {
+        return true;
+    }
 }
@@ -14,18 +14,17 @@ import io.strimzi.operator.common.ReconciliationLogger;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
-import java.util.regex.Pattern;
 
 /**
  * Operations for {@code PersistentVolumeClaim}s.
  */
 public class PvcOperator extends AbstractResourceOperator<KubernetesClient, PersistentVolumeClaim, PersistentVolumeClaimList, Resource<PersistentVolumeClaim>> {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(PvcOperator.class);
-    protected static final Pattern IGNORABLE_PATHS = Pattern.compile(
-            "^(/metadata/managedFields" +
-                    "|/metadata/annotations/pv.kubernetes.io~1bind-completed" +
-                    "|/metadata/finalizers" +
-                    "|/status)$");
+    protected static final JsonPathTrie IGNORABLE_PATHS = JsonPathTrie.of(
+            "/metadata/managedFields",
+            "/metadata/annotations/pv.kubernetes.io~1bind-completed",
+            "/metadata/finalizers",
+            "/status");
 
 
     /**
@@ -43,10 +42,10 @@ public class PvcOperator extends AbstractResourceOperator<KubernetesClient, Pers
     }
 
     /**
-     * @return  Returns the Pattern for matching paths which can be ignored in the resource diff
+     * @return  Returns the trie with the paths which can be ignored in the resource diff
      */
     @Override
-    protected Pattern ignorablePaths() {
+    protected JsonPathTrie ignorablePaths() {
         return IGNORABLE_PATHS;
     }
 
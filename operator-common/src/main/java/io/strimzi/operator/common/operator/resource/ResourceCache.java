@@ -0,0 +1,282 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Read cache for the resource operators. The cache is backed by one shared informer per namespace (or a single one for
+ * all namespaces) and is used to answer the GET requests done by the operators before creating, patching or deleting
+ * resources.
+ *
+ * The informer cache is only eventually consistent. To avoid basing the decisions on outdated data, the cache keeps
+ * track of the resource versions of the resources written by the operator. When the informer did not catch up with
+ * the last write yet, or when the resource is not in the cache at all, the cache falls back to a regular GET request.
+ * Only the resources which are (or will be) in the informer are tracked. The tracked resource versions are removed
+ * once the informer delivers them, so the tracking does not grow beyond the resources known to the informer.
+ *
+ * @param <T>   Type of the cached resource
+ */
+public class ResourceCache<T extends HasMetadata> {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ResourceCache.class);
+    private static final String METRICS_PREFIX = "strimzi.resources.cache.";
+
+    // Marker used in the resource version map for resources which we know were deleted
+    /* test */ static final String DELETED = "";
+
+    private final String resourceKind;
+    private final MetricsProvider metricsProvider;
+    private final Predicate<T> informed;
+    private final Map<String, SharedIndexInformer<T>> informers = new ConcurrentHashMap<>(1);
+    private final Map<String, String> expectedResourceVersions = new ConcurrentHashMap<>();
+    private final Map<String, Counter> hitsCounters = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> missesCounters = new ConcurrentHashMap<>(1);
+
+    /**
+     * Creates the resource cache
+     *
+     * @param resourceKind      Kind of the cached resource (used for logging and metrics)
+     * @param metricsProvider   Metrics provider used for the cache hit and miss metrics
+     */
+    public ResourceCache(String resourceKind, MetricsProvider metricsProvider) {
+        this(resourceKind, metricsProvider, resource -> true);
+    }
+
+    /**
+     * Creates the resource cache
+     *
+     * @param resourceKind      Kind of the cached resource (used for logging and metrics)
+     * @param metricsProvider   Metrics provider used for the cache hit and miss metrics
+     * @param informed          Predicate indicating whether the resource is matched by the informers (e.g. by their
+     *                          label selector). Writes of the other resources are not tracked.
+     */
+    public ResourceCache(String resourceKind, MetricsProvider metricsProvider, Predicate<T> informed) {
+        this.resourceKind = resourceKind;
+        this.metricsProvider = metricsProvider;
+        this.informed = informed;
+    }
+
+    /**
+     * Adds an informer for given namespace to the cache. The informer should be already started.
+     *
+     * @param namespace     Namespace for which the informer is used. Use * for all namespaces.
+     * @param informer      Informer which should be used for given namespace
+     */
+    public void addInformer(String namespace, SharedIndexInformer<T> informer)  {
+        informer.addEventHandler(new ResourceEventHandler<T>() {
+            @Override
+            public void onAdd(T resource) {
+                caughtUp(resource);
+            }
+
+            @Override
+            public void onUpdate(T oldResource, T newResource) {
+                caughtUp(newResource);
+            }
+
+            @Override
+            public void onDelete(T resource, boolean deletedFinalStateUnknown) {
+                // Resources missing in the informer are always fetched from the API server => no need to track them
+                expectedResourceVersions.remove(Cache.metaNamespaceKeyFunc(resource));
+            }
+        });
+
+        SharedIndexInformer<T> previous = informers.put(namespace, informer);
+
+        if (previous != null)   {
+            previous.stop();
+        }
+    }
+
+    /**
+     * Removes and stops the informer used for given namespace
+     *
+     * @param namespace     Namespace for which the informer should be removed. Use * for all namespaces.
+     */
+    public void removeInformer(String namespace)  {
+        SharedIndexInformer<T> informer = informers.remove(namespace);
+
+        if (informer != null)   {
+            informer.stop();
+        }
+    }
+
+    /**
+     * @return  True if no informers are registered in this cache. False otherwise.
+     */
+    public boolean isEmpty()    {
+        return informers.isEmpty();
+    }
+
+    /**
+     * Gets the resource from the cache. When the resource is not in the cache, when the informer is not yet in sync or
+     * when the cached resource is older than the last known write of the operator, the supplier is used to get the
+     * resource from the Kubernetes API server instead. The resource returned from the cache is a copy and can be
+     * modified by the caller.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param fallback      Supplier used to get the resource from the Kubernetes API when it cannot be used from the cache
+     *
+     * @return  The resource or null if it does not exist
+     */
+    public T get(String namespace, String name, Supplier<T> fallback)  {
+        return get(null, namespace, name, fallback);
+    }
+
+    /**
+     * Gets the resource from the cache the same way as {@link #get(String, String, Supplier)} and records the API
+     * call saved by a cache hit in the reconciliation.
+     *
+     * @param reconciliation    Reconciliation in which the resource is read or null if it is read outside of any reconciliation
+     * @param namespace         Namespace of the resource
+     * @param name              Name of the resource
+     * @param fallback          Supplier used to get the resource from the Kubernetes API when it cannot be used from the cache
+     *
+     * @return  The resource or null if it does not exist
+     */
+    public T get(Reconciliation reconciliation, String namespace, String name, Supplier<T> fallback)  {
+        String key = Cache.namespaceKeyFunc(namespace, name);
+        T cached = getFromInformer(namespace, key);
+
+        if (cached != null) {
+            String expected = expectedResourceVersions.get(key);
+
+            if (expected == null) {
+                hit(reconciliation, namespace);
+                return Serialization.clone(cached);
+            } else if (expected.equals(cached.getMetadata().getResourceVersion())) {
+                // The informer caught up with our last write => we do not need to track it anymore
+                expectedResourceVersions.remove(key, expected);
+                hit(reconciliation, namespace);
+                return Serialization.clone(cached);
+            } else {
+                LOGGER.debugOp("Cached {} {}/{} is outdated and will be fetched from the API server", resourceKind, namespace, name);
+            }
+        }
+
+        missesCounter(namespace).increment();
+        T current = fallback.get();
+
+        if (cached != null) {
+            // Resources missing in the informer are not tracked, they are fetched from the API server anyway
+            update(namespace, name, current, true);
+        }
+
+        return current;
+    }
+
+    private void hit(Reconciliation reconciliation, String namespace)  {
+        hitsCounter(namespace).increment();
+
+        if (reconciliation != null) {
+            reconciliation.apiCallSaved();
+        }
+    }
+
+    /**
+     * Records the resource written by the operator, so that outdated resources from the informer are not used.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param resource      The resource as returned by the Kubernetes API after the write. Null if it was deleted.
+     */
+    public void written(String namespace, String name, T resource)  {
+        update(namespace, name, resource, getFromInformer(namespace, Cache.namespaceKeyFunc(namespace, name)) != null);
+    }
+
+    private void update(String namespace, String name, T resource, boolean cached)  {
+        String key = Cache.namespaceKeyFunc(namespace, name);
+
+        if (resource != null
+                && resource.getMetadata() != null
+                && resource.getMetadata().getResourceVersion() != null
+                && (cached || informed.test(resource))) {
+            // The informer has an older version or will get this resource later
+            expectedResourceVersions.put(key, resource.getMetadata().getResourceVersion());
+        } else if (resource == null && cached) {
+            // The informer might still have the deleted resource
+            expectedResourceVersions.put(key, DELETED);
+        } else {
+            // The resource is not in the informer and will never be => it is always fetched from the API server
+            expectedResourceVersions.remove(key);
+        }
+    }
+
+    /**
+     * Stops tracking the resource version once the informer delivered it
+     *
+     * @param resource  Resource delivered by the informer
+     */
+    private void caughtUp(T resource) {
+        if (resource != null && resource.getMetadata() != null && resource.getMetadata().getResourceVersion() != null) {
+            expectedResourceVersions.remove(Cache.metaNamespaceKeyFunc(resource), resource.getMetadata().getResourceVersion());
+        }
+    }
+
+    private T getFromInformer(String namespace, String key)  {
+        SharedIndexInformer<T> informer = informers.get(namespace);
+
+        if (informer == null)   {
+            informer = informers.get(AbstractResourceOperator.ANY_NAMESPACE);
+        }
+
+        if (informer != null && informer.hasSynced()) {
+            return informer.getIndexer().getByKey(key);
+        } else {
+            return null;
+        }
+    }
+
+    /* test */ Map<String, String> expectedResourceVersions()  {
+        return expectedResourceVersions;
+    }
+
+    /**
+     * Counter metric for the number of reads answered from the cache. Each cache hit replaces one GET request to the
+     * Kubernetes API server.
+     *
+     * @param namespace     Namespace of the resource
+     *
+     * @return  Metrics counter
+     */
+    public Counter hitsCounter(String namespace)    {
+        return counter(namespace, METRICS_PREFIX + "hits", hitsCounters,
+                "Number of resource reads answered from the informer cache instead of the Kubernetes API server");
+    }
+
+    /**
+     * Counter metric for the number of reads which could not be answered from the cache and were sent to the Kubernetes
+     * API server.
+     *
+     * @param namespace     Namespace of the resource
+     *
+     * @return  Metrics counter
+     */
+    public Counter missesCounter(String namespace)    {
+        return counter(namespace, METRICS_PREFIX + "misses", missesCounters,
+                "Number of resource reads which were not found in the informer cache or found outdated and fetched from the Kubernetes API server");
+    }
+
+    private Counter counter(String namespace, String metricName, Map<String, Counter> counters, String metricHelp)    {
+        return counters.computeIfAbsent(namespace, ns -> metricsProvider.counter(metricName, metricHelp,
+                Tags.of(Tag.of("kind", resourceKind), Tag.of("namespace", namespace))));
+    }
+}
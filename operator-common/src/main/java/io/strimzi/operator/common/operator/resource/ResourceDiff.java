@@ -4,49 +4,211 @@
  */
 package io.strimzi.operator.common.operator.resource;
 
+import com.fasterxml.jackson.core.filter.FilteringGeneratorDelegate;
+import com.fasterxml.jackson.core.filter.TokenFilter;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import io.fabric8.kubernetes.api.model.HasMetadata;
-import io.fabric8.zjsonpatch.JsonDiff;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 
-import java.util.regex.Pattern;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
 
+/**
+ * Diff of the current and desired resource. Instead of computing the full JSON Patch between the two resources, both
+ * resources are walked together and the diff stops at the first difference which is not under one of the ignorable
+ * paths. Subtrees without any ignorable paths are compared using the JSON node equality without tracking the path.
+ *
+ * The ignorable paths are pruned already when the resources are converted to JSON trees, so no tree nodes are created
+ * for them (for example for the managed fields or the status). A whole subtree under an ignorable path is ignored,
+ * including any changes nested in it. Objects and arrays which become empty because all their content was pruned are
+ * pruned as well.
+ *
+ * @param <T>   Type of the resource
+ */
 class ResourceDiff<T extends HasMetadata> extends AbstractJsonDiff {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ResourceDiff.class.getName());
 
     private final boolean isEmpty;
 
-    public ResourceDiff(Reconciliation reconciliation, String resourceKind, String resourceName, T current, T desired, Pattern ignorableFields) {
-        JsonNode source = PATCH_MAPPER.valueToTree(current == null ? "{}" : current);
-        JsonNode target = PATCH_MAPPER.valueToTree(desired == null ? "{}" : desired);
-        JsonNode diff = JsonDiff.asJson(source, target);
+    public ResourceDiff(Reconciliation reconciliation, String resourceKind, String resourceName, T current, T desired, JsonPathTrie ignorablePaths) {
+        JsonNode source = toPrunedTree(current == null ? "{}" : current, ignorablePaths);
+        JsonNode target = toPrunedTree(desired == null ? "{}" : desired, ignorablePaths);
+
+        boolean debug = LOGGER.isDebugEnabled();
+        Deque<String> path = debug ? new ArrayDeque<>() : null;
+        boolean differs = differs(source, target, ignorablePaths, path);
+
+        if (differs && debug) {
+            String pathValue = toPointer(path);
+            LOGGER.debugCr(reconciliation, "{} {} differs at path {}", resourceKind, resourceName, pathValue);
+            LOGGER.debugCr(reconciliation, "Current {} {} path {} has value {}", resourceKind, resourceName, pathValue, pathValue.isEmpty() ? source : lookupPath(source, pathValue));
+            LOGGER.debugCr(reconciliation, "Desired {} {} path {} has value {}", resourceKind, resourceName, pathValue, pathValue.isEmpty() ? target : lookupPath(target, pathValue));
+        }
 
-        int num = 0;
+        this.isEmpty = !differs;
+    }
+
+    /**
+     * Converts the value to a JSON tree without the ignorable paths. The ignorable paths are filtered out while the
+     * value is serialized, so that the tree nodes are not created for them.
+     *
+     * @param value     Value which should be converted
+     * @param ignorable Ignorable paths
+     *
+     * @return  JSON tree without the ignorable paths
+     */
+    /* test */ static JsonNode toPrunedTree(Object value, JsonPathTrie ignorable) {
+        if (ignorable.isEmpty()) {
+            return PATCH_MAPPER.valueToTree(value);
+        }
+
+        try (TokenBuffer buffer = new TokenBuffer(PATCH_MAPPER, false)) {
+            PATCH_MAPPER.writeValue(new FilteringGeneratorDelegate(buffer, new IgnorablePathsFilter(ignorable), TokenFilter.Inclusion.INCLUDE_ALL_AND_PATH, true), value);
+            return PATCH_MAPPER.readTree(buffer.asParser());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Checks whether the two JSON nodes differ outside of the ignorable paths.
+     *
+     * @param source    Current JSON node
+     * @param target    Desired JSON node
+     * @param ignorable Ignorable paths relative to these nodes
+     * @param path      Deque where the path of the difference is collected. Null if the path is not needed.
+     *
+     * @return  True if the first difference which cannot be ignored was found. False otherwise.
+     */
+    /* test */ static boolean differs(JsonNode source, JsonNode target, JsonPathTrie ignorable, Deque<String> path) {
+        if (ignorable.isTerminal()) {
+            return false;
+        } else if (ignorable.isEmpty() && path == null) {
+            return !source.equals(target);
+        } else if (source.isObject() && target.isObject()) {
+            return objectDiffers(source, target, ignorable, path);
+        } else if (source.isArray() && target.isArray()) {
+            return arrayDiffers(source, target, ignorable, path);
+        } else {
+            return !source.equals(target);
+        }
+    }
 
-        for (JsonNode d : diff) {
-            String pathValue = d.get("path").asText();
+    private static boolean objectDiffers(JsonNode source, JsonNode target, JsonPathTrie ignorable, Deque<String> path) {
+        Iterator<Map.Entry<String, JsonNode>> fields = source.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonPathTrie child = ignorable.child(field.getKey());
+            JsonNode other = target.get(field.getKey());
 
-            if (ignorableFields.matcher(pathValue).matches()) {
-                LOGGER.debugCr(reconciliation, "Ignoring {} {} diff {}", resourceKind, resourceName, d);
-                continue;
+            push(path, field.getKey());
+            if (other == null ? !child.isTerminal() : differs(field.getValue(), other, child, path)) {
+                return true;
             }
 
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debugCr(reconciliation, "{} {} differs: {}", resourceKind, resourceName, d);
-                LOGGER.debugCr(reconciliation, "Current {} {} path {} has value {}", resourceKind, resourceName, pathValue, lookupPath(source, pathValue));
-                LOGGER.debugCr(reconciliation, "Desired {} {} path {} has value {}", resourceKind, resourceName, pathValue, lookupPath(target, pathValue));
+            pop(path);
+        }
+
+        Iterator<String> names = target.fieldNames();
+        while (names.hasNext()) {
+            String name = names.next();
+
+            if (!source.has(name) && !ignorable.child(name).isTerminal()) {
+                push(path, name);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean arrayDiffers(JsonNode source, JsonNode target, JsonPathTrie ignorable, Deque<String> path) {
+        int common = Math.min(source.size(), target.size());
+
+        for (int i = 0; i < common; i++) {
+            String index = String.valueOf(i);
+
+            push(path, index);
+            if (differs(source.get(i), target.get(i), ignorable.child(index), path)) {
+                return true;
             }
 
-            num++;
-            break;
+            pop(path);
         }
 
-        this.isEmpty = num == 0;
+        for (int i = common; i < Math.max(source.size(), target.size()); i++) {
+            String index = String.valueOf(i);
+
+            if (!ignorable.child(index).isTerminal()) {
+                push(path, index);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static void push(Deque<String> path, String segment) {
+        if (path != null) {
+            path.addLast(segment);
+        }
+    }
+
+    private static void pop(Deque<String> path) {
+        if (path != null) {
+            path.removeLast();
+        }
+    }
+
+    private static String toPointer(Deque<String> path) {
+        StringBuilder sb = new StringBuilder();
+
+        for (String segment : path) {
+            sb.append('/').append(segment.replace("~", "~0").replace("/", "~1"));
+        }
+
+        return sb.toString();
     }
 
     @Override
     public boolean isEmpty() {
         return isEmpty;
     }
+
+    /**
+     * Token filter excluding the ignorable paths during the serialization
+     */
+    private static class IgnorablePathsFilter extends TokenFilter {
+        private final JsonPathTrie ignorable;
+
+        IgnorablePathsFilter(JsonPathTrie ignorable) {
+            this.ignorable = ignorable;
+        }
+
+        private static TokenFilter filter(JsonPathTrie child) {
+            if (child.isTerminal()) {
+                return null;
+            } else if (child.isEmpty()) {
+                return TokenFilter.INCLUDE_ALL;
+            } else {
+                return new IgnorablePathsFilter(child);
+            }
+        }
+
+        @Override
+        public TokenFilter includeProperty(String name) {
+            return filter(ignorable.child(name));
+        }
+
+        @Override
+        public TokenFilter includeElement(int index) {
+            return filter(ignorable.child(String.valueOf(index)));
+        }
+    }
 }
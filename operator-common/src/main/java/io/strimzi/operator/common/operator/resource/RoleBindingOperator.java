@@ -28,4 +28,9 @@ public class RoleBindingOperator extends AbstractResourceOperator<KubernetesClie
     protected MixedOperation<RoleBinding, RoleBindingList, Resource<RoleBinding>> operation() {
         return client.rbac().roleBindings();
     }
+
+    @Override
+    protected boolean canApplyWithoutCurrent() {
+        return true;
+    }
 }
@@ -30,4 +30,9 @@ public class RoleOperator extends AbstractResourceOperator<
     protected MixedOperation<Role, RoleList, Resource<Role>> operation() {
         return client.rbac().roles();
     }
+
+    @Override
+    protected boolean canApplyWithoutCurrent() {
+        return true;
+    }
 }
@@ -64,4 +64,9 @@ public class RouteOperator extends AbstractResourceOperator<OpenShiftClient, Rou
 
         return false;
     }
+
+    @Override
+    protected boolean canApplyWithoutCurrent() {
+        return true;
+    }
 }
@@ -29,4 +29,9 @@ public class SecretOperator extends AbstractResourceOperator<KubernetesClient, S
     protected MixedOperation<Secret, SecretList, Resource<Secret>> operation() {
         return client.secrets();
     }
+
+    @Override
+    protected boolean canApplyWithoutCurrent() {
+        return true;
+    }
 }
@@ -20,7 +20,6 @@ import io.vertx.core.Vertx;
 
 import java.util.Map;
 import java.util.function.Function;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -29,14 +28,14 @@ import java.util.stream.Collectors;
 public class ServiceOperator extends AbstractResourceOperator<KubernetesClient, Service, ServiceList, ServiceResource<Service>> {
 
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ServiceOperator.class);
-    protected static final Pattern IGNORABLE_PATHS = Pattern.compile(
-            "^(/metadata/managedFields" +
-                    "|/spec/sessionAffinity" +
-                    "|/spec/clusterIP" +
-                    "|/spec/clusterIPs" +
-                    "|/spec/ipFamily" + // Legacy field from Kube 1.19 and earlier. We just ignore it, it is not configurable.
-                    "|/spec/ipFamilies" + // Immutable field
-                    "|/status)$");
+    protected static final JsonPathTrie IGNORABLE_PATHS = JsonPathTrie.of(
+            "/metadata/managedFields",
+            "/spec/sessionAffinity",
+            "/spec/clusterIP",
+            "/spec/clusterIPs",
+            "/spec/ipFamily", // Legacy field from Kube 1.19 and earlier. We just ignore it, it is not configurable.
+            "/spec/ipFamilies", // Immutable field
+            "/status");
 
     private final EndpointOperator endpointOperations;
     /**
@@ -56,9 +55,9 @@ public class ServiceOperator extends AbstractResourceOperator<KubernetesClient,
     }
 
     /**
-     * @return  Returns the Pattern for matching paths which can be ignored in the resource diff
+     * @return  Returns the trie with the paths which can be ignored in the resource diff
      */
-    protected Pattern ignorablePaths() {
+    protected JsonPathTrie ignorablePaths() {
         return IGNORABLE_PATHS;
     }
 
@@ -14,11 +14,11 @@ import io.strimzi.api.kafka.model.Spec;
 import io.strimzi.api.kafka.model.status.Status;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.AbstractWatchableStatusedResourceOperator;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
-import io.vertx.core.shareddata.Lock;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
@@ -29,8 +29,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -54,20 +54,19 @@ class AbstractOperatorTest {
 
     @Test
     /**
-     * Verifies that the lock is released by a call to `releaseLockAndTimer`. 
-     * The call is made through a chain of futures ending with `eventually` after a normal/successful execution of the `Callable`
+     * Verifies that the work queue is released for the resource.
+     * This is checked after a normal/successful execution of the `Callable`
      */
-    void testWithLockCallableSuccessfulReleasesLock(VertxTestContext context) throws Exception {
+    void testWithWorkQueueCallableSuccessfulReleasesQueue(VertxTestContext context) throws Exception {
         var resourceOperator = new DefaultWatchableStatusedResourceOperator<>(vertx, null, "TestResource");
         @SuppressWarnings({ "unchecked", "rawtypes" })
         var target = new DefaultOperator(vertx, "Test", resourceOperator, new MicrometerMetricsProvider(), null);
         Reconciliation reconciliation = new Reconciliation("test", "TestResource", "my-namespace", "my-resource");
-        String lockName = target.getLockName(reconciliation);
 
         Checkpoint callableSucceeded = context.checkpoint();
-        Checkpoint lockObtained  = context.checkpoint();
+        Checkpoint queueReleased = context.checkpoint();
         @SuppressWarnings("unchecked")
-        Future<String> result = target.withLockTest(reconciliation, () -> Future.succeededFuture("OK"));
+        Future<String> result = target.withWorkQueueTest(reconciliation, () -> Future.succeededFuture("OK"));
         Promise<Void> successHandlerCalled = Promise.promise();
 
         result.onComplete(context.succeeding(v -> context.verify(() -> {
@@ -77,30 +76,27 @@ class AbstractOperatorTest {
         })));
 
         successHandlerCalled.future()
-            .compose(v -> vertx.sharedData().getLockWithTimeout(lockName, 10000L))
-            .onComplete(context.succeeding(lock -> context.verify(() -> {
-                assertThat(lock, instanceOf(Lock.class));
-                lock.release();
-                lockObtained.flag();
-            })));
+            .onComplete(context.succeeding(v -> vertx.runOnContext(nothing -> context.verify(() -> {
+                assertThat(target.isBusy(reconciliation), is(false));
+                queueReleased.flag();
+            }))));
     }
 
     @Test
     /**
-     * Verifies that the lock is released by a call to `releaseLockAndTimer`. 
-     * The call is made through a chain of futures ending with `eventually` after a failed execution via a handled exception in the `Callable`.
+     * Verifies that the work queue is released for the resource.
+     * This is checked after a failed execution via a handled exception in the `Callable`.
      */
-    void testWithLockCallableHandledExceptionReleasesLock(VertxTestContext context) throws Exception {
+    void testWithWorkQueueCallableHandledExceptionReleasesQueue(VertxTestContext context) throws Exception {
         var resourceOperator = new DefaultWatchableStatusedResourceOperator<>(vertx, null, "TestResource");
         @SuppressWarnings({ "unchecked", "rawtypes" })
         var target = new DefaultOperator(vertx, "Test", resourceOperator, new MicrometerMetricsProvider(), null);
         Reconciliation reconciliation = new Reconciliation("test", "TestResource", "my-namespace", "my-resource");
-        String lockName = target.getLockName(reconciliation);
 
         Checkpoint callableFailed = context.checkpoint();
-        Checkpoint lockObtained  = context.checkpoint();
+        Checkpoint queueReleased = context.checkpoint();
         @SuppressWarnings("unchecked")
-        Future<String> result = target.withLockTest(reconciliation,
+        Future<String> result = target.withWorkQueueTest(reconciliation,
                 () -> Future.failedFuture(new UnsupportedOperationException(EXPECTED_MESSAGE)));
 
         Promise<Void> failHandlerCalled = Promise.promise();
@@ -112,30 +108,27 @@ class AbstractOperatorTest {
         })));
 
         failHandlerCalled.future()
-            .compose(nothing -> vertx.sharedData().getLockWithTimeout(lockName, 10000L))
-            .onComplete(context.succeeding(lock -> context.verify(() -> {
-                assertThat(lock, instanceOf(Lock.class));
-                lock.release();
-                lockObtained.flag();
-            })));
+            .onComplete(context.succeeding(v -> vertx.runOnContext(nothing -> context.verify(() -> {
+                assertThat(target.isBusy(reconciliation), is(false));
+                queueReleased.flag();
+            }))));
     }
 
     @Test
     /**
-     * Verifies that the lock is released by a call to `releaseLockAndTimer`.
-     * The call is made through a chain of futures ending with `eventually` after a failed execution via an unhandled exception in the `Callable`.
+     * Verifies that the work queue is released for the resource.
+     * This is checked after a failed execution via an unhandled exception in the `Callable`.
      */
-    void testWithLockCallableUnhandledExceptionReleasesLock(VertxTestContext context) throws Exception {
+    void testWithWorkQueueCallableUnhandledExceptionReleasesQueue(VertxTestContext context) throws Exception {
         var resourceOperator = new DefaultWatchableStatusedResourceOperator<>(vertx, null, "TestResource");
         @SuppressWarnings({ "unchecked", "rawtypes" })
         var target = new DefaultOperator(vertx, "Test", resourceOperator, new MicrometerMetricsProvider(), null);
         Reconciliation reconciliation = new Reconciliation("test", "TestResource", "my-namespace", "my-resource");
-        String lockName = target.getLockName(reconciliation);
 
         Checkpoint callableFailed = context.checkpoint();
-        Checkpoint lockObtained  = context.checkpoint();
+        Checkpoint queueReleased = context.checkpoint();
         @SuppressWarnings("unchecked")
-        Future<String> result = target.withLockTest(reconciliation,
+        Future<String> result = target.withWorkQueueTest(reconciliation,
                 () -> {
                     throw new UnsupportedOperationException(EXPECTED_MESSAGE);
                 });
@@ -149,39 +142,36 @@ class AbstractOperatorTest {
         })));
 
         failHandlerCalled.future()
-            .compose(nothing -> vertx.sharedData().getLockWithTimeout(lockName, 10000L))
-            .onComplete(context.succeeding(lock -> context.verify(() -> {
-                assertThat(lock, instanceOf(Lock.class));
-                lock.release();
-                lockObtained.flag();
-            })));
+            .onComplete(context.succeeding(v -> vertx.runOnContext(nothing -> context.verify(() -> {
+                assertThat(target.isBusy(reconciliation), is(false));
+                queueReleased.flag();
+            }))));
     }
 
     @Test
     /**
-     * Verifies that lock is released by call to `releaseLockAndTimer`. 
-     * The call is made through a chain of futures ending with `eventually` after a failed execution via an unhandled exception in the `Callable`, 
+     * Verifies that the work queue is released for the resource.
+     * This is checked after a failed execution via an unhandled exception in the `Callable`, 
      * followed by an unhandled exception occurring in the `onFailure` handler.
      */
-    void testWithLockFailHandlerUnhandledExceptionReleasesLock(VertxTestContext context) throws Exception {
+    void testWithWorkQueueFailHandlerUnhandledExceptionReleasesQueue(VertxTestContext context) throws Exception {
         var resourceOperator = new DefaultWatchableStatusedResourceOperator<>(vertx, null, "TestResource");
         @SuppressWarnings({ "unchecked", "rawtypes" })
         var target = new DefaultOperator(vertx, "Test", resourceOperator, new MicrometerMetricsProvider(), null);
         Reconciliation reconciliation = new Reconciliation("test", "TestResource", "my-namespace", "my-resource");
-        String lockName = target.getLockName(reconciliation);
 
         Promise<Void> handlersRegistered = Promise.promise();
         Promise<Void> failHandlerCalled = Promise.promise();
 
         @SuppressWarnings("unchecked")
-        Future<String> result = target.withLockTest(reconciliation,
+        Future<String> result = target.withWorkQueueTest(reconciliation,
                 // TEST SETUP: Do not throw the exception until all handlers registered
                 () -> handlersRegistered.future().compose(nothing -> {
                     throw new UnsupportedOperationException(EXPECTED_MESSAGE);
                 }));
 
         Checkpoint callableFailed = context.checkpoint();
-        Checkpoint lockObtained  = context.checkpoint();
+        Checkpoint queueReleased = context.checkpoint();
 
         result.onComplete(ar -> {
             assertThat(ar.failed(), is(true));
@@ -193,23 +183,61 @@ class AbstractOperatorTest {
             try {
                 throw new RuntimeException(e);
             } finally {
-                // Enables the subsequent lock retrieval to verify it has been unlocked.
+                // Enables the subsequent check that the work queue has been released.
                 failHandlerCalled.complete();
             }
         });
 
         failHandlerCalled.future()
-            .compose(nothing ->
-                vertx.sharedData().getLockWithTimeout(lockName, 10000L))
-            .onComplete(context.succeeding(lock -> context.verify(() -> {
-                assertThat(lock, instanceOf(Lock.class));
-                lock.release();
-                lockObtained.flag();
-            })));
+            .onComplete(context.succeeding(v -> vertx.runOnContext(nothing -> context.verify(() -> {
+                assertThat(target.isBusy(reconciliation), is(false));
+                queueReleased.flag();
+            }))));
 
         handlersRegistered.complete();
     }
 
+    @Test
+    /**
+     * Verifies that work of different types submitted for the same resource while it is busy is not coalesced. For
+     * example, a periodic reconciliation must not replace a waiting watch event and vice versa.
+     */
+    void testWithWorkQueueDifferentWorkTypesForSameResourceAreNotCoalesced(VertxTestContext context) {
+        var resourceOperator = new DefaultWatchableStatusedResourceOperator<>(vertx, null, "TestResource");
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        var target = new DefaultOperator(vertx, "Test", resourceOperator, new MicrometerMetricsProvider(), null);
+        Reconciliation reconciliation = new Reconciliation("test", "TestResource", "my-namespace", "my-resource");
+
+        Promise<Void> blocker = Promise.promise();
+        AtomicInteger reconciliations = new AtomicInteger();
+        AtomicInteger watchEvents = new AtomicInteger();
+
+        @SuppressWarnings("unchecked")
+        Future<Void> running = target.withWorkQueueTest(reconciliation, blocker::future);
+        @SuppressWarnings("unchecked")
+        Future<String> reconcile = target.withWorkQueueTest(reconciliation, () -> {
+            reconciliations.incrementAndGet();
+            return Future.succeededFuture("reconcile");
+        });
+        @SuppressWarnings("unchecked")
+        Future<String> watchEvent = target.withWorkQueueTest(reconciliation, "watch-event", () -> {
+            watchEvents.incrementAndGet();
+            return Future.succeededFuture("watch-event");
+        });
+
+        blocker.complete();
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(running, reconcile, watchEvent)
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                assertThat(reconcile.result(), is("reconcile"));
+                assertThat(watchEvent.result(), is("watch-event"));
+                assertThat(reconciliations.get(), is(1));
+                assertThat(watchEvents.get(), is(1));
+                async.flag();
+            })));
+    }
+
     private static class DefaultOperator<
             T extends CustomResource<P, S>,
             P extends Spec,
@@ -236,12 +264,16 @@ class AbstractOperatorTest {
             return null;
         }
 
-        public String getLockName(Reconciliation reconciliation) {
-            return getLockName(reconciliation.namespace(), reconciliation.name());
+        public boolean isBusy(Reconciliation reconciliation) {
+            return workQueue().isBusy(getWorkQueueKey(reconciliation.namespace(), reconciliation.name()));
+        }
+
+        public <C> Future<C> withWorkQueueTest(Reconciliation reconciliation, Callable<Future<C>> callable) {
+            return withWorkQueue(reconciliation, callable);
         }
 
-        public <C> Future<C> withLockTest(Reconciliation reconciliation, Callable<Future<C>> callable) {
-            return withLock(reconciliation, LOCK_TIMEOUT_MS, callable);
+        public <C> Future<C> withWorkQueueTest(Reconciliation reconciliation, String workType, Callable<Future<C>> callable) {
+            return withWorkQueue(reconciliation, workType, callable);
         }
     }
 
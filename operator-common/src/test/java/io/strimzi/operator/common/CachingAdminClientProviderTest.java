@@ -0,0 +1,277 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.vertx.core.Vertx;
+import org.apache.kafka.clients.admin.Admin;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CachingAdminClientProviderTest {
+    private static final String BOOTSTRAP = "my-cluster-kafka-bootstrap:9091";
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static Secret secret(String name, Map<String, String> data) {
+        Map<String, String> encoded = new HashMap<>();
+        data.forEach((key, value) -> encoded.put(key, Base64.getEncoder().encodeToString(value.getBytes(US_ASCII))));
+
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace("my-namespace")
+                .endMetadata()
+                .withData(encoded)
+                .build();
+    }
+
+    private static Secret caSecret(String cert) {
+        return secret("my-cluster-cluster-ca-cert", Map.of("ca.crt", cert));
+    }
+
+    private static Secret keySecret(String key) {
+        return secret("my-cluster-cluster-operator-certs", Map.of("cluster-operator.key", key, "cluster-operator.crt", "cert"));
+    }
+
+    private static AdminClientProvider mockProvider(List<Admin> created) {
+        AdminClientProvider provider = mock(AdminClientProvider.class);
+        when(provider.createAdminClient(anyString(), any(), any(), any(), any(Properties.class))).thenAnswer(i -> {
+            Admin admin = mock(Admin.class);
+            created.add(admin);
+            return admin;
+        });
+
+        return provider;
+    }
+
+    @Test
+    public void testClientIsReused() {
+        List<Admin> created = new ArrayList<>();
+        CachingAdminClientProvider provider = new CachingAdminClientProvider(vertx, mockProvider(created), CachingAdminClientProvider.DEFAULT_IDLE_TIMEOUT_MS);
+
+        Admin first = provider.createAdminClient(BOOTSTRAP, caSecret("ca"), keySecret("key"), "cluster-operator");
+        Admin second = provider.createAdminClient(BOOTSTRAP, caSecret("ca"), keySecret("key"), "cluster-operator");
+
+        assertThat(created.size(), is(1));
+        assertThat(provider.size(), is(1));
+
+        first.describeCluster();
+        second.describeCluster();
+        verify(created.get(0), times(2)).describeCluster();
+
+        // Different bootstrap address uses a different client
+        provider.createAdminClient("other-cluster-kafka-bootstrap:9091", caSecret("ca"), keySecret("key"), "cluster-operator");
+        assertThat(created.size(), is(2));
+        assertThat(provider.size(), is(2));
+    }
+
+    @Test
+    public void testCloseReleasesLease() {
+        List<Admin> created = new ArrayList<>();
+        CachingAdminClientProvider provider = new CachingAdminClientProvider(vertx, mockProvider(created), CachingAdminClientProvider.DEFAULT_IDLE_TIMEOUT_MS);
+
+        Admin first = provider.createAdminClient(BOOTSTRAP, caSecret("ca"), keySecret("key"), "cluster-operator");
+        first.close();
+        first.close(Duration.ofSeconds(30));
+
+        verify(created.get(0), never()).close();
+        verify(created.get(0), never()).close(any());
+
+        // Released client is reused by the next lease
+        Admin second = provider.createAdminClient(BOOTSTRAP, caSecret("ca"), keySecret("key"), "cluster-operator");
+        second.describeCluster();
+
+        assertThat(created.size(), is(1));
+        verify(created.get(0)).describeCluster();
+    }
+
+    @Test
+    public void testClientIsRecreatedWhenCredentialsChange() {
+        List<Admin> created = new ArrayList<>();
+        CachingAdminClientProvider provider = new CachingAdminClientProvider(vertx, mockProvider(created), CachingAdminClientProvider.DEFAULT_IDLE_TIMEOUT_MS);
+
+        Admin first = provider.createAdminClient(BOOTSTRAP, caSecret("ca"), keySecret("key"), "cluster-operator");
+
+        // CA renewal
+        Admin second = provider.createAdminClient(BOOTSTRAP, caSecret("renewed-ca"), keySecret("key"), "cluster-operator");
+        assertThat(created.size(), is(2));
+        assertThat(provider.size(), is(1));
+
+        // The old client is still in use and should not be closed until released
+        verify(created.get(0), never()).close(any());
+        first.close();
+        verify(created.get(0)).close(any());
+
+        // Key renewal
+        second.close();
+        provider.createAdminClient(BOOTSTRAP, caSecret("renewed-ca"), keySecret("renewed-key"), "cluster-operator");
+        assertThat(created.size(), is(3));
+        verify(created.get(1)).close(any());
+        verify(created.get(2), never()).close(any());
+    }
+
+    @Test
+    public void testIdleClientsAreEvicted() {
+        List<Admin> created = new ArrayList<>();
+        CachingAdminClientProvider provider = new CachingAdminClientProvider(vertx, mockProvider(created), 0L);
+
+        Admin inUse = provider.createAdminClient(BOOTSTRAP, caSecret("ca"), keySecret("key"), "cluster-operator");
+        Admin idle = provider.createAdminClient("other-cluster-kafka-bootstrap:9091", caSecret("ca"), keySecret("key"), "cluster-operator");
+        idle.close();
+
+        provider.evictIdleClients();
+
+        assertThat(provider.size(), is(1));
+        verify(created.get(0), never()).close(any());
+        verify(created.get(1)).close(any());
+
+        inUse.close();
+        provider.evictIdleClients();
+
+        assertThat(provider.size(), is(0));
+        verify(created.get(0)).close(any());
+    }
+
+    @Test
+    public void testCloseCancelsTimerAndClosesClients() {
+        Vertx mockVertx = mock(Vertx.class);
+        when(mockVertx.setPeriodic(anyLong(), any())).thenReturn(42L);
+
+        List<Admin> created = new ArrayList<>();
+        CachingAdminClientProvider provider = new CachingAdminClientProvider(mockVertx, mockProvider(created), CachingAdminClientProvider.DEFAULT_IDLE_TIMEOUT_MS);
+
+        Admin inUse = provider.createAdminClient(BOOTSTRAP, caSecret("ca"), keySecret("key"), "cluster-operator");
+        Admin idle = provider.createAdminClient("other-cluster-kafka-bootstrap:9091", caSecret("ca"), keySecret("key"), "cluster-operator");
+        idle.close();
+
+        provider.close();
+
+        verify(mockVertx).cancelTimer(42L);
+        assertThat(provider.size(), is(0));
+        verify(created.get(0), never()).close(any());
+        verify(created.get(1)).close(any());
+
+        // The leased client is closed once released
+        inUse.close();
+        verify(created.get(0)).close(any());
+    }
+
+    @Test
+    public void testSecretWithoutData() {
+        List<Admin> created = new ArrayList<>();
+        CachingAdminClientProvider provider = new CachingAdminClientProvider(vertx, mockProvider(created), CachingAdminClientProvider.DEFAULT_IDLE_TIMEOUT_MS);
+
+        Secret emptySecret = new SecretBuilder()
+                .withNewMetadata()
+                    .withName("my-cluster-cluster-operator-certs")
+                    .withNamespace("my-namespace")
+                .endMetadata()
+                .build();
+
+        provider.createAdminClient(BOOTSTRAP, caSecret("ca"), emptySecret, "cluster-operator");
+        assertThat(created.size(), is(1));
+
+        provider.close();
+    }
+
+    @Test
+    public void testFailedClientIsNotPooled() {
+        AdminClientProvider delegate = mock(AdminClientProvider.class);
+        Admin admin = mock(Admin.class);
+        when(delegate.createAdminClient(anyString(), any(), any(), any(), any(Properties.class)))
+                .thenThrow(new RuntimeException("Failed"))
+                .thenReturn(admin);
+        CachingAdminClientProvider provider = new CachingAdminClientProvider(vertx, delegate, CachingAdminClientProvider.DEFAULT_IDLE_TIMEOUT_MS);
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> provider.createAdminClient(BOOTSTRAP, caSecret("ca"), keySecret("key"), "cluster-operator"));
+        assertThat(e.getMessage(), is("Failed"));
+        assertThat(provider.size(), is(0));
+
+        provider.createAdminClient(BOOTSTRAP, caSecret("ca"), keySecret("key"), "cluster-operator").describeCluster();
+        verify(admin).describeCluster();
+
+        provider.close();
+    }
+
+    @Test
+    public void testClientIsCreatedOutsideOfTheLock() throws InterruptedException {
+        CountDownLatch creating = new CountDownLatch(1);
+        CountDownLatch unblock = new CountDownLatch(1);
+
+        AdminClientProvider delegate = mock(AdminClientProvider.class);
+        when(delegate.createAdminClient(anyString(), any(), any(), any(), any(Properties.class))).thenAnswer(i -> {
+            if (BOOTSTRAP.equals(i.getArgument(0))) {
+                // Blocks like a client creation which waits for the DNS or the network
+                creating.countDown();
+                unblock.await();
+            }
+
+            return mock(Admin.class);
+        });
+        CachingAdminClientProvider provider = new CachingAdminClientProvider(vertx, delegate, CachingAdminClientProvider.DEFAULT_IDLE_TIMEOUT_MS);
+
+        Thread blocked = new Thread(() -> provider.createAdminClient(BOOTSTRAP, caSecret("ca"), keySecret("key"), "cluster-operator"));
+        blocked.start();
+        assertThat(creating.await(30, TimeUnit.SECONDS), is(true));
+
+        // A client for another cluster can be created while the first one is being created
+        provider.createAdminClient("other-cluster-kafka-bootstrap:9091", caSecret("ca"), keySecret("key"), "cluster-operator");
+        assertThat(provider.size(), is(2));
+
+        unblock.countDown();
+        blocked.join(30_000);
+        assertThat(blocked.isAlive(), is(false));
+
+        provider.close();
+    }
+
+    @Test
+    public void testUncachedProvider() {
+        AdminClientProvider delegate = mockProvider(new ArrayList<>());
+        CachingAdminClientProvider provider = new CachingAdminClientProvider(vertx, delegate, CachingAdminClientProvider.DEFAULT_IDLE_TIMEOUT_MS);
+
+        assertThat(CachingAdminClientProvider.uncached(provider), is(sameInstance(delegate)));
+        assertThat(CachingAdminClientProvider.uncached(delegate), is(sameInstance(delegate)));
+
+        provider.close();
+    }
+}
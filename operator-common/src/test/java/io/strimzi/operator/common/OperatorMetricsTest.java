@@ -240,43 +240,6 @@ public class OperatorMetricsTest {
                 })));
     }
 
-    @Test
-    public void testFailingWithLockReconcile(VertxTestContext context)  {
-        MetricsProvider metricsProvider = createCleanMetricsProvider();
-
-        AbstractWatchableStatusedResourceOperator resourceOperator = resourceOperatorWithExistingResourceWithoutSelectorLabel();
-
-        AbstractOperator operator = new AbstractOperator(vertx, "TestResource", resourceOperator, metricsProvider, null) {
-            @Override
-            protected Future createOrUpdate(Reconciliation reconciliation, CustomResource resource) {
-                return Future.failedFuture(new UnableToAcquireLockException());
-            }
-
-            @Override
-            protected Future<Boolean> delete(Reconciliation reconciliation) {
-                return null;
-            }
-
-            @Override
-            protected Status createStatus() {
-                return new Status() { };
-            }
-        };
-
-        Checkpoint async = context.checkpoint();
-        operator.reconcile(new Reconciliation("test", "TestResource", "my-namespace", "my-resource"))
-                .onComplete(context.failing(v -> context.verify(() -> {
-                    MeterRegistry registry = metricsProvider.meterRegistry();
-                    Tag selectorTag = Tag.of("selector", "");
-
-                    assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations").meter().getId().getTags().get(2), is(selectorTag));
-                    assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations").tag("kind", "TestResource").counter().count(), is(1.0));
-                    assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.locked").meter().getId().getTags().get(2), is(selectorTag));
-                    assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.locked").tag("kind", "TestResource").counter().count(), is(1.0));
-                    async.flag();
-                })));
-    }
-
     @Test
     public void testDeleteCountsReconcile(VertxTestContext context)  {
         MetricsProvider metricsProvider = createCleanMetricsProvider();
@@ -0,0 +1,176 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.metrics.OperatorMetricsHolder;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+@ExtendWith(VertxExtension.class)
+public class ReconciliationSchedulerTest {
+    private static final String NAMESPACE = "my-namespace";
+
+    private static Vertx vertx;
+
+    private OperatorMetricsHolder metrics;
+    private List<String> started;
+    private Map<String, Promise<Void>> promises;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @BeforeEach
+    public void setup() {
+        metrics = new OperatorMetricsHolder("Test", null, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+        started = new ArrayList<>();
+        promises = new ConcurrentHashMap<>();
+    }
+
+    private static Reconciliation reconciliation(String trigger, String name) {
+        return new Reconciliation(trigger, "Test", NAMESPACE, name);
+    }
+
+    private Future<Void> action(String name) {
+        synchronized (this) {
+            started.add(name);
+        }
+
+        Promise<Void> promise = Promise.promise();
+        promises.put(name, promise);
+        return promise.future();
+    }
+
+    @Test
+    public void testConcurrencyIsLimited() {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(vertx, metrics, 2, 0);
+
+        scheduler.schedule(reconciliation("watch", "a"), () -> action("a"));
+        scheduler.schedule(reconciliation("watch", "b"), () -> action("b"));
+        scheduler.schedule(reconciliation("watch", "c"), () -> action("c"));
+
+        assertThat(started, contains("a", "b"));
+        assertThat(scheduler.queueSize(), is(1));
+        assertThat(metrics.inFlightReconciliationsGauge(NAMESPACE).get(), is(2));
+        assertThat(metrics.queuedReconciliationsGauge(NAMESPACE).get(), is(1));
+
+        promises.get("a").complete();
+
+        assertThat(started, contains("a", "b", "c"));
+        assertThat(scheduler.queueSize(), is(0));
+        assertThat(metrics.inFlightReconciliationsGauge(NAMESPACE).get(), is(2));
+        assertThat(metrics.queuedReconciliationsGauge(NAMESPACE).get(), is(0));
+
+        promises.get("b").complete();
+        promises.get("c").fail("Failure");
+
+        assertThat(metrics.inFlightReconciliationsGauge(NAMESPACE).get(), is(0));
+        assertThat(metrics.reconciliationsWaitTimer(NAMESPACE).count(), is(3L));
+    }
+
+    @Test
+    public void testEventsArePrioritized() {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(vertx, metrics, 1, 0);
+
+        scheduler.schedule(reconciliation("watch", "a"), () -> action("a"));
+        scheduler.schedule(reconciliation(ReconciliationScheduler.PERIODIC_TRIGGER, "b"), () -> action("b"));
+        scheduler.schedule(reconciliation(ReconciliationScheduler.PERIODIC_TRIGGER, "c"), () -> action("c"));
+        scheduler.schedule(reconciliation("watch", "d"), () -> action("d"));
+
+        promises.get("a").complete();
+        promises.get("d").complete();
+        promises.get("b").complete();
+
+        assertThat(started, contains("a", "d", "b", "c"));
+    }
+
+    @Test
+    public void testQueuedReconciliationsAreCoalesced() {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(vertx, metrics, 1, 0);
+
+        Future<Void> a1 = scheduler.schedule(reconciliation("watch", "a"), () -> action("a"));
+        Future<Void> b1 = scheduler.schedule(reconciliation(ReconciliationScheduler.PERIODIC_TRIGGER, "b"), () -> action("b"));
+        scheduler.schedule(reconciliation(ReconciliationScheduler.PERIODIC_TRIGGER, "c"), () -> action("c"));
+        // Upgrades the queued periodic reconciliation of b
+        Future<Void> b2 = scheduler.schedule(reconciliation("watch", "b"), () -> action("b"));
+
+        assertThat(b1 == b2, is(true));
+        assertThat(scheduler.queueSize(), is(2));
+        assertThat(metrics.alreadyEnqueuedReconciliationsCounter(NAMESPACE).count(), is(1.0));
+
+        promises.get("a").complete();
+        assertThat(a1.succeeded(), is(true));
+        promises.get("b").complete();
+
+        assertThat(b1.succeeded(), is(true));
+        assertThat(started, contains("a", "b", "c"));
+    }
+
+    @Test
+    public void testSameResourceIsNotReconciledConcurrently() {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(vertx, metrics, 5, 0);
+
+        scheduler.schedule(reconciliation("watch", "a"), () -> action("a"));
+        scheduler.schedule(reconciliation("watch", "a"), () -> action("a"));
+        scheduler.schedule(reconciliation("watch", "b"), () -> action("b"));
+
+        assertThat(started, contains("a", "b"));
+        assertThat(scheduler.queueSize(), is(1));
+
+        promises.get("a").complete();
+
+        assertThat(started, contains("a", "b", "a"));
+        assertThat(scheduler.queueSize(), is(0));
+    }
+
+    @Test
+    public void testFailingActionIsHandled() {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(vertx, metrics, 1, 0);
+
+        Future<Void> failed = scheduler.schedule(reconciliation("watch", "a"), () -> {
+            throw new RuntimeException("Failure");
+        });
+        scheduler.schedule(reconciliation("watch", "b"), () -> action("b"));
+
+        assertThat(failed.failed(), is(true));
+        assertThat(started, contains("b"));
+    }
+
+    @Test
+    public void testPeriodicReconciliationsAreSpread(VertxTestContext context) {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(vertx, metrics, 1, 100);
+        Checkpoint reconciled = context.checkpoint();
+
+        Future<Void> result = scheduler.schedule(reconciliation(ReconciliationScheduler.PERIODIC_TRIGGER, "a"), () -> Future.succeededFuture());
+        assertThat(result.isComplete(), is(false));
+
+        result.onComplete(context.succeeding(v -> reconciled.flag()));
+    }
+}
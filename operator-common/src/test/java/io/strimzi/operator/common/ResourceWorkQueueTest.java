@@ -0,0 +1,162 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+@ExtendWith(VertxExtension.class)
+public class ResourceWorkQueueTest {
+    private static final String KEY = "my-namespace::Test::my-resource";
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "Test", "my-namespace", "my-resource");
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testFollowUpWorkIsCoalesced(VertxTestContext context) {
+        ResourceWorkQueue queue = new ResourceWorkQueue(vertx);
+        List<String> executed = new CopyOnWriteArrayList<>();
+        Promise<String> first = Promise.promise();
+        Checkpoint async = context.checkpoint();
+
+        ResourceWorkQueue.Submission<String> s1 = queue.submit(RECONCILIATION, KEY, () -> {
+            executed.add("first");
+            return first.future();
+        });
+        ResourceWorkQueue.Submission<String> s2 = queue.submit(RECONCILIATION, KEY, () -> {
+            executed.add("second");
+            return Future.succeededFuture("second");
+        });
+        ResourceWorkQueue.Submission<String> s3 = queue.submit(RECONCILIATION, KEY, () -> {
+            executed.add("third");
+            return Future.succeededFuture("third");
+        });
+
+        assertThat(s1.coalesced(), is(false));
+        assertThat(s2.coalesced(), is(false));
+        assertThat(s3.coalesced(), is(true));
+        assertThat(queue.isBusy(KEY), is(true));
+
+        vertx.setTimer(100, t -> {
+            context.verify(() -> assertThat(executed, contains("first")));
+            first.complete("first");
+        });
+
+        CompositeFuture.join(s1.result(), s2.result(), s3.result())
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    // Only the latest of the waiting submissions is executed, but both get its result
+                    assertThat(executed, contains("first", "third"));
+                    assertThat(s1.result().result(), is("first"));
+                    assertThat(s2.result().result(), is("third"));
+                    assertThat(s3.result().result(), is("third"));
+
+                    vertx.runOnContext(nothing -> context.verify(() -> {
+                        assertThat(queue.isBusy(KEY), is(false));
+                        async.flag();
+                    }));
+                })));
+    }
+
+    @Test
+    public void testDifferentWorkTypesAreNotCoalesced(VertxTestContext context) {
+        ResourceWorkQueue queue = new ResourceWorkQueue(vertx);
+        List<String> executed = new CopyOnWriteArrayList<>();
+        Promise<String> first = Promise.promise();
+        Checkpoint async = context.checkpoint();
+
+        ResourceWorkQueue.Submission<String> s1 = queue.submit(RECONCILIATION, KEY, () -> {
+            executed.add("first");
+            return first.future();
+        });
+        ResourceWorkQueue.Submission<String> s2 = queue.submit(RECONCILIATION, KEY, () -> {
+            executed.add("reconciliation");
+            return Future.succeededFuture("reconciliation");
+        });
+        ResourceWorkQueue.Submission<String> s3 = queue.submit(RECONCILIATION, KEY, "connector", () -> {
+            executed.add("connector");
+            return Future.succeededFuture("connector");
+        });
+        ResourceWorkQueue.Submission<String> s4 = queue.submit(RECONCILIATION, KEY, () -> {
+            executed.add("latest-reconciliation");
+            return Future.succeededFuture("latest-reconciliation");
+        });
+
+        assertThat(s3.coalesced(), is(false));
+        assertThat(s4.coalesced(), is(true));
+
+        first.complete("first");
+
+        CompositeFuture.join(s1.result(), s2.result(), s3.result(), s4.result())
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    // The waiting reconciliation keeps its position in the queue
+                    assertThat(executed, contains("first", "latest-reconciliation", "connector"));
+                    assertThat(s2.result().result(), is("latest-reconciliation"));
+                    assertThat(s3.result().result(), is("connector"));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testFollowUpRunsAfterFailure(VertxTestContext context) {
+        ResourceWorkQueue queue = new ResourceWorkQueue(vertx);
+        Checkpoint async = context.checkpoint();
+
+        Future<String> failed = queue.<String>submit(RECONCILIATION, KEY, () -> {
+            throw new RuntimeException("Failure");
+        }).result();
+        Future<String> followUp = queue.submit(RECONCILIATION, KEY, () -> Future.succeededFuture("OK")).result();
+
+        CompositeFuture.join(failed, followUp)
+                .onComplete(context.failing(v -> context.verify(() -> {
+                    assertThat(failed.failed(), is(true));
+
+                    followUp.onComplete(context.succeeding(result -> context.verify(() -> {
+                        assertThat(result, is("OK"));
+                        async.flag();
+                    })));
+                })));
+    }
+
+    @Test
+    public void testDifferentKeysRunConcurrently(VertxTestContext context) {
+        ResourceWorkQueue queue = new ResourceWorkQueue(vertx);
+        Promise<String> blocked = Promise.promise();
+        Checkpoint async = context.checkpoint();
+
+        queue.submit(RECONCILIATION, KEY, () -> blocked.future());
+        queue.submit(RECONCILIATION, "other-key", () -> Future.succeededFuture("OK")).result()
+                .onComplete(context.succeeding(result -> context.verify(() -> {
+                    assertThat(queue.isBusy(KEY), is(true));
+                    blocked.complete();
+                    async.flag();
+                })));
+    }
+}
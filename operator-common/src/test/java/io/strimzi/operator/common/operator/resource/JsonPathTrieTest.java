@@ -0,0 +1,55 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JsonPathTrieTest {
+    @Test
+    public void testMatches() {
+        JsonPathTrie trie = JsonPathTrie.of("/metadata/managedFields", "/metadata/annotations/pv.kubernetes.io~1bind-completed", "/status");
+
+        assertThat(trie.matches("/status"), is(true));
+        assertThat(trie.matches("/status/conditions/0/type"), is(true));
+        assertThat(trie.matches("/metadata/managedFields"), is(true));
+        assertThat(trie.matches("/metadata/annotations/pv.kubernetes.io~1bind-completed"), is(true));
+
+        assertThat(trie.matches("/metadata"), is(false));
+        assertThat(trie.matches("/metadata/annotations"), is(false));
+        assertThat(trie.matches("/metadata/annotations/other"), is(false));
+        assertThat(trie.matches("/spec"), is(false));
+        assertThat(trie.matches("/statuses"), is(false));
+    }
+
+    @Test
+    public void testWildcard() {
+        JsonPathTrie trie = JsonPathTrie.of("/spec/ports/*/nodePort");
+
+        assertThat(trie.matches("/spec/ports/0/nodePort"), is(true));
+        assertThat(trie.matches("/spec/ports/12/nodePort"), is(true));
+        assertThat(trie.matches("/spec/ports/0/port"), is(false));
+        assertThat(trie.matches("/spec/ports"), is(false));
+    }
+
+    @Test
+    public void testChildren() {
+        JsonPathTrie trie = JsonPathTrie.of("/metadata/managedFields");
+
+        assertThat(trie.isEmpty(), is(false));
+        assertThat(trie.isTerminal(), is(false));
+        assertThat(trie.child("metadata").child("managedFields").isTerminal(), is(true));
+        assertThat(trie.child("spec").isEmpty(), is(true));
+        assertThat(trie.child("spec"), is(JsonPathTrie.EMPTY));
+    }
+
+    @Test
+    public void testInvalidPath() {
+        assertThrows(IllegalArgumentException.class, () -> JsonPathTrie.of("status"));
+    }
+}
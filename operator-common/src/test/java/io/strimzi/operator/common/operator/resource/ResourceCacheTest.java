@@ -0,0 +1,238 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Indexer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Labels;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ResourceCacheTest {
+    private static final String NAMESPACE = "my-namespace";
+    private static final String NAME = "my-secret";
+    private static final String KEY = NAMESPACE + "/" + NAME;
+
+    private MetricsProvider metrics;
+    private Indexer<Secret> indexer;
+    private SharedIndexInformer<Secret> informer;
+    private ResourceCache<Secret> cache;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    public void setup() {
+        metrics = new MicrometerMetricsProvider(new SimpleMeterRegistry());
+
+        indexer = mock(Indexer.class);
+        informer = mock(SharedIndexInformer.class);
+        when(informer.getIndexer()).thenReturn(indexer);
+        when(informer.hasSynced()).thenReturn(true);
+
+        cache = new ResourceCache<>("Secret", metrics);
+        cache.addInformer(NAMESPACE, informer);
+    }
+
+    private static Secret secret(String resourceVersion) {
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withName(NAME)
+                    .withNamespace(NAMESPACE)
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .build();
+    }
+
+    private static Secret labeledSecret(String resourceVersion) {
+        return new SecretBuilder(secret(resourceVersion))
+                .editMetadata()
+                    .withLabels(Map.of(Labels.STRIMZI_KIND_LABEL, "Kafka"))
+                .endMetadata()
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ResourceEventHandler<Secret> eventHandler() {
+        ArgumentCaptor<ResourceEventHandler<Secret>> captor = ArgumentCaptor.forClass(ResourceEventHandler.class);
+        verify(informer).addEventHandler(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    public void testHit() {
+        Secret cached = secret("1");
+        when(indexer.getByKey(KEY)).thenReturn(cached);
+        AtomicInteger apiCalls = new AtomicInteger(0);
+
+        Secret result = cache.get(NAMESPACE, NAME, () -> {
+            apiCalls.incrementAndGet();
+            return secret("1");
+        });
+
+        assertThat(result, is(cached));
+        assertThat(result, is(not(sameInstance(cached))));
+        assertThat(apiCalls.get(), is(0));
+        assertThat(cache.hitsCounter(NAMESPACE).count(), is(1.0));
+        assertThat(cache.missesCounter(NAMESPACE).count(), is(0.0));
+    }
+
+    @Test
+    public void testMiss() {
+        when(indexer.getByKey(KEY)).thenReturn(null);
+        Secret current = secret("1");
+
+        assertThat(cache.get(NAMESPACE, NAME, () -> current), is(current));
+        assertThat(cache.hitsCounter(NAMESPACE).count(), is(0.0));
+        assertThat(cache.missesCounter(NAMESPACE).count(), is(1.0));
+    }
+
+    @Test
+    public void testSavedApiCallsAreRecordedInReconciliation() {
+        Reconciliation reconciliation = new Reconciliation("test", "Secret", NAMESPACE, NAME);
+
+        when(indexer.getByKey(KEY)).thenReturn(null);
+        cache.get(reconciliation, NAMESPACE, NAME, () -> secret("1"));
+        assertThat(reconciliation.savedApiCalls(), is(0));
+
+        when(indexer.getByKey(KEY)).thenReturn(secret("1"));
+        cache.get(reconciliation, NAMESPACE, NAME, () -> null);
+        cache.get(reconciliation, NAMESPACE, NAME, () -> null);
+        assertThat(reconciliation.savedApiCalls(), is(2));
+        assertThat(cache.hitsCounter(NAMESPACE).count(), is(2.0));
+    }
+
+    @Test
+    public void testMissWhenNotSynced() {
+        when(informer.hasSynced()).thenReturn(false);
+        when(indexer.getByKey(KEY)).thenReturn(secret("1"));
+        Secret current = secret("2");
+
+        assertThat(cache.get(NAMESPACE, NAME, () -> current), is(current));
+        assertThat(cache.missesCounter(NAMESPACE).count(), is(1.0));
+    }
+
+    @Test
+    public void testMissForUnknownNamespace() {
+        Secret current = secret("1");
+
+        assertThat(cache.get("other-namespace", NAME, () -> current), is(current));
+        assertThat(cache.missesCounter("other-namespace").count(), is(1.0));
+    }
+
+    @Test
+    public void testOutdatedCacheAfterWrite() {
+        when(indexer.getByKey(KEY)).thenReturn(secret("1"));
+        cache.written(NAMESPACE, NAME, secret("2"));
+
+        // The informer did not catch up with our write yet
+        Secret current = secret("2");
+        assertThat(cache.get(NAMESPACE, NAME, () -> current), is(current));
+        assertThat(cache.missesCounter(NAMESPACE).count(), is(1.0));
+
+        // The informer caught up
+        when(indexer.getByKey(KEY)).thenReturn(secret("2"));
+        assertThat(cache.get(NAMESPACE, NAME, () -> null).getMetadata().getResourceVersion(), is("2"));
+        assertThat(cache.hitsCounter(NAMESPACE).count(), is(1.0));
+        assertThat(cache.expectedResourceVersions().isEmpty(), is(true));
+    }
+
+    @Test
+    public void testOutdatedCacheAfterDelete() {
+        when(indexer.getByKey(KEY)).thenReturn(secret("1"));
+        cache.written(NAMESPACE, NAME, null);
+        assertThat(cache.expectedResourceVersions().get(KEY), is(ResourceCache.DELETED));
+
+        // The informer still has the deleted resource
+        assertThat(cache.get(NAMESPACE, NAME, () -> null), is(nullValue()));
+        assertThat(cache.missesCounter(NAMESPACE).count(), is(1.0));
+
+        // The informer caught up
+        when(indexer.getByKey(KEY)).thenReturn(null);
+        assertThat(cache.get(NAMESPACE, NAME, () -> null), is(nullValue()));
+        assertThat(cache.expectedResourceVersions().isEmpty(), is(true));
+    }
+
+    @Test
+    public void testAnyNamespaceInformer() {
+        cache.removeInformer(NAMESPACE);
+        verify(informer).stop();
+        assertThat(cache.isEmpty(), is(true));
+
+        cache.addInformer(AbstractResourceOperator.ANY_NAMESPACE, informer);
+        Secret cached = secret("1");
+        when(indexer.getByKey(KEY)).thenReturn(cached);
+
+        assertThat(cache.get(NAMESPACE, NAME, () -> null), is(cached));
+        assertThat(cache.hitsCounter(NAMESPACE).count(), is(1.0));
+    }
+
+    @Test
+    public void testResourcesMissingInInformerAreNotTracked() {
+        ResourceCache<Secret> cache = new ResourceCache<>("Secret", metrics,
+                secret -> secret.getMetadata().getLabels() != null && secret.getMetadata().getLabels().containsKey(Labels.STRIMZI_KIND_LABEL));
+        cache.addInformer(NAMESPACE, informer);
+        when(indexer.getByKey(KEY)).thenReturn(null);
+
+        // Fallback GET of a resource which is not in the informer
+        assertThat(cache.get(NAMESPACE, NAME, () -> labeledSecret("1")).getMetadata().getResourceVersion(), is("1"));
+        assertThat(cache.expectedResourceVersions().isEmpty(), is(true));
+
+        // Write of a resource which the informer never sees
+        cache.written(NAMESPACE, NAME, secret("2"));
+        assertThat(cache.expectedResourceVersions().isEmpty(), is(true));
+
+        // Delete of a resource which is not in the informer
+        cache.written(NAMESPACE, NAME, null);
+        assertThat(cache.expectedResourceVersions().isEmpty(), is(true));
+
+        // Write of a resource which the informer will see later
+        cache.written(NAMESPACE, NAME, labeledSecret("3"));
+        assertThat(cache.expectedResourceVersions().get(KEY), is("3"));
+    }
+
+    @Test
+    public void testInformerEventsStopTracking() {
+        ResourceEventHandler<Secret> handler = eventHandler();
+
+        // Created resource is tracked until the informer delivers it
+        cache.written(NAMESPACE, NAME, secret("1"));
+        assertThat(cache.expectedResourceVersions().get(KEY), is("1"));
+        handler.onAdd(secret("1"));
+        assertThat(cache.expectedResourceVersions().isEmpty(), is(true));
+
+        // Patched resource is tracked until the informer delivers the same version
+        when(indexer.getByKey(KEY)).thenReturn(secret("1"));
+        cache.written(NAMESPACE, NAME, secret("3"));
+        handler.onUpdate(secret("1"), secret("2"));
+        assertThat(cache.expectedResourceVersions().get(KEY), is("3"));
+        handler.onUpdate(secret("2"), secret("3"));
+        assertThat(cache.expectedResourceVersions().isEmpty(), is(true));
+
+        // Deleted resource is tracked until the informer removes it
+        cache.written(NAMESPACE, NAME, null);
+        assertThat(cache.expectedResourceVersions().get(KEY), is(ResourceCache.DELETED));
+        handler.onDelete(secret("3"), false);
+        assertThat(cache.expectedResourceVersions().isEmpty(), is(true));
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.ManagedFieldsEntryBuilder;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.api.model.ServiceStatusBuilder;
+import io.strimzi.operator.common.Reconciliation;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ResourceDiffTest {
+    private static final JsonPathTrie IGNORABLE_PATHS = JsonPathTrie.of("/metadata/managedFields", "/status");
+
+    private static ConfigMap configMap(Map<String, String> data) {
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withName("my-cm")
+                    .withNamespace("my-namespace")
+                    .withLabels(Map.of("app", "kafka"))
+                .endMetadata()
+                .withData(data)
+                .build();
+    }
+
+    private static boolean isEmpty(ConfigMap current, ConfigMap desired) {
+        return new ResourceDiff<>(Reconciliation.DUMMY_RECONCILIATION, "ConfigMap", "my-cm", current, desired, IGNORABLE_PATHS).isEmpty();
+    }
+
+    @Test
+    public void testEqualResources() {
+        assertThat(isEmpty(configMap(Map.of("a", "1", "b", "2")), configMap(Map.of("b", "2", "a", "1"))), is(true));
+    }
+
+    @Test
+    public void testChangedValue() {
+        assertThat(isEmpty(configMap(Map.of("a", "1")), configMap(Map.of("a", "2"))), is(false));
+    }
+
+    @Test
+    public void testAddedAndRemovedFields() {
+        assertThat(isEmpty(configMap(Map.of("a", "1")), configMap(Map.of("a", "1", "b", "2"))), is(false));
+        assertThat(isEmpty(configMap(Map.of("a", "1", "b", "2")), configMap(Map.of("a", "1"))), is(false));
+    }
+
+    @Test
+    public void testNullResources() {
+        assertThat(isEmpty(null, null), is(true));
+        assertThat(isEmpty(null, configMap(Map.of("a", "1"))), is(false));
+        assertThat(isEmpty(configMap(Map.of("a", "1")), null), is(false));
+    }
+
+    @Test
+    public void testIgnorablePaths() {
+        ConfigMap current = new ConfigMapBuilder(configMap(Map.of("a", "1")))
+                .editMetadata()
+                    .withManagedFields(new ManagedFieldsEntryBuilder().withManager("kubectl").withOperation("Update").build())
+                .endMetadata()
+                .build();
+
+        assertThat(isEmpty(current, configMap(Map.of("a", "1"))), is(true));
+        assertThat(isEmpty(configMap(Map.of("a", "1")), current), is(true));
+
+        // Changes nested under the ignored path are ignored as well
+        ConfigMap other = new ConfigMapBuilder(current)
+                .editMetadata()
+                    .withManagedFields(new ManagedFieldsEntryBuilder().withManager("strimzi").withOperation("Apply").build())
+                .endMetadata()
+                .build();
+
+        assertThat(isEmpty(current, other), is(true));
+    }
+
+    @Test
+    public void testNestedChangesUnderIgnorablePathsAreIgnored() {
+        // Unlike the anchored regular expressions used before, the whole subtree under an ignorable path is ignored
+        Service current = new ServiceBuilder()
+                .withNewMetadata()
+                    .withName("my-service")
+                .endMetadata()
+                .withStatus(new ServiceStatusBuilder().withNewLoadBalancer().addNewIngress().withHostname("a.example.com").endIngress().endLoadBalancer().build())
+                .build();
+
+        Service desired = new ServiceBuilder(current)
+                .withStatus(new ServiceStatusBuilder().withNewLoadBalancer().addNewIngress().withHostname("b.example.com").endIngress().endLoadBalancer().build())
+                .build();
+
+        assertThat(new ResourceDiff<>(Reconciliation.DUMMY_RECONCILIATION, "Service", "my-service", current, desired, IGNORABLE_PATHS).isEmpty(), is(true));
+    }
+
+    @Test
+    public void testObjectsEmptiedByPruningAreIgnored() {
+        ConfigMap current = new ConfigMapBuilder(configMap(Map.of("a", "1")))
+                .editMetadata()
+                    .withAnnotations(Map.of("pv.kubernetes.io/bind-completed", "yes"))
+                .endMetadata()
+                .build();
+
+        JsonPathTrie ignorable = JsonPathTrie.of("/metadata/annotations/pv.kubernetes.io~1bind-completed");
+
+        assertThat(new ResourceDiff<>(Reconciliation.DUMMY_RECONCILIATION, "ConfigMap", "my-cm", current, configMap(Map.of("a", "1")), ignorable).isEmpty(), is(true));
+
+        ConfigMap withOtherAnnotation = new ConfigMapBuilder(current)
+                .editMetadata()
+                    .addToAnnotations("other", "value")
+                .endMetadata()
+                .build();
+
+        assertThat(new ResourceDiff<>(Reconciliation.DUMMY_RECONCILIATION, "ConfigMap", "my-cm", withOtherAnnotation, configMap(Map.of("a", "1")), ignorable).isEmpty(), is(false));
+    }
+
+    @Test
+    public void testIgnorablePathsArePrunedFromTree() {
+        ConfigMap cm = new ConfigMapBuilder(configMap(Map.of("a", "1")))
+                .editMetadata()
+                    .withManagedFields(new ManagedFieldsEntryBuilder().withManager("kubectl").withOperation("Update").build())
+                .endMetadata()
+                .build();
+
+        JsonNode tree = ResourceDiff.toPrunedTree(cm, IGNORABLE_PATHS);
+
+        assertThat(tree.path("metadata").has("managedFields"), is(false));
+        assertThat(tree.path("metadata").path("name").asText(), is("my-cm"));
+        assertThat(tree.path("metadata").path("labels").path("app").asText(), is("kafka"));
+        assertThat(tree.path("data").path("a").asText(), is("1"));
+        assertThat(tree, is(ResourceDiff.toPrunedTree(configMap(Map.of("a", "1")), JsonPathTrie.EMPTY)));
+    }
+
+    @Test
+    public void testArrays() {
+        Service current = new ServiceBuilder()
+                .withNewMetadata()
+                    .withName("my-service")
+                .endMetadata()
+                .withNewSpec()
+                    .addNewPort().withName("a").withPort(9091).endPort()
+                    .addNewPort().withName("b").withPort(9092).endPort()
+                    .withClusterIP("10.0.0.1")
+                .endSpec()
+                .build();
+
+        Service desired = new ServiceBuilder(current)
+                .editSpec()
+                    .withClusterIP(null)
+                .endSpec()
+                .build();
+
+        JsonPathTrie ignorable = JsonPathTrie.of("/spec/clusterIP", "/spec/ports/*/nodePort");
+
+        assertThat(new ResourceDiff<>(Reconciliation.DUMMY_RECONCILIATION, "Service", "my-service", current, desired, ignorable).isEmpty(), is(true));
+
+        Service withNodePort = new ServiceBuilder(current)
+                .editSpec()
+                    .editFirstPort().withNodePort(31234).endPort()
+                .endSpec()
+                .build();
+
+        assertThat(new ResourceDiff<>(Reconciliation.DUMMY_RECONCILIATION, "Service", "my-service", withNodePort, desired, ignorable).isEmpty(), is(true));
+
+        Service withMorePorts = new ServiceBuilder(desired)
+                .editSpec()
+                    .addNewPort().withName("c").withPort(9093).endPort()
+                .endSpec()
+                .build();
+
+        assertThat(new ResourceDiff<>(Reconciliation.DUMMY_RECONCILIATION, "Service", "my-service", current, withMorePorts, ignorable).isEmpty(), is(false));
+
+        Service withChangedPort = new ServiceBuilder(desired)
+                .editSpec()
+                    .editLastPort().withPort(9093).endPort()
+                .endSpec()
+                .build();
+
+        assertThat(new ResourceDiff<>(Reconciliation.DUMMY_RECONCILIATION, "Service", "my-service", current, withChangedPort, ignorable).isEmpty(), is(false));
+    }
+}
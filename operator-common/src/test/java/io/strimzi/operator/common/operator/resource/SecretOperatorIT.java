@@ -0,0 +1,76 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.api.model.SecretList;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class SecretOperatorIT extends AbstractResourceOperatorIT<KubernetesClient, Secret, SecretList, Resource<Secret>> {
+    @Override
+    protected AbstractResourceOperator<KubernetesClient, Secret, SecretList, Resource<Secret>> operator() {
+        return new SecretOperator(vertx, client);
+    }
+
+    @Override
+    protected Secret getOriginal()  {
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withName(resourceName)
+                    .withNamespace(namespace)
+                    .withLabels(Map.of("foo", "bar", "foo2", "bar2"))
+                .endMetadata()
+                .withData(Map.of("FOO", "QkFS", "FOO2", "QkFSMg=="))
+                .build();
+    }
+
+    @Override
+    protected Secret getModified()  {
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withName(resourceName)
+                    .withNamespace(namespace)
+                    .withLabels(Map.of("foo", "bar"))
+                .endMetadata()
+                .withData(Map.of("FOO", "QkFS"))
+                .build();
+    }
+
+    @Override
+    protected void assertResources(VertxTestContext context, Secret expected, Secret actual)   {
+        context.verify(() -> assertThat(actual.getMetadata().getName(), is(expected.getMetadata().getName())));
+        context.verify(() -> assertThat(actual.getMetadata().getNamespace(), is(expected.getMetadata().getNamespace())));
+        context.verify(() -> assertThat(actual.getMetadata().getLabels(), is(expected.getMetadata().getLabels())));
+        context.verify(() -> assertThat(actual.getData(), is(expected.getData())));
+    }
+
+    @Test
+    public void testServerSideApplyRemovesFields(VertxTestContext context)    {
+        Checkpoint async = context.checkpoint();
+        SecretOperator op = new SecretOperator(vertx, client);
+        op.enableServerSideApply();
+
+        op.reconcile(Reconciliation.DUMMY_RECONCILIATION, namespace, resourceName, getOriginal())
+                .onComplete(context.succeeding(rr -> assertResources(context, getOriginal(), op.get(namespace, resourceName))))
+                .compose(rr -> op.reconcile(Reconciliation.DUMMY_RECONCILIATION, namespace, resourceName, getModified()))
+                .onComplete(context.succeeding(rr -> assertResources(context, getModified(), op.get(namespace, resourceName))))
+                .compose(rr -> op.reconcile(Reconciliation.DUMMY_RECONCILIATION, namespace, resourceName, null))
+                .onComplete(context.succeeding(rr -> async.flag()));
+    }
+}
@@ -4,15 +4,34 @@
  */
 package io.strimzi.operator.common.operator.resource;
 
+import io.fabric8.kubernetes.api.model.ManagedFieldsEntryBuilder;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
 import io.fabric8.kubernetes.api.model.SecretList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.dsl.base.PatchContext;
+import io.fabric8.kubernetes.client.dsl.base.PatchType;
+import io.strimzi.operator.common.Reconciliation;
 import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Map;
 
 import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class SecretOperatorTest extends AbstractResourceOperatorTest<KubernetesClient, Secret, SecretList, Resource<Secret>> {
@@ -56,4 +75,166 @@ public class SecretOperatorTest extends AbstractResourceOperatorTest<KubernetesC
     protected AbstractResourceOperator<KubernetesClient, Secret, SecretList, Resource<Secret>> createResourceOperations(Vertx vertx, KubernetesClient mockClient) {
         return new SecretOperator(vertx, mockClient);
     }
+
+    private static Secret withVersion(Secret secret, String uid, String resourceVersion) {
+        return new SecretBuilder(secret)
+                .editMetadata()
+                    .withUid(uid)
+                    .withResourceVersion(resourceVersion)
+                    .withManagedFields(new ManagedFieldsEntryBuilder()
+                            .withManager(AbstractResourceOperator.FIELD_MANAGER)
+                            .withOperation("Apply")
+                            .withApiVersion("v1")
+                            .withFieldsType("FieldsV1")
+                            .withNewFieldsV1()
+                                .addToAdditionalProperties("f:data", Map.of("f:FOO", Map.of()))
+                            .endFieldsV1()
+                            .build())
+                .endMetadata()
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void testServerSideApply(VertxTestContext context, Secret applied, Class<?> expectedResult) {
+        Resource<Secret> mockResource = mock(Resource.class);
+        when(mockResource.get()).thenReturn(withVersion(resource(), "uid-1", "1"));
+        when(mockResource.patch(any(PatchContext.class), any(Secret.class))).thenReturn(withVersion(resource(), "uid-1", "1"), applied);
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(RESOURCE_NAME)).thenReturn(mockResource);
+
+        MixedOperation mockSecrets = mock(MixedOperation.class);
+        when(mockSecrets.inNamespace(NAMESPACE)).thenReturn(mockNameable);
+
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        mocker(mockClient, mockSecrets);
+
+        AbstractResourceOperator<KubernetesClient, Secret, SecretList, Resource<Secret>> op = createResourceOperations(vertx, mockClient);
+        op.enableServerSideApply();
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(Reconciliation.DUMMY_RECONCILIATION, resource())
+                .compose(first -> op.createOrUpdate(Reconciliation.DUMMY_RECONCILIATION, modifiedResource()))
+                .onComplete(context.succeeding(second -> context.verify(() -> {
+                    assertThat(second, instanceOf(expectedResult));
+
+                    // Only the first reconciliation reads the resource, the second applies it without reading it
+                    verify(mockResource, times(1)).get();
+
+                    ArgumentCaptor<PatchContext> patchContext = ArgumentCaptor.forClass(PatchContext.class);
+                    verify(mockResource, times(2)).patch(patchContext.capture(), any(Secret.class));
+
+                    for (PatchContext ctx : patchContext.getAllValues()) {
+                        assertThat(ctx.getPatchType(), is(PatchType.SERVER_SIDE_APPLY));
+                        assertThat(ctx.getFieldManager(), is(AbstractResourceOperator.FIELD_MANAGER));
+                        assertThat(ctx.getForce(), is(true));
+                    }
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testServerSideApplyWithChange(VertxTestContext context) {
+        testServerSideApply(context, withVersion(modifiedResource(), "uid-1", "2"), ReconcileResult.Patched.class);
+    }
+
+    @Test
+    public void testServerSideApplyWithoutChange(VertxTestContext context) {
+        testServerSideApply(context, withVersion(resource(), "uid-1", "1"), ReconcileResult.Noop.class);
+    }
+
+    @Test
+    public void testServerSideApplyOfDeletedResource(VertxTestContext context) {
+        testServerSideApply(context, withVersion(modifiedResource(), "uid-2", "3"), ReconcileResult.Created.class);
+    }
+
+    @Test
+    public void testServerSideApplyCreatesResource(VertxTestContext context) {
+        Resource<Secret> mockResource = mock(Resource.class);
+        when(mockResource.get()).thenReturn(null);
+        when(mockResource.patch(any(PatchContext.class), any(Secret.class))).thenReturn(withVersion(resource(), "uid-1", "1"));
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(RESOURCE_NAME)).thenReturn(mockResource);
+
+        MixedOperation mockSecrets = mock(MixedOperation.class);
+        when(mockSecrets.inNamespace(NAMESPACE)).thenReturn(mockNameable);
+
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        mocker(mockClient, mockSecrets);
+
+        AbstractResourceOperator<KubernetesClient, Secret, SecretList, Resource<Secret>> op = createResourceOperations(vertx, mockClient);
+        op.enableServerSideApply();
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(Reconciliation.DUMMY_RECONCILIATION, resource())
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    assertThat(rr, instanceOf(ReconcileResult.Created.class));
+
+                    // The resource is created with the server-side apply so that the fields are owned by the field manager from the beginning
+                    ArgumentCaptor<PatchContext> patchContext = ArgumentCaptor.forClass(PatchContext.class);
+                    verify(mockResource, times(1)).patch(patchContext.capture(), any(Secret.class));
+                    assertThat(patchContext.getValue().getPatchType(), is(PatchType.SERVER_SIDE_APPLY));
+                    assertThat(patchContext.getValue().getFieldManager(), is(AbstractResourceOperator.FIELD_MANAGER));
+                    verify(mockNameable, never()).resource(any());
+                    verify(mockResource, never()).create();
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testServerSideApplyNotUsedForResourceCreatedWithoutIt(VertxTestContext context) {
+        // The resource was created before the server-side apply was enabled => its fields are owned by the update
+        Secret current = new SecretBuilder(resource())
+                .editMetadata()
+                    .withUid("uid-1")
+                    .withResourceVersion("1")
+                    .withManagedFields(new ManagedFieldsEntryBuilder()
+                            .withManager("fabric8-kubernetes-client")
+                            .withOperation("Update")
+                            .withApiVersion("v1")
+                            .withFieldsType("FieldsV1")
+                            .withNewFieldsV1()
+                                .addToAdditionalProperties("f:data", Map.of("f:FOO", Map.of()))
+                            .endFieldsV1()
+                            .build())
+                .endMetadata()
+                .build();
+
+        Resource<Secret> mockResource = mock(Resource.class);
+        when(mockResource.get()).thenReturn(current);
+        when(mockResource.patch(any(PatchContext.class), any(Secret.class))).thenReturn(new SecretBuilder(current).withData(modifiedResource().getData()).editMetadata().withResourceVersion("2").endMetadata().build());
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(RESOURCE_NAME)).thenReturn(mockResource);
+
+        MixedOperation mockSecrets = mock(MixedOperation.class);
+        when(mockSecrets.inNamespace(NAMESPACE)).thenReturn(mockNameable);
+
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        mocker(mockClient, mockSecrets);
+
+        AbstractResourceOperator<KubernetesClient, Secret, SecretList, Resource<Secret>> op = createResourceOperations(vertx, mockClient);
+        op.enableServerSideApply();
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(Reconciliation.DUMMY_RECONCILIATION, modifiedResource())
+                .compose(first -> op.createOrUpdate(Reconciliation.DUMMY_RECONCILIATION, modifiedResource()))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    // The resource is patched using the JSON Patch and read again in the next reconciliation
+                    verify(mockResource, times(2)).get();
+
+                    ArgumentCaptor<PatchContext> patchContext = ArgumentCaptor.forClass(PatchContext.class);
+                    verify(mockResource, times(2)).patch(patchContext.capture(), any(Secret.class));
+
+                    for (PatchContext ctx : patchContext.getAllValues()) {
+                        assertThat(ctx.getPatchType(), is(PatchType.JSON));
+                    }
+
+                    async.flag();
+                })));
+    }
 }
@@ -131,6 +131,9 @@ public class Config {
     public static final String TC_STALE_RESULT_TIMEOUT_MS = "STRIMZI_STALE_RESULT_TIMEOUT_MS";
 
     public static final String TC_USE_ZOOKEEPER_TOPIC_STORE = "STRIMZI_USE_ZOOKEEPER_TOPIC_STORE";
+    public static final String TC_USE_ZOOKEEPER_PERSISTENT_WATCHES = "STRIMZI_USE_ZOOKEEPER_PERSISTENT_WATCHES";
+    public static final String TC_MAX_CONCURRENT_RECONCILIATIONS = "STRIMZI_MAX_CONCURRENT_RECONCILIATIONS";
+    public static final String TC_MAX_QUEUED_RECONCILIATIONS = "STRIMZI_MAX_QUEUED_RECONCILIATIONS";
 
     private static final Map<String, Value<?>> CONFIG_VALUES = new HashMap<>();
 
@@ -210,6 +213,15 @@ public class Config {
     /** Do we use old ZooKeeper based TopicStore */
     public static final Value<Boolean> USE_ZOOKEEPER_TOPIC_STORE = new Value<>(TC_USE_ZOOKEEPER_TOPIC_STORE, BOOLEAN, "false");
 
+    /** Do we detect the topic changes using persistent ZooKeeper watches which do not have to be re-registered after every notification */
+    public static final Value<Boolean> USE_ZOOKEEPER_PERSISTENT_WATCHES = new Value<>(TC_USE_ZOOKEEPER_PERSISTENT_WATCHES, BOOLEAN, "false");
+
+    /** The maximum number of topics reconciled at the same time */
+    public static final Value<Integer> MAX_CONCURRENT_RECONCILIATIONS = new Value<>(TC_MAX_CONCURRENT_RECONCILIATIONS, POSITIVE_INTEGER, "100");
+
+    /** The maximum number of reconciliations of individual topics waiting to be started */
+    public static final Value<Integer> MAX_QUEUED_RECONCILIATIONS = new Value<>(TC_MAX_QUEUED_RECONCILIATIONS, POSITIVE_INTEGER, "100000");
+
     static {
         Map<String, Value<?>> configValues = CONFIG_VALUES;
         addConfigValue(configValues, LABELS);
@@ -240,6 +252,9 @@ public class Config {
         addConfigValue(configValues, APPLICATION_ID);
         addConfigValue(configValues, STALE_RESULT_TIMEOUT_MS);
         addConfigValue(configValues, USE_ZOOKEEPER_TOPIC_STORE);
+        addConfigValue(configValues, USE_ZOOKEEPER_PERSISTENT_WATCHES);
+        addConfigValue(configValues, MAX_CONCURRENT_RECONCILIATIONS);
+        addConfigValue(configValues, MAX_QUEUED_RECONCILIATIONS);
     }
 
     static void addConfigValue(Map<String, Value<?>> configValues, Value<?> cv) {
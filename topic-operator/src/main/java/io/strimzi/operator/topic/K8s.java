@@ -64,6 +64,16 @@ public interface K8s {
      */
     Future<KafkaTopic> getFromName(ResourceName resourceName);
 
+    /**
+     * Get the resource which manages the given Kafka topic. This is the resource with the given topic in its
+     * {@code spec.topicName} or, when there is no such resource, the resource named after the topic. If none of them
+     * exists, the future completes with a null result.
+     *
+     * @param topicName The name of the Kafka topic.
+     * @return A future which completes with the topic
+     */
+    Future<KafkaTopic> getFromTopicName(TopicName topicName);
+
     /**
      * Create an event.
      *
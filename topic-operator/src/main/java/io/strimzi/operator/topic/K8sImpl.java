@@ -12,6 +12,9 @@ import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.dsl.base.PatchContext;
 import io.fabric8.kubernetes.client.dsl.base.PatchType;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.utils.Serialization;
 import io.strimzi.api.kafka.KafkaTopicList;
 import io.strimzi.api.kafka.model.KafkaTopic;
 import io.strimzi.operator.common.Reconciliation;
@@ -24,11 +27,18 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 public class K8sImpl implements K8s {
 
     private final static Logger LOGGER = LogManager.getLogger(K8sImpl.class);
 
+    /**
+     * Name of the informer index which maps the Kafka topic names to the KafkaTopic resources
+     */
+    /* test */ static final String TOPIC_NAME_INDEX = "spec.topicName";
+
     private final Labels labels;
     private final String namespace;
 
@@ -37,6 +47,8 @@ public class K8sImpl implements K8s {
 
     private final Vertx vertx;
 
+    private volatile SharedIndexInformer<KafkaTopic> informer;
+
     public K8sImpl(Vertx vertx, KubernetesClient client, Labels labels, String namespace) {
         this.vertx = vertx;
         this.client = client;
@@ -111,9 +123,83 @@ public class K8sImpl implements K8s {
         return client.resources(KafkaTopic.class, KafkaTopicList.class);
     }
 
+    /**
+     * Starts the informer for the KafkaTopic resources matching the labels and registers the handler for its events.
+     * The informer keeps an index of the resources by their Kafka topic name. When its watch is disconnected, the
+     * informer resumes it from the last seen resource version and relists the resources only when this version is
+     * not available anymore.
+     *
+     * @param handler   Handler for the KafkaTopic events
+     *
+     * @return  Future which completes when the informer is in sync
+     */
+    public Future<Void> startInformer(ResourceEventHandler<KafkaTopic> handler) {
+        stopInformer();
+
+        SharedIndexInformer<KafkaTopic> informer = operation().inNamespace(namespace).withLabels(labels.labels()).runnableInformer(0);
+        informer.addIndexers(Map.of(TOPIC_NAME_INDEX, K8sImpl::topicNameIndex));
+        informer.addEventHandler(handler);
+        this.informer = informer;
+
+        LOGGER.debug("Starting KafkaTopic informer in namespace {} with labels {}", namespace, labels.labels());
+        return Future.fromCompletionStage(informer.start(), vertx.getOrCreateContext());
+    }
+
+    /**
+     * Stops the KafkaTopic informer (if it is running)
+     */
+    public void stopInformer() {
+        SharedIndexInformer<KafkaTopic> informer = this.informer;
+
+        if (informer != null) {
+            LOGGER.debug("Stopping KafkaTopic informer in namespace {}", namespace);
+            this.informer = null;
+            informer.stop();
+        }
+    }
+
+    /**
+     * Index function for the topic name index. Resources without spec are not indexed.
+     *
+     * @param kafkaTopic    The KafkaTopic resource
+     *
+     * @return  The name of the Kafka topic managed by the resource
+     */
+    private static List<String> topicNameIndex(KafkaTopic kafkaTopic) {
+        if (kafkaTopic.getSpec() == null) {
+            return List.of();
+        } else if (kafkaTopic.getSpec().getTopicName() != null) {
+            return List.of(kafkaTopic.getSpec().getTopicName());
+        } else {
+            return List.of(kafkaTopic.getMetadata().getName());
+        }
+    }
+
+    /**
+     * @return  The informer if it is running and in sync. Null otherwise.
+     */
+    private SharedIndexInformer<KafkaTopic> syncedInformer() {
+        SharedIndexInformer<KafkaTopic> informer = this.informer;
+        return informer != null && informer.hasSynced() ? informer : null;
+    }
+
+    /**
+     * Lists the resources. When the informer is in sync, the resources are listed from its cache instead of the
+     * Kubernetes API.
+     *
+     * @return A future which completes with the topics.
+     */
     @Override
     public Future<List<KafkaTopic>> listResources() {
-        return crdOperator.listAsync(namespace, io.strimzi.operator.common.model.Labels.fromMap(labels.labels()));
+        SharedIndexInformer<KafkaTopic> informer = syncedInformer();
+
+        if (informer != null) {
+            return Future.succeededFuture(informer.getStore().list().stream()
+                    .map(Serialization::clone)
+                    .collect(Collectors.toList()));
+        } else {
+            return crdOperator.listAsync(namespace, io.strimzi.operator.common.model.Labels.fromMap(labels.labels()));
+        }
     }
 
     @Override
@@ -121,6 +207,32 @@ public class K8sImpl implements K8s {
         return crdOperator.getAsync(namespace, resourceName.toString());
     }
 
+    /**
+     * Gets the resource for the given Kafka topic. The name of the resource is looked up in the topic name index of the
+     * informer, but the resource itself is always fetched from the Kubernetes API to get its latest version. When the
+     * informer is not in sync or does not know the topic, the resource named after the topic is used.
+     *
+     * @param topicName The name of the Kafka topic.
+     * @return A future which completes with the topic
+     */
+    @Override
+    public Future<KafkaTopic> getFromTopicName(TopicName topicName) {
+        SharedIndexInformer<KafkaTopic> informer = syncedInformer();
+
+        if (informer != null) {
+            List<KafkaTopic> indexed = informer.getIndexer().byIndex(TOPIC_NAME_INDEX, topicName.toString());
+
+            if (indexed.size() == 1) {
+                return getFromName(new ResourceName(indexed.get(0)));
+            } else if (indexed.size() > 1) {
+                LOGGER.warn("Topic {} is used by multiple KafkaTopic resources {}", topicName,
+                        indexed.stream().map(kafkaTopic -> kafkaTopic.getMetadata().getName()).collect(Collectors.toList()));
+            }
+        }
+
+        return getFromName(topicName.asKubeName());
+    }
+
     /**
      * Create the given k8s event
      */
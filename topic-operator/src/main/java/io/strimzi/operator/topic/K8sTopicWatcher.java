@@ -5,8 +5,8 @@
 package io.strimzi.operator.topic;
 
 import io.fabric8.kubernetes.api.model.ObjectMeta;
-import io.fabric8.kubernetes.client.Watcher;
-import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.Watcher.Action;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.strimzi.api.kafka.model.KafkaTopic;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Annotations;
@@ -17,22 +17,44 @@ import io.vertx.core.Handler;
 import java.util.Map;
 import java.util.Objects;
 
-class K8sTopicWatcher implements Watcher<KafkaTopic> {
+/**
+ * Handles the events of the KafkaTopic informer. The informer events are translated to the watch actions used by the
+ * {@link TopicOperator}.
+ */
+class K8sTopicWatcher implements ResourceEventHandler<KafkaTopic> {
 
     private final static ReconciliationLogger LOGGER = ReconciliationLogger.create(K8sTopicWatcher.class);
     private final Future<Void> initReconcileFuture;
-    private final Runnable onHttpGoneTask;
 
     private TopicOperator topicOperator;
 
-    public K8sTopicWatcher(TopicOperator topicOperator, Future<Void> initReconcileFuture, Runnable onHttpGoneTask) {
+    public K8sTopicWatcher(TopicOperator topicOperator, Future<Void> initReconcileFuture) {
         this.topicOperator = topicOperator;
         this.initReconcileFuture = initReconcileFuture;
-        this.onHttpGoneTask = onHttpGoneTask;
     }
 
     @Override
-    public void eventReceived(Action action, KafkaTopic kafkaTopic) {
+    public void onAdd(KafkaTopic kafkaTopic) {
+        eventReceived(Action.ADDED, kafkaTopic);
+    }
+
+    @Override
+    public void onUpdate(KafkaTopic oldKafkaTopic, KafkaTopic newKafkaTopic) {
+        if (oldKafkaTopic != null
+                && Objects.equals(oldKafkaTopic.getMetadata().getResourceVersion(), newKafkaTopic.getMetadata().getResourceVersion())) {
+            // Informer resync without any change to the resource
+            return;
+        }
+
+        eventReceived(Action.MODIFIED, newKafkaTopic);
+    }
+
+    @Override
+    public void onDelete(KafkaTopic kafkaTopic, boolean deletedFinalStateUnknown) {
+        eventReceived(Action.DELETED, kafkaTopic);
+    }
+
+    void eventReceived(Action action, KafkaTopic kafkaTopic) {
         ObjectMeta metadata = kafkaTopic.getMetadata();
         Map<String, String> labels = metadata.getLabels();
         if (kafkaTopic.getSpec() != null) {
@@ -98,15 +120,6 @@ class K8sTopicWatcher implements Watcher<KafkaTopic> {
     }
 
 
-    @Override
-    public void onClose(WatcherException exception) {
-        LOGGER.debugOp("Closing {}", this);
-        if (exception != null) {
-            LOGGER.debugOp("Restarting  topic watcher due to ", exception);
-            onHttpGoneTask.run();
-        }
-    }
-
     private static class PauseAnnotationChanges {
         private boolean resourcePausedByAnno;
         private boolean resourceUnpausedByAnno;
@@ -7,6 +7,8 @@ package io.strimzi.operator.topic;
 import io.strimzi.operator.common.Reconciliation;
 import io.vertx.core.Future;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -88,6 +90,19 @@ public interface Kafka {
      */
     Future<TopicMetadata> topicMetadata(Reconciliation reconciliation, TopicName topicName);
 
+    /**
+     * Asynchronously get the metadata of multiple topics using bulk requests,
+     * completing the returned Future with the metadata of the described topics.
+     * Topics which do not exist or which could not be described are not included in the result,
+     * so the caller can fall back to {@link #topicMetadata(Reconciliation, TopicName)} for them.
+     * If the operation fails the returned Future will be failed with the
+     * KafkaException (not an ExecutionException).
+     *
+     * @param topicNames The names of the topics to get the metadata of.
+     * @return A future which is completed with the requested metadata.
+     */
+    Future<Map<TopicName, TopicMetadata>> topicsMetadata(Collection<TopicName> topicNames);
+
     /**
      * Asynchronously list the names of the topics available in Kafka,
      * completing the returned Future with the topic names.
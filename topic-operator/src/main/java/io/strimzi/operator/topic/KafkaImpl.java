@@ -4,10 +4,15 @@
  */
 package io.strimzi.operator.topic;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
 
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
@@ -38,6 +43,11 @@ public class KafkaImpl implements Kafka {
 
     private final static ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaImpl.class);
 
+    /**
+     * Maximum number of topics described by a single describeTopics and describeConfigs request
+     */
+    public static final int TOPICS_METADATA_BATCH_SIZE = 1_000;
+
     protected final Admin adminClient;
 
     protected final Vertx vertx;
@@ -121,6 +131,59 @@ public class KafkaImpl implements Kafka {
         });
     }
 
+    /**
+     * Completes the returned Future on the Vertx event loop with the metadata of the given topics.
+     * The topics are described in batches of {@link #TOPICS_METADATA_BATCH_SIZE} topics with one describeTopics
+     * and one describeConfigs request per batch. The batches are described one after another.
+     */
+    @Override
+    public Future<Map<TopicName, TopicMetadata>> topicsMetadata(Collection<TopicName> topicNames) {
+        LOGGER.debugOp("Getting metadata for {} topics", topicNames.size());
+        Map<TopicName, TopicMetadata> result = new ConcurrentHashMap<>(topicNames.size());
+        List<TopicName> names = new ArrayList<>(topicNames);
+        Future<Void> batches = Future.succeededFuture();
+
+        for (int i = 0; i < names.size(); i += TOPICS_METADATA_BATCH_SIZE) {
+            List<TopicName> batch = names.subList(i, Math.min(i + TOPICS_METADATA_BATCH_SIZE, names.size()));
+            batches = batches.compose(ignored -> topicsMetadataBatch(batch, result));
+        }
+
+        return batches.map(result);
+    }
+
+    @SuppressWarnings({ "rawtypes" })
+    private Future<Void> topicsMetadataBatch(List<TopicName> batch, Map<TopicName, TopicMetadata> result) {
+        try {
+            Set<String> names = batch.stream().map(TopicName::toString).collect(Collectors.toSet());
+            Set<ConfigResource> resources = names.stream().map(name -> new ConfigResource(ConfigResource.Type.TOPIC, name)).collect(Collectors.toSet());
+
+            Map<String, KafkaFuture<TopicDescription>> descriptions = adminClient.describeTopics(names).topicNameValues();
+            Map<ConfigResource, KafkaFuture<Config>> configs = adminClient.describeConfigs(resources).values();
+
+            List<Future> futures = new ArrayList<>(batch.size());
+            for (TopicName topicName : batch) {
+                KafkaFuture<TopicDescription> description = descriptions.get(topicName.toString());
+                KafkaFuture<Config> config = configs.get(new ConfigResource(ConfigResource.Type.TOPIC, topicName.toString()));
+
+                if (description == null || config == null) {
+                    continue;
+                }
+
+                futures.add(CompositeFuture.all(mapFuture(description), mapFuture(config))
+                        .map(compositeFuture -> result.put(topicName, new TopicMetadata(compositeFuture.resultAt(0), compositeFuture.resultAt(1))))
+                        .recover(error -> {
+                            // The topic does not exist anymore or it failed => the caller has to fall back to getting its metadata separately
+                            LOGGER.debugOp("Failed to get metadata for topic {}", topicName, error);
+                            return Future.succeededFuture();
+                        }));
+            }
+
+            return CompositeFuture.join(futures).mapEmpty();
+        } catch (Exception e) {
+            return Future.failedFuture(e);
+        }
+    }
+
     @Override
     public Future<Set<String>> listTopics() {
         try {
@@ -5,10 +5,7 @@
 package io.strimzi.operator.topic;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
-import io.fabric8.kubernetes.client.Watch;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
-import io.strimzi.api.kafka.KafkaTopicList;
-import io.strimzi.api.kafka.model.KafkaTopic;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.topic.zk.Zk;
@@ -68,8 +65,8 @@ public class Session extends AbstractVerticle {
     /*test*/ K8sImpl k8s;
     private KafkaStreamsTopicStoreService service; // if used
     /*test*/ TopicOperator topicOperator;
-    /*test*/ Watch topicWatch;
     /*test*/ ZkTopicsWatcher topicsWatcher;
+    /*test*/ ZkTopicChangesWatcher topicChangesWatcher;
     /*test*/ TopicConfigsWatcher topicConfigsWatcher;
     /*test*/ ZkTopicWatcher topicWatcher;
     /*test*/ PrometheusMeterRegistry metricsRegistry;
@@ -137,10 +134,15 @@ public class Session extends AbstractVerticle {
             long timeout = 120_000L;
             long deadline = System.currentTimeMillis() + timeout;
             LOGGER.info("Stopping");
-            LOGGER.debug("Stopping kube watch");
-            topicWatch.close();
+            LOGGER.debug("Stopping kube informer");
+            k8s.stopInformer();
             LOGGER.debug("Stopping zk watches");
-            topicsWatcher.stop();
+            if (topicsWatcher != null) {
+                topicsWatcher.stop();
+            }
+            if (topicChangesWatcher != null) {
+                topicChangesWatcher.stop();
+            }
 
             Promise<Void> promise = Promise.promise();
             Handler<Long> longHandler = new Handler<>() {
@@ -241,9 +243,9 @@ public class Session extends AbstractVerticle {
     private Future<Promise<Void>> createK8sWatcher(TopicOperator topicOperator) {
         return executor.executeBlocking(blockingPromise -> {
             Promise<Void> initReconcilePromise = Promise.promise();
-            watcher = new K8sTopicWatcher(topicOperator, initReconcilePromise.future(), this::startWatcher);
+            watcher = new K8sTopicWatcher(topicOperator, initReconcilePromise.future());
             LOGGER.debug("Starting watcher");
-            startWatcher().onSuccess(v -> blockingPromise.complete(initReconcilePromise));
+            startWatcher().map(v -> initReconcilePromise).onComplete(blockingPromise);
         });
     }
 
@@ -274,6 +276,12 @@ public class Session extends AbstractVerticle {
         topicOperator = new TopicOperator(vertx, kafka, k8s, topicStore, labels, namespace, config, new MicrometerMetricsProvider());
         LOGGER.debug("Using Operator {}", topicOperator);
 
+        if (config.get(Config.USE_ZOOKEEPER_PERSISTENT_WATCHES)) {
+            topicChangesWatcher = new ZkTopicChangesWatcher(topicOperator, ZkTopicChangesWatcher.DEFAULT_MAX_QUEUE_SIZE, ZkTopicChangesWatcher.DEFAULT_MAX_IN_FLIGHT);
+            LOGGER.debug("Using TopicChangesWatcher {}", topicChangesWatcher);
+            return topicChangesWatcher.start(zk).map(topicOperator);
+        }
+
         topicConfigsWatcher = new TopicConfigsWatcher(topicOperator);
         LOGGER.debug("Using TopicConfigsWatcher {}", topicConfigsWatcher);
         topicWatcher = new ZkTopicWatcher(topicOperator);
@@ -409,18 +417,10 @@ public class Session extends AbstractVerticle {
     }
 
     Future<Void> startWatcher() {
-        Promise<Void> promise = Promise.promise();
-        try {
-            LOGGER.debug("Watching KafkaTopics matching {}", config.get(Config.LABELS).labels());
-
-            Session.this.topicWatch = kubeClient.resources(KafkaTopic.class, KafkaTopicList.class)
-                    .inNamespace(config.get(Config.NAMESPACE)).withLabels(config.get(Config.LABELS).labels()).watch(watcher);
-            LOGGER.debug("Watching setup");
-            promise.complete();
-        } catch (Throwable t) {
-            promise.fail(t);
-        }
-        return promise.future();
+        LOGGER.debug("Watching KafkaTopics matching {}", config.get(Config.LABELS).labels());
+
+        return k8s.startInformer(watcher)
+                .onSuccess(v -> LOGGER.debug("Watching setup"));
     }
 
     /**
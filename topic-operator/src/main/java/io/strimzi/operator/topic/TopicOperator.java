@@ -48,10 +48,12 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.disjoint;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 
 @SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "checkstyle:ClassFanOutComplexity"})
@@ -79,6 +81,10 @@ class TopicOperator {
     private AtomicInteger topicCounter;
     protected AtomicInteger pausedTopicCounter;
     protected Timer reconciliationsTimer;
+    private Timer lockStageTimer;
+    private Timer actionStageTimer;
+    private Timer statusStageTimer;
+    private final TopicReconciliationExecutor executor;
 
     enum EventType {
         INFO("Info"),
@@ -396,6 +402,11 @@ class TopicOperator {
         this.metrics = metrics;
 
         initMetrics();
+        int maxConcurrentReconciliations = config != null ? config.get(Config.MAX_CONCURRENT_RECONCILIATIONS)
+                : Integer.parseInt(Config.MAX_CONCURRENT_RECONCILIATIONS.defaultValue);
+        int maxQueuedReconciliations = config != null ? config.get(Config.MAX_QUEUED_RECONCILIATIONS)
+                : Integer.parseInt(Config.MAX_QUEUED_RECONCILIATIONS.defaultValue);
+        this.executor = new TopicReconciliationExecutor(maxConcurrentReconciliations, maxQueuedReconciliations, metrics, METRICS_PREFIX);
     }
 
     public void initMetrics() {
@@ -433,6 +444,18 @@ class TopicOperator {
             lockedReconciliationsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.locked",
                     "Number of reconciliations skipped because another reconciliation for the same topic was still running",
                     metricTags);
+
+            lockStageTimer = metrics.timer(METRICS_PREFIX + "reconciliations.stage.duration",
+                    "The time the individual stages of the reconciliations of individual topics take",
+                    metricTags.and(Tag.of("stage", "lock")));
+
+            actionStageTimer = metrics.timer(METRICS_PREFIX + "reconciliations.stage.duration",
+                    "The time the individual stages of the reconciliations of individual topics take",
+                    metricTags.and(Tag.of("stage", "action")));
+
+            statusStageTimer = metrics.timer(METRICS_PREFIX + "reconciliations.stage.duration",
+                    "The time the individual stages of the reconciliations of individual topics take",
+                    metricTags.and(Tag.of("stage", "status")));
         }
     }
 
@@ -446,13 +469,41 @@ class TopicOperator {
 
     /**
      * Run the given {@code action} on the context thread,
-     * immediately if there are currently no other actions with the given {@code key},
-     * or when the other actions with the given {@code key} have completed.
+     * once there are less than the configured maximum number of topics being reconciled
+     * and the other actions with the given {@code key} have completed.
      * When the given {@code action} is complete it must complete its argument future,
      * which will complete the returned future
      */
-    @SuppressWarnings({"checkstyle:CyclomaticComplexity", "checkstyle:NPathComplexity"})
     public Future<Void> executeWithTopicLockHeld(LogContext logContext, TopicName key, Reconciliation action) {
+        return executor.submit(logContext, key, action.toString(), false, () -> runWithTopicLockHeld(logContext, key, action));
+    }
+
+    /**
+     * Like {@link #executeWithTopicLockHeld(LogContext, TopicName, Reconciliation)}, but for actions which read all the
+     * state they need when they are executed. If an action of the same {@code kind} for the given {@code key} is
+     * already waiting, the two are coalesced and both complete with the result of a single execution. The action is
+     * created only when it is started, so that the coalesced actions are never created and are not counted in the
+     * reconciliation metrics.
+     */
+    Future<Void> executeCoalescableWithTopicLockHeld(LogContext logContext, TopicName key, String kind, Supplier<Reconciliation> action) {
+        return executor.submit(logContext, key, kind, true, () -> runWithTopicLockHeld(logContext, key, action.get()));
+    }
+
+    /**
+     * @return  Sample for measuring the duration of a reconciliation stage or null when the metrics are not used
+     */
+    private Timer.Sample startStageSample() {
+        return metrics != null ? Timer.start(metrics.meterRegistry()) : null;
+    }
+
+    private static void stopStageSample(Timer.Sample sample, Timer timer) {
+        if (sample != null && timer != null) {
+            sample.stop(timer);
+        }
+    }
+
+    @SuppressWarnings({"checkstyle:CyclomaticComplexity", "checkstyle:NPathComplexity"})
+    private Future<Void> runWithTopicLockHeld(LogContext logContext, TopicName key, Reconciliation action) {
         String lockName = key.toString();
         int timeoutMs = 30 * 1_000;
         Promise<Void> result = Promise.promise();
@@ -480,11 +531,15 @@ class TopicOperator {
                 return waiters + 1;
             }
         });
+        Timer.Sample lockSample = startStageSample();
         vertx.sharedData().getLockWithTimeout(lockName, timeoutMs, lockResult -> {
+            stopStageSample(lockSample, lockStageTimer);
             if (lockResult.succeeded()) {
                 LOGGER.debugCr(logContext.toReconciliation(), "Lock acquired");
                 LOGGER.debugCr(logContext.toReconciliation(), "Executing action {} on topic {}", action, lockName);
+                Timer.Sample actionSample = startStageSample();
                 action.execute().onComplete(actionResult -> {
+                    stopStageSample(actionSample, actionStageTimer);
                     LOGGER.debugCr(logContext.toReconciliation(), "Executing handler for action {} on topic {}", action, lockName);
                     action.result = actionResult;
                     String keytag = namespace + ":" + "KafkaTopic" + "/" + key.asKubeName().toString();
@@ -514,7 +569,9 @@ class TopicOperator {
                         LOGGER.debugCr(logContext.toReconciliation(), "Updated metric " + METRICS_PREFIX + "resource.state{} = {}", metricTags, succeeded ? 1 : 0);
                     }
                     // Update status with lock held so that event is ignored via statusUpdateGeneration
+                    Timer.Sample statusSample = startStageSample();
                     action.updateStatus(logContext).onComplete(statusResult -> {
+                        stopStageSample(statusSample, statusStageTimer);
                         if (statusResult.failed()) {
                             LOGGER.errorCr(logContext.toReconciliation(), "Error updating KafkaTopic.status for action {}", action,
                                     statusResult.cause());
@@ -827,8 +884,8 @@ class TopicOperator {
         return confirmedNonexistence
         .compose(
             ignored ->
-                executeWithTopicLockHeld(logContext, topicName,
-                    new Reconciliation(logContext, "onTopicDeleted", true) {
+                executeCoalescableWithTopicLockHeld(logContext, topicName, "onTopicDeleted",
+                    () -> new Reconciliation(logContext, "onTopicDeleted", true) {
                         @Override
                         public Future<Void> execute() {
                             return reconcileOnTopicChange(logContext, topicName, null, this);
@@ -862,8 +919,8 @@ class TopicOperator {
      * Called when ZK watch notifies of change to topic's config
      */
     Future<Void> onTopicConfigChanged(LogContext logContext, TopicName topicName) {
-        return executeWithTopicLockHeld(logContext, topicName,
-                new Reconciliation(logContext, "onTopicConfigChanged", true) {
+        return executeCoalescableWithTopicLockHeld(logContext, topicName, "onTopicConfigChanged",
+                () -> new Reconciliation(logContext, "onTopicConfigChanged", true) {
                     @Override
                     public Future<Void> execute() {
                         return kafka.topicMetadata(logContext.toReconciliation(), topicName)
@@ -879,7 +936,7 @@ class TopicOperator {
      * Called when ZK watch notifies of a change to the topic's partitions
      */
     Future<Void> onTopicPartitionsChanged(LogContext logContext, TopicName topicName) {
-        Reconciliation action = new Reconciliation(logContext, "onTopicPartitionsChanged", true) {
+        Supplier<Reconciliation> action = () -> new Reconciliation(logContext, "onTopicPartitionsChanged", true) {
             @Override
             public Future<Void> execute() {
                 Reconciliation self = this;
@@ -925,7 +982,7 @@ class TopicOperator {
                 return promise.future();
             }
         };
-        return executeWithTopicLockHeld(logContext, topicName, action);
+        return executeCoalescableWithTopicLockHeld(logContext, topicName, "onTopicPartitionsChanged", action);
     }
 
     /**
@@ -934,10 +991,11 @@ class TopicOperator {
     private Future<Void> reconcileOnTopicChange(LogContext logContext, TopicName topicName, Topic kafkaTopic,
                                                 Reconciliation reconciliation) {
         // Look up the private topic to discover the name of kube KafkaTopic
+        // (or find the KafkaTopic by its topic name when there is no private topic)
         return topicStore.read(topicName)
             .compose(storeTopic -> {
-                ResourceName resourceName = storeTopic != null ? storeTopic.getResourceName() : topicName.asKubeName();
-                return k8s.getFromName(resourceName).compose(topic -> {
+                Future<KafkaTopic> kafkaTopicFuture = storeTopic != null ? k8s.getFromName(storeTopic.getResourceName()) : k8s.getFromTopicName(topicName);
+                return kafkaTopicFuture.compose(topic -> {
                     reconciliation.observedTopicFuture(kafkaTopic != null ? topic : null);
                     Topic k8sTopic = TopicSerialization.fromTopicResource(topic);
                     return reconcile(reconciliation, logContext.withKubeTopic(topic), topic, k8sTopic, kafkaTopic, storeTopic);
@@ -949,7 +1007,7 @@ class TopicOperator {
     Future<Void> onTopicCreated(LogContext logContext, TopicName topicName) {
         // XXX currently runs on the ZK thread, requiring a synchronized inFlight
         // is it better to put this check in the topic deleted event?
-        Reconciliation action = new Reconciliation(logContext, "onTopicCreated", true) {
+        Supplier<Reconciliation> action = () -> new Reconciliation(logContext, "onTopicCreated", true) {
             @Override
             public Future<Void> execute() {
                 Reconciliation self = this;
@@ -988,7 +1046,7 @@ class TopicOperator {
                 });
             }
         };
-        return executeWithTopicLockHeld(logContext, topicName, action);
+        return executeCoalescableWithTopicLockHeld(logContext, topicName, "onTopicCreated", action);
     }
 
     abstract class Reconciliation {
@@ -1272,8 +1330,8 @@ class TopicOperator {
     }
 
     public boolean isWorkInflight() {
-        LOGGER.debugOp("Outstanding: {}", inflight);
-        return inflight.size() > 0;
+        LOGGER.debugOp("Outstanding: {}, queued or running: {}", inflight, executor.size());
+        return inflight.size() > 0 || executor.size() > 0;
     }
 
     /**
@@ -1296,12 +1354,19 @@ class TopicOperator {
         private final Set<TopicName> succeeded;
         private final Set<TopicName> undetermined;
         private final Map<TopicName, Throwable> failed;
+        private final Map<TopicName, TopicMetadata> topicsMetadata;
         private List<KafkaTopic> ktList;
 
         public ReconcileState(Set<TopicName> succeeded, Set<TopicName> undetermined, Map<TopicName, Throwable> failed) {
+            this(succeeded, undetermined, failed, emptyMap());
+        }
+
+        public ReconcileState(Set<TopicName> succeeded, Set<TopicName> undetermined, Map<TopicName, Throwable> failed,
+                              Map<TopicName, TopicMetadata> topicsMetadata) {
             this.succeeded = succeeded;
             this.undetermined = undetermined;
             this.failed = failed;
+            this.topicsMetadata = topicsMetadata;
             this.ktList = emptyList();
         }
 
@@ -1314,10 +1379,17 @@ class TopicOperator {
         LOGGER.infoOp("Starting {} reconciliation", reconciliationType);
         return kafka.listTopics().recover(ex -> Future.failedFuture(
                 new OperatorException("Error listing existing topics during " + reconciliationType + " reconciliation", ex)
-        )).compose(topicNamesFromKafka ->
-                // Reconcile the topic found in Kafka
-                reconcileFromKafka(reconciliationType, topicNamesFromKafka.stream().map(TopicName::new).collect(Collectors.toList()))
-        ).compose(reconcileState -> {
+        )).compose(topicNamesFromKafka -> {
+            List<TopicName> topicsFromKafka = topicNamesFromKafka.stream().map(TopicName::new).collect(Collectors.toList());
+            // Describe the topics found in Kafka in bulk instead of one by one
+            return kafka.topicsMetadata(topicsFromKafka)
+                    .recover(ex -> {
+                        LOGGER.warnOp("Error getting metadata of existing topics during {} reconciliation. The topics will be described one by one.", reconciliationType, ex);
+                        return Future.succeededFuture(emptyMap());
+                    })
+                    // Reconcile the topic found in Kafka
+                    .compose(topicsMetadata -> reconcileFromKafka(reconciliationType, topicsFromKafka, topicsMetadata));
+        }).compose(reconcileState -> {
             Future<List<KafkaTopic>> ktFut = k8s.listResources();
             return ktFut.recover(ex -> Future.failedFuture(
                     new OperatorException("Error listing existing KafkaTopics during " + reconciliationType + " reconciliation", ex)
@@ -1349,7 +1421,7 @@ class TopicOperator {
                     successfulReconciliationsCounter.increment();
                 } else if (reconcileState.undetermined.contains(topicName)) {
                     // The topic didn't exist in topicStore, but now we know which KT it corresponds to
-                    futs.add(reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName()).compose(r -> {
+                    futs.add(reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName(), reconcileState.topicsMetadata.get(topicName)).compose(r -> {
                         // if success then remove from undetermined add to success
                         reconcileState.undetermined.remove(topicName);
                         reconcileState.succeeded.add(topicName);
@@ -1358,7 +1430,7 @@ class TopicOperator {
                 } else {
                     // Topic exists in kube, but not in Kafka
                     LOGGER.debugCr(logContext.toReconciliation(), "Topic {} exists in Kubernetes, but not Kafka", topicName, logTopic(kt));
-                    futs.add(reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName()).compose(r -> {
+                    futs.add(reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName(), null).compose(r -> {
                         // if success then add to success
                         reconcileState.succeeded.add(topicName);
                         return Future.succeededFuture(Boolean.TRUE);
@@ -1377,7 +1449,7 @@ class TopicOperator {
                         @Override
                         public Future<Void> execute() {
                             observedTopicFuture(null);
-                            return getKafkaAndReconcile(this, logContext, tn, null, null);
+                            return getKafkaAndReconcile(this, logContext, tn, null, null, null);
                         }
                     }));
                 }
@@ -1389,15 +1461,18 @@ class TopicOperator {
 
     /**
      * Reconcile all the topics in {@code foundFromKafka}, returning a ReconciliationState.
+     * The {@code topicsMetadata} are the metadata of the topics described in bulk. They are used only for the topics
+     * which are already in sync with the topic store. The other topics are described separately.
      */
-    private Future<ReconcileState> reconcileFromKafka(String reconciliationType, List<TopicName> topicsFromKafka) {
+    private Future<ReconcileState> reconcileFromKafka(String reconciliationType, List<TopicName> topicsFromKafka,
+                                                      Map<TopicName, TopicMetadata> topicsMetadata) {
         Set<TopicName> succeeded = new HashSet<>();
         Set<TopicName> undetermined = new HashSet<>();
         Map<TopicName, Throwable> failed = new HashMap<>();
 
         LOGGER.debugOp("Reconciling kafka topics {}", topicsFromKafka);
 
-        final ReconcileState state = new ReconcileState(succeeded, undetermined, failed);
+        final ReconcileState state = new ReconcileState(succeeded, undetermined, failed, topicsMetadata);
         if (topicsFromKafka.size() > 0) {
             List<Future<Void>> futures = new ArrayList<>();
             for (TopicName topicName : topicsFromKafka) {
@@ -1417,7 +1492,7 @@ class TopicOperator {
                                 return Future.succeededFuture();
                             } else {
                                 LOGGER.debugCr(logContext.toReconciliation(), "Have private topic for topic {} in Kafka", topicName);
-                                return reconcileWithPrivateTopic(logContext, topicName, topic, this)
+                                return reconcileWithPrivateTopic(logContext, topicName, topic, topicsMetadata.get(topicName), this)
                                         .<Void>map(ignored -> {
                                             LOGGER.debugCr(logContext.toReconciliation(), "{} reconcile success -> succeeded", topicName);
                                             succeeded.add(topicName);
@@ -1449,9 +1524,10 @@ class TopicOperator {
 
     /**
      * Reconcile the given topic which has the given {@code privateTopic} in the topic store.
+     * The {@code kafkaTopicMetadata} are used when they were already described, otherwise the topic is described.
      */
     private Future<Void> reconcileWithPrivateTopic(LogContext logContext, TopicName topicName,
-                                                   Topic privateTopic,
+                                                   Topic privateTopic, TopicMetadata kafkaTopicMetadata,
                                                    Reconciliation reconciliation) {
         return k8s.getFromName(privateTopic.getResourceName())
             .recover(error -> {
@@ -1461,12 +1537,12 @@ class TopicOperator {
             })
             .compose(kafkaTopicResource -> {
                 reconciliation.observedTopicFuture(kafkaTopicResource);
-                return getKafkaAndReconcile(reconciliation, logContext, topicName, privateTopic, kafkaTopicResource);
+                return getKafkaAndReconcile(reconciliation, logContext, topicName, privateTopic, kafkaTopicResource, kafkaTopicMetadata);
             });
     }
 
     private Future<Void> getKafkaAndReconcile(Reconciliation reconciliation, LogContext logContext, TopicName topicName,
-                                              Topic privateTopic, KafkaTopic kafkaTopicResource) {
+                                              Topic privateTopic, KafkaTopic kafkaTopicResource, TopicMetadata kafkaTopicMetadata) {
         logContext.withKubeTopic(kafkaTopicResource);
         Promise<Void> topicPromise = Promise.promise();
         try {
@@ -1479,7 +1555,7 @@ class TopicOperator {
                                 EventType.WARNING, eventResult -> { }));
                     }
                 })
-                .compose(i -> kafka.topicMetadata(logContext.toReconciliation(), topicName))
+                .compose(i -> topicMetadataUnlessInSync(logContext, topicName, kafkaTopicMetadata, privateTopic))
                 .compose(kafkaTopicMeta -> {
                     Topic topicFromKafka = TopicSerialization.fromTopicMetadata(kafkaTopicMeta);
                     return reconcile(reconciliation, logContext, kafkaTopicResource, k8sTopic, topicFromKafka, privateTopic);
@@ -1506,6 +1582,25 @@ class TopicOperator {
         return topicPromise.future();
     }
 
+    /**
+     * Gets the metadata of the topic for a reconciliation which holds the topic lock. The {@code bulkMetadata} were
+     * described in bulk before the lock was taken, so they might be stale. They are used only when they match the
+     * {@code privateTopic} read from the topic store with the lock held, i.e. when the topic is already in sync and
+     * was not changed in Kafka since it was last reconciled. Otherwise, the topic is described again.
+     */
+    private Future<TopicMetadata> topicMetadataUnlessInSync(LogContext logContext, TopicName topicName,
+                                                            TopicMetadata bulkMetadata, Topic privateTopic) {
+        if (bulkMetadata != null && privateTopic != null) {
+            if (TopicDiff.diff(privateTopic, TopicSerialization.fromTopicMetadata(bulkMetadata)).isEmpty()) {
+                return Future.succeededFuture(bulkMetadata);
+            } else {
+                LOGGER.debugCr(logContext.toReconciliation(), "Topic {} described in bulk differs from the topic store, describing it again", topicName);
+            }
+        }
+
+        return kafka.topicMetadata(logContext.toReconciliation(), topicName);
+    }
+
     Future<Topic> getFromKafka(io.strimzi.operator.common.Reconciliation reconciliation, TopicName topicName) {
         return kafka.topicMetadata(reconciliation, topicName).map(TopicSerialization::fromTopicMetadata);
     }
@@ -1515,7 +1610,8 @@ class TopicOperator {
     }
 
     private Future<Void> reconcileWithKubeTopic(LogContext logContext, HasMetadata involvedObject,
-                                                String reconciliationType, ResourceName kubeName, TopicName topicName) {
+                                                String reconciliationType, ResourceName kubeName, TopicName topicName,
+                                                TopicMetadata kafkaTopicMetadata) {
         return executeWithTopicLockHeld(logContext, topicName, new Reconciliation(logContext, "reconcile-with-kube", true) {
             @Override
             public Future<Void> execute() {
@@ -1525,15 +1621,14 @@ class TopicOperator {
                             observedTopicFuture(kt);
                             return kt;
                         }),
-                        getFromKafka(logContext.toReconciliation(), topicName),
                         getFromTopicStore(topicName))
                     .compose(compositeResult -> {
                         KafkaTopic ktr = compositeResult.resultAt(0);
                         logContext.withKubeTopic(ktr);
                         Topic k8sTopic = TopicSerialization.fromTopicResource(ktr);
-                        Topic kafkaTopic = compositeResult.resultAt(1);
-                        Topic privateTopic = compositeResult.resultAt(2);
-                        return reconcile(self, logContext, involvedObject, k8sTopic, kafkaTopic, privateTopic);
+                        Topic privateTopic = compositeResult.resultAt(1);
+                        return topicMetadataUnlessInSync(logContext, topicName, kafkaTopicMetadata, privateTopic)
+                                .compose(kafkaTopicMeta -> reconcile(self, logContext, involvedObject, k8sTopic, TopicSerialization.fromTopicMetadata(kafkaTopicMeta), privateTopic));
                     });
             }
         });
@@ -0,0 +1,288 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Bounded executor for the topic reconciliations. At most {@code maxConcurrency} topics are reconciled at the same
+ * time and at most one reconciliation of each topic runs at the same time. The other reconciliations wait in a queue.
+ *
+ * The queue is fair between the topics: the topics take turns in the order in which they were queued, so that a topic
+ * with many queued reconciliations does not delay the other topics. Reconciliations which read all the state they need
+ * when they are executed (such as the reconciliations triggered by the ZooKeeper notifications) can be submitted as
+ * coalescable. A coalescable reconciliation of a topic which already has a queued (and not yet started) coalescable
+ * reconciliation of the same kind is coalesced with it: the queued reconciliation is replaced by the new one and both
+ * callers get its result. The queue therefore holds at most one such reconciliation of each kind per topic, even when
+ * a burst of events (for example after a reassignment of the partitions of all topics) arrives. Other reconciliations
+ * are never coalesced, because each of them carries its own state.
+ *
+ * The number of queued reconciliations is bounded. When the queue is full, new reconciliations which cannot be
+ * coalesced with a queued one are rejected: the returned future fails with {@link QueueFullException} without the
+ * reconciliation being started. The rejected reconciliations are picked up by the next periodic reconciliation.
+ */
+class TopicReconciliationExecutor {
+    private final static ReconciliationLogger LOGGER = ReconciliationLogger.create(TopicReconciliationExecutor.class);
+
+    private final int maxConcurrency;
+    private final int maxQueueSize;
+
+    // All fields below are guarded by this instance
+    private final Map<TopicName, Deque<Task>> queued = new HashMap<>();
+    private final Set<TopicName> ready = new LinkedHashSet<>();
+    private final Set<TopicName> running = new HashSet<>();
+    private int queueSize = 0;
+
+    private final AtomicInteger queueSizeGauge;
+    private final Counter coalescedCounter;
+    private final Timer queueTimer;
+    private final Timer executionTimer;
+
+    /**
+     * Constructor
+     *
+     * @param maxConcurrency    Maximum number of topics reconciled at the same time
+     * @param maxQueueSize      Maximum number of queued reconciliations
+     * @param metrics           Metrics provider used for the metrics of the queue or null if the metrics are not used
+     * @param metricsPrefix     Prefix of the metric names
+     */
+    TopicReconciliationExecutor(int maxConcurrency, int maxQueueSize, MetricsProvider metrics, String metricsPrefix) {
+        this.maxConcurrency = maxConcurrency;
+        this.maxQueueSize = maxQueueSize;
+
+        if (metrics != null) {
+            Tags metricTags = Tags.of(Tag.of("kind", "KafkaTopic"));
+
+            queueSizeGauge = metrics.gauge(metricsPrefix + "reconciliations.queue.size",
+                    "Number of reconciliations of individual topics waiting in the queue",
+                    metricTags);
+
+            coalescedCounter = metrics.counter(metricsPrefix + "reconciliations.coalesced",
+                    "Number of reconciliations of individual topics coalesced with a reconciliation which was already waiting in the queue",
+                    metricTags);
+
+            queueTimer = metrics.timer(metricsPrefix + "reconciliations.stage.duration",
+                    "The time the individual stages of the reconciliations of individual topics take",
+                    metricTags.and(Tag.of("stage", "queue")));
+
+            executionTimer = metrics.timer(metricsPrefix + "reconciliations.stage.duration",
+                    "The time the individual stages of the reconciliations of individual topics take",
+                    metricTags.and(Tag.of("stage", "execution")));
+        } else {
+            queueSizeGauge = null;
+            coalescedCounter = null;
+            queueTimer = null;
+            executionTimer = null;
+        }
+    }
+
+    /**
+     * Queues the reconciliation of given topic. The reconciliation is started once there are less than
+     * {@code maxConcurrency} running reconciliations and no other reconciliation of the same topic is running.
+     *
+     * @param logContext    Log context
+     * @param topicName     Name of the topic
+     * @param kind          Kind of the reconciliation
+     * @param coalescable   Whether the reconciliation can be coalesced with a queued coalescable reconciliation of the
+     *                      same kind of the same topic. It should be used only for reconciliations which do not carry
+     *                      any state apart from the topic name.
+     * @param task          Supplier of the reconciliation
+     *
+     * @return  Future which completes with the result of the reconciliation or fails with {@link QueueFullException}
+     *          when the queue is full
+     */
+    Future<Void> submit(LogContext logContext, TopicName topicName, String kind, boolean coalescable, Supplier<Future<Void>> task) {
+        Promise<Void> promise = Promise.promise();
+
+        synchronized (this) {
+            Deque<Task> tasks = queued.get(topicName);
+            Task coalesced = coalescable && tasks != null ? findQueuedCoalescable(tasks, kind) : null;
+
+            if (coalesced == null && queueSize >= maxQueueSize) {
+                LOGGER.warnCr(logContext.toReconciliation(), "Queue of topic reconciliations is full. The reconciliation {} of topic {} will be done by the next periodic reconciliation.", kind, topicName);
+                return Future.failedFuture(new QueueFullException(maxQueueSize));
+            } else if (coalesced != null) {
+                LOGGER.debugCr(logContext.toReconciliation(), "Coalescing reconciliation {} of topic {} with the queued one", kind, topicName);
+                coalesced.task = task;
+                coalesced.promises.add(promise);
+
+                if (coalescedCounter != null) {
+                    coalescedCounter.increment();
+                }
+            } else {
+                if (tasks == null) {
+                    tasks = new ArrayDeque<>();
+                    queued.put(topicName, tasks);
+                }
+
+                tasks.addLast(new Task(topicName, kind, coalescable, task, promise));
+                queueSize++;
+
+                if (!running.contains(topicName)) {
+                    ready.add(topicName);
+                }
+            }
+
+            updateQueueSize();
+        }
+
+        dispatch();
+        return promise.future();
+    }
+
+    /**
+     * @return  Number of queued and running reconciliations
+     */
+    synchronized int size() {
+        return queueSize + running.size();
+    }
+
+    /**
+     * @return  Number of queued reconciliations
+     */
+    /* test */ synchronized int queueSize() {
+        return queueSize;
+    }
+
+    private static Task findQueuedCoalescable(Deque<Task> tasks, String kind) {
+        Iterator<Task> it = tasks.descendingIterator();
+
+        while (it.hasNext()) {
+            Task task = it.next();
+
+            if (task.coalescable && task.kind.equals(kind)) {
+                return task;
+            }
+        }
+
+        return null;
+    }
+
+    private void updateQueueSize() {
+        if (queueSizeGauge != null) {
+            queueSizeGauge.set(queueSize);
+        }
+    }
+
+    /**
+     * Starts the queued reconciliations while there are free slots. The topics which have more queued reconciliations
+     * are moved to the end of the ready topics after their reconciliation completes.
+     */
+    private void dispatch() {
+        List<Task> toStart = new ArrayList<>();
+
+        synchronized (this) {
+            Iterator<TopicName> it = ready.iterator();
+
+            while (running.size() < maxConcurrency && it.hasNext()) {
+                TopicName topicName = it.next();
+                it.remove();
+
+                Deque<Task> tasks = queued.get(topicName);
+                Task task = tasks.pollFirst();
+
+                if (tasks.isEmpty()) {
+                    queued.remove(topicName);
+                }
+
+                queueSize--;
+                running.add(topicName);
+                toStart.add(task);
+            }
+
+            updateQueueSize();
+        }
+
+        for (Task task : toStart) {
+            start(task);
+        }
+    }
+
+    private void start(Task task) {
+        if (queueTimer != null) {
+            queueTimer.record(System.nanoTime() - task.queuedAt, TimeUnit.NANOSECONDS);
+        }
+
+        long startedAt = System.nanoTime();
+        Future<Void> result;
+
+        try {
+            result = task.task.get();
+        } catch (RuntimeException e) {
+            result = Future.failedFuture(e);
+        }
+
+        result.onComplete(res -> {
+            if (executionTimer != null) {
+                executionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+
+            synchronized (this) {
+                running.remove(task.topicName);
+
+                if (queued.containsKey(task.topicName)) {
+                    ready.add(task.topicName);
+                }
+            }
+
+            for (Promise<Void> promise : task.promises) {
+                promise.handle(res);
+            }
+
+            dispatch();
+        });
+    }
+
+    /**
+     * Queued reconciliation. The task and the promises are guarded by the executor instance until the reconciliation
+     * is started.
+     */
+    private static class Task {
+        private final TopicName topicName;
+        private final String kind;
+        private final boolean coalescable;
+        private final long queuedAt = System.nanoTime();
+        private final List<Promise<Void>> promises = new ArrayList<>(1);
+        private Supplier<Future<Void>> task;
+
+        Task(TopicName topicName, String kind, boolean coalescable, Supplier<Future<Void>> task, Promise<Void> promise) {
+            this.topicName = topicName;
+            this.kind = kind;
+            this.coalescable = coalescable;
+            this.task = task;
+            this.promises.add(promise);
+        }
+    }
+
+    /**
+     * Thrown when a reconciliation is rejected because the queue is full
+     */
+    static class QueueFullException extends RuntimeException {
+        QueueFullException(int maxQueueSize) {
+            super("Queue of topic reconciliations is full (" + maxQueueSize + " reconciliations)");
+        }
+    }
+}
@@ -0,0 +1,411 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.topic.zk.Zk;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.apache.zookeeper.WatchedEvent;
+import org.apache.zookeeper.Watcher;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * ZooKeeper watcher for the topics which uses persistent watches. These do not have to be re-registered after every
+ * notification like the children and data watches used by {@link ZkTopicsWatcher}. It uses only two recursive
+ * watches: one on {@code /brokers/topics} for the created and deleted topics and for the partition changes, and one on
+ * {@code /config/topics} for the config changes. So only these two watches have to be added again when the ZooKeeper
+ * session expires, regardless of the number of topics. The recursive watch on {@code /brokers/topics} notifies about
+ * the changes of the partition state znodes as well (e.g. on every leader or ISR change). These are filtered out here.
+ * It calls
+ * {@link TopicOperator#onTopicCreated(LogContext, TopicName)}, {@link TopicOperator#onTopicDeleted(LogContext, TopicName)},
+ * {@link TopicOperator#onTopicPartitionsChanged(LogContext, TopicName)} and
+ * {@link TopicOperator#onTopicConfigChanged(LogContext, TopicName)} for the changed topics.
+ *
+ * The changes are passed to the operator through a single bounded queue. Repeated changes of the same kind to the same
+ * topic which are still waiting in the queue are coalesced and only a limited number of them is handled at the same
+ * time. When the queue is full, further changes are dropped and a reconciliation of all topics is started once the
+ * queued changes are handled, so that the dropped changes are not missed until the next periodic reconciliation. After
+ * the ZooKeeper session expires, only the created and deleted topics are detected by comparing the topics in ZooKeeper with
+ * the known topics. The other changes done while the session was expired are left to the periodic reconciliation as
+ * well, so that a new session does not trigger a reconciliation of every topic.
+ */
+class ZkTopicChangesWatcher {
+
+    private final static ReconciliationLogger LOGGER = ReconciliationLogger.create(ZkTopicChangesWatcher.class);
+
+    private static final String TOPICS_ZNODE = "/brokers/topics";
+    private static final String CONFIGS_ZNODE = "/config/topics";
+
+    /**
+     * Default maximum number of changes waiting in the queue
+     */
+    static final int DEFAULT_MAX_QUEUE_SIZE = 10_000;
+
+    /**
+     * Default maximum number of changes handled by the operator at the same time
+     */
+    static final int DEFAULT_MAX_IN_FLIGHT = 10;
+
+    private final TopicOperator topicOperator;
+    private final int maxQueueSize;
+    private final int maxInFlight;
+
+    // All fields below are guarded by this instance
+    private final Set<Change> queue = new LinkedHashSet<>();
+    private Set<String> topics;
+    private int inFlight = 0;
+    private int changeCount = 0;
+    private boolean dispatching = false;
+    private boolean overflowed = false;
+    private volatile Zk zk;
+    private volatile ZkWatcher.ZkWatcherState state = ZkWatcher.ZkWatcherState.NOT_STARTED;
+
+    /**
+     * Constructor
+     *
+     * @param topicOperator     Operator instance to notify
+     * @param maxQueueSize      Maximum number of changes waiting in the queue
+     * @param maxInFlight       Maximum number of changes handled by the operator at the same time
+     */
+    ZkTopicChangesWatcher(TopicOperator topicOperator, int maxQueueSize, int maxInFlight) {
+        this.topicOperator = topicOperator;
+        this.maxQueueSize = maxQueueSize;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Start the watcher
+     *
+     * @param zk    Zookeeper client instance
+     *
+     * @return  Future which completes when the watches are added and the initial topics are known
+     */
+    Future<Void> start(Zk zk) {
+        this.zk = zk;
+
+        synchronized (this) {
+            topics = null;
+            queue.clear();
+            overflowed = false;
+        }
+
+        // The watches are added before listing the topics so that no topic creation or deletion is missed
+        return zk.watchPersistent(TOPICS_ZNODE, true, this::handle)
+                .compose(zk2 -> zk.watchPersistent(CONFIGS_ZNODE, true, this::handle))
+                .compose(zk2 -> listTopics())
+                .map(result -> {
+                    LOGGER.debugOp("Setting initial topics {}", result);
+
+                    synchronized (this) {
+                        topics = new HashSet<>(result);
+                    }
+
+                    state = ZkWatcher.ZkWatcherState.STARTED;
+                    return null;
+                });
+    }
+
+    /**
+     * Stop the watcher
+     */
+    void stop() {
+        state = ZkWatcher.ZkWatcherState.STOPPED;
+
+        synchronized (this) {
+            queue.clear();
+        }
+
+        Zk zk = this.zk;
+        if (zk != null) {
+            zk.unwatchPersistent(TOPICS_ZNODE);
+            zk.unwatchPersistent(CONFIGS_ZNODE);
+        }
+    }
+
+    /**
+     * @return  if the watcher is already started
+     */
+    boolean started() {
+        return state == ZkWatcher.ZkWatcherState.STARTED;
+    }
+
+    /**
+     * @return  Number of changes waiting in the queue
+     */
+    /* test */ synchronized int queueSize() {
+        return queue.size();
+    }
+
+    private Future<List<String>> listTopics() {
+        Promise<List<String>> promise = Promise.promise();
+        zk.children(TOPICS_ZNODE, promise);
+        return promise.future();
+    }
+
+    /**
+     * Handles the events of the persistent watches. Runs on the ZooKeeper event thread, so it only queues the
+     * changes.
+     *
+     * @param event     ZooKeeper event
+     */
+    /* test */ void handle(WatchedEvent event) {
+        if (state != ZkWatcher.ZkWatcherState.STARTED) {
+            // The changes done before the initial topics are known are handled by the initial reconciliation
+            return;
+        }
+
+        if (event.getType() == Watcher.Event.EventType.None) {
+            if (TOPICS_ZNODE.equals(event.getPath())) {
+                LOGGER.infoOp("Persistent watch on {} was re-added for a new ZooKeeper session", TOPICS_ZNODE);
+                syncTopics();
+            }
+
+            return;
+        }
+
+        String path = event.getPath();
+        if (path == null) {
+            return;
+        }
+
+        if (path.startsWith(TOPICS_ZNODE + "/")) {
+            String topicName = path.substring(TOPICS_ZNODE.length() + 1);
+
+            if (topicName.contains("/")) {
+                // Changes of the partition znodes (e.g. leader or ISR changes) are not relevant
+                return;
+            }
+
+            switch (event.getType()) {
+                case NodeCreated:
+                    topicCreated(topicName);
+                    break;
+                case NodeDeleted:
+                    topicDeleted(topicName);
+                    break;
+                case NodeDataChanged:
+                    enqueue(new Change(ChangeType.PARTITIONS, topicName));
+                    break;
+                default:
+                    break;
+            }
+        } else if (path.startsWith(CONFIGS_ZNODE + "/") && event.getType() == Watcher.Event.EventType.NodeDataChanged) {
+            enqueue(new Change(ChangeType.CONFIG, path.substring(CONFIGS_ZNODE.length() + 1)));
+        }
+    }
+
+    private void topicCreated(String topicName) {
+        synchronized (this) {
+            if (topics == null || !topics.add(topicName)) {
+                return;
+            }
+        }
+
+        enqueue(new Change(ChangeType.CREATED, topicName));
+    }
+
+    private void topicDeleted(String topicName) {
+        synchronized (this) {
+            if (topics == null || !topics.remove(topicName)) {
+                return;
+            }
+
+            // The pending changes of the deleted topic are not relevant anymore
+            queue.removeIf(change -> change.topicName.equals(topicName) && change.type != ChangeType.CREATED);
+        }
+
+        enqueue(new Change(ChangeType.DELETED, topicName));
+    }
+
+    /**
+     * Compares the topics in ZooKeeper with the known topics to find the created and deleted topics. It is called after
+     * the ZooKeeper session expired.
+     */
+    private void syncTopics() {
+        listTopics().onComplete(result -> {
+            if (result.failed()) {
+                LOGGER.errorOp("Error on znode {} children", TOPICS_ZNODE, result.cause());
+                return;
+            }
+
+            Set<String> created = new HashSet<>(result.result());
+            Set<String> deleted;
+
+            synchronized (this) {
+                if (topics == null) {
+                    return;
+                }
+
+                deleted = new HashSet<>(topics);
+                deleted.removeAll(created);
+                created.removeAll(topics);
+            }
+
+            LOGGER.debugOp("Topics created in ZK: {}, topics deleted: {}", created, deleted);
+            deleted.forEach(this::topicDeleted);
+            created.forEach(this::topicCreated);
+        });
+    }
+
+    private void enqueue(Change change) {
+        synchronized (this) {
+            if (!queue.contains(change) && queue.size() >= maxQueueSize) {
+                if (!overflowed) {
+                    LOGGER.warnOp("Queue of ZooKeeper topic changes is full. The {} change of topic {} and further changes will be handled by a reconciliation of all topics.", change.type, change.topicName);
+                    overflowed = true;
+                }
+
+                return;
+            }
+
+            queue.add(change);
+        }
+
+        dispatch();
+    }
+
+    /**
+     * Passes the queued changes to the operator while the number of the changes handled at the same time is below the
+     * limit. Only one thread runs the dispatching loop at a time, so that the changes completed synchronously by the
+     * operator do not nest the calls. When some changes were dropped because the queue was full, all topics are
+     * reconciled once the queue is empty and no other change is being handled.
+     */
+    private void dispatch() {
+        synchronized (this) {
+            if (dispatching) {
+                return;
+            }
+
+            dispatching = true;
+        }
+
+        while (true) {
+            Change change = null;
+            int count = 0;
+
+            synchronized (this) {
+                if (overflowed && queue.isEmpty() && inFlight == 0) {
+                    // All queued changes were handled, so the dropped changes are picked up by reconciling all topics
+                    overflowed = false;
+                } else if (inFlight >= maxInFlight || queue.isEmpty()) {
+                    dispatching = false;
+                    return;
+                } else {
+                    Iterator<Change> it = queue.iterator();
+                    change = it.next();
+                    it.remove();
+                    count = ++changeCount;
+                }
+
+                inFlight++;
+            }
+
+            Future<?> result = change != null ? notifyOperator(change, count) : reconcileAllTopics();
+            result.onComplete(ignore -> {
+                synchronized (this) {
+                    inFlight--;
+                }
+
+                dispatch();
+            });
+        }
+    }
+
+    private Future<?> reconcileAllTopics() {
+        Future<?> result;
+        try {
+            result = topicOperator.reconcileAllTopics("ZooKeeper watch overflow ");
+        } catch (RuntimeException e) {
+            result = Future.failedFuture(e);
+        }
+
+        return result.onFailure(error -> LOGGER.warnOp("Error reconciling all topics after the queue of ZooKeeper topic changes was full", error));
+    }
+
+    private Future<Void> notifyOperator(Change change, int count) {
+        String znode = change.type == ChangeType.CONFIG ? CONFIGS_ZNODE : TOPICS_ZNODE;
+        LogContext logContext = LogContext.zkWatch(znode, count + ":" + change.type.symbol + change.topicName, topicOperator.getNamespace(), change.topicName);
+        LOGGER.infoCr(logContext.toReconciliation(), "Topic {} change", change.type);
+
+        Future<Void> result;
+        try {
+            TopicName topicName = new TopicName(change.topicName);
+
+            switch (change.type) {
+                case CREATED:
+                    result = topicOperator.onTopicCreated(logContext, topicName);
+                    break;
+                case DELETED:
+                    result = topicOperator.onTopicDeleted(logContext, topicName);
+                    break;
+                case PARTITIONS:
+                    result = topicOperator.onTopicPartitionsChanged(logContext, topicName);
+                    break;
+                default:
+                    result = topicOperator.onTopicConfigChanged(logContext, topicName);
+                    break;
+            }
+        } catch (RuntimeException e) {
+            result = Future.failedFuture(e);
+        }
+
+        return result.onComplete(ar -> {
+            if (ar.succeeded()) {
+                LOGGER.debugCr(logContext.toReconciliation(), "Success responding to {} change of topic {}", change.type, change.topicName);
+            } else {
+                LOGGER.warnCr(logContext.toReconciliation(), "Error responding to {} change of topic {}", change.type, change.topicName, ar.cause());
+            }
+        });
+    }
+
+    /**
+     * Kinds of the topic changes
+     */
+    enum ChangeType {
+        CREATED("+"),
+        DELETED("-"),
+        PARTITIONS("="),
+        CONFIG("=");
+
+        private final String symbol;
+
+        ChangeType(String symbol) {
+            this.symbol = symbol;
+        }
+    }
+
+    /**
+     * Change of a topic waiting in the queue
+     */
+    private static class Change {
+        private final ChangeType type;
+        private final String topicName;
+
+        Change(ChangeType type, String topicName) {
+            this.type = type;
+            this.topicName = topicName;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Change change = (Change) o;
+            return type == change.type && topicName.equals(change.topicName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, topicName);
+        }
+    }
+}
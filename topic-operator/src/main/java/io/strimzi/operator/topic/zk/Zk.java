@@ -9,8 +9,10 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import org.I0Itec.zkclient.ZkClient;
+import org.I0Itec.zkclient.ZkConnection;
 import org.I0Itec.zkclient.serialize.BytesPushThroughSerializer;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.WatchedEvent;
 import org.apache.zookeeper.data.ACL;
 
 import java.util.List;
@@ -31,9 +33,11 @@ public interface Zk {
     }
 
     static Zk createSync(Vertx vertx, String zkConnectionString, int sessionTimeout, int connectionTimeout) {
+        ZkConnection connection = new ZkConnection(zkConnectionString, sessionTimeout);
         return new ZkImpl(vertx,
-                new ZkClient(zkConnectionString, sessionTimeout, connectionTimeout,
-                        new BytesPushThroughSerializer()));
+                new ZkClient(connection, connectionTimeout,
+                        new BytesPushThroughSerializer()),
+                connection);
     }
 
     /**
@@ -143,6 +147,32 @@ public interface Zk {
      */
     Zk unwatchData(String path);
 
+    /**
+     * Asynchronously add a persistent watch (requires ZooKeeper 3.6 or newer) on the given {@code path},
+     * returning a future which completes when the watch is added.
+     * Unlike the children and data watches, the watch does not have to be re-registered after each notification.
+     * A non-recursive watch calls the {@code watcher} with the {@code NodeChildrenChanged}, {@code NodeDataChanged}
+     * and {@code NodeDeleted} events of the given znode only. A recursive watch calls the {@code watcher} with the
+     * {@code NodeCreated}, {@code NodeDeleted} and {@code NodeDataChanged} events of the given znode and all its
+     * descendants, so it should be used only for paths with a few, rarely changing descendants.
+     * When the ZooKeeper session expires, the watch is added again for the new session and the {@code watcher} is
+     * called with an event of type {@code None}, because the changes done in the meantime were not observed.
+     *
+     * @param path      The path.
+     * @param recursive Whether the watch covers the descendants of the path as well.
+     * @param watcher   The watcher.
+     * @return This instance.
+     */
+    Future<Zk> watchPersistent(String path, boolean recursive, Handler<WatchedEvent> watcher);
+
+    /**
+     * Remove the persistent watch, if any, for the given {@code path}.
+     *
+     * @param path The path.
+     * @return This instance.
+     */
+    Zk unwatchPersistent(String path);
+
     /**
      * Does the path exist.
      *
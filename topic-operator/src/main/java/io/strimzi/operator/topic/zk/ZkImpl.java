@@ -12,14 +12,22 @@ import io.vertx.core.Vertx;
 import io.vertx.core.WorkerExecutor;
 import org.I0Itec.zkclient.IZkChildListener;
 import org.I0Itec.zkclient.IZkDataListener;
+import org.I0Itec.zkclient.IZkStateListener;
 import org.I0Itec.zkclient.ZkClient;
+import org.I0Itec.zkclient.ZkConnection;
 import org.I0Itec.zkclient.exception.ZkNoNodeException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.zookeeper.AddWatchMode;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.WatchedEvent;
+import org.apache.zookeeper.Watcher;
 import org.apache.zookeeper.data.ACL;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -35,15 +43,28 @@ public class ZkImpl implements Zk {
     }
     private final Vertx vertx;
     private final ZkClient zookeeper;
+    private final ZkConnection connection;
 
     // Only accessed on the vertx context.
 
     private final ConcurrentHashMap<String, IZkDataListener> dataWatches = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, IZkChildListener> childWatches = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, PersistentWatch> persistentWatches = new ConcurrentHashMap<>();
 
-    public ZkImpl(Vertx vertx, ZkClient zkClient) {
+    /**
+     * Constructor
+     *
+     * @param vertx         Vert.x instance
+     * @param zkClient      ZooKeeper client
+     * @param connection    The connection used by the ZooKeeper client. It is needed for the persistent watches
+     *                      which are not supported by the ZooKeeper client.
+     */
+    public ZkImpl(Vertx vertx, ZkClient zkClient, ZkConnection connection) {
         this.vertx = vertx;
         this.zookeeper = zkClient;
+        this.connection = Objects.requireNonNull(connection, "The ZooKeeper connection is required");
+
+        zkClient.subscribeStateChanges(new PersistentWatchesStateListener());
     }
 
 
@@ -248,6 +269,128 @@ public class ZkImpl implements Zk {
         return this;
     }
 
+    @Override
+    public Future<Zk> watchPersistent(String path, boolean recursive, Handler<WatchedEvent> watcher) {
+        Promise<Zk> result = Promise.promise();
+        workerPool().executeBlocking(
+            future -> {
+                try {
+                    Watcher zkWatcher = event -> {
+                        // The connection state changes are delivered to the persistent watchers as well
+                        if (event.getType() != Watcher.Event.EventType.None) {
+                            watcher.handle(event);
+                        }
+                    };
+                    PersistentWatch watch = new PersistentWatch(zkWatcher, watcher, recursive ? AddWatchMode.PERSISTENT_RECURSIVE : AddWatchMode.PERSISTENT);
+                    persistentWatches.put(path, watch);
+                    addPersistentWatch(path, watch);
+                    future.complete();
+                } catch (Throwable t) {
+                    persistentWatches.remove(path);
+                    future.fail(t);
+                }
+            },
+            ar -> {
+                log("watchPersistent").handle(ar);
+                if (ar.succeeded()) {
+                    result.complete(this);
+                } else {
+                    result.fail(ar.cause());
+                }
+            });
+        return result.future();
+    }
+
+    @Override
+    public Zk unwatchPersistent(String path) {
+        workerPool().executeBlocking(
+            future -> {
+                try {
+                    PersistentWatch watch = persistentWatches.remove(path);
+                    if (watch != null) {
+                        zookeeper.retryUntilConnected(() -> {
+                            try {
+                                connection.getZookeeper().removeWatches(path, watch.zkWatcher, Watcher.WatcherType.Any, true);
+                            } catch (KeeperException.NoWatcherException e) {
+                                // The watch was already removed (for example because the session expired)
+                            }
+                            return null;
+                        });
+                    }
+                    future.complete();
+                } catch (Throwable t) {
+                    future.fail(t);
+                }
+            },
+            log("unwatchPersistent"));
+        return this;
+    }
+
+    private void addPersistentWatch(String path, PersistentWatch watch) {
+        zookeeper.retryUntilConnected(() -> {
+            connection.getZookeeper().addWatch(path, watch.zkWatcher, watch.mode);
+            return null;
+        });
+    }
+
+    /**
+     * The watcher registered in ZooKeeper together with the watcher of the caller and the mode of the watch
+     */
+    static class PersistentWatch {
+
+        private final Watcher zkWatcher;
+        private final Handler<WatchedEvent> watcher;
+        private final AddWatchMode mode;
+
+        PersistentWatch(Watcher zkWatcher, Handler<WatchedEvent> watcher, AddWatchMode mode) {
+            this.zkWatcher = zkWatcher;
+            this.watcher = watcher;
+            this.mode = mode;
+        }
+    }
+
+    /**
+     * The persistent watches survive the reconnections within the same session, but they are lost when the session
+     * expires. This listener adds them again for the new session and lets the watchers know they might have missed
+     * some changes. The watches are added in the worker pool, so that the ZooKeeper event thread which delivers the
+     * watch events is not blocked.
+     */
+    private class PersistentWatchesStateListener implements IZkStateListener {
+
+        @Override
+        public void handleStateChanged(Watcher.Event.KeeperState state) {
+            // Nothing to do
+        }
+
+        @Override
+        public void handleNewSession() {
+            for (Map.Entry<String, PersistentWatch> entry : persistentWatches.entrySet()) {
+                String path = entry.getKey();
+                PersistentWatch watch = entry.getValue();
+
+                workerPool().executeBlocking(
+                    future -> {
+                        try {
+                            LOGGER.debug("Adding persistent watch on {} for the new session", path);
+                            addPersistentWatch(path, watch);
+                            watch.watcher.handle(new WatchedEvent(Watcher.Event.EventType.None, Watcher.Event.KeeperState.SyncConnected, path));
+                            future.complete();
+                        } catch (Throwable t) {
+                            LOGGER.error("Failed to add persistent watch on {} for the new session", path, t);
+                            future.fail(t);
+                        }
+                    },
+                    false,
+                    log("handleNewSession"));
+            }
+        }
+
+        @Override
+        public void handleSessionEstablishmentError(Throwable error) {
+            LOGGER.error("Failed to establish new ZooKeeper session", error);
+        }
+    }
+
     @Override
     public Future<Boolean> pathExists(String path) {
         Promise<Boolean> promise = Promise.promise();
@@ -8,6 +8,9 @@ import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Indexer;
 import io.strimzi.api.kafka.KafkaTopicList;
 import io.strimzi.api.kafka.model.KafkaTopic;
 import io.strimzi.api.kafka.model.KafkaTopicBuilder;
@@ -22,11 +25,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -73,4 +81,90 @@ public class K8sImplTest {
             async.flag();
         })));
     }
+
+    @SuppressWarnings("unchecked")
+    private static SharedIndexInformer<KafkaTopic> mockInformer(MixedOperation<KafkaTopic, KafkaTopicList, Resource<KafkaTopic>> mockResources, Indexer<KafkaTopic> mockIndexer) {
+        SharedIndexInformer<KafkaTopic> mockInformer = mock(SharedIndexInformer.class);
+        when(mockResources.runnableInformer(anyLong())).thenReturn(mockInformer);
+        when(mockInformer.start()).thenReturn(CompletableFuture.completedFuture(null));
+        when(mockInformer.hasSynced()).thenReturn(true);
+        when(mockInformer.getStore()).thenReturn(mockIndexer);
+        when(mockInformer.getIndexer()).thenReturn(mockIndexer);
+
+        return mockInformer;
+    }
+
+    @Test
+    public void testListFromInformer(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+
+        List<KafkaTopic> mockKafkaTopicsList = Collections.singletonList(new KafkaTopicBuilder()
+                .withMetadata(new ObjectMetaBuilder()
+                        .withName("my-topic")
+                        .withLabels(Collections.singletonMap("foo", "bar")).build())
+                .build());
+
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        MixedOperation<KafkaTopic, KafkaTopicList, Resource<KafkaTopic>> mockResources = mock(MixedOperation.class);
+        when(mockClient.resources(any(Class.class), any(Class.class))).thenReturn(mockResources);
+        when(mockResources.withLabels(any())).thenReturn(mockResources);
+        when(mockResources.inNamespace(any())).thenReturn(mockResources);
+
+        Indexer<KafkaTopic> mockIndexer = mock(Indexer.class);
+        when(mockIndexer.list()).thenReturn(mockKafkaTopicsList);
+        SharedIndexInformer<KafkaTopic> mockInformer = mockInformer(mockResources, mockIndexer);
+
+        K8sImpl k8s = new K8sImpl(vertx, mockClient, new Labels("foo", "bar"), "default");
+
+        k8s.startInformer(mock(ResourceEventHandler.class))
+                .compose(v -> k8s.listResources())
+                .onComplete(context.succeeding(kafkaTopics -> context.verify(() -> {
+                    assertThat(kafkaTopics, is(mockKafkaTopicsList));
+                    verify(mockInformer).addEventHandler(any());
+                    verify(mockResources, never()).list();
+
+                    k8s.stopInformer();
+                    verify(mockInformer).stop();
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testGetFromTopicName(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+
+        KafkaTopic kafkaTopic = new KafkaTopicBuilder()
+                .withMetadata(new ObjectMetaBuilder()
+                        .withName("my-resource")
+                        .withLabels(Collections.singletonMap("foo", "bar")).build())
+                .withNewSpec()
+                    .withTopicName("my-topic")
+                .endSpec()
+                .build();
+
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        MixedOperation<KafkaTopic, KafkaTopicList, Resource<KafkaTopic>> mockResources = mock(MixedOperation.class);
+        Resource<KafkaTopic> mockResource = mock(Resource.class);
+        when(mockClient.resources(any(Class.class), any(Class.class))).thenReturn(mockResources);
+        when(mockResources.withLabels(any())).thenReturn(mockResources);
+        when(mockResources.inNamespace(any())).thenReturn(mockResources);
+        when(mockResources.withName(eq("my-resource"))).thenReturn(mockResource);
+        when(mockResource.get()).thenReturn(kafkaTopic);
+
+        Indexer<KafkaTopic> mockIndexer = mock(Indexer.class);
+        when(mockIndexer.byIndex(eq(K8sImpl.TOPIC_NAME_INDEX), eq("my-topic"))).thenReturn(List.of(kafkaTopic));
+        mockInformer(mockResources, mockIndexer);
+
+        K8sImpl k8s = new K8sImpl(vertx, mockClient, new Labels("foo", "bar"), "default");
+
+        k8s.startInformer(mock(ResourceEventHandler.class))
+                .compose(v -> k8s.getFromTopicName(new TopicName("my-topic")))
+                .onComplete(context.succeeding(result -> context.verify(() -> {
+                    assertThat(result, is(kafkaTopic));
+                    verify(mockResources, never()).withName(eq("my-topic"));
+
+                    async.flag();
+                })));
+    }
 }
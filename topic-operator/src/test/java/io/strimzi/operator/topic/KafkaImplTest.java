@@ -4,6 +4,9 @@
  */
 package io.strimzi.operator.topic;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -33,12 +36,17 @@ import org.mockito.ArgumentMatcher;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -270,5 +278,37 @@ public class KafkaImplTest {
             testContext.completeNow();
         })));
     }
-}
 
+    @Test
+    public void testTopicsMetadataInBatches(VertxTestContext testContext) {
+        Admin admin = mock(Admin.class);
+        List<TopicName> topicNames = new ArrayList<>();
+
+        for (int batch = 0; batch < 2; batch++) {
+            Map<String, Either<TopicDescription, Exception>> descriptions = new HashMap<>();
+            Map<ConfigResource, Either<Config, Exception>> configs = new HashMap<>();
+
+            for (int i = 0; i < KafkaImpl.TOPICS_METADATA_BATCH_SIZE; i++) {
+                String name = "topic-" + batch + "-" + i;
+                topicNames.add(new TopicName(name));
+                descriptions.put(name, i == 0 ? Either.ofRight(new UnknownTopicOrPartitionException()) : Either.ofLeft(mock(TopicDescription.class)));
+                configs.put(new ConfigResource(ConfigResource.Type.TOPIC, name), Either.ofLeft(mock(Config.class)));
+            }
+
+            mockDescribeTopics(admin, descriptions);
+            mockDescribeConfigs(admin, configs);
+        }
+
+        KafkaImpl impl = new KafkaImpl(admin, vertx);
+        impl.topicsMetadata(topicNames).onComplete(testContext.succeeding(topicsMetadata -> testContext.verify(() -> {
+            assertEquals(2 * KafkaImpl.TOPICS_METADATA_BATCH_SIZE - 2, topicsMetadata.size());
+            assertFalse(topicsMetadata.containsKey(new TopicName("topic-0-0")));
+            assertNotNull(topicsMetadata.get(new TopicName("topic-1-1")).getDescription());
+            assertNotNull(topicsMetadata.get(new TopicName("topic-1-1")).getConfig());
+
+            verify(admin, times(2)).describeTopics(anyCollection());
+            verify(admin, times(2)).describeConfigs(anyCollection());
+            testContext.completeNow();
+        })));
+    }
+}
@@ -175,6 +175,19 @@ public class MockK8s implements K8s {
         return handler.future();
     }
 
+    @Override
+    public Future<KafkaTopic> getFromTopicName(TopicName topicName) {
+        for (Map.Entry<ResourceName, AsyncResult<KafkaTopic>> entry : byName.entrySet()) {
+            KafkaTopic kafkaTopic = entry.getValue().succeeded() ? entry.getValue().result() : null;
+
+            if (kafkaTopic != null && kafkaTopic.getSpec() != null && topicName.equals(new TopicName(kafkaTopic))) {
+                return getFromName(entry.getKey());
+            }
+        }
+
+        return getFromName(topicName.asKubeName());
+    }
+
     @Override
     public Future<Void> createEvent(Event event) {
         Promise<Void> handler = Promise.promise();
@@ -10,6 +10,7 @@ import io.vertx.junit5.VertxTestContext;
 import org.apache.kafka.clients.admin.NewTopic;
 
 import java.lang.reflect.Field;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -209,6 +210,23 @@ public class MockKafka implements Kafka {
         return getTopicNameFutureFunction().apply(topicName);
     }
 
+    @Override
+    public Future<Map<TopicName, TopicMetadata>> topicsMetadata(Collection<TopicName> topicNames) {
+        // Uses the current response without moving to the next one, so that the per-topic responses are not affected
+        Function<TopicName, Future<TopicMetadata>> response = topicMetadataRespose.get(min(topicMetadataResposeCall, topicMetadataRespose.size() - 1));
+        Map<TopicName, TopicMetadata> result = new HashMap<>();
+
+        for (TopicName topicName : topicNames) {
+            Future<TopicMetadata> metadata = response.apply(topicName);
+
+            if (metadata.succeeded() && metadata.result() != null) {
+                result.put(topicName, metadata.result());
+            }
+        }
+
+        return succeededFuture(result);
+    }
+
     Function<TopicName, Future<TopicMetadata>> getTopicNameFutureFunction() {
         return topicMetadataRespose.get(min(topicMetadataResposeCall++, topicMetadataRespose.size() - 1));
     }
@@ -79,6 +79,8 @@ class MockTopicOperator extends TopicOperator {
     public Future<Void> resourceAddedResult = Future.failedFuture("Unexpected mock interaction. Configure " + getClass().getSimpleName() + ".resourceAddedResult");
     public Future<Void> resourceDeletedResult = Future.failedFuture("Unexpected mock interaction. Configure " + getClass().getSimpleName() + ".resourceDeletedResult");
     public Future<Void> resourceModifiedResult = Future.failedFuture("Unexpected mock interaction. Configure " + getClass().getSimpleName() + ".resourceModifiedResult");
+    public Future<Void> reconcileAllTopicsResult = Future.failedFuture("Unexpected mock interaction. Configure " + getClass().getSimpleName() + ".reconcileAllTopicsResult");
+    public int reconcileAllTopicsCount = 0;
     private List<MockOperatorEvent> mockOperatorEvents = new ArrayList<>();
 
     public List<MockOperatorEvent> getMockOperatorEvents() {
@@ -94,6 +96,12 @@ class MockTopicOperator extends TopicOperator {
         return;
     }
 
+    @Override
+    Future<?> reconcileAllTopics(String reconciliationType) {
+        reconcileAllTopicsCount++;
+        return reconcileAllTopicsResult;
+    }
+
     @Override
     public Future<Void> onTopicCreated(LogContext logContext, TopicName topicName) {
         mockOperatorEvents.add(new MockOperatorEvent(MockOperatorEvent.Type.CREATE, topicName));
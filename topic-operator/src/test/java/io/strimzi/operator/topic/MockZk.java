@@ -9,6 +9,7 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.WatchedEvent;
 import org.apache.zookeeper.data.ACL;
 
 import java.util.Collections;
@@ -24,6 +25,8 @@ class MockZk implements Zk {
     public AsyncResult<byte[]> dataResult = Future.failedFuture("Unexpected mock interaction. Configure " + getClass().getSimpleName() + ".dataResult");
     private Handler<AsyncResult<List<String>>> childrenHandler;
     private Map<String, Handler<AsyncResult<byte[]>>> dataHandlers = new HashMap<>();
+    private Map<String, Handler<WatchedEvent>> persistentHandlers = new HashMap<>();
+    private Map<String, Boolean> persistentWatches = new HashMap<>();
 
     public void triggerChildren(AsyncResult<List<String>> childrenResult) {
         if (childrenHandler != null) {
@@ -38,6 +41,13 @@ class MockZk implements Zk {
         }
     }
 
+    public void triggerPersistent(String path, WatchedEvent event) {
+        Handler<WatchedEvent> handler = persistentHandlers.get(path);
+        if (handler != null) {
+            handler.handle(event);
+        }
+    }
+
     @Override
     public Zk disconnect(Handler<AsyncResult<Void>> handler) {
         handler.handle(Future.succeededFuture());
@@ -92,6 +102,27 @@ class MockZk implements Zk {
         return this;
     }
 
+    @Override
+    public Future<Zk> watchPersistent(String path, boolean recursive, Handler<WatchedEvent> watcher) {
+        persistentHandlers.put(path, watcher);
+        persistentWatches.put(path, recursive);
+        return Future.succeededFuture(this);
+    }
+
+    @Override
+    public Zk unwatchPersistent(String path) {
+        persistentHandlers.remove(path);
+        persistentWatches.remove(path);
+        return this;
+    }
+
+    /**
+     * @return  Map of the paths with persistent watches to whether the watch is recursive
+     */
+    public Map<String, Boolean> persistentWatches() {
+        return persistentWatches;
+    }
+
     @Override
     public Zk delete(String path, int version, Handler<AsyncResult<Void>> handler) {
         return null;
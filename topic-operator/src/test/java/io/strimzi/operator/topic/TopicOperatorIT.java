@@ -4,7 +4,6 @@
  */
 package io.strimzi.operator.topic;
 
-import java.net.HttpURLConnection;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
@@ -16,10 +15,7 @@ import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
 import io.fabric8.kubernetes.api.model.OwnerReference;
 import io.fabric8.kubernetes.api.model.OwnerReferenceBuilder;
-import io.fabric8.kubernetes.api.model.Status;
-import io.fabric8.kubernetes.api.model.StatusBuilder;
 import io.fabric8.kubernetes.client.KubernetesClientException;
-import io.fabric8.kubernetes.client.WatcherException;
 import io.strimzi.api.kafka.model.KafkaTopic;
 import io.strimzi.api.kafka.model.KafkaTopicBuilder;
 import io.strimzi.test.container.StrimziKafkaCluster;
@@ -348,16 +344,10 @@ public class TopicOperatorIT extends TopicOperatorBaseIT {
             return createdResource != null;
         }, "Expected the kafkatopic to have been created by now");
 
-        Status status = new StatusBuilder()
-                .withStatus("pokazene")
-                .withCode(HttpURLConnection.HTTP_GONE)
-                .withMessage("pokazene")
-                .build();
-        WatcherException e = new WatcherException(status.toString());
         LOGGER.info("stopping TW");
-        session.topicWatch.close();
+        session.k8s.stopInformer();
         session.topicsWatcher.stop();
-        session.watcher.onClose(e);
+        session.startWatcher().toCompletionStage().toCompletableFuture().get();
 
         // trigger an immediate reconcile, while topic operator is dealing with resource modification
         session.topicOperator.reconcileAllTopics("periodic");
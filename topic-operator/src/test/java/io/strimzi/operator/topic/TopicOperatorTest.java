@@ -142,7 +142,7 @@ public class TopicOperatorTest {
         KafkaTopic kafkaTopic = new KafkaTopicBuilder().withMetadata(new ObjectMetaBuilder().withName("non-topic").build()).build();
 
         Checkpoint async = context.checkpoint();
-        K8sTopicWatcher w = new K8sTopicWatcher(topicOperator, Future.succeededFuture(), () -> { });
+        K8sTopicWatcher w = new K8sTopicWatcher(topicOperator, Future.succeededFuture());
         w.eventReceived(ADDED, kafkaTopic);
         mockKafka.assertEmpty(context);
         mockTopicStore.assertEmpty(context);
@@ -1239,6 +1239,48 @@ public class TopicOperatorTest {
         }));
     }
 
+    /**
+     * Reconciles a topic which is in sync in Kafka, Kubernetes and the topic store, but the bulk describe done before
+     * the topic lock was taken returned the given config. Checks how many times the topic was described.
+     */
+    private void reconcileAllTopicsWithBulkMetadata(VertxTestContext context, Map<String, String> bulkConfig, int expectedDescribes) throws InterruptedException {
+        Topic topic = new Topic.Builder(topicName, resourceName, 10, (short) 2, map("cleanup.policy", "delete"), metadata).build();
+        Topic bulkTopic = new Topic.Builder(topicName, resourceName, 10, (short) 2, bulkConfig, metadata).build();
+
+        CountDownLatch topicCreatedInKafkaAndK8sAndStored = new CountDownLatch(3);
+        mockKafka.setCreateTopicResponse(topicName -> Future.succeededFuture());
+        mockKafka.createTopic(Reconciliation.DUMMY_RECONCILIATION, topic).onComplete(ar -> topicCreatedInKafkaAndK8sAndStored.countDown());
+        mockK8s.setCreateResponse(topicName.asKubeName(), null);
+        mockK8s.createResource(TopicSerialization.toTopicResource(topic, labels)).onComplete(ar -> topicCreatedInKafkaAndK8sAndStored.countDown());
+        mockTopicStore.setCreateTopicResponse(topicName, null);
+        mockTopicStore.create(topic).onComplete(ar -> topicCreatedInKafkaAndK8sAndStored.countDown());
+        topicCreatedInKafkaAndK8sAndStored.await();
+
+        // The first describe is the bulk one
+        AtomicInteger describes = new AtomicInteger();
+        mockKafka.setTopicsListResponse(Future.succeededFuture(singleton(topicName.toString())));
+        mockKafka.setTopicMetadataResponse(topicName -> Future.succeededFuture(Utils.getTopicMetadata(describes.getAndIncrement() == 0 ? bulkTopic : topic)));
+
+        Checkpoint async = context.checkpoint();
+        topicOperator.reconcileAllTopics("periodic").onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(describes.get(), is(expectedDescribes));
+            assertThat(mockKafka.getTopicState(topicName), is(topic));
+            mockTopicStore.assertContains(context, topic);
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testReconcileAllTopicsUsesBulkMetadataInSync(VertxTestContext context) throws InterruptedException {
+        reconcileAllTopicsWithBulkMetadata(context, map("cleanup.policy", "delete"), 1);
+    }
+
+    @Test
+    public void testReconcileAllTopicsDescribesAgainWhenBulkMetadataDiffer(VertxTestContext context) throws InterruptedException {
+        // The bulk metadata are stale (or changed in Kafka) => the topic is described again with the lock held
+        reconcileAllTopicsWithBulkMetadata(context, map("cleanup.policy", "compact"), 2);
+    }
+
     @Test
     public void testReconcileMetrics(VertxTestContext context) throws InterruptedException {
         mockKafka.setTopicsListResponse(Future.succeededFuture(emptySet()));
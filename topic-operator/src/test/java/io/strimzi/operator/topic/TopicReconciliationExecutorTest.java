@@ -0,0 +1,166 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class TopicReconciliationExecutorTest {
+    private static final LogContext LOG_CONTEXT = LogContext.periodic("test", "namespace", "topic");
+
+    private final List<String> started = new ArrayList<>();
+    private final Map<String, Promise<Void>> running = new HashMap<>();
+
+    private Future<Void> submit(TopicReconciliationExecutor executor, String topicName, String kind, String id) {
+        return submit(executor, topicName, kind, true, id);
+    }
+
+    private Future<Void> submit(TopicReconciliationExecutor executor, String topicName, String kind, boolean coalescable, String id) {
+        return executor.submit(LOG_CONTEXT, new TopicName(topicName), kind, coalescable, () -> {
+            Promise<Void> promise = Promise.promise();
+            started.add(id);
+            running.put(id, promise);
+            return promise.future();
+        });
+    }
+
+    @Test
+    public void testConcurrencyIsLimited() {
+        TopicReconciliationExecutor executor = new TopicReconciliationExecutor(2, 100, null, TopicOperator.METRICS_PREFIX);
+
+        submit(executor, "a", "reconcile", "a");
+        submit(executor, "b", "reconcile", "b");
+        submit(executor, "c", "reconcile", "c");
+
+        assertThat(started, is(asList("a", "b")));
+        assertThat(executor.queueSize(), is(1));
+        assertThat(executor.size(), is(3));
+
+        running.get("b").complete();
+
+        assertThat(started, is(asList("a", "b", "c")));
+        assertThat(executor.queueSize(), is(0));
+        assertThat(executor.size(), is(2));
+    }
+
+    @Test
+    public void testTopicsTakeTurns() {
+        TopicReconciliationExecutor executor = new TopicReconciliationExecutor(1, 100, null, TopicOperator.METRICS_PREFIX);
+
+        submit(executor, "a", "onTopicCreated", "a1");
+        submit(executor, "a", "onTopicConfigChanged", "a2");
+        submit(executor, "a", "onTopicPartitionsChanged", "a3");
+        submit(executor, "b", "onTopicCreated", "b1");
+
+        assertThat(started, is(singletonList("a1")));
+
+        running.get("a1").complete();
+        assertThat(started, is(asList("a1", "b1")));
+
+        running.get("b1").complete();
+        assertThat(started, is(asList("a1", "b1", "a2")));
+
+        running.get("a2").fail("failure");
+        assertThat(started, is(asList("a1", "b1", "a2", "a3")));
+
+        running.get("a3").complete();
+        assertThat(executor.size(), is(0));
+    }
+
+    @Test
+    public void testQueuedReconciliationsAreCoalesced() {
+        MetricsProvider metrics = new MicrometerMetricsProvider(new SimpleMeterRegistry());
+        TopicReconciliationExecutor executor = new TopicReconciliationExecutor(1, 100, metrics, TopicOperator.METRICS_PREFIX);
+
+        Future<Void> first = submit(executor, "a", "onTopicCreated", "first");
+        Future<Void> second = submit(executor, "a", "onTopicCreated", "second");
+        Future<Void> third = submit(executor, "a", "onTopicCreated", "third");
+        Future<Void> other = submit(executor, "a", "onTopicConfigChanged", "other");
+
+        assertThat(started, is(singletonList("first")));
+        assertThat(executor.queueSize(), is(2));
+        assertThat(metrics.meterRegistry().get(TopicOperator.METRICS_PREFIX + "reconciliations.queue.size").gauge().value(), is(2.0));
+        assertThat(metrics.meterRegistry().get(TopicOperator.METRICS_PREFIX + "reconciliations.coalesced").counter().count(), is(1.0));
+
+        running.get("first").complete();
+        assertThat(first.succeeded(), is(true));
+        assertThat(started, is(asList("first", "third")));
+
+        running.get("third").fail("failure");
+        assertThat(second.failed(), is(true));
+        assertThat(third.failed(), is(true));
+        assertThat(started, is(asList("first", "third", "other")));
+
+        running.get("other").complete();
+        assertThat(other.succeeded(), is(true));
+        assertThat(executor.size(), is(0));
+        assertThat(metrics.meterRegistry().get(TopicOperator.METRICS_PREFIX + "reconciliations.stage.duration").tag("stage", "queue").timer().count(), is(3L));
+        assertThat(metrics.meterRegistry().get(TopicOperator.METRICS_PREFIX + "reconciliations.stage.duration").tag("stage", "execution").timer().count(), is(3L));
+    }
+
+    @Test
+    public void testNonCoalescableReconciliationsAreNotCoalesced() {
+        TopicReconciliationExecutor executor = new TopicReconciliationExecutor(1, 100, null, TopicOperator.METRICS_PREFIX);
+
+        Future<Void> first = submit(executor, "a", "onResourceEvent", false, "first");
+        Future<Void> second = submit(executor, "a", "onResourceEvent", false, "second");
+        Future<Void> third = submit(executor, "a", "onResourceEvent", false, "third");
+
+        assertThat(started, is(singletonList("first")));
+        assertThat(executor.queueSize(), is(2));
+
+        running.get("first").complete();
+        running.get("second").fail("failure");
+        running.get("third").complete();
+
+        assertThat(started, is(asList("first", "second", "third")));
+        assertThat(first.succeeded(), is(true));
+        assertThat(second.failed(), is(true));
+        assertThat(third.succeeded(), is(true));
+        assertThat(executor.size(), is(0));
+    }
+
+    @Test
+    public void testReconciliationsAreRejectedWhenQueueIsFull() {
+        TopicReconciliationExecutor executor = new TopicReconciliationExecutor(1, 2, null, TopicOperator.METRICS_PREFIX);
+
+        Future<Void> first = submit(executor, "a", "onTopicCreated", "first");
+        Future<Void> second = submit(executor, "b", "onTopicCreated", "second");
+        Future<Void> third = submit(executor, "c", "onResourceEvent", false, "third");
+        Future<Void> rejected = submit(executor, "d", "onTopicCreated", "rejected");
+        Future<Void> coalesced = submit(executor, "b", "onTopicCreated", "coalesced");
+
+        assertThat(started, is(singletonList("first")));
+        assertThat(executor.queueSize(), is(2));
+        assertThat(rejected.failed(), is(true));
+        assertThat(rejected.cause() instanceof TopicReconciliationExecutor.QueueFullException, is(true));
+        assertThat(coalesced.isComplete(), is(false));
+
+        running.get("first").complete();
+        running.get("coalesced").complete();
+        running.get("third").complete();
+
+        assertThat(started, is(asList("first", "coalesced", "third")));
+        assertThat(first.succeeded(), is(true));
+        assertThat(second.succeeded(), is(true));
+        assertThat(coalesced.succeeded(), is(true));
+        assertThat(third.succeeded(), is(true));
+        assertThat(executor.size(), is(0));
+    }
+}
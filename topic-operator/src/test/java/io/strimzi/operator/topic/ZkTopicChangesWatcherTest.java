@@ -0,0 +1,154 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.operator.topic.MockTopicOperator.MockOperatorEvent.Type;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.junit5.VertxExtension;
+import org.apache.zookeeper.WatchedEvent;
+import org.apache.zookeeper.Watcher.Event.EventType;
+import org.apache.zookeeper.Watcher.Event.KeeperState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class ZkTopicChangesWatcherTest {
+
+    private MockTopicOperator operator;
+    private MockZk mockZk;
+
+    @BeforeEach
+    public void setup() {
+        operator = new MockTopicOperator();
+        mockZk = new MockZk();
+    }
+
+    private static WatchedEvent event(EventType type, String path) {
+        return new WatchedEvent(type, KeeperState.SyncConnected, path);
+    }
+
+    private ZkTopicChangesWatcher startWatcher(int maxQueueSize, int maxInFlight) {
+        mockZk.childrenResult = Future.succeededFuture(asList("foo", "bar"));
+
+        ZkTopicChangesWatcher watcher = new ZkTopicChangesWatcher(operator, maxQueueSize, maxInFlight);
+        watcher.start(mockZk);
+        assertThat(watcher.started(), is(true));
+
+        return watcher;
+    }
+
+    @Test
+    public void testTopicChanges() {
+        operator.topicCreatedResult = Future.succeededFuture();
+        operator.topicDeletedResult = Future.succeededFuture();
+        operator.topicModifiedResult = Future.succeededFuture();
+        startWatcher(ZkTopicChangesWatcher.DEFAULT_MAX_QUEUE_SIZE, ZkTopicChangesWatcher.DEFAULT_MAX_IN_FLIGHT);
+
+        // Only two recursive watches are used regardless of the number of topics
+        assertThat(mockZk.persistentWatches(), is(Map.of("/brokers/topics", true, "/config/topics", true)));
+
+        mockZk.triggerPersistent("/brokers/topics", event(EventType.NodeCreated, "/brokers/topics/baz"));
+        assertThat(operator.getMockOperatorEvents(),
+                is(singletonList(new MockTopicOperator.MockOperatorEvent(Type.CREATE, new TopicName("baz")))));
+
+        operator.clearEvents();
+        mockZk.triggerPersistent("/config/topics", event(EventType.NodeDataChanged, "/config/topics/baz"));
+        assertThat(operator.getMockOperatorEvents(),
+                is(singletonList(new MockTopicOperator.MockOperatorEvent(Type.MODIFY_CONFIG, new TopicName("baz")))));
+
+        operator.clearEvents();
+        mockZk.triggerPersistent("/brokers/topics", event(EventType.NodeDataChanged, "/brokers/topics/baz"));
+        assertThat(operator.getMockOperatorEvents(),
+                is(singletonList(new MockTopicOperator.MockOperatorEvent(Type.MODIFY_PARTITIONS, new TopicName("baz")))));
+
+        // The changes of the partition znodes are ignored
+        operator.clearEvents();
+        mockZk.triggerPersistent("/brokers/topics", event(EventType.NodeCreated, "/brokers/topics/baz/partitions"));
+        mockZk.triggerPersistent("/brokers/topics", event(EventType.NodeCreated, "/brokers/topics/baz/partitions/0/state"));
+        mockZk.triggerPersistent("/brokers/topics", event(EventType.NodeDataChanged, "/brokers/topics/baz/partitions/0/state"));
+        assertThat(operator.getMockOperatorEvents(), is(emptyList()));
+
+        mockZk.triggerPersistent("/brokers/topics", event(EventType.NodeDeleted, "/brokers/topics/bar/partitions/0/state"));
+        mockZk.triggerPersistent("/brokers/topics", event(EventType.NodeDeleted, "/brokers/topics/bar"));
+        assertThat(operator.getMockOperatorEvents(),
+                is(singletonList(new MockTopicOperator.MockOperatorEvent(Type.DELETE, new TopicName("bar")))));
+
+        // The topic is deleted only once
+        operator.clearEvents();
+        mockZk.triggerPersistent("/brokers/topics", event(EventType.NodeDeleted, "/brokers/topics/bar"));
+        assertThat(operator.getMockOperatorEvents(), is(emptyList()));
+    }
+
+    @Test
+    public void testChangesAreCoalescedAndBounded() {
+        Promise<Void> modified = Promise.promise();
+        operator.topicModifiedResult = modified.future();
+        operator.reconcileAllTopicsResult = Future.succeededFuture();
+        ZkTopicChangesWatcher watcher = startWatcher(2, 1);
+
+        // Dispatched right away
+        mockZk.triggerPersistent("/config/topics", event(EventType.NodeDataChanged, "/config/topics/foo"));
+        // Queued and coalesced
+        mockZk.triggerPersistent("/config/topics", event(EventType.NodeDataChanged, "/config/topics/foo"));
+        mockZk.triggerPersistent("/config/topics", event(EventType.NodeDataChanged, "/config/topics/foo"));
+        mockZk.triggerPersistent("/config/topics", event(EventType.NodeDataChanged, "/config/topics/bar"));
+        // Dropped because the queue is full
+        mockZk.triggerPersistent("/brokers/topics", event(EventType.NodeDataChanged, "/brokers/topics/bar"));
+
+        assertThat(watcher.queueSize(), is(2));
+        assertThat(operator.getMockOperatorEvents(),
+                is(singletonList(new MockTopicOperator.MockOperatorEvent(Type.MODIFY_CONFIG, new TopicName("foo")))));
+        assertThat(operator.reconcileAllTopicsCount, is(0));
+
+        modified.complete();
+
+        // The dropped change is handled by the reconciliation of all topics once the queued changes are handled
+        assertThat(watcher.queueSize(), is(0));
+        assertThat(operator.getMockOperatorEvents(),
+                is(asList(new MockTopicOperator.MockOperatorEvent(Type.MODIFY_CONFIG, new TopicName("foo")),
+                        new MockTopicOperator.MockOperatorEvent(Type.MODIFY_CONFIG, new TopicName("foo")),
+                        new MockTopicOperator.MockOperatorEvent(Type.MODIFY_CONFIG, new TopicName("bar")))));
+        assertThat(operator.reconcileAllTopicsCount, is(1));
+
+        // No further reconciliation of all topics happens without another overflow
+        mockZk.triggerPersistent("/config/topics", event(EventType.NodeDataChanged, "/config/topics/foo"));
+        assertThat(operator.reconcileAllTopicsCount, is(1));
+    }
+
+    @Test
+    public void testTopicsAreResyncedAfterNewSession() {
+        operator.topicCreatedResult = Future.succeededFuture();
+        operator.topicDeletedResult = Future.succeededFuture();
+        startWatcher(ZkTopicChangesWatcher.DEFAULT_MAX_QUEUE_SIZE, ZkTopicChangesWatcher.DEFAULT_MAX_IN_FLIGHT);
+
+        mockZk.childrenResult = Future.succeededFuture(asList("foo", "baz"));
+        mockZk.triggerPersistent("/brokers/topics", event(EventType.None, "/brokers/topics"));
+
+        assertThat(operator.getMockOperatorEvents(),
+                is(asList(new MockTopicOperator.MockOperatorEvent(Type.DELETE, new TopicName("bar")),
+                        new MockTopicOperator.MockOperatorEvent(Type.CREATE, new TopicName("baz")))));
+    }
+
+    @Test
+    public void testStoppedWatcherIgnoresChanges() {
+        ZkTopicChangesWatcher watcher = startWatcher(ZkTopicChangesWatcher.DEFAULT_MAX_QUEUE_SIZE, ZkTopicChangesWatcher.DEFAULT_MAX_IN_FLIGHT);
+        watcher.stop();
+
+        assertThat(watcher.started(), is(false));
+        assertThat(mockZk.persistentWatches().isEmpty(), is(true));
+        watcher.handle(event(EventType.NodeCreated, "/brokers/topics/baz"));
+        assertThat(operator.getMockOperatorEvents(), is(emptyList()));
+    }
+}
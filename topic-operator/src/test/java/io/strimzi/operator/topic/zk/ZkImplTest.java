@@ -12,6 +12,8 @@ import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.WatchedEvent;
+import org.apache.zookeeper.Watcher;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -21,6 +23,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -151,6 +155,73 @@ public class ZkImplTest {
         });
     }
 
+    @Test
+    public void testWatchThenUnwatchRecursive(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        List<WatchedEvent> events = new CopyOnWriteArrayList<>();
+
+        Promise<Void> fooCreated = Promise.promise();
+        zk.create("/foo", null, AclBuilder.PUBLIC, CreateMode.PERSISTENT, context.succeeding(v -> fooCreated.complete()));
+
+        fooCreated.future()
+            .compose(v -> zk.watchPersistent("/foo", true, event -> {
+                events.add(event);
+
+                if (event.getType() == Watcher.Event.EventType.NodeDataChanged) {
+                    context.verify(() -> {
+                        assertThat(events.size(), is(3));
+                        assertThat(events.get(0).getType(), is(Watcher.Event.EventType.NodeCreated));
+                        assertThat(events.get(0).getPath(), is("/foo/bar"));
+                        assertThat(events.get(1).getType(), is(Watcher.Event.EventType.NodeCreated));
+                        assertThat(events.get(1).getPath(), is("/foo/bar/baz"));
+                        assertThat(events.get(2).getPath(), is("/foo/bar"));
+                    });
+
+                    zk.unwatchPersistent("/foo");
+                    async.flag();
+                }
+            }))
+            .onComplete(context.succeeding(zk -> {
+                // The single watch covers all descendants and is not removed by the notifications
+                zk.create("/foo/bar", null, AclBuilder.PUBLIC, CreateMode.PERSISTENT, context.succeeding(v ->
+                    zk.create("/foo/bar/baz", null, AclBuilder.PUBLIC, CreateMode.PERSISTENT, context.succeeding(vv ->
+                        zk.setData("/foo/bar", new byte[]{1}, -1, context.succeeding())))));
+            }));
+    }
+
+    @Test
+    public void testWatchThenUnwatchPersistent(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        List<WatchedEvent> events = new CopyOnWriteArrayList<>();
+
+        Promise<Void> fooCreated = Promise.promise();
+        zk.create("/foo", null, AclBuilder.PUBLIC, CreateMode.PERSISTENT, context.succeeding(v -> fooCreated.complete()));
+
+        fooCreated.future()
+            .compose(v -> zk.watchPersistent("/foo", false, event -> {
+                events.add(event);
+
+                if (event.getType() == Watcher.Event.EventType.NodeDataChanged) {
+                    context.verify(() -> {
+                        // The changes of the descendants are not notified
+                        assertThat(events.size(), is(2));
+                        assertThat(events.get(0).getType(), is(Watcher.Event.EventType.NodeChildrenChanged));
+                        assertThat(events.get(0).getPath(), is("/foo"));
+                        assertThat(events.get(1).getPath(), is("/foo"));
+                    });
+
+                    zk.unwatchPersistent("/foo");
+                    async.flag();
+                }
+            }))
+            .onComplete(context.succeeding(zk -> {
+                zk.create("/foo/bar", null, AclBuilder.PUBLIC, CreateMode.PERSISTENT, context.succeeding(v ->
+                    zk.create("/foo/bar/baz", null, AclBuilder.PUBLIC, CreateMode.PERSISTENT, context.succeeding(vv ->
+                        zk.setData("/foo/bar", new byte[]{1}, -1, context.succeeding(vvv ->
+                            zk.setData("/foo", new byte[]{1}, -1, context.succeeding())))))));
+            }));
+    }
+
     @Test
     public void testPathExists(VertxTestContext context) {
         Checkpoint async = context.checkpoint();
@@ -10,9 +10,13 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import io.strimzi.api.kafka.Crds;
 import io.strimzi.api.kafka.KafkaUserList;
 import io.strimzi.api.kafka.model.KafkaUser;
+import io.strimzi.certs.BouncyCastleCertManager;
+import io.strimzi.certs.CertManager;
 import io.strimzi.certs.OpenSslCertManager;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.OperatorKubernetesClientBuilder;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.ShutdownHook;
@@ -77,17 +81,18 @@ public class Main {
         String dnsCacheTtl = System.getenv("STRIMZI_DNS_CACHE_TTL") == null ? "30" : System.getenv("STRIMZI_DNS_CACHE_TTL");
         Security.setProperty("networkaddress.cache.ttl", dnsCacheTtl);
 
-        OpenSslCertManager certManager = new OpenSslCertManager();
+        CertManager certManager = config.isBouncyCastleCertManagerEnabled() ? new BouncyCastleCertManager() : new OpenSslCertManager();
         SecretOperator secretOperations = new SecretOperator(vertx, client);
         CrdOperator<KubernetesClient, KafkaUser, KafkaUserList> crdOperations = new CrdOperator<>(vertx, client, KafkaUser.class, KafkaUserList.class, KafkaUser.RESOURCE_KIND);
         return createAdminClient(adminClientProvider, config, secretOperations)
                 .compose(adminClient -> {
-                    SimpleAclOperator aclOperations = new SimpleAclOperator(vertx, adminClient);
-                    ScramCredentialsOperator scramCredentialsOperator = new ScramCredentialsOperator(vertx, adminClient);
-                    QuotasOperator quotasOperator = new QuotasOperator(vertx, adminClient);
+                    MetricsProvider metricsProvider = new MicrometerMetricsProvider();
+                    SimpleAclOperator aclOperations = new SimpleAclOperator(vertx, adminClient, metricsProvider, config.getBatchMaxBlockSize(), config.getBatchMaxBlockTimeMs());
+                    ScramCredentialsOperator scramCredentialsOperator = new ScramCredentialsOperator(vertx, adminClient, metricsProvider, config.getBatchMaxBlockSize(), config.getBatchMaxBlockTimeMs());
+                    QuotasOperator quotasOperator = new QuotasOperator(vertx, adminClient, metricsProvider, config.getBatchMaxBlockSize(), config.getBatchMaxBlockTimeMs());
 
                     KafkaUserOperator kafkaUserOperations = new KafkaUserOperator(vertx, certManager, crdOperations,
-                            secretOperations, scramCredentialsOperator, quotasOperator, aclOperations, config);
+                            secretOperations, scramCredentialsOperator, quotasOperator, aclOperations, config, metricsProvider);
 
                     Promise<String> promise = Promise.promise();
                     UserOperator operator = new UserOperator(config.getNamespace(),
@@ -37,11 +37,17 @@ public class UserOperatorConfig {
     public static final String STRIMZI_SCRAM_SHA_PASSWORD_LENGTH = "STRIMZI_SCRAM_SHA_PASSWORD_LENGTH";
     public static final String STRIMZI_MAINTENANCE_TIME_WINDOWS = "STRIMZI_MAINTENANCE_TIME_WINDOWS";
     public static final String STRIMZI_KAFKA_ADMIN_CLIENT_CONFIGURATION = "STRIMZI_KAFKA_ADMIN_CLIENT_CONFIGURATION";
+    public static final String STRIMZI_BATCH_MAXIMUM_BLOCK_SIZE = "STRIMZI_BATCH_MAXIMUM_BLOCK_SIZE";
+    public static final String STRIMZI_BATCH_MAXIMUM_BLOCK_TIME_MS = "STRIMZI_BATCH_MAXIMUM_BLOCK_TIME_MS";
+    public static final String STRIMZI_BOUNCY_CASTLE_CERT_MANAGER_ENABLED = "STRIMZI_BOUNCY_CASTLE_CERT_MANAGER_ENABLED";
 
     public static final long DEFAULT_FULL_RECONCILIATION_INTERVAL_MS = 120_000;
     public static final String DEFAULT_KAFKA_BOOTSTRAP_SERVERS = "localhost:9091";
     public static final String DEFAULT_SECRET_PREFIX = "";
     public static final int DEFAULT_SCRAM_SHA_PASSWORD_LENGTH = 12;
+    public static final int DEFAULT_BATCH_MAXIMUM_BLOCK_SIZE = 100;
+    public static final long DEFAULT_BATCH_MAXIMUM_BLOCK_TIME_MS = 100;
+    public static final boolean DEFAULT_BOUNCY_CASTLE_CERT_MANAGER_ENABLED = false;
     // Defaults to true for backwards compatibility in standalone UO deployments
     public static final boolean DEFAULT_STRIMZI_ACLS_ADMIN_API_SUPPORTED = true;
     // Defaults to false for backwards compatibility in standalone UO deployments
@@ -64,6 +70,9 @@ public class UserOperatorConfig {
     private final int scramPasswordLength;
     private final List<String> maintenanceWindows;
     private final Properties kafkaAdminClientConfiguration;
+    private final int batchMaxBlockSize;
+    private final long batchMaxBlockTimeMs;
+    private final boolean bouncyCastleCertManagerEnabled;
 
     /**
      * Constructor
@@ -85,6 +94,9 @@ public class UserOperatorConfig {
      * @param scramPasswordLength Length used for the Scram-Sha Password
      * @param maintenanceWindows Lit of maintenance windows
      * @param kafkaAdminClientConfiguration Additional configuration for the Kafka Admin Client
+     * @param batchMaxBlockSize Maximum number of requests batched into a single Kafka Admin API call
+     * @param batchMaxBlockTimeMs Maximum time in milliseconds for which the requests wait to be batched into a single Kafka Admin API call
+     * @param bouncyCastleCertManagerEnabled Indicates whether the certificates should be generated using BouncyCastle instead of the OpenSSL command line tool
      */
     @SuppressWarnings({"checkstyle:ParameterNumber"})
     public UserOperatorConfig(String namespace,
@@ -103,7 +115,10 @@ public class UserOperatorConfig {
                               int clientsCaRenewalDays,
                               int scramPasswordLength,
                               List<String> maintenanceWindows,
-                              Properties kafkaAdminClientConfiguration
+                              Properties kafkaAdminClientConfiguration,
+                              int batchMaxBlockSize,
+                              long batchMaxBlockTimeMs,
+                              boolean bouncyCastleCertManagerEnabled
     ) {
         this.namespace = namespace;
         this.reconciliationIntervalMs = reconciliationIntervalMs;
@@ -122,6 +137,9 @@ public class UserOperatorConfig {
         this.scramPasswordLength = scramPasswordLength;
         this.maintenanceWindows = maintenanceWindows;
         this.kafkaAdminClientConfiguration = kafkaAdminClientConfiguration;
+        this.batchMaxBlockSize = batchMaxBlockSize;
+        this.batchMaxBlockTimeMs = batchMaxBlockTimeMs;
+        this.bouncyCastleCertManagerEnabled = bouncyCastleCertManagerEnabled;
     }
 
     /**
@@ -197,10 +215,21 @@ public class UserOperatorConfig {
 
         Properties kafkaAdminClientConfiguration = parseKafkaAdminClientConfiguration(map.get(UserOperatorConfig.STRIMZI_KAFKA_ADMIN_CLIENT_CONFIGURATION));
 
+        int batchMaxBlockSize = getIntProperty(map, UserOperatorConfig.STRIMZI_BATCH_MAXIMUM_BLOCK_SIZE, DEFAULT_BATCH_MAXIMUM_BLOCK_SIZE);
+
+        long batchMaxBlockTimeMs = DEFAULT_BATCH_MAXIMUM_BLOCK_TIME_MS;
+        String batchMaxBlockTimeMsEnvVar = map.get(UserOperatorConfig.STRIMZI_BATCH_MAXIMUM_BLOCK_TIME_MS);
+        if (batchMaxBlockTimeMsEnvVar != null) {
+            batchMaxBlockTimeMs = Long.parseLong(batchMaxBlockTimeMsEnvVar);
+        }
+
+        boolean bouncyCastleCertManagerEnabled = getBooleanProperty(map, UserOperatorConfig.STRIMZI_BOUNCY_CASTLE_CERT_MANAGER_ENABLED, DEFAULT_BOUNCY_CASTLE_CERT_MANAGER_ENABLED);
+
         return new UserOperatorConfig(namespace, reconciliationInterval, kafkaBootstrapServers, labels,
                 caCertSecretName, caKeySecretName, clusterCaCertSecretName, euoKeySecretName, caNamespace, secretPrefix,
                 aclsAdminApiSupported, kraftEnabled, clientsCaValidityDays, clientsCaRenewalDays,
-                scramPasswordLength, maintenanceWindows, kafkaAdminClientConfiguration);
+                scramPasswordLength, maintenanceWindows, kafkaAdminClientConfiguration, batchMaxBlockSize, batchMaxBlockTimeMs,
+                bouncyCastleCertManagerEnabled);
     }
 
     /**
@@ -398,6 +427,28 @@ public class UserOperatorConfig {
         return kafkaAdminClientConfiguration;
     }
 
+    /**
+     * @return  Maximum number of requests batched into a single Kafka Admin API call
+     */
+    public int getBatchMaxBlockSize() {
+        return batchMaxBlockSize;
+    }
+
+    /**
+     * @return  Maximum time in milliseconds for which the requests wait to be batched into a single Kafka Admin API call
+     */
+    public long getBatchMaxBlockTimeMs() {
+        return batchMaxBlockTimeMs;
+    }
+
+    /**
+     * @return  Indicates whether the certificates should be generated using BouncyCastle instead of the OpenSSL command
+     *          line tool
+     */
+    public boolean isBouncyCastleCertManagerEnabled() {
+        return bouncyCastleCertManagerEnabled;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -417,6 +468,9 @@ public class UserOperatorConfig {
                 ",scramPasswordLength=" + scramPasswordLength +
                 ",maintenanceWindows=" + maintenanceWindows +
                 ",kafkaAdminClientConfiguration=" + kafkaAdminClientConfiguration +
+                ",batchMaxBlockSize=" + batchMaxBlockSize +
+                ",batchMaxBlockTimeMs=" + batchMaxBlockTimeMs +
+                ",bouncyCastleCertManagerEnabled=" + bouncyCastleCertManagerEnabled +
                 ")";
     }
 }
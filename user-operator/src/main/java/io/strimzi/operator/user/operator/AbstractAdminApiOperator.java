@@ -4,30 +4,72 @@
  */
 package io.strimzi.operator.user.operator;
 
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.strimzi.operator.user.UserOperatorConfig;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.common.KafkaFuture;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
 
 /**
- * Abstract operator using the Kafka Admin API
+ * Abstract operator using the Kafka Admin API. The requests issued by concurrent reconciliations can be batched into
+ * a single Admin API call using the batchers created by {@link #batcher}.
  */
 public abstract class AbstractAdminApiOperator<T, S extends Collection<String>> {
     protected final Vertx vertx;
     protected final Admin adminClient;
+    protected final MetricsProvider metricsProvider;
+    protected final int maxBatchSize;
+    protected final long maxBatchBlockTimeMs;
 
     /**
-     * Constructor
+     * Constructor using the default batching configuration and without the batching metrics
      *
      * @param vertx Vertx instance
      * @param adminClient Kafka Admin client instance
      */
     public AbstractAdminApiOperator(Vertx vertx, Admin adminClient)  {
+        this(vertx, adminClient, null, UserOperatorConfig.DEFAULT_BATCH_MAXIMUM_BLOCK_SIZE, UserOperatorConfig.DEFAULT_BATCH_MAXIMUM_BLOCK_TIME_MS);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx Vertx instance
+     * @param adminClient Kafka Admin client instance
+     * @param metricsProvider Metrics provider used for the batching metrics or null if the metrics are not used
+     * @param maxBatchSize Maximum number of requests batched into a single Admin API call
+     * @param maxBatchBlockTimeMs Maximum time in milliseconds for which the requests wait for other requests to be batched with
+     */
+    public AbstractAdminApiOperator(Vertx vertx, Admin adminClient, MetricsProvider metricsProvider, int maxBatchSize, long maxBatchBlockTimeMs)  {
         this.vertx = vertx;
         this.adminClient = adminClient;
+        this.metricsProvider = metricsProvider;
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchBlockTimeMs = maxBatchBlockTimeMs;
+    }
+
+    /**
+     * Creates a batcher for one of the Admin API operations used by this operator
+     *
+     * @param operation     Name of the Admin API operation
+     * @param keyFunction   Function returning the key used to keep requests with the same key in different batches or
+     *                      null if the requests do not need to be deduplicated
+     * @param batchCall     Function sending the batched Admin API call and returning the result for each request
+     *
+     * @param <Q>   Type of the request
+     * @param <R>   Type of the result
+     *
+     * @return  The batcher
+     */
+    protected <Q, R> AdminApiBatcher<Q, R> batcher(String operation, Function<Q, Object> keyFunction, Function<List<Q>, List<KafkaFuture<R>>> batchCall)  {
+        return new AdminApiBatcher<>(vertx, metricsProvider, operation, maxBatchSize, maxBatchBlockTimeMs, keyFunction, batchCall);
     }
 
     /**
@@ -0,0 +1,280 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.kafka.common.KafkaFuture;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Collects the requests to a single Kafka Admin API operation issued by concurrent reconciliations and sends them as
+ * one batched Admin API call. When no batch is in flight, a request is sent right away, so that the batching does not
+ * add any latency to a single reconciliation. Otherwise, the requests are collected until the batches in flight
+ * complete, the batch reaches its maximum size or the oldest request has been waiting for the maximum block time,
+ * whichever comes first. The result of the batched call is then fanned out to the individual requests.
+ *
+ * Requests with the same key (for example requests for the same user) are never sent in the same batch, because some
+ * Admin API calls reject duplicate entries. They are sent in a separate batch instead.
+ *
+ * @param <T>   Type of the request
+ * @param <R>   Type of the result of the request
+ */
+public class AdminApiBatcher<T, R> {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(AdminApiBatcher.class.getName());
+
+    private static final String METRICS_PREFIX = "strimzi.user.operator.batch.";
+
+    private final Vertx vertx;
+    private final String operation;
+    private final int maxBatchSize;
+    private final long maxBlockTimeMs;
+    private final Function<T, Object> keyFunction;
+    private final Function<List<T>, List<KafkaFuture<R>>> batchCall;
+
+    private final DistributionSummary batchSizeMetric;
+    private final Timer batchDurationMetric;
+
+    private List<PendingRequest<T, R>> queue = new ArrayList<>();
+    private long timerId = -1L;
+    private int inFlight = 0;
+
+    /**
+     * Constructor
+     *
+     * @param vertx             Vertx instance
+     * @param metricsProvider   Metrics provider used for the batch size and duration metrics
+     * @param operation         Name of the Admin API operation used in logs and as a metrics tag
+     * @param maxBatchSize      Maximum number of requests sent in a single batch
+     * @param maxBlockTimeMs    Maximum time in milliseconds for which a request waits for the batches in flight to complete.
+     *                          When 0 or less, the requests wait until the batches in flight complete or until the batch
+     *                          is full.
+     * @param keyFunction       Function returning the key of the request. Requests with the same key are sent in different
+     *                          batches. Null if the requests do not need to be deduplicated.
+     * @param batchCall         Function sending the batched Admin API call. It returns the result future for each request
+     *                          in the same order as the requests.
+     */
+    public AdminApiBatcher(Vertx vertx, MetricsProvider metricsProvider, String operation, int maxBatchSize, long maxBlockTimeMs,
+                           Function<T, Object> keyFunction, Function<List<T>, List<KafkaFuture<R>>> batchCall) {
+        this.vertx = vertx;
+        this.operation = operation;
+        this.maxBatchSize = maxBatchSize;
+        this.maxBlockTimeMs = maxBlockTimeMs;
+        this.keyFunction = keyFunction;
+        this.batchCall = batchCall;
+
+        if (metricsProvider != null && metricsProvider.meterRegistry() != null) {
+            Tags tags = Tags.of("operation", operation);
+
+            this.batchSizeMetric = DistributionSummary.builder(METRICS_PREFIX + "size")
+                    .description("Number of requests sent in a single batched Kafka Admin API call")
+                    .tags(tags)
+                    .register(metricsProvider.meterRegistry());
+            this.batchDurationMetric = metricsProvider.timer(METRICS_PREFIX + "duration",
+                    "The time the batched Kafka Admin API call takes to complete", tags);
+        } else {
+            this.batchSizeMetric = null;
+            this.batchDurationMetric = null;
+        }
+    }
+
+    /**
+     * Adds the request to the next batch
+     *
+     * @param reconciliation    The reconciliation
+     * @param request           The request
+     *
+     * @return  Future which completes with the result of this request once the batch is sent and completed
+     */
+    public Future<R> enqueue(Reconciliation reconciliation, T request) {
+        Promise<R> promise = Promise.promise();
+        PendingRequest<T, R> pending = new PendingRequest<>(reconciliation, request, promise, vertx.getOrCreateContext());
+
+        boolean flush = false;
+
+        synchronized (this) {
+            queue.add(pending);
+
+            if (inFlight == 0 || queue.size() >= maxBatchSize) {
+                flush = true;
+            } else if (timerId == -1L && maxBlockTimeMs > 0) {
+                timerId = vertx.setTimer(maxBlockTimeMs, id -> flush());
+            }
+        }
+
+        if (flush) {
+            flush();
+        }
+
+        return promise.future();
+    }
+
+    /**
+     * Sends all queued requests
+     */
+    /* test */ void flush() {
+        List<List<PendingRequest<T, R>>> batches;
+
+        synchronized (this) {
+            if (timerId != -1L) {
+                vertx.cancelTimer(timerId);
+                timerId = -1L;
+            }
+
+            batches = split(queue);
+            queue = new ArrayList<>();
+            inFlight += batches.size();
+        }
+
+        for (List<PendingRequest<T, R>> batch : batches) {
+            send(batch);
+        }
+    }
+
+    /**
+     * Called when all requests of a batch completed. Sends the queued requests when no other batch is in flight.
+     */
+    private void completed() {
+        boolean flush;
+
+        synchronized (this) {
+            inFlight--;
+            flush = inFlight == 0 && !queue.isEmpty();
+        }
+
+        if (flush) {
+            flush();
+        }
+    }
+
+    /**
+     * Splits the requests into batches which do not exceed the maximum batch size and which do not contain more than
+     * one request with the same key.
+     *
+     * @param pending   Requests which should be split
+     *
+     * @return  List of batches
+     */
+    private List<List<PendingRequest<T, R>>> split(List<PendingRequest<T, R>> pending) {
+        List<List<PendingRequest<T, R>>> batches = new ArrayList<>();
+        List<Set<Object>> batchKeys = new ArrayList<>();
+
+        for (PendingRequest<T, R> request : pending) {
+            Object key = keyFunction != null ? keyFunction.apply(request.request) : null;
+            boolean added = false;
+
+            for (int i = 0; i < batches.size() && !added; i++) {
+                if (batches.get(i).size() < maxBatchSize && (key == null || !batchKeys.get(i).contains(key))) {
+                    batches.get(i).add(request);
+                    batchKeys.get(i).add(key);
+                    added = true;
+                }
+            }
+
+            if (!added) {
+                List<PendingRequest<T, R>> batch = new ArrayList<>();
+                batch.add(request);
+                batches.add(batch);
+
+                Set<Object> keys = new HashSet<>();
+                keys.add(key);
+                batchKeys.add(keys);
+            }
+        }
+
+        return batches;
+    }
+
+    /**
+     * Sends a single batch and completes the requests once their results are available
+     *
+     * @param batch     Requests which should be sent in this batch
+     */
+    private void send(List<PendingRequest<T, R>> batch) {
+        LOGGER.debugOp("Sending batch of {} {} requests", batch.size(), operation);
+
+        if (batchSizeMetric != null) {
+            batchSizeMetric.record(batch.size());
+        }
+
+        List<T> requests = new ArrayList<>(batch.size());
+        for (PendingRequest<T, R> pending : batch) {
+            requests.add(pending.request);
+        }
+
+        long startTime = System.nanoTime();
+        List<KafkaFuture<R>> results;
+
+        try {
+            results = batchCall.apply(requests);
+        } catch (RuntimeException e) {
+            LOGGER.warnOp("Failed to send batch of {} {} requests", batch.size(), operation, e);
+
+            for (PendingRequest<T, R> pending : batch) {
+                pending.context.runOnContext(ignore -> pending.promise.fail(e));
+            }
+
+            completed();
+            return;
+        }
+
+        AtomicInteger remaining = new AtomicInteger(batch.size());
+
+        for (int i = 0; i < batch.size(); i++) {
+            PendingRequest<T, R> pending = batch.get(i);
+
+            results.get(i).whenComplete((result, error) -> {
+                pending.context.runOnContext(ignore -> {
+                    if (error != null) {
+                        LOGGER.debugCr(pending.reconciliation, "{} request failed", operation, error);
+                        pending.promise.fail(error);
+                    } else {
+                        pending.promise.complete(result);
+                    }
+                });
+
+                if (remaining.decrementAndGet() == 0) {
+                    if (batchDurationMetric != null) {
+                        batchDurationMetric.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                    }
+
+                    completed();
+                }
+            });
+        }
+    }
+
+    /**
+     * Request waiting in the queue to be sent
+     */
+    private static class PendingRequest<T, R> {
+        private final Reconciliation reconciliation;
+        private final T request;
+        private final Promise<R> promise;
+        private final Context context;
+
+        PendingRequest(Reconciliation reconciliation, T request, Promise<R> promise, Context context) {
+            this.reconciliation = reconciliation;
+            this.request = request;
+            this.promise = promise;
+            this.context = context;
+        }
+    }
+}
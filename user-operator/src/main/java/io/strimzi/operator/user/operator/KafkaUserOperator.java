@@ -14,6 +14,7 @@ import io.strimzi.api.kafka.model.status.KafkaUserStatus;
 import io.strimzi.certs.CertManager;
 import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
@@ -53,7 +54,7 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
     private final PasswordGenerator passwordGenerator;
 
     /**
-     * Creates the instance of KafkaUserOperator
+     * Creates the instance of KafkaUserOperator with a new metrics provider
      *
      * @param vertx The Vertx instance.
      * @param certManager For managing certificates.
@@ -72,7 +73,32 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
                              QuotasOperator quotasOperator,
                              SimpleAclOperator aclOperations,
                              UserOperatorConfig config) {
-        super(vertx, "KafkaUser", crdOperator, new MicrometerMetricsProvider(), config.getLabels());
+        this(vertx, certManager, crdOperator, secretOperations, scramCredentialsOperator, quotasOperator, aclOperations, config, new MicrometerMetricsProvider());
+    }
+
+    /**
+     * Creates the instance of KafkaUserOperator
+     *
+     * @param vertx The Vertx instance.
+     * @param certManager For managing certificates.
+     * @param crdOperator For operating on Custom Resources.
+     * @param secretOperations For operating on Secrets.
+     * @param scramCredentialsOperator For operating on SCRAM SHA credentials.
+     * @param quotasOperator For operating on Kafka User quotas.
+     * @param aclOperations For operating on ACLs.
+     * @param config User operator configuration
+     * @param metricsProvider Metrics provider shared with the Admin API operators
+     */
+    public KafkaUserOperator(Vertx vertx,
+                             CertManager certManager,
+                             CrdOperator<KubernetesClient, KafkaUser, KafkaUserList> crdOperator,
+                             SecretOperator secretOperations,
+                             ScramCredentialsOperator scramCredentialsOperator,
+                             QuotasOperator quotasOperator,
+                             SimpleAclOperator aclOperations,
+                             UserOperatorConfig config,
+                             MetricsProvider metricsProvider) {
+        super(vertx, "KafkaUser", crdOperator, metricsProvider, config.getLabels());
         this.certManager = certManager;
         this.secretOperations = secretOperations;
         this.scramCredentialsOperator = scramCredentialsOperator;
@@ -5,6 +5,7 @@
 package io.strimzi.operator.user.operator;
 
 import io.strimzi.api.kafka.model.KafkaUserQuotas;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -14,12 +15,14 @@ import io.strimzi.operator.user.model.QuotaUtils;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AlterClientQuotasResult;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.quota.ClientQuotaAlteration;
 import org.apache.kafka.common.quota.ClientQuotaFilter;
 import org.apache.kafka.common.quota.ClientQuotaFilterComponent;
 import org.apache.kafka.common.quota.ClientQuotaEntity;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +34,9 @@ import java.util.Set;
 public class QuotasOperator extends AbstractAdminApiOperator<KafkaUserQuotas, Set<String>> {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(QuotasOperator.class.getName());
 
+    private final AdminApiBatcher<String, Map<String, Double>> describeBatcher;
+    private final AdminApiBatcher<ClientQuotaAlteration, Void> alterBatcher;
+
     /**
      * Constructor
      *
@@ -39,6 +45,23 @@ public class QuotasOperator extends AbstractAdminApiOperator<KafkaUserQuotas, Se
      */
     public QuotasOperator(Vertx vertx, Admin adminClient) {
         super(vertx, adminClient);
+        this.describeBatcher = batcher("describeClientQuotas", username -> username, this::describeClientQuotas);
+        this.alterBatcher = batcher("alterClientQuotas", ClientQuotaAlteration::entity, this::alterClientQuotas);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx Vertx instance
+     * @param adminClient Kafka Admin client instance
+     * @param metricsProvider Metrics provider used for the batching metrics
+     * @param maxBatchSize Maximum number of requests batched into a single Admin API call
+     * @param maxBatchBlockTimeMs Maximum time in milliseconds for which the requests wait for other requests to be batched with
+     */
+    public QuotasOperator(Vertx vertx, Admin adminClient, MetricsProvider metricsProvider, int maxBatchSize, long maxBatchBlockTimeMs) {
+        super(vertx, adminClient, metricsProvider, maxBatchSize, maxBatchBlockTimeMs);
+        this.describeBatcher = batcher("describeClientQuotas", username -> username, this::describeClientQuotas);
+        this.alterBatcher = batcher("alterClientQuotas", ClientQuotaAlteration::entity, this::alterClientQuotas);
     }
 
     /**
@@ -112,10 +135,34 @@ public class QuotasOperator extends AbstractAdminApiOperator<KafkaUserQuotas, Se
 
         ClientQuotaEntity cqe = new ClientQuotaEntity(Map.of(ClientQuotaEntity.USER, username));
         ClientQuotaAlteration cqa = new ClientQuotaAlteration(cqe, alterations);
-        return Util.kafkaFutureToVertxFuture(reconciliation, vertx, adminClient.alterClientQuotas(Collections.singleton(cqa)).all())
+        return alterBatcher.enqueue(reconciliation, cqa)
                 .map(ReconcileResult.patched(desired));
     }
 
+    /**
+     * Alters the quotas of all users in the batch with a single Admin API call.
+     *
+     * @param alterations   Quota alterations for the different users
+     *
+     * @return  List with the result for each alteration
+     */
+    private List<KafkaFuture<Void>> alterClientQuotas(List<ClientQuotaAlteration> alterations) {
+        AlterClientQuotasResult result = adminClient.alterClientQuotas(alterations);
+
+        if (alterations.size() == 1) {
+            return List.of(result.all());
+        } else {
+            Map<ClientQuotaEntity, KafkaFuture<Void>> values = result.values();
+            List<KafkaFuture<Void>> futures = new ArrayList<>(alterations.size());
+
+            for (ClientQuotaAlteration alteration : alterations) {
+                futures.add(values.get(alteration.entity()));
+            }
+
+            return futures;
+        }
+    }
+
     /**
      * Retrieves the quotas for the given user.
      *
@@ -125,22 +172,46 @@ public class QuotasOperator extends AbstractAdminApiOperator<KafkaUserQuotas, Se
      * @return the Future with reconcile result
      */
     protected Future<KafkaUserQuotas> getAsync(Reconciliation reconciliation, String username) {
-        ClientQuotaFilterComponent c = ClientQuotaFilterComponent.ofEntity(ClientQuotaEntity.USER, username);
-        ClientQuotaFilter f =  ClientQuotaFilter.contains(List.of(c));
-
-        return Util.kafkaFutureToVertxFuture(reconciliation, vertx, adminClient.describeClientQuotas(f).entities())
+        return describeBatcher.enqueue(reconciliation, username)
                 .compose(quotas -> {
-                    ClientQuotaEntity cqe = new ClientQuotaEntity(Map.of(ClientQuotaEntity.USER, username));
                     KafkaUserQuotas current = null;
 
-                    if (quotas.containsKey(cqe)) {
-                        current = QuotaUtils.fromClientQuota(quotas.get(cqe));
+                    if (quotas != null) {
+                        current = QuotaUtils.fromClientQuota(quotas);
                     }
 
                     return Future.succeededFuture(current);
                 });
     }
 
+    /**
+     * Describes the quotas of all users in the batch. A single user is described with a filter for its user entity.
+     * Multiple users are described with a single call for all user entities which is then split per user.
+     *
+     * @param usernames Names of the users
+     *
+     * @return  List with the quotas for each user. The quotas are null when the user has no quotas.
+     */
+    private List<KafkaFuture<Map<String, Double>>> describeClientQuotas(List<String> usernames) {
+        ClientQuotaFilterComponent c;
+
+        if (usernames.size() == 1) {
+            c = ClientQuotaFilterComponent.ofEntity(ClientQuotaEntity.USER, usernames.get(0));
+        } else {
+            c = ClientQuotaFilterComponent.ofEntityType(ClientQuotaEntity.USER);
+        }
+
+        KafkaFuture<Map<ClientQuotaEntity, Map<String, Double>>> entities = adminClient.describeClientQuotas(ClientQuotaFilter.contains(List.of(c))).entities();
+        List<KafkaFuture<Map<String, Double>>> futures = new ArrayList<>(usernames.size());
+
+        for (String username : usernames) {
+            ClientQuotaEntity cqe = new ClientQuotaEntity(Map.of(ClientQuotaEntity.USER, username));
+            futures.add(entities.thenApply(quotas -> quotas.get(cqe)));
+        }
+
+        return futures;
+    }
+
     /**
      * @return Set with all usernames which have some ACLs set
      */
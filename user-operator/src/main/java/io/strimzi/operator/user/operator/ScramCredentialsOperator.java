@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user.operator;
 
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -16,14 +17,18 @@ import org.apache.kafka.clients.admin.AlterUserScramCredentialsResult;
 import org.apache.kafka.clients.admin.DescribeUserScramCredentialsResult;
 import org.apache.kafka.clients.admin.ScramCredentialInfo;
 import org.apache.kafka.clients.admin.ScramMechanism;
+import org.apache.kafka.clients.admin.UserScramCredentialAlteration;
 import org.apache.kafka.clients.admin.UserScramCredentialDeletion;
 import org.apache.kafka.clients.admin.UserScramCredentialUpsertion;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.errors.ResourceNotFoundException;
 
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 public class ScramCredentialsOperator extends AbstractAdminApiOperator<String, List<String>> {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ScramCredentialsOperator.class.getName());
@@ -33,6 +38,8 @@ public class ScramCredentialsOperator extends AbstractAdminApiOperator<String, L
     // This salt uses the same algorithm as Kafka
     private final static byte[] SALT =  (new BigInteger(130, new SecureRandom())).toString(36).getBytes(StandardCharsets.UTF_8);
 
+    private final AdminApiBatcher<UserScramCredentialAlteration, Void> alterBatcher;
+
     /**
      * Constructor
      *
@@ -41,6 +48,21 @@ public class ScramCredentialsOperator extends AbstractAdminApiOperator<String, L
      */
     public ScramCredentialsOperator(Vertx vertx, Admin adminClient) {
         super(vertx, adminClient);
+        this.alterBatcher = batcher("alterUserScramCredentials", UserScramCredentialAlteration::user, this::alterUserScramCredentials);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx Vertx instance
+     * @param adminClient Kafka Admin client instance
+     * @param metricsProvider Metrics provider used for the batching metrics
+     * @param maxBatchSize Maximum number of requests batched into a single Admin API call
+     * @param maxBatchBlockTimeMs Maximum time in milliseconds for which the requests wait for other requests to be batched with
+     */
+    public ScramCredentialsOperator(Vertx vertx, Admin adminClient, MetricsProvider metricsProvider, int maxBatchSize, long maxBatchBlockTimeMs) {
+        super(vertx, adminClient, metricsProvider, maxBatchSize, maxBatchBlockTimeMs);
+        this.alterBatcher = batcher("alterUserScramCredentials", UserScramCredentialAlteration::user, this::alterUserScramCredentials);
     }
 
     @Override
@@ -48,38 +70,58 @@ public class ScramCredentialsOperator extends AbstractAdminApiOperator<String, L
         if (desired != null)    {
             UserScramCredentialUpsertion upsertion = new UserScramCredentialUpsertion(username, new ScramCredentialInfo(SCRAM_MECHANISM, ITERATIONS), desired.getBytes(StandardCharsets.UTF_8), SALT);
             LOGGER.debugCr(reconciliation, "Upserting SCRAM credentials for user {}", username);
-            AlterUserScramCredentialsResult result = adminClient.alterUserScramCredentials(List.of(upsertion));
 
-            return Util.kafkaFutureToVertxFuture(reconciliation, vertx, result.all()).map(ReconcileResult.patched(desired));
+            return alterBatcher.enqueue(reconciliation, upsertion).map(ReconcileResult.patched(desired));
         } else {
             Promise<ReconcileResult<String>> deletePromise = Promise.promise();
 
             UserScramCredentialDeletion deletion = new UserScramCredentialDeletion(username, SCRAM_MECHANISM);
             LOGGER.debugCr(reconciliation, "Deleting SCRAM credentials for user {}", username);
-            AlterUserScramCredentialsResult result = adminClient.alterUserScramCredentials(List.of(deletion));
-
-            result.all().whenComplete((ignore, error) -> {
-                vertx.runOnContext(ignore2 -> {
-                    if (error != null) {
-                        if (error instanceof ResourceNotFoundException) {
-                            // Resource was not found => return success
-                            LOGGER.debugCr(reconciliation, "Previously deleted SCRAM credentials for user {}", username);
-                            deletePromise.complete(ReconcileResult.noop(null));
-                        } else {
-                            LOGGER.warnCr(reconciliation, "Failed to delete SCRAM credentials for user {}", username);
-                            deletePromise.fail(error);
-                        }
+
+            alterBatcher.enqueue(reconciliation, deletion).onComplete(res -> {
+                if (res.failed()) {
+                    if (res.cause() instanceof ResourceNotFoundException) {
+                        // Resource was not found => return success
+                        LOGGER.debugCr(reconciliation, "Previously deleted SCRAM credentials for user {}", username);
+                        deletePromise.complete(ReconcileResult.noop(null));
                     } else {
-                        LOGGER.debugCr(reconciliation, "Deleted SCRAM credentials for user {}", username);
-                        deletePromise.complete(ReconcileResult.deleted());
+                        LOGGER.warnCr(reconciliation, "Failed to delete SCRAM credentials for user {}", username);
+                        deletePromise.fail(res.cause());
                     }
-                });
+                } else {
+                    LOGGER.debugCr(reconciliation, "Deleted SCRAM credentials for user {}", username);
+                    deletePromise.complete(ReconcileResult.deleted());
+                }
             });
 
             return deletePromise.future();
         }
     }
 
+    /**
+     * Alters the SCRAM credentials of all users in the batch with a single Admin API call.
+     *
+     * @param alterations   Upsertions or deletions of the SCRAM credentials for the different users
+     *
+     * @return  List with the result for each alteration
+     */
+    private List<KafkaFuture<Void>> alterUserScramCredentials(List<UserScramCredentialAlteration> alterations) {
+        AlterUserScramCredentialsResult result = adminClient.alterUserScramCredentials(alterations);
+
+        if (alterations.size() == 1) {
+            return List.of(result.all());
+        } else {
+            Map<String, KafkaFuture<Void>> values = result.values();
+            List<KafkaFuture<Void>> futures = new ArrayList<>(alterations.size());
+
+            for (UserScramCredentialAlteration alteration : alterations) {
+                futures.add(values.get(alteration.user()));
+            }
+
+            return futures;
+        }
+    }
+
     /**
      * @return List with all usernames which have some scram credentials set
      */
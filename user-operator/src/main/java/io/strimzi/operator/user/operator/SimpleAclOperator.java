@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user.operator;
 
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -14,7 +15,10 @@ import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.CreateAclsResult;
+import org.apache.kafka.clients.admin.DeleteAclsResult;
 import org.apache.kafka.clients.admin.DescribeAclsResult;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.acl.AccessControlEntryFilter;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
@@ -27,8 +31,11 @@ import org.apache.kafka.common.utils.SecurityUtils;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -39,6 +46,10 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
 
     private static final List<String> IGNORED_USERS = Arrays.asList("*", "ANONYMOUS");
 
+    private final AdminApiBatcher<String, Collection<AclBinding>> describeBatcher;
+    private final AdminApiBatcher<Collection<AclBinding>, Void> createBatcher;
+    private final AdminApiBatcher<Collection<AclBindingFilter>, Collection<AclBinding>> deleteBatcher;
+
     /**
      * Constructor
      *
@@ -47,6 +58,25 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
      */
     public SimpleAclOperator(Vertx vertx, Admin adminClient) {
         super(vertx, adminClient);
+        this.describeBatcher = batcher("describeAcls", username -> username, this::describeAcls);
+        this.createBatcher = batcher("createAcls", null, this::createAcls);
+        this.deleteBatcher = batcher("deleteAcls", null, this::deleteAcls);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx Vertx instance
+     * @param adminClient Kafka Admin client instance
+     * @param metricsProvider Metrics provider used for the batching metrics
+     * @param maxBatchSize Maximum number of requests batched into a single Admin API call
+     * @param maxBatchBlockTimeMs Maximum time in milliseconds for which the requests wait for other requests to be batched with
+     */
+    public SimpleAclOperator(Vertx vertx, Admin adminClient, MetricsProvider metricsProvider, int maxBatchSize, long maxBatchBlockTimeMs) {
+        super(vertx, adminClient, metricsProvider, maxBatchSize, maxBatchBlockTimeMs);
+        this.describeBatcher = batcher("describeAcls", username -> username, this::describeAcls);
+        this.createBatcher = batcher("createAcls", null, this::createAcls);
+        this.deleteBatcher = batcher("deleteAcls", null, this::deleteAcls);
     }
 
     /**
@@ -93,10 +123,37 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
      */
     protected Future<ReconcileResult<Set<SimpleAclRule>>> internalCreate(Reconciliation reconciliation, String username, Set<SimpleAclRule> desired) {
         Collection<AclBinding> aclBindings = getAclBindings(username, desired);
-        return Util.kafkaFutureToVertxFuture(reconciliation, vertx, adminClient.createAcls(aclBindings).all())
+        return createBatcher.enqueue(reconciliation, aclBindings)
                 .map(ReconcileResult.created(desired));
     }
 
+    /**
+     * Creates the ACLs of all users in the batch with a single Admin API call.
+     *
+     * @param requests  ACL bindings which should be created for the different users
+     *
+     * @return  List with the result for each request
+     */
+    private List<KafkaFuture<Void>> createAcls(List<Collection<AclBinding>> requests) {
+        List<AclBinding> aclBindings = new ArrayList<>();
+        requests.forEach(aclBindings::addAll);
+
+        CreateAclsResult result = adminClient.createAcls(aclBindings);
+
+        if (requests.size() == 1) {
+            return List.of(result.all());
+        } else {
+            Map<AclBinding, KafkaFuture<Void>> values = result.values();
+            List<KafkaFuture<Void>> futures = new ArrayList<>(requests.size());
+
+            for (Collection<AclBinding> request : requests) {
+                futures.add(KafkaFuture.allOf(request.stream().map(values::get).toArray(KafkaFuture[]::new)));
+            }
+
+            return futures;
+        }
+    }
+
     /**
      * Update all ACLs for given user.
      * This method is using Sets to decide which rules need to be added and which need to be deleted.
@@ -173,10 +230,54 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
      */
     private Future<ReconcileResult<Set<SimpleAclRule>>> internalDelete(Reconciliation reconciliation, String username, Set<SimpleAclRule> current) {
         Collection<AclBindingFilter> aclBindingFilters = getAclBindingFilters(username, current);
-        return Util.kafkaFutureToVertxFuture(reconciliation, vertx, adminClient.deleteAcls(aclBindingFilters).all())
+        return deleteBatcher.enqueue(reconciliation, aclBindingFilters)
                 .map(ReconcileResult.deleted());
     }
 
+    /**
+     * Deletes the ACLs of all users in the batch with a single Admin API call.
+     *
+     * @param requests  ACL binding filters which should be deleted for the different users
+     *
+     * @return  List with the result for each request
+     */
+    private List<KafkaFuture<Collection<AclBinding>>> deleteAcls(List<Collection<AclBindingFilter>> requests) {
+        List<AclBindingFilter> aclBindingFilters = new ArrayList<>();
+        requests.forEach(aclBindingFilters::addAll);
+
+        DeleteAclsResult result = adminClient.deleteAcls(aclBindingFilters);
+
+        if (requests.size() == 1) {
+            return List.of(result.all());
+        } else {
+            Map<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> values = result.values();
+            List<KafkaFuture<Collection<AclBinding>>> futures = new ArrayList<>(requests.size());
+
+            for (Collection<AclBindingFilter> request : requests) {
+                List<AclBinding> deleted = Collections.synchronizedList(new ArrayList<>());
+
+                // Fails the request when any of its filters failed in the same way as DeleteAclsResult.all() does
+                KafkaFuture<?>[] filterFutures = request.stream()
+                        .map(filter -> values.get(filter).thenApply(filterResults -> {
+                            for (DeleteAclsResult.FilterResult filterResult : filterResults.values()) {
+                                if (filterResult.exception() != null) {
+                                    throw filterResult.exception();
+                                }
+
+                                deleted.add(filterResult.binding());
+                            }
+
+                            return null;
+                        }))
+                        .toArray(KafkaFuture[]::new);
+
+                futures.add(KafkaFuture.allOf(filterFutures).thenApply(ignore -> deleted));
+            }
+
+            return futures;
+        }
+    }
+
     /**
      * Returns Set of ACLs applying to single user.
      *
@@ -188,11 +289,7 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
     private Future<Set<SimpleAclRule>> getAsync(Reconciliation reconciliation, String username)   {
         LOGGER.debugCr(reconciliation, "Searching for ACL rules of user {}", username);
 
-        KafkaPrincipal principal = new KafkaPrincipal("User", username);
-        AclBindingFilter aclBindingFilter = new AclBindingFilter(ResourcePatternFilter.ANY,
-                new AccessControlEntryFilter(principal.toString(), null, AclOperation.ANY, AclPermissionType.ANY));
-
-        return Util.kafkaFutureToVertxFuture(reconciliation, vertx, adminClient.describeAcls(aclBindingFilter).values())
+        return describeBatcher.enqueue(reconciliation, username)
                 .compose(aclBindings -> {
                     Set<SimpleAclRule> result = new HashSet<>(aclBindings.size());
 
@@ -206,6 +303,44 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
                 });
     }
 
+    /**
+     * Describes the ACLs of all users in the batch. A single user is described with a filter for its principal.
+     * Multiple users are described with a single call for all ACLs which is then split per principal.
+     *
+     * @param usernames Names of the users
+     *
+     * @return  List with the ACL bindings for each user
+     */
+    private List<KafkaFuture<Collection<AclBinding>>> describeAcls(List<String> usernames) {
+        if (usernames.size() == 1) {
+            KafkaPrincipal principal = new KafkaPrincipal("User", usernames.get(0));
+            AclBindingFilter aclBindingFilter = new AclBindingFilter(ResourcePatternFilter.ANY,
+                    new AccessControlEntryFilter(principal.toString(), null, AclOperation.ANY, AclPermissionType.ANY));
+
+            return List.of(adminClient.describeAcls(aclBindingFilter).values());
+        } else {
+            KafkaFuture<Map<String, Collection<AclBinding>>> aclBindingsByPrincipal = adminClient.describeAcls(AclBindingFilter.ANY).values()
+                    .thenApply(aclBindings -> {
+                        Map<String, Collection<AclBinding>> byPrincipal = new HashMap<>();
+
+                        for (AclBinding aclBinding : aclBindings) {
+                            byPrincipal.computeIfAbsent(aclBinding.entry().principal(), principal -> new ArrayList<>()).add(aclBinding);
+                        }
+
+                        return byPrincipal;
+                    });
+
+            List<KafkaFuture<Collection<AclBinding>>> futures = new ArrayList<>(usernames.size());
+
+            for (String username : usernames) {
+                String principal = new KafkaPrincipal("User", username).toString();
+                futures.add(aclBindingsByPrincipal.thenApply(byPrincipal -> byPrincipal.getOrDefault(principal, List.of())));
+            }
+
+            return futures;
+        }
+    }
+
     /**
      * @return Set with all usernames which have some ACLs set
      */
@@ -166,6 +166,35 @@ public class UserOperatorConfigTest {
         assertThat(config.isKraftEnabled(), is(UserOperatorConfig.DEFAULT_STRIMZI_KRAFT_ENABLED));
     }
 
+    @Test
+    public void testFromMapBatchingOptions()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+
+        UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getBatchMaxBlockSize(), is(UserOperatorConfig.DEFAULT_BATCH_MAXIMUM_BLOCK_SIZE));
+        assertThat(config.getBatchMaxBlockTimeMs(), is(UserOperatorConfig.DEFAULT_BATCH_MAXIMUM_BLOCK_TIME_MS));
+
+        envVars.put(UserOperatorConfig.STRIMZI_BATCH_MAXIMUM_BLOCK_SIZE, "500");
+        envVars.put(UserOperatorConfig.STRIMZI_BATCH_MAXIMUM_BLOCK_TIME_MS, "50");
+
+        config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getBatchMaxBlockSize(), is(500));
+        assertThat(config.getBatchMaxBlockTimeMs(), is(50L));
+    }
+
+    @Test
+    public void testFromMapBouncyCastleCertManager()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+
+        UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.isBouncyCastleCertManagerEnabled(), is(false));
+
+        envVars.put(UserOperatorConfig.STRIMZI_BOUNCY_CASTLE_CERT_MANAGER_ENABLED, "true");
+
+        config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.isBouncyCastleCertManagerEnabled(), is(true));
+    }
+
     @Test
     public void testMaintenanceTimeWindows()    {
         Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
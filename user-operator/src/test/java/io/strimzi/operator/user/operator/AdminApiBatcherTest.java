@@ -0,0 +1,220 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.ResourceNotFoundException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class AdminApiBatcherTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "KafkaUser", "namespace", "user");
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private final KafkaFutureImpl<String> blocker = new KafkaFutureImpl<>();
+
+    /**
+     * Returns the upper-cased requests. The "blocker" request does not complete until the blocker future is completed
+     * by the test, so that the requests sent after it are batched.
+     */
+    private List<KafkaFuture<String>> upperCase(List<String> requests) {
+        return requests.stream()
+                .map(request -> "blocker".equals(request) ? blocker : KafkaFuture.completedFuture(request.toUpperCase(Locale.ROOT)))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void testRequestIsSentRightAwayWhenNoBatchIsInFlight(VertxTestContext context) {
+        List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+        AdminApiBatcher<String, String> batcher = new AdminApiBatcher<>(vertx, null, "test", 10, 60_000L, null, requests -> {
+            batches.add(requests);
+            return upperCase(requests);
+        });
+
+        Future<String> first = batcher.enqueue(RECONCILIATION, "a");
+        assertThat(batches, is(List.of(List.of("a"))));
+
+        Future<String> second = batcher.enqueue(RECONCILIATION, "b");
+        assertThat(batches, is(List.of(List.of("a"), List.of("b"))));
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(first, second)
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(first.result(), is("A"));
+                    assertThat(second.result(), is("B"));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testRequestsAreBatched(VertxTestContext context) {
+        List<List<String>> batches = new CopyOnWriteArrayList<>();
+        MeterRegistry registry = new SimpleMeterRegistry();
+
+        AdminApiBatcher<String, String> batcher = new AdminApiBatcher<>(vertx, new MicrometerMetricsProvider(registry), "test", 10, 60_000L, null, requests -> {
+            batches.add(requests);
+            return upperCase(requests);
+        });
+
+        Future<String> blocked = batcher.enqueue(RECONCILIATION, "blocker");
+        Future<String> first = batcher.enqueue(RECONCILIATION, "a");
+        Future<String> second = batcher.enqueue(RECONCILIATION, "b");
+        Future<String> third = batcher.enqueue(RECONCILIATION, "c");
+
+        // The requests wait for the batch in flight
+        assertThat(batches, is(List.of(List.of("blocker"))));
+        blocker.complete("BLOCKER");
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(blocked, first, second, third)
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(batches, is(List.of(List.of("blocker"), List.of("a", "b", "c"))));
+                    assertThat(first.result(), is("A"));
+                    assertThat(second.result(), is("B"));
+                    assertThat(third.result(), is("C"));
+
+                    DistributionSummary size = registry.find("strimzi.user.operator.batch.size").tag("operation", "test").summary();
+                    assertThat(size.count(), is(2L));
+                    assertThat(size.totalAmount(), is(4.0));
+
+                    Timer duration = registry.find("strimzi.user.operator.batch.duration").tag("operation", "test").timer();
+                    assertThat(duration.count(), is(2L));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testBatchIsSentWhenFullOrAfterBlockTime(VertxTestContext context) {
+        List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+        AdminApiBatcher<String, String> batcher = new AdminApiBatcher<>(vertx, null, "test", 2, 100L, null, requests -> {
+            batches.add(requests);
+            return upperCase(requests);
+        });
+
+        batcher.enqueue(RECONCILIATION, "blocker");
+        Future<String> first = batcher.enqueue(RECONCILIATION, "a");
+        Future<String> second = batcher.enqueue(RECONCILIATION, "b");
+
+        // Full batch is sent right away
+        assertThat(batches, is(List.of(List.of("blocker"), List.of("a", "b"))));
+
+        // The remaining request is sent after the block time even though the blocker is still in flight
+        Future<String> third = batcher.enqueue(RECONCILIATION, "c");
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(first, second, third)
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(batches, is(List.of(List.of("blocker"), List.of("a", "b"), List.of("c"))));
+                    assertThat(third.result(), is("C"));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testRequestsWithSameKeyAreInDifferentBatches(VertxTestContext context) {
+        List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+        AdminApiBatcher<String, String> batcher = new AdminApiBatcher<>(vertx, null, "test", 10, 60_000L, request -> request, requests -> {
+            batches.add(requests);
+            return upperCase(requests);
+        });
+
+        batcher.enqueue(RECONCILIATION, "blocker");
+
+        List<Future> futures = new ArrayList<>();
+        futures.add(batcher.enqueue(RECONCILIATION, "a"));
+        futures.add(batcher.enqueue(RECONCILIATION, "b"));
+        futures.add(batcher.enqueue(RECONCILIATION, "a"));
+        batcher.flush();
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(futures)
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(batches, is(List.of(List.of("blocker"), List.of("a", "b"), List.of("a"))));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testFailuresArePropagatedToTheRequests(VertxTestContext context) {
+        AdminApiBatcher<String, String> batcher = new AdminApiBatcher<>(vertx, null, "test", 10, 60_000L, null, requests -> {
+            List<KafkaFuture<String>> results = new ArrayList<>();
+
+            for (String request : requests) {
+                KafkaFutureImpl<String> future = new KafkaFutureImpl<>();
+
+                if ("blocker".equals(request)) {
+                    future = blocker;
+                } else if ("missing".equals(request)) {
+                    future.completeExceptionally(new ResourceNotFoundException("Not found"));
+                } else {
+                    future.complete(request);
+                }
+
+                results.add(future);
+            }
+
+            return results;
+        });
+
+        batcher.enqueue(RECONCILIATION, "blocker");
+        Future<String> found = batcher.enqueue(RECONCILIATION, "found");
+        Future<String> missing = batcher.enqueue(RECONCILIATION, "missing");
+        batcher.flush();
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(found, missing)
+                .onComplete(context.failing(e -> context.verify(() -> {
+                    assertThat(found.succeeded(), is(true));
+                    assertThat(found.result(), is("found"));
+                    assertThat(missing.failed(), is(true));
+                    assertThat(missing.cause(), instanceOf(ResourceNotFoundException.class));
+
+                    async.flag();
+                })));
+    }
+}
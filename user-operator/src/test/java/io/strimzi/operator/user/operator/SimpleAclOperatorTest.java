@@ -11,6 +11,7 @@ import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import io.strimzi.operator.user.model.acl.SimpleAclRuleResource;
 import io.strimzi.operator.user.model.acl.SimpleAclRuleResourceType;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -53,6 +54,8 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -106,6 +109,27 @@ public class SimpleAclOperatorTest {
                 })));
     }
 
+    @Test
+    public void testAclsAreDescribedPerUserWhenNoBatchIsInFlight(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        SimpleAclOperator aclOp = new SimpleAclOperator(vertx, mockAdminClient);
+
+        assertDoesNotThrow(() -> mockDescribeAcls(mockAdminClient, null, emptyList()));
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(aclOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "CN=foo", null),
+                        aclOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "CN=bar", null))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    // The describe of the first user completes before the second reconciliation, so the ACLs are not described in a batch
+                    ArgumentCaptor<AclBindingFilter> filterCaptor = ArgumentCaptor.forClass(AclBindingFilter.class);
+                    verify(mockAdminClient, times(2)).describeAcls(filterCaptor.capture());
+                    assertThat(filterCaptor.getAllValues().stream().map(filter -> filter.entryFilter().principal()).collect(Collectors.toSet()),
+                            is(Set.of("User:CN=foo", "User:CN=bar")));
+
+                    async.flag();
+                })));
+    }
+
     @Test
     public void testReconcileInternalCreateAddsAclsToAuthorizer(VertxTestContext context) {
         Admin mockAdminClient = mock(AdminClient.class);